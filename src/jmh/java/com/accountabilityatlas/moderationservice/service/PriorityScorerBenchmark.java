@@ -0,0 +1,83 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-event cost of scoring a submission with the default rule set.
+ *
+ * <p>One submitter in eight is flagged, so most events take the filter's fast path and the rest hit
+ * the warm rejection-score cache, matching steady-state ingest. Run with {@code ./gradlew
+ * jmhBudget} to fail the build when scoring exceeds its per-event budget; the {@code gc} profiler
+ * reports allocation per event.
+ */
+@State(Scope.Thread)
+public class PriorityScorerBenchmark {
+
+  private static final int SUBMISSIONS = 1024;
+
+  private PriorityScorer scorer;
+  private Submission[] submissions;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    List<UUID> flagged = new ArrayList<>();
+    submissions = new Submission[SUBMISSIONS];
+    Instant now = Instant.now();
+    for (int i = 0; i < SUBMISSIONS; i++) {
+      UUID submitterId = UUID.randomUUID();
+      if (i % 8 == 0) {
+        flagged.add(submitterId);
+      }
+      List<UUID> locationIds =
+          i % 3 == 0 ? List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()) : List.of();
+      submissions[i] =
+          new Submission(
+              ContentType.VIDEO,
+              UUID.randomUUID(),
+              submitterId,
+              "Video " + i,
+              i % 2 == 0 ? Set.of("FIRST", "FOURTH") : Set.of("FIRST"),
+              locationIds,
+              now.minus(Duration.ofMinutes(i % 120)));
+    }
+    Set<UUID> flaggedSet = Set.copyOf(flagged);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    scorer =
+        new PriorityScorer(
+            List.of(
+                new SubmissionAgeRule(Duration.ofHours(1), 1),
+                new RejectionHistoryRule(
+                    flaggedSet::contains,
+                    submitterId -> 1L,
+                    meterRegistry,
+                    1,
+                    2,
+                    10_000,
+                    Duration.ofMinutes(5)),
+                new AmendmentRule(Set.of("FOURTH", "FIFTH"), 1, 2),
+                new LocationCountRule(3, 1)),
+            meterRegistry);
+    for (Submission submission : submissions) {
+      scorer.score(submission);
+    }
+  }
+
+  @Benchmark
+  public int score() {
+    Submission submission = submissions[next];
+    next = (next + 1) & (SUBMISSIONS - 1);
+    return scorer.score(submission);
+  }
+}
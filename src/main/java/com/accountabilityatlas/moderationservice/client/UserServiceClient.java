@@ -1,10 +1,18 @@
 package com.accountabilityatlas.moderationservice.client;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -18,8 +26,17 @@ public class UserServiceClient {
 
   private final WebClient webClient;
 
-  public UserServiceClient(WebClient userServiceWebClient) {
+  /**
+   * Whether user-service exposes {@code POST /users/batch}. Until it does, batch lookups fall back
+   * to one {@code GET /users/{id}} per user.
+   */
+  private final boolean batchLookupEnabled;
+
+  public UserServiceClient(
+      WebClient userServiceWebClient,
+      @Value("${app.user-service.batch-lookup-enabled:false}") boolean batchLookupEnabled) {
     this.webClient = userServiceWebClient;
+    this.batchLookupEnabled = batchLookupEnabled;
   }
 
   /**
@@ -54,6 +71,50 @@ public class UserServiceClient {
     }
   }
 
+  /**
+   * Gets several users' profiles, in one call when batch lookup is enabled and one call per user,
+   * in sequence, otherwise.
+   *
+   * <p>Users unknown to user-service are omitted from the result.
+   *
+   * @param userIds the user IDs to look up
+   * @return map of user ID to summary
+   * @throws UserServiceException if the request fails
+   */
+  public Map<UUID, UserSummary> getUsers(Collection<UUID> userIds) {
+    if (!batchLookupEnabled) {
+      Map<UUID, UserSummary> users = new HashMap<>();
+      for (UUID userId : userIds) {
+        getUser(userId).ifPresent(user -> users.put(user.id(), user));
+      }
+      return users;
+    }
+    log.debug("Fetching {} users", userIds.size());
+    try {
+      List<UserSummary> users =
+          webClient
+              .post()
+              .uri("/users/batch")
+              .contentType(MediaType.APPLICATION_JSON)
+              .bodyValue(new UsersBatchRequest(List.copyOf(userIds)))
+              .retrieve()
+              .bodyToMono(new ParameterizedTypeReference<List<UserSummary>>() {})
+              .block();
+      if (users == null) {
+        return Map.of();
+      }
+      return users.stream()
+          .collect(Collectors.toMap(UserSummary::id, Function.identity(), (a, b) -> b));
+    } catch (WebClientResponseException e) {
+      log.error("Failed to fetch users: {} {}", e.getStatusCode(), e.getMessage());
+      throw new UserServiceException(
+          "Failed to fetch users: " + e.getStatusCode(), e.getStatusCode(), e);
+    } catch (Exception e) {
+      log.error("Failed to fetch users: {}", e.getMessage());
+      throw new UserServiceException("Failed to fetch users: " + e.getMessage(), e);
+    }
+  }
+
   /**
    * Updates a user's trust tier.
    *
@@ -97,6 +158,9 @@ public class UserServiceClient {
   /** User contribution statistics. */
   public record UserStats(int submissionCount, int approvedCount) {}
 
+  /** Request body for the batch user lookup. */
+  public record UsersBatchRequest(List<UUID> userIds) {}
+
   /** Request body for updating trust tier. */
   public record UpdateTrustTierRequest(String trustTier, String reason) {}
 
@@ -0,0 +1,146 @@
+package com.accountabilityatlas.moderationservice.client;
+
+import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
+import com.accountabilityatlas.moderationservice.service.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-based cache in front of {@link UserServiceClient#getUser(UUID)}.
+ *
+ * <p>Trust checks run after every approval and rejection, so a moderator clearing a batch from one
+ * submitter would otherwise fetch the same profile once per decision. Concurrent lookups of the
+ * same user are coalesced: the first caller performs the HTTP request and the others wait on its
+ * result. Not-found results are cached as {@link Optional#empty()}; failures are not cached.
+ *
+ * <p>Entries are invalidated on every node when a trust tier change is observed, so tier-based
+ * decisions never act on a stale tier for longer than it takes the change event to arrive. Approval
+ * counts in the cached stats may lag by up to the TTL, which only delays (never skips) a promotion
+ * because every later approval re-runs the check.
+ */
+@Component
+@Slf4j
+public class UserSummaryCache {
+
+  static final String CACHE_NAME = "userSummaries";
+
+  private final UserServiceClient userServiceClient;
+  private final AsyncCache<UUID, Optional<UserSummary>> cache;
+  private final CacheInvalidationBus cacheInvalidationBus;
+
+  public UserSummaryCache(
+      UserServiceClient userServiceClient,
+      CacheInvalidationBus cacheInvalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${app.user-service.cache.max-size:10000}") long maxSize,
+      @Value("${app.user-service.cache.ttl:PT30S}") Duration ttl) {
+    this.userServiceClient = userServiceClient;
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    cacheInvalidationBus.subscribe(
+        CacheInvalidationBus.Entity.USER,
+        cache.synchronous()::invalidateAll,
+        cache.synchronous()::invalidateAll);
+  }
+
+  /**
+   * Gets a user's profile, from cache when possible.
+   *
+   * @param userId the user ID
+   * @return the user summary if found, empty if not found
+   * @throws UserServiceClient.UserServiceException if the lookup fails
+   */
+  public Optional<UserSummary> getUser(UUID userId) {
+    AtomicReference<CompletableFuture<Optional<UserSummary>>> created = new AtomicReference<>();
+    CompletableFuture<Optional<UserSummary>> future =
+        cache.get(
+            userId,
+            (key, executor) -> {
+              CompletableFuture<Optional<UserSummary>> loading = new CompletableFuture<>();
+              created.set(loading);
+              return loading;
+            });
+
+    if (future == created.get()) {
+      // This caller won the race: load outside the cache's internal locks. Whatever the load
+      // throws must fail the future, or callers waiting on it would block forever
+      try {
+        future.complete(userServiceClient.getUser(userId));
+      } catch (Throwable e) {
+        future.completeExceptionally(e);
+        throw e;
+      }
+    } else {
+      log.debug("User {} served from cache", userId);
+    }
+    return join(future);
+  }
+
+  /**
+   * Gets several users' profiles, fetching only the uncached ones with one {@link
+   * UserServiceClient#getUsers} call.
+   *
+   * @param userIds the user IDs
+   * @return map of user ID to summary; users that do not exist are omitted
+   * @throws UserServiceClient.UserServiceException if the batch lookup fails
+   */
+  public Map<UUID, UserSummary> getUsers(Collection<UUID> userIds) {
+    Map<UUID, Optional<UserSummary>> loaded =
+        cache
+            .synchronous()
+            .getAll(
+                userIds,
+                missing -> {
+                  Map<UUID, UserSummary> found = userServiceClient.getUsers(List.copyOf(missing));
+                  Map<UUID, Optional<UserSummary>> result = new HashMap<>();
+                  for (UUID userId : missing) {
+                    result.put(userId, Optional.ofNullable(found.get(userId)));
+                  }
+                  return result;
+                });
+    Map<UUID, UserSummary> users = new HashMap<>();
+    loaded.forEach((userId, user) -> user.ifPresent(u -> users.put(userId, u)));
+    return users;
+  }
+
+  /**
+   * Drops the cached profile for a user on every node, once the current transaction (if any)
+   * commits.
+   *
+   * @param userId the user whose entry should be invalidated
+   */
+  public void invalidate(UUID userId) {
+    cacheInvalidationBus.publish(CacheInvalidationBus.Entity.USER, List.of(userId));
+  }
+
+  private static Optional<UserSummary> join(CompletableFuture<Optional<UserSummary>> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
@@ -1,10 +1,15 @@
 package com.accountabilityatlas.moderationservice.client;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -18,8 +23,17 @@ public class VideoServiceClient {
 
   private final WebClient webClient;
 
-  public VideoServiceClient(WebClient videoServiceWebClient) {
+  /**
+   * Whether video-service exposes {@code PUT} and {@code POST /internal/videos/statuses}. Until it
+   * does, batch updates fall back to one call per video and batch lookups are unavailable.
+   */
+  private final boolean batchStatusesEnabled;
+
+  public VideoServiceClient(
+      WebClient videoServiceWebClient,
+      @Value("${app.video-service.batch-statuses-enabled:false}") boolean batchStatusesEnabled) {
     this.webClient = videoServiceWebClient;
+    this.batchStatusesEnabled = batchStatusesEnabled;
   }
 
   /**
@@ -52,6 +66,98 @@ public class VideoServiceClient {
     }
   }
 
+  /**
+   * Sets the same status on several videos, in one call when batch statuses are enabled and one
+   * call per video otherwise.
+   *
+   * @param videoIds the video IDs
+   * @param status the new status (e.g., "APPROVED", "REJECTED")
+   * @throws VideoServiceException if the request fails, or if any per-video update fails
+   */
+  public void updateVideoStatuses(Collection<UUID> videoIds, String status) {
+    if (!batchStatusesEnabled) {
+      updateEachVideoStatus(videoIds, status);
+      return;
+    }
+    log.info("Updating {} videos to status {}", videoIds.size(), status);
+    try {
+      webClient
+          .put()
+          .uri("/internal/videos/statuses")
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(new BatchStatusUpdateRequest(List.copyOf(videoIds), status))
+          .retrieve()
+          .toBodilessEntity()
+          .block();
+      log.info("Successfully updated {} videos to status {}", videoIds.size(), status);
+    } catch (WebClientResponseException e) {
+      log.error("Failed to update video statuses: {} {}", e.getStatusCode(), e.getMessage());
+      throw new VideoServiceException(
+          "Failed to update video statuses: " + e.getStatusCode(), e.getStatusCode(), e);
+    } catch (Exception e) {
+      log.error("Failed to update video statuses: {}", e.getMessage());
+      throw new VideoServiceException("Failed to update video statuses: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Looks up the current status of several videos in one call. Requires batch statuses to be
+   * enabled; video-service has no per-video status lookup to fall back to.
+   *
+   * <p>Videos unknown to video-service are omitted from the result.
+   *
+   * @param videoIds the video IDs to look up
+   * @return map of video ID to status
+   * @throws VideoServiceException if the request fails
+   * @throws IllegalStateException if batch statuses are disabled
+   */
+  public Map<UUID, String> getVideoStatuses(Collection<UUID> videoIds) {
+    if (!batchStatusesEnabled) {
+      throw new IllegalStateException("Batch video status lookup is disabled");
+    }
+    log.debug("Fetching status for {} videos", videoIds.size());
+    try {
+      List<VideoStatus> statuses =
+          webClient
+              .post()
+              .uri("/internal/videos/statuses")
+              .contentType(MediaType.APPLICATION_JSON)
+              .bodyValue(new VideoStatusesRequest(List.copyOf(videoIds)))
+              .retrieve()
+              .bodyToMono(new ParameterizedTypeReference<List<VideoStatus>>() {})
+              .block();
+      if (statuses == null) {
+        return Map.of();
+      }
+      return statuses.stream()
+          .collect(Collectors.toMap(VideoStatus::id, VideoStatus::status, (a, b) -> b));
+    } catch (WebClientResponseException e) {
+      log.error("Failed to fetch video statuses: {} {}", e.getStatusCode(), e.getMessage());
+      throw new VideoServiceException(
+          "Failed to fetch video statuses: " + e.getStatusCode(), e.getStatusCode(), e);
+    } catch (Exception e) {
+      log.error("Failed to fetch video statuses: {}", e.getMessage());
+      throw new VideoServiceException("Failed to fetch video statuses: " + e.getMessage(), e);
+    }
+  }
+
+  private void updateEachVideoStatus(Collection<UUID> videoIds, String status) {
+    int failed = 0;
+    VideoServiceException lastFailure = null;
+    for (UUID videoId : videoIds) {
+      try {
+        updateVideoStatus(videoId, status);
+      } catch (VideoServiceException e) {
+        failed++;
+        lastFailure = e;
+      }
+    }
+    if (lastFailure != null) {
+      throw new VideoServiceException(
+          "Failed to update " + failed + " of " + videoIds.size() + " video statuses", lastFailure);
+    }
+  }
+
   /**
    * Updates video metadata (amendments, participants, videoDate).
    *
@@ -161,6 +267,15 @@ public class VideoServiceClient {
   /** Request body for status update. */
   public record StatusUpdateRequest(String status) {}
 
+  /** Request body for a batch status update. */
+  public record BatchStatusUpdateRequest(List<UUID> videoIds, String status) {}
+
+  /** Request body for a batch status lookup. */
+  public record VideoStatusesRequest(List<UUID> videoIds) {}
+
+  /** Status of a single video as reported by video-service. */
+  public record VideoStatus(UUID id, String status) {}
+
   /** Request body for updating video metadata. */
   public record UpdateVideoMetadataRequest(
       List<String> amendments, List<String> participants, LocalDate videoDate) {}
@@ -0,0 +1,57 @@
+package com.accountabilityatlas.moderationservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * The primary pool, wrapped so that read-only transactions can be served elsewhere.
+ *
+ * <p>{@link LazyConnectionDataSourceProxy} defers fetching a connection until the first statement,
+ * by which time the transaction manager has marked it read-only or not. Read-only transactions then
+ * go to the {@link ReadReplicaRouter} when {@code app.read-replica.url} is set, which only sends
+ * those inside a {@link ReplicaRead} method to the replica; everything else, and everything when
+ * the URL is not set, uses the primary. The primary pool is still configured by {@code
+ * spring.datasource.*}, including {@code spring.datasource.hikari.*}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      HikariDataSource primaryDataSource, ObjectProvider<ReadReplicaRouter> readReplicaRouter) {
+    LazyConnectionDataSourceProxy dataSource =
+        new LazyConnectionDataSourceProxy(primaryDataSource);
+    readReplicaRouter.ifAvailable(
+        router -> dataSource.setReadOnlyDataSource(router.readOnlyDataSource(primaryDataSource)));
+    return dataSource;
+  }
+
+  /** Applies {@link ReplicaRead}; static so it is registered before the beans it proxies. */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static Advisor replicaReadAdvisor() {
+    return new DefaultPointcutAdvisor(
+        AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class),
+        (MethodInterceptor) ReadReplicaRouter::replicaRead);
+  }
+}
@@ -0,0 +1,240 @@
+package com.accountabilityatlas.moderationservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chooses where each read-only transaction runs once {@code app.read-replica.url} is set.
+ *
+ * <p>{@link DataSourceConfig} hands read-only transactions to {@link #readOnlyDataSource}. Routing
+ * is opt-in: only reads made inside a {@link ReplicaRead} method are served from the replica pool,
+ * and every other read-only transaction uses the primary. Even marked reads fall back to the
+ * primary when:
+ *
+ * <ul>
+ *   <li>the replica is more than {@code app.read-replica.max-lag} behind, or its lag could not be
+ *       read, as of the last check every {@code lag-check-interval};
+ *   <li>the current user sent a write to this node within {@code sticky-window}, so they read
+ *       their own change;
+ *   <li>the caller is inside {@link #onPrimary}, for reads that feed caches or decisions.
+ * </ul>
+ *
+ * <p>Each decision is counted in {@code moderation.datasource.read-only} by {@code target} and
+ * {@code reason}; {@code moderation.datasource.replica.lag} reports the last measured lag.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.read-replica", name = "url")
+@Slf4j
+public class ReadReplicaRouter {
+
+  /** Zero when caught up or not a standby at all (a second primary used for testing). */
+  static final String LAG_QUERY =
+      "SELECT CASE WHEN NOT pg_is_in_recovery() "
+          + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+          + "ELSE COALESCE(CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) "
+          + "AS double precision), CAST('Infinity' AS double precision)) END";
+
+  private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> false);
+  private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+  private final DataSource replica;
+  private final JdbcOperations replicaJdbc;
+  private final double maxLagSeconds;
+  private final Cache<String, Boolean> recentWriters;
+  private final Counter toReplica;
+  private final Counter unmarkedToPrimary;
+  private final Counter laggingToPrimary;
+  private final Counter recentWriteToPrimary;
+  private final Counter pinnedToPrimary;
+  private volatile double lagSeconds = Double.NaN;
+
+  @Autowired
+  public ReadReplicaRouter(
+      DataSourceProperties primaryProperties,
+      MeterRegistry meterRegistry,
+      @Value("${app.read-replica.url}") String url,
+      @Value("${app.read-replica.max-pool-size:10}") int maxPoolSize,
+      @Value("${app.read-replica.max-lag:PT1S}") Duration maxLag,
+      @Value("${app.read-replica.sticky-window:PT5S}") Duration stickyWindow) {
+    this(
+        replicaPool(primaryProperties, meterRegistry, url, maxPoolSize),
+        maxLag,
+        stickyWindow,
+        meterRegistry);
+  }
+
+  ReadReplicaRouter(
+      DataSource replica, Duration maxLag, Duration stickyWindow, MeterRegistry meterRegistry) {
+    this(replica, new JdbcTemplate(replica), maxLag, stickyWindow, meterRegistry);
+  }
+
+  ReadReplicaRouter(
+      DataSource replica,
+      JdbcOperations replicaJdbc,
+      Duration maxLag,
+      Duration stickyWindow,
+      MeterRegistry meterRegistry) {
+    this.replica = replica;
+    this.replicaJdbc = replicaJdbc;
+    this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    this.recentWriters =
+        Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(stickyWindow).build();
+    this.toReplica = routed(meterRegistry, "replica", "replica");
+    this.unmarkedToPrimary = routed(meterRegistry, "primary", "unmarked");
+    this.laggingToPrimary = routed(meterRegistry, "primary", "replica-lagging");
+    this.recentWriteToPrimary = routed(meterRegistry, "primary", "recent-write");
+    this.pinnedToPrimary = routed(meterRegistry, "primary", "pinned");
+    Gauge.builder("moderation.datasource.replica.lag", this, r -> r.lagSeconds)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Runs {@code reads} against the primary even when called from a {@link ReplicaRead} method. Must
+   * be entered before the transaction's first statement, since the connection is chosen then.
+   * Without a replica configured it just runs {@code reads}.
+   */
+  public static <T> T onPrimary(Supplier<T> reads) {
+    boolean previous = PINNED.get();
+    PINNED.set(true);
+    try {
+      return reads.get();
+    } finally {
+      PINNED.set(previous);
+    }
+  }
+
+  /** Runs a {@link ReplicaRead} method with its reads allowed on the replica. */
+  static Object replicaRead(MethodInvocation invocation) throws Throwable {
+    boolean previous = REPLICA_READ.get();
+    REPLICA_READ.set(true);
+    try {
+      return invocation.proceed();
+    } finally {
+      REPLICA_READ.set(previous);
+    }
+  }
+
+  /** Sends the user's reads on this node to the primary for the next {@code sticky-window}. */
+  public void recordWrite(String userId) {
+    recentWriters.put(userId, Boolean.TRUE);
+  }
+
+  /** Measures replication lag; an unreachable replica counts as infinitely behind. */
+  @Scheduled(fixedDelayString = "${app.read-replica.lag-check-interval:PT1S}")
+  public void checkLag() {
+    try {
+      Double lag = replicaJdbc.queryForObject(LAG_QUERY, Double.class);
+      lagSeconds = lag != null ? lag : Double.POSITIVE_INFINITY;
+    } catch (DataAccessException e) {
+      if (!Double.isInfinite(lagSeconds)) {
+        log.warn("Read replica unavailable, reading from the primary: {}", e.getMessage());
+      }
+      lagSeconds = Double.POSITIVE_INFINITY;
+    }
+  }
+
+  /** The data source for read-only transactions: the replica, or {@code primary} as above. */
+  DataSource readOnlyDataSource(DataSource primary) {
+    return new AbstractDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        return route(primary).getConnection();
+      }
+
+      @Override
+      public Connection getConnection(String username, String password) throws SQLException {
+        return route(primary).getConnection(username, password);
+      }
+    };
+  }
+
+  DataSource route(DataSource primary) {
+    if (!REPLICA_READ.get()) {
+      unmarkedToPrimary.increment();
+      return primary;
+    }
+    if (PINNED.get()) {
+      pinnedToPrimary.increment();
+      return primary;
+    }
+    // NaN (not measured yet) fails this check too
+    if (!(lagSeconds <= maxLagSeconds)) {
+      laggingToPrimary.increment();
+      return primary;
+    }
+    String userId = currentUserId();
+    if (userId != null && recentWriters.getIfPresent(userId) != null) {
+      recentWriteToPrimary.increment();
+      return primary;
+    }
+    toReplica.increment();
+    return replica;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (replica instanceof HikariDataSource pool) {
+      pool.close();
+    }
+  }
+
+  @Nullable
+  private static String currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null && authentication.isAuthenticated()
+        ? authentication.getName()
+        : null;
+  }
+
+  private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+    return Counter.builder("moderation.datasource.read-only")
+        .tag("target", target)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  /** A read-only pool for the replica, with the primary's driver and credentials. */
+  private static HikariDataSource replicaPool(
+      DataSourceProperties primaryProperties,
+      MeterRegistry meterRegistry,
+      String url,
+      int maxPoolSize) {
+    HikariDataSource pool =
+        primaryProperties
+            .initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .build();
+    pool.setPoolName("replica");
+    pool.setMaximumPoolSize(maxPoolSize);
+    pool.setReadOnly(true);
+    pool.setMetricRegistry(meterRegistry);
+    return pool;
+  }
+}
@@ -0,0 +1,22 @@
+package com.accountabilityatlas.moderationservice.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the reads of the annotated method go to the replica when {@code app.read-replica.url} is
+ * set. Nothing else does: a read-only transaction, or a Spring Data query method, that is not
+ * called from inside such a method reads the primary.
+ *
+ * <p>Only for reads that can be up to {@code app.read-replica.max-lag} stale and whose results feed
+ * neither caches nor decisions, such as dashboard listings. The method must run in a read-only
+ * transaction, since read-write transactions always use the primary. Applied by the advisor in
+ * {@link DataSourceConfig}, so it only works on calls through a Spring bean.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {}
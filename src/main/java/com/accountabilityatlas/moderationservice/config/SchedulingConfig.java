@@ -0,0 +1,17 @@
+package com.accountabilityatlas.moderationservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (reconciliation, maintenance sweeps).
+ *
+ * <p>The jobs share Spring Boot's scheduler, whose pool is sized by {@code
+ * spring.task.scheduling.pool.size}. It must stay larger than the number of long-running jobs
+ * (reconciliation, trust sweep, stats rebuild, escalation and aging refreshes, queue rebalancing),
+ * or they starve the sub-second ones: cache invalidation, report ingest, trust drain and the
+ * replica lag check.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
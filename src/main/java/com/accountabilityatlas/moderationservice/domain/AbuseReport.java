@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.Getter;
@@ -55,6 +56,11 @@ public class AbuseReport {
   @Column(nullable = false, updatable = false)
   private Instant createdAt;
 
+  /** Optimistic lock; an update from a stale copy fails instead of overwriting a newer outcome. */
+  @Version
+  @Column(nullable = false)
+  private long version;
+
   @PrePersist
   protected void onCreate() {
     if (createdAt == null) {
@@ -0,0 +1,48 @@
+package com.accountabilityatlas.moderationservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resume cursor for a chunked background job.
+ *
+ * <p>Jobs walk their source tables in keyset order and record the last processed key here after
+ * each chunk, so a restarted node picks up where the previous run stopped.
+ */
+@Entity
+@Table(name = "job_checkpoints", schema = "moderation")
+@Getter
+@Setter
+@NoArgsConstructor
+public class JobCheckpoint {
+
+  @Id
+  @Column(length = 100)
+  private String jobName;
+
+  private Instant cursorTimestamp;
+
+  private UUID cursorId;
+
+  @Column(nullable = false)
+  private Instant updatedAt;
+
+  public JobCheckpoint(String jobName) {
+    this.jobName = jobName;
+  }
+
+  @PrePersist
+  @PreUpdate
+  protected void onSave() {
+    updatedAt = Instant.now();
+  }
+}
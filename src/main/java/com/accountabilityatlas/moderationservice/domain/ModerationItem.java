@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.Getter;
@@ -40,9 +41,32 @@ public class ModerationItem {
   @Column(nullable = false)
   private ModerationStatus status;
 
-  @Column(nullable = false)
+  /**
+   * Report escalation on top of {@code basePriority}; after insert it is written only by {@code
+   * ModerationItemRepository} updates, so a stale entity save never overwrites it.
+   */
+  @Column(nullable = false, updatable = false)
   private int priority;
 
+  /** Score from the ingest-time priority rules; report escalation is added on top of it. */
+  @Column(nullable = false, updatable = false)
+  private int basePriority;
+
+  /** {@code priority} plus queue aging; maintained by {@code QueueAgingService}. */
+  @Column(nullable = false, updatable = false)
+  private int effectivePriority;
+
+  /** OPEN abuse reports against the content; kept current only while the item is PENDING. */
+  @Column(nullable = false, updatable = false)
+  private int openReportCount;
+
+  @Column(updatable = false)
+  private Instant lastReportedAt;
+
+  /** Moderator whose queue shard holds the item; maintained by {@code QueueAssignmentService}. */
+  @Column(updatable = false)
+  private UUID assignedTo;
+
   private UUID reviewerId;
 
   private Instant reviewedAt;
@@ -53,6 +77,11 @@ public class ModerationItem {
   @Column(nullable = false, updatable = false)
   private Instant createdAt;
 
+  /** Optimistic lock; an update from a stale copy fails instead of overwriting a newer review. */
+  @Version
+  @Column(nullable = false)
+  private long version;
+
   @PrePersist
   protected void onCreate() {
     if (createdAt == null) {
@@ -0,0 +1,30 @@
+package com.accountabilityatlas.moderationservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * When a moderator was last seen working the queue.
+ *
+ * <p>Rows are written with upserts in {@code ModeratorPresenceRepository}; moderators seen within
+ * the active window own a shard of the PENDING queue.
+ */
+@Entity
+@Table(name = "moderator_presence", schema = "moderation")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ModeratorPresence {
+
+  @Id private UUID moderatorId;
+
+  @Column(nullable = false)
+  private Instant lastSeenAt;
+}
@@ -0,0 +1,39 @@
+package com.accountabilityatlas.moderationservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Denormalized trust counters for one submitter.
+ *
+ * <p>Rows are written with atomic upserts in {@code SubmitterStatsRepository} rather than through
+ * the entity, so concurrent decisions for the same submitter never lose an increment.
+ */
+@Entity
+@Table(name = "submitter_stats", schema = "moderation")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SubmitterStats {
+
+  @Id private UUID submitterId;
+
+  @Column(nullable = false)
+  private int openReports;
+
+  @Column(nullable = false)
+  private int approvedCount;
+
+  @Column(nullable = false)
+  private int rejectedCount;
+
+  @Column(nullable = false)
+  private Instant updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.accountabilityatlas.moderationservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Last trust tier observed for a submitter. A hint for candidate selection only; user-service
+ * remains the source of truth and is always consulted before a tier change.
+ */
+@Entity
+@Table(name = "submitter_trust_tiers", schema = "moderation")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SubmitterTrustTier {
+
+  @Id private UUID submitterId;
+
+  @Column(nullable = false, length = 50)
+  private String trustTier;
+
+  @Column(nullable = false)
+  private Instant observedAt;
+}
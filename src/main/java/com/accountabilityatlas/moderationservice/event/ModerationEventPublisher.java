@@ -2,10 +2,14 @@ package com.accountabilityatlas.moderationservice.event;
 
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 
 /** Publishes moderation-related events to SQS via AWS Spring SqsTemplate. */
@@ -14,6 +18,9 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class ModerationEventPublisher {
 
+  /** Most entries SQS accepts in one SendMessageBatch request. */
+  static final int MAX_BATCH_SIZE = 10;
+
   private final SqsTemplate sqsTemplate;
 
   @Value("${app.sqs.moderation-events-queue:moderation-events}")
@@ -70,4 +77,58 @@ public class ModerationEventPublisher {
       throw e;
     }
   }
+
+  /**
+   * Publishes one VideoApprovedEvent per video to both moderation queues, in SQS batches.
+   *
+   * @param videoIds the IDs of the approved videos
+   * @param reviewerId the ID of the moderator who approved them
+   */
+  public void publishVideosApproved(Collection<UUID> videoIds, UUID reviewerId) {
+    Instant now = Instant.now();
+    publishAll(
+        "VideoApprovedEvent",
+        videoIds.stream()
+            .map(videoId -> new VideoApprovedEvent(videoId, reviewerId, now))
+            .toList());
+  }
+
+  /**
+   * Publishes one VideoRejectedEvent per video to both moderation queues, in SQS batches.
+   *
+   * @param videoIds the IDs of the rejected videos
+   * @param reviewerId the ID of the moderator who rejected them
+   * @param reason the reason for rejection
+   */
+  public void publishVideosRejected(Collection<UUID> videoIds, UUID reviewerId, String reason) {
+    Instant now = Instant.now();
+    publishAll(
+        "VideoRejectedEvent",
+        videoIds.stream()
+            .map(videoId -> new VideoRejectedEvent(videoId, reviewerId, reason, now))
+            .toList());
+  }
+
+  private <T> void publishAll(String eventType, List<T> events) {
+    log.info(
+        "Publishing {} {}s to SQS queues [{}, {}]",
+        events.size(),
+        eventType,
+        moderationEventsQueue,
+        searchModerationEventsQueue);
+    try {
+      for (int from = 0; from < events.size(); from += MAX_BATCH_SIZE) {
+        List<Message<T>> batch =
+            events.subList(from, Math.min(from + MAX_BATCH_SIZE, events.size())).stream()
+                .map(event -> MessageBuilder.withPayload(event).build())
+                .toList();
+        sqsTemplate.sendMany(moderationEventsQueue, batch);
+        sqsTemplate.sendMany(searchModerationEventsQueue, batch);
+      }
+      log.debug("Published {} {}s successfully", events.size(), eventType);
+    } catch (Exception e) {
+      log.error("Failed to publish {} {}s: {}", events.size(), eventType, e.getMessage(), e);
+      throw e;
+    }
+  }
 }
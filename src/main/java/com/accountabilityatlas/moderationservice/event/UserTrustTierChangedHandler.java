@@ -1,5 +1,7 @@
 package com.accountabilityatlas.moderationservice.event;
 
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.repository.SubmitterTrustTierRepository;
 import com.accountabilityatlas.moderationservice.service.ModerationService;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import java.util.UUID;
@@ -10,7 +12,9 @@ import org.springframework.stereotype.Component;
 /**
  * SQS listener for UserTrustTierChangedEvent.
  *
- * <p>When a user is promoted to TRUSTED or higher, auto-approve their pending moderation items.
+ * <p>Every tier change evicts the user's cached profile and records the new tier for the trust
+ * sweep's candidate selection. When a user is promoted to TRUSTED or higher, auto-approve their
+ * pending moderation items.
  */
 @Component
 @RequiredArgsConstructor
@@ -22,6 +26,8 @@ public class UserTrustTierChangedHandler {
       UUID.fromString("00000000-0000-0000-0000-000000000000");
 
   private final ModerationService moderationService;
+  private final UserSummaryCache userSummaryCache;
+  private final SubmitterTrustTierRepository submitterTrustTierRepository;
 
   /**
    * Handles UserTrustTierChangedEvent from the user-events SQS queue.
@@ -36,6 +42,9 @@ public class UserTrustTierChangedHandler {
         event.oldTier(),
         event.newTier());
 
+    userSummaryCache.invalidate(event.userId());
+    submitterTrustTierRepository.recordTier(event.userId(), event.newTier());
+
     if (event.isPromotionToTrusted()) {
       log.info(
           "User {} promoted from NEW to {} - auto-approving pending items",
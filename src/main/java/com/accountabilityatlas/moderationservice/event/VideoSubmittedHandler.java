@@ -3,6 +3,7 @@ package com.accountabilityatlas.moderationservice.event;
 import com.accountabilityatlas.moderationservice.client.VideoServiceClient;
 import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.service.ModerationService;
+import com.accountabilityatlas.moderationservice.service.Submission;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +46,15 @@ public class VideoSubmittedHandler {
           "Queuing video {} for moderation (submitter {} has trust tier NEW)",
           event.videoId(),
           event.submitterId());
-      moderationService.createItem(ContentType.VIDEO, event.videoId(), event.submitterId());
+      moderationService.createItem(
+          new Submission(
+              ContentType.VIDEO,
+              event.videoId(),
+              event.submitterId(),
+              event.title(),
+              event.amendments(),
+              event.locationIds(),
+              event.timestamp()));
     } else {
       log.info(
           "Auto-approving video {} (submitter {} has trust tier {})",
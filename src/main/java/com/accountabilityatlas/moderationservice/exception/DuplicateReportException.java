@@ -0,0 +1,9 @@
+package com.accountabilityatlas.moderationservice.exception;
+
+/** Exception thrown when a reporter already has an OPEN report against the same content. */
+public class DuplicateReportException extends RuntimeException {
+
+  public DuplicateReportException() {
+    super("You have already reported this content");
+  }
+}
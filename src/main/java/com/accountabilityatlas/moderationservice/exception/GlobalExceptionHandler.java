@@ -2,6 +2,8 @@ package com.accountabilityatlas.moderationservice.exception;
 
 import java.util.List;
 import java.util.UUID;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -38,6 +40,45 @@ public class GlobalExceptionHandler {
                 "ALREADY_REVIEWED", ex.getMessage(), null, UUID.randomUUID().toString()));
   }
 
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleConcurrentModification(
+      OptimisticLockingFailureException ex) {
+    // The JPA message names entity classes and versions; keep it out of the response
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(
+            new ErrorResponse(
+                "CONCURRENT_MODIFICATION",
+                "The resource was modified concurrently; reload it and try again",
+                null,
+                UUID.randomUUID().toString()));
+  }
+
+  @ExceptionHandler(DuplicateReportException.class)
+  public ResponseEntity<ErrorResponse> handleDuplicateReport(DuplicateReportException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(
+            new ErrorResponse(
+                "ALREADY_REPORTED", ex.getMessage(), null, UUID.randomUUID().toString()));
+  }
+
+  @ExceptionHandler(ReportRateLimitedException.class)
+  public ResponseEntity<ErrorResponse> handleReportRateLimited(ReportRateLimitedException ex) {
+    // Round up so a client that waits exactly Retry-After seconds is never refused again
+    long retryAfterSeconds = Math.max(1, ex.getRetryAfter().plusNanos(999_999_999).toSeconds());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+        .body(
+            new ErrorResponse("RATE_LIMITED", ex.getMessage(), null, UUID.randomUUID().toString()));
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(
+            new ErrorResponse(
+                "INVALID_CURSOR", ex.getMessage(), null, UUID.randomUUID().toString()));
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
     List<FieldError> details =
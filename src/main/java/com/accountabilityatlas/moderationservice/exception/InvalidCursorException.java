@@ -0,0 +1,9 @@
+package com.accountabilityatlas.moderationservice.exception;
+
+/** Exception thrown when a paging cursor cannot be decoded. */
+public class InvalidCursorException extends RuntimeException {
+
+  public InvalidCursorException(String cursor) {
+    super("Invalid cursor: " + cursor);
+  }
+}
@@ -0,0 +1,16 @@
+package com.accountabilityatlas.moderationservice.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/** Exception thrown when a reporter submits abuse reports faster than the configured rate. */
+@Getter
+public class ReportRateLimitedException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  public ReportRateLimitedException(Duration retryAfter) {
+    super("Too many abuse reports; try again later");
+    this.retryAfter = retryAfter;
+  }
+}
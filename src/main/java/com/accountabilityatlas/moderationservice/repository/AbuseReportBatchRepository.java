@@ -0,0 +1,66 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.AbuseReport;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch writes for abuse reports that arrive faster than one transaction per report can
+ * absorb.
+ *
+ * <p>Spring Data's {@code saveAll} would merge (select, then insert) each report because the ID is
+ * assigned before the write, and one duplicate would fail the whole batch. A single prepared {@code
+ * INSERT ... ON CONFLICT DO NOTHING} sent as one JDBC batch avoids both.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbuseReportBatchRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO moderation.abuse_reports (id, content_type, content_id, reporter_id, reason, "
+          + "description, status, created_at) VALUES (?, ?, ?, ?, ?, ?, 'OPEN', ?) "
+          + "ON CONFLICT DO NOTHING";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts OPEN reports with pre-assigned IDs in one batch.
+   *
+   * <p>Reports whose ID already exists, or whose reporter already has an OPEN report against the
+   * content, are skipped.
+   *
+   * @return the reports that were inserted, in input order
+   */
+  public List<AbuseReport> insertAll(List<AbuseReport> reports) {
+    if (reports.isEmpty()) {
+      return List.of();
+    }
+    int[][] counts =
+        jdbcTemplate.batchUpdate(
+            INSERT_SQL,
+            reports,
+            reports.size(),
+            (ps, report) -> {
+              ps.setObject(1, report.getId());
+              ps.setString(2, report.getContentType().name());
+              ps.setObject(3, report.getContentId());
+              ps.setObject(4, report.getReporterId());
+              ps.setString(5, report.getReason().name());
+              ps.setObject(6, report.getDescription(), Types.VARCHAR);
+              ps.setObject(7, OffsetDateTime.ofInstant(report.getCreatedAt(), ZoneOffset.UTC));
+            });
+    List<AbuseReport> inserted = new ArrayList<>(reports.size());
+    for (int i = 0; i < reports.size(); i++) {
+      if (counts[0][i] > 0) {
+        inserted.add(reports.get(i));
+      }
+    }
+    return inserted;
+  }
+}
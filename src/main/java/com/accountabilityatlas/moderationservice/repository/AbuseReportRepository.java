@@ -1,22 +1,113 @@
 package com.accountabilityatlas.moderationservice.repository;
 
 import com.accountabilityatlas.moderationservice.domain.AbuseReport;
+import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ReportStatus;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AbuseReportRepository extends JpaRepository<AbuseReport, UUID> {
+public interface AbuseReportRepository
+    extends JpaRepository<AbuseReport, UUID>, JpaSpecificationExecutor<AbuseReport> {
 
-  Page<AbuseReport> findByStatus(ReportStatus status, Pageable pageable);
+  /**
+   * One row per reported content, most-reported first. Groups in index order over {@code
+   * idx_abuse_reports_status_content_created_at}; only the (much smaller) grouped rows are sorted.
+   */
+  @Query(
+      value =
+          "SELECT a.contentType AS contentType, a.contentId AS contentId, "
+              + "COUNT(a) AS reportCount, MIN(a.createdAt) AS firstReportedAt, "
+              + "MAX(a.createdAt) AS lastReportedAt FROM AbuseReport a "
+              + "WHERE a.status = :status "
+              + "AND (:contentType IS NULL OR a.contentType = :contentType) "
+              + "GROUP BY a.contentType, a.contentId "
+              + "ORDER BY COUNT(a) DESC, MIN(a.createdAt), a.contentId",
+      countQuery =
+          "SELECT COUNT(DISTINCT a.contentId) FROM AbuseReport a "
+              + "WHERE a.status = :status "
+              + "AND (:contentType IS NULL OR a.contentType = :contentType)")
+  Page<ReportGroupSummary> findReportGroups(
+      ReportStatus status, @Nullable ContentType contentType, Pageable pageable);
+
+  /** Reports in {@code status} per content and reason, for the content IDs on a group page. */
+  @Query(
+      "SELECT a.contentId AS contentId, a.reason AS reason, COUNT(a) AS reportCount "
+          + "FROM AbuseReport a WHERE a.status = :status AND a.contentId IN :contentIds "
+          + "GROUP BY a.contentId, a.reason")
+  List<ReportReasonCount> findReasonCounts(ReportStatus status, Collection<UUID> contentIds);
+
+  /**
+   * The oldest {@code limit} reports in {@code status} for each content ID, oldest first per
+   * content. Each content is a separate top-N read of {@code
+   * idx_abuse_reports_status_content_created_at}, so heavily reported content costs no more than
+   * {@code limit} rows.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT r.id AS \"id\", r.content_id AS \"contentId\" "
+              + "FROM unnest(CAST(:contentIds AS uuid[])) AS c(content_id) "
+              + "CROSS JOIN LATERAL (SELECT a.id, a.content_id, a.created_at "
+              + "FROM moderation.abuse_reports a "
+              + "WHERE a.status = :status AND a.content_id = c.content_id "
+              + "ORDER BY a.created_at, a.id LIMIT :limit) r "
+              + "ORDER BY r.content_id, r.created_at, r.id")
+  List<ReportRef> findOldestReportIds(String status, UUID[] contentIds, int limit);
+
+  @Query("SELECT a.id FROM AbuseReport a WHERE a.id IN :ids")
+  List<UUID> findExistingIds(Collection<UUID> ids);
+
+  /**
+   * Moves the listed reports that are still OPEN to {@code status} and writes one audit row per
+   * changed report, in a single statement. A report closed concurrently is skipped once its row
+   * lock is released, so no report is closed (or audited) twice. Bumps {@code version} so a
+   * concurrent entity update of the same report fails its optimistic lock check.
+   *
+   * @return the reports that changed, in no particular order
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "WITH closed AS (UPDATE moderation.abuse_reports SET status = :status, "
+              + "resolved_by = :moderatorId, resolution = :resolution, version = version + 1 "
+              + "WHERE id IN (:ids) AND status = 'OPEN' RETURNING id, content_id), "
+              + "audit AS (INSERT INTO moderation.audit_log "
+              + "(actor_id, action, target_type, target_id, details) "
+              + "SELECT :moderatorId, :action, 'ABUSE_REPORT', id, "
+              + "to_jsonb(CAST(:resolution AS text)) FROM closed) "
+              + "SELECT id AS \"id\", content_id AS \"contentId\" FROM closed")
+  List<ClosedReport> closeOpenReports(
+      Collection<UUID> ids,
+      String status,
+      String action,
+      UUID moderatorId,
+      @Nullable String resolution);
 
+  /** Same as {@link #closeOpenReports} for every OPEN report against one piece of content. */
   @Query(
-      "SELECT COUNT(a) FROM AbuseReport a WHERE a.contentId IN "
-          + "(SELECT m.contentId FROM ModerationItem m WHERE m.submitterId = :userId) "
-          + "AND a.status = 'OPEN'")
-  int countActiveReportsAgainst(UUID userId);
+      nativeQuery = true,
+      value =
+          "WITH closed AS (UPDATE moderation.abuse_reports SET status = :status, "
+              + "resolved_by = :moderatorId, resolution = :resolution, version = version + 1 "
+              + "WHERE content_id = :contentId AND status = 'OPEN' RETURNING id, content_id), "
+              + "audit AS (INSERT INTO moderation.audit_log "
+              + "(actor_id, action, target_type, target_id, details) "
+              + "SELECT :moderatorId, :action, 'ABUSE_REPORT', id, "
+              + "to_jsonb(CAST(:resolution AS text)) FROM closed) "
+              + "SELECT id AS \"id\", content_id AS \"contentId\" FROM closed")
+  List<ClosedReport> closeOpenReportsForContent(
+      UUID contentId,
+      String status,
+      String action,
+      UUID moderatorId,
+      @Nullable String resolution);
 }
@@ -0,0 +1,45 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.AbuseReason;
+import com.accountabilityatlas.moderationservice.domain.AbuseReport;
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import com.accountabilityatlas.moderationservice.domain.ReportStatus;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+/** Composable filters for abuse report listings. Null filter values match everything. */
+public final class AbuseReportSpecifications {
+
+  /** Oldest first, with the ID as tie-breaker so keyset pages are stable. */
+  public static final Sort OLDEST_FIRST = Sort.by("createdAt", "id");
+
+  private AbuseReportSpecifications() {}
+
+  public static Specification<AbuseReport> matching(
+      ReportStatus status, @Nullable ContentType contentType, @Nullable AbuseReason reason) {
+    Specification<AbuseReport> spec = (root, query, cb) -> cb.equal(root.get("status"), status);
+    if (contentType != null) {
+      spec = spec.and((root, query, cb) -> cb.equal(root.get("contentType"), contentType));
+    }
+    if (reason != null) {
+      spec = spec.and((root, query, cb) -> cb.equal(root.get("reason"), reason));
+    }
+    return spec;
+  }
+
+  /**
+   * Reports strictly after {@code (createdAt, id)} in {@link #OLDEST_FIRST} order. The leading
+   * {@code createdAt >=} bound lets the index range scan start at the cursor.
+   */
+  public static Specification<AbuseReport> after(Instant createdAt, UUID id) {
+    return (root, query, cb) ->
+        cb.and(
+            cb.greaterThanOrEqualTo(root.<Instant>get("createdAt"), createdAt),
+            cb.or(
+                cb.greaterThan(root.<Instant>get("createdAt"), createdAt),
+                cb.greaterThan(root.<UUID>get("id"), id)));
+  }
+}
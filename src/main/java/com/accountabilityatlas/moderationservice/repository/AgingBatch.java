@@ -0,0 +1,26 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/** Outcome of refreshing the effective priority of one keyset batch of PENDING items. */
+public interface AgingBatch {
+
+  /** Highest item ID in the batch; the cursor for the next batch. Null if the batch was empty. */
+  @Nullable
+  UUID getLastId();
+
+  long getScanned();
+
+  long getUpdated();
+
+  /** IDs of the items whose effective priority changed, comma separated; empty if none. */
+  String getUpdatedIds();
+
+  default List<UUID> updatedIds() {
+    String ids = getUpdatedIds();
+    return ids.isEmpty() ? List.of() : Arrays.stream(ids.split(",")).map(UUID::fromString).toList();
+  }
+}
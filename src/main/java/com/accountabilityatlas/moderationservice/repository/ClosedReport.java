@@ -0,0 +1,11 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.util.UUID;
+
+/** A report moved out of OPEN by one of the set-based updates in {@link AbuseReportRepository}. */
+public interface ClosedReport {
+
+  UUID getId();
+
+  UUID getContentId();
+}
@@ -0,0 +1,20 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/** The inputs and current result of report-driven escalation for one PENDING item. */
+public interface EscalationState {
+
+  UUID getId();
+
+  int getOpenReportCount();
+
+  @Nullable
+  Instant getLastReportedAt();
+
+  int getBasePriority();
+
+  int getPriority();
+}
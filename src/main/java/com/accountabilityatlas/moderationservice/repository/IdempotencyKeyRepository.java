@@ -0,0 +1,136 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stored responses for {@code Idempotency-Key} requests, shared by every node.
+ *
+ * <p>A row is claimed before the request runs and completed with the response afterwards. Each
+ * method is a single autocommitted statement, so a claim is visible to other nodes before the
+ * domain transaction starts.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+  /** One claimed key; {@code statusCode} is null while the first request is still running. */
+  public record IdempotencyRecord(
+      String fingerprint,
+      @Nullable Integer statusCode,
+      @Nullable String contentType,
+      @Nullable String body) {}
+
+  /** A claim this node acquired and has not yet completed or released. */
+  public record HeldClaim(String callerId, String key, String fingerprint) {}
+
+  private static final String CLAIM_SQL =
+      "INSERT INTO moderation.idempotency_keys AS k "
+          + "(caller_id, idempotency_key, fingerprint, created_at, heartbeat_at, expires_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (caller_id, idempotency_key) DO UPDATE SET "
+          + "fingerprint = EXCLUDED.fingerprint, status_code = NULL, content_type = NULL, "
+          + "response_body = NULL, created_at = EXCLUDED.created_at, "
+          + "heartbeat_at = EXCLUDED.heartbeat_at, expires_at = EXCLUDED.expires_at "
+          + "WHERE k.expires_at <= EXCLUDED.created_at "
+          + "OR (k.status_code IS NULL AND k.heartbeat_at < ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Claims the key for a new request. Succeeds if the key is unused, expired, or held by an
+   * unfinished claim whose last heartbeat is older than {@code staleBefore}.
+   *
+   * @return true if the caller now owns the key and should run the request
+   */
+  public boolean claim(
+      String callerId,
+      String key,
+      String fingerprint,
+      Instant now,
+      Instant expiresAt,
+      Instant staleBefore) {
+    return jdbcTemplate.update(
+            CLAIM_SQL,
+            callerId,
+            key,
+            fingerprint,
+            utc(now),
+            utc(now),
+            utc(expiresAt),
+            utc(staleBefore))
+        > 0;
+  }
+
+  /** Marks unfinished claims as still running, so they do not go stale. */
+  public void heartbeat(Collection<HeldClaim> claims, Instant now) {
+    jdbcTemplate.batchUpdate(
+        "UPDATE moderation.idempotency_keys SET heartbeat_at = ? WHERE caller_id = ? "
+            + "AND idempotency_key = ? AND fingerprint = ? AND status_code IS NULL",
+        claims.stream()
+            .map(c -> new Object[] {utc(now), c.callerId(), c.key(), c.fingerprint()})
+            .toList());
+  }
+
+  public Optional<IdempotencyRecord> find(String callerId, String key) {
+    List<IdempotencyRecord> rows =
+        jdbcTemplate.query(
+            "SELECT fingerprint, status_code, content_type, response_body "
+                + "FROM moderation.idempotency_keys WHERE caller_id = ? AND idempotency_key = ?",
+            (rs, i) ->
+                new IdempotencyRecord(
+                    rs.getString("fingerprint"),
+                    rs.getObject("status_code", Integer.class),
+                    rs.getString("content_type"),
+                    rs.getString("response_body")),
+            callerId,
+            key);
+    return rows.stream().findFirst();
+  }
+
+  /** Stores the response of a claimed request. */
+  public int complete(
+      String callerId,
+      String key,
+      String fingerprint,
+      int statusCode,
+      @Nullable String contentType,
+      String body) {
+    return jdbcTemplate.update(
+        "UPDATE moderation.idempotency_keys SET status_code = ?, content_type = ?, "
+            + "response_body = ? WHERE caller_id = ? AND idempotency_key = ? "
+            + "AND fingerprint = ? AND status_code IS NULL",
+        statusCode,
+        contentType,
+        body,
+        callerId,
+        key,
+        fingerprint);
+  }
+
+  /** Drops an unfinished claim so the request can be retried from scratch. */
+  public int release(String callerId, String key, String fingerprint) {
+    return jdbcTemplate.update(
+        "DELETE FROM moderation.idempotency_keys WHERE caller_id = ? AND idempotency_key = ? "
+            + "AND fingerprint = ? AND status_code IS NULL",
+        callerId,
+        key,
+        fingerprint);
+  }
+
+  public int deleteExpired(Instant now) {
+    return jdbcTemplate.update(
+        "DELETE FROM moderation.idempotency_keys WHERE expires_at <= ?", utc(now));
+  }
+
+  private static OffsetDateTime utc(Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,17 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/** The partition keys and current shard owner of one PENDING item. */
+public interface ItemAssignment {
+
+  UUID getId();
+
+  UUID getContentId();
+
+  UUID getSubmitterId();
+
+  @Nullable
+  UUID getAssignedTo();
+}
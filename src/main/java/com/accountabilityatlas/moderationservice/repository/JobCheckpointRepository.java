@@ -0,0 +1,8 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {}
@@ -4,14 +4,18 @@ import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ModerationItem;
 import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ModerationItemRepository extends JpaRepository<ModerationItem, UUID> {
@@ -21,15 +25,189 @@ public interface ModerationItemRepository extends JpaRepository<ModerationItem,
   Page<ModerationItem> findByStatusAndContentType(
       ModerationStatus status, ContentType contentType, Pageable pageable);
 
+  Page<ModerationItem> findByStatusAndAssignedTo(
+      ModerationStatus status, UUID assignedTo, Pageable pageable);
+
+  Page<ModerationItem> findByStatusAndContentTypeAndAssignedTo(
+      ModerationStatus status, ContentType contentType, UUID assignedTo, Pageable pageable);
+
   List<ModerationItem> findBySubmitterIdAndStatus(UUID submitterId, ModerationStatus status);
 
+  @Query("SELECT m.id FROM ModerationItem m WHERE m.id IN :ids")
+  List<UUID> findExistingIds(Collection<UUID> ids);
+
+  /**
+   * Moves the listed items that are still PENDING to {@code status} and writes one audit row per
+   * changed item, in a single statement. An item reviewed concurrently is skipped once its row lock
+   * is released, so no item is reviewed (or audited) twice. Bumps {@code version} so a concurrent
+   * single-item review of the same row fails its optimistic lock check.
+   *
+   * @return the items that changed, in no particular order
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "WITH reviewed AS (UPDATE moderation.moderation_items SET status = :status, "
+              + "reviewer_id = :reviewerId, reviewed_at = :reviewedAt, "
+              + "rejection_reason = :rejectionReason, version = version + 1 "
+              + "WHERE id IN (:ids) AND status = 'PENDING' "
+              + "RETURNING id, content_id, submitter_id), "
+              + "audit AS (INSERT INTO moderation.audit_log "
+              + "(actor_id, action, target_type, target_id, details) "
+              + "SELECT :reviewerId, :action, 'MODERATION_ITEM', id, "
+              + "to_jsonb(CAST(:rejectionReason AS text)) FROM reviewed) "
+              + "SELECT id AS \"id\", content_id AS \"contentId\", "
+              + "submitter_id AS \"submitterId\" FROM reviewed")
+  List<ReviewedItem> reviewPendingItems(
+      Collection<UUID> ids,
+      String status,
+      String action,
+      UUID reviewerId,
+      Instant reviewedAt,
+      @Nullable String rejectionReason);
+
+  /**
+   * Adds {@code count} OPEN reports, the latest filed at {@code reportedAt}, to the PENDING items
+   * for the content.
+   *
+   * @return the updated escalation inputs of each affected item (normally at most one)
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "WITH updated AS (UPDATE moderation.moderation_items "
+              + "SET open_report_count = open_report_count + :count, "
+              + "last_reported_at = GREATEST(last_reported_at, :reportedAt) "
+              + "WHERE content_id = :contentId AND status = 'PENDING' "
+              + "RETURNING id, open_report_count, last_reported_at, base_priority, priority) "
+              + "SELECT id AS \"id\", open_report_count AS \"openReportCount\", "
+              + "last_reported_at AS \"lastReportedAt\", base_priority AS \"basePriority\", "
+              + "priority AS \"priority\" FROM updated")
+  List<EscalationState> addOpenReports(UUID contentId, int count, Instant reportedAt);
+
+  /**
+   * Removes {@code count} OPEN reports from the PENDING items for the content.
+   *
+   * @return the updated escalation inputs of each affected item (normally at most one)
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "WITH updated AS (UPDATE moderation.moderation_items "
+              + "SET open_report_count = GREATEST(open_report_count - :count, 0) "
+              + "WHERE content_id = :contentId AND status = 'PENDING' "
+              + "RETURNING id, open_report_count, last_reported_at, base_priority, priority) "
+              + "SELECT id AS \"id\", open_report_count AS \"openReportCount\", "
+              + "last_reported_at AS \"lastReportedAt\", base_priority AS \"basePriority\", "
+              + "priority AS \"priority\" FROM updated")
+  List<EscalationState> removeOpenReports(UUID contentId, int count);
+
+  /** OPEN reports against the content, for initializing a new item's counter. */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT COUNT(*) AS \"openReportCount\", MAX(created_at) AS \"lastReportedAt\" "
+              + "FROM moderation.abuse_reports WHERE status = 'OPEN' AND content_id = :contentId")
+  OpenReportSummary summarizeOpenReports(UUID contentId);
+
+  /**
+   * Keyset page, by ID, of PENDING items that have open reports or a priority above their base
+   * score: the only items whose priority can change without a new report.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT id AS \"id\", open_report_count AS \"openReportCount\", "
+              + "last_reported_at AS \"lastReportedAt\", base_priority AS \"basePriority\", "
+              + "priority AS \"priority\" FROM moderation.moderation_items "
+              + "WHERE status = 'PENDING' "
+              + "AND (open_report_count > 0 OR priority <> base_priority) AND id > :after "
+              + "ORDER BY id LIMIT :limit")
+  List<EscalationState> findEscalationCandidatesAfter(UUID after, int limit);
+
+  /** Sets a PENDING item's priority, shifting its effective priority by the same amount. */
+  @Modifying
+  @Query(
+      "UPDATE ModerationItem m "
+          + "SET m.effectivePriority = m.effectivePriority + :priority - m.priority, "
+          + "m.priority = :priority "
+          + "WHERE m.id = :id AND m.status = 'PENDING' AND m.priority <> :priority")
+  int updatePriority(UUID id, int priority);
+
+  /**
+   * Recomputes {@code effective_priority} as {@code priority} plus one per full {@code
+   * agingSeconds} spent in the queue, for the next {@code limit} PENDING items after {@code after}
+   * in ID order. Rows whose value is unchanged are not written, and only the written IDs are
+   * returned. Runs in its own transaction so each batch holds its row locks only briefly.
+   */
+  @Transactional
+  @Query(
+      nativeQuery = true,
+      value =
+          "WITH batch AS (SELECT id FROM moderation.moderation_items "
+              + "WHERE status = 'PENDING' AND id > :after ORDER BY id LIMIT :limit), "
+              + "updated AS (UPDATE moderation.moderation_items m "
+              + "SET effective_priority = m.priority + GREATEST(0, CAST(FLOOR("
+              + "EXTRACT(EPOCH FROM (CAST(:now AS timestamptz) - m.created_at)) / :agingSeconds) "
+              + "AS INTEGER)) "
+              + "FROM batch WHERE m.id = batch.id AND m.status = 'PENDING' "
+              + "AND m.effective_priority <> m.priority + GREATEST(0, CAST(FLOOR("
+              + "EXTRACT(EPOCH FROM (CAST(:now AS timestamptz) - m.created_at)) / :agingSeconds) "
+              + "AS INTEGER)) RETURNING m.id) "
+              + "SELECT (SELECT id FROM batch ORDER BY id DESC LIMIT 1) AS \"lastId\", "
+              + "(SELECT COUNT(*) FROM batch) AS \"scanned\", "
+              + "(SELECT COUNT(*) FROM updated) AS \"updated\", "
+              + "array_to_string(ARRAY(SELECT id FROM updated), ',') AS \"updatedIds\"")
+  AgingBatch refreshEffectivePriorities(UUID after, int limit, Instant now, long agingSeconds);
+
+  /** Keyset page, by ID, of PENDING items with their partition keys and current owner. */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT id AS \"id\", content_id AS \"contentId\", submitter_id AS \"submitterId\", "
+              + "assigned_to AS \"assignedTo\" FROM moderation.moderation_items "
+              + "WHERE status = 'PENDING' AND id > :after ORDER BY id LIMIT :limit")
+  List<ItemAssignment> findAssignmentsAfter(UUID after, int limit);
+
+  /** Moves PENDING items to a moderator's shard, skipping any already there. */
+  @Modifying
+  @Transactional
   @Query(
-      "SELECT COUNT(m) FROM ModerationItem m WHERE m.submitterId = :submitterId "
-          + "AND m.status = 'REJECTED' AND m.reviewedAt >= :since")
-  int countRejectionsSince(UUID submitterId, Instant since);
+      "UPDATE ModerationItem m SET m.assignedTo = :moderatorId "
+          + "WHERE m.id IN :ids AND m.status = 'PENDING' "
+          + "AND (m.assignedTo IS NULL OR m.assignedTo <> :moderatorId)")
+  int assignTo(UUID moderatorId, Collection<UUID> ids);
 
   Optional<ModerationItem> findByContentIdAndStatus(UUID contentId, ModerationStatus status);
 
+  /**
+   * The items in {@code status} for any of the content IDs. The IDs are bound as one array, so the
+   * statement is the same whatever their number and uses {@code idx_moderation_items_content_id}.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT * FROM moderation.moderation_items "
+              + "WHERE content_id = ANY(CAST(:contentIds AS uuid[])) AND status = :status")
+  List<ModerationItem> findByContentIdsAndStatus(UUID[] contentIds, String status);
+
+  /** The change counter of each status, bumped by every statement that touches its items. */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT status AS \"status\", change_seq AS \"changeSeq\" "
+              + "FROM moderation.queue_change_markers")
+  List<QueueChangeMarker> findQueueChangeMarkers();
+
+  /**
+   * The ID of the transaction that last wrote the item ({@code xmin}). It changes on every
+   * committed update, including those that skip the history table.
+   */
+  @Query(
+      nativeQuery = true,
+      value = "SELECT CAST(xmin AS text) FROM moderation.moderation_items WHERE id = :id")
+  Optional<String> findRowVersion(UUID id);
+
   long countByStatus(ModerationStatus status);
 
   long countByStatusAndReviewedAtGreaterThanEqual(ModerationStatus status, Instant since);
@@ -40,4 +218,20 @@ public interface ModerationItemRepository extends JpaRepository<ModerationItem,
           "SELECT AVG(EXTRACT(EPOCH FROM (reviewed_at - created_at)) / 60.0) "
               + "FROM moderation.moderation_items WHERE reviewed_at IS NOT NULL")
   Double calculateAverageReviewTimeMinutes();
+
+  /**
+   * Keyset page of reviewed VIDEO items ordered by {@code (reviewed_at, id)}, skipping items that
+   * were superseded by a later submission of the same content.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT * FROM moderation.moderation_items m "
+              + "WHERE m.reviewed_at IS NOT NULL AND m.content_type = 'VIDEO' "
+              + "AND (m.reviewed_at, m.id) > (:reviewedAt, :id) AND m.reviewed_at < :until "
+              + "AND NOT EXISTS (SELECT 1 FROM moderation.moderation_items n "
+              + "WHERE n.content_id = m.content_id AND n.created_at > m.created_at) "
+              + "ORDER BY m.reviewed_at, m.id LIMIT :limit")
+  List<ModerationItem> findReviewedVideosAfter(
+      Instant reviewedAt, UUID id, Instant until, int limit);
 }
@@ -0,0 +1,35 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.ModeratorPresence;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ModeratorPresenceRepository extends JpaRepository<ModeratorPresence, UUID> {
+
+  @Modifying
+  @Transactional
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.moderator_presence (moderator_id, last_seen_at) "
+              + "VALUES (:moderatorId, :seenAt) ON CONFLICT (moderator_id) DO UPDATE SET "
+              + "last_seen_at = GREATEST(moderator_presence.last_seen_at, EXCLUDED.last_seen_at)")
+  int recordSeen(UUID moderatorId, Instant seenAt);
+
+  @Query(
+      "SELECT p.moderatorId FROM ModeratorPresence p WHERE p.lastSeenAt >= :since "
+          + "ORDER BY p.moderatorId")
+  List<UUID> findActiveSince(Instant since);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM ModeratorPresence p WHERE p.lastSeenAt < :before")
+  int deleteSeenBefore(Instant before);
+}
@@ -0,0 +1,13 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.time.Instant;
+import org.springframework.lang.Nullable;
+
+/** Count and latest creation time of the OPEN reports against one piece of content. */
+public interface OpenReportSummary {
+
+  long getOpenReportCount();
+
+  @Nullable
+  Instant getLastReportedAt();
+}
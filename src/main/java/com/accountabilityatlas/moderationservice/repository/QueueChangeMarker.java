@@ -0,0 +1,9 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+/** How many statements have changed items with one moderation status. */
+public interface QueueChangeMarker {
+
+  String getStatus();
+
+  long getChangeSeq();
+}
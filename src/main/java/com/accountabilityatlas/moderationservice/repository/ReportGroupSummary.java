@@ -0,0 +1,19 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import java.time.Instant;
+import java.util.UUID;
+
+/** Per-content aggregate of abuse reports, from {@link AbuseReportRepository#findReportGroups}. */
+public interface ReportGroupSummary {
+
+  ContentType getContentType();
+
+  UUID getContentId();
+
+  long getReportCount();
+
+  Instant getFirstReportedAt();
+
+  Instant getLastReportedAt();
+}
@@ -0,0 +1,14 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.AbuseReason;
+import java.util.UUID;
+
+/** Reports against one piece of content for one reason, from {@link AbuseReportRepository}. */
+public interface ReportReasonCount {
+
+  UUID getContentId();
+
+  AbuseReason getReason();
+
+  long getReportCount();
+}
@@ -0,0 +1,11 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.util.UUID;
+
+/** A report ID with the content it is against, from {@link AbuseReportRepository}. */
+public interface ReportRef {
+
+  UUID getId();
+
+  UUID getContentId();
+}
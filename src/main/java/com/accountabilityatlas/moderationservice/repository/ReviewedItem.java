@@ -0,0 +1,15 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import java.util.UUID;
+
+/**
+ * A moderation item moved out of PENDING by {@link ModerationItemRepository#reviewPendingItems}.
+ */
+public interface ReviewedItem {
+
+  UUID getId();
+
+  UUID getContentId();
+
+  UUID getSubmitterId();
+}
@@ -0,0 +1,212 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.SubmitterStats;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Atomic counter updates for {@code submitter_stats} and {@code submitter_daily_rejections}.
+ *
+ * <p>All writes are single-statement upserts so they can run inside the caller's transaction
+ * without read-modify-write races.
+ */
+@Repository
+public interface SubmitterStatsRepository extends JpaRepository<SubmitterStats, UUID> {
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.submitter_stats (submitter_id, approved_count) "
+              + "VALUES (:submitterId, :count) ON CONFLICT (submitter_id) DO UPDATE SET "
+              + "approved_count = submitter_stats.approved_count + EXCLUDED.approved_count, "
+              + "updated_at = NOW()")
+  int incrementApproved(UUID submitterId, int count);
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.submitter_stats (submitter_id, rejected_count) "
+              + "VALUES (:submitterId, :count) ON CONFLICT (submitter_id) DO UPDATE SET "
+              + "rejected_count = submitter_stats.rejected_count + EXCLUDED.rejected_count, "
+              + "updated_at = NOW()")
+  int incrementRejected(UUID submitterId, int count);
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.submitter_daily_rejections (submitter_id, day, rejections) "
+              + "VALUES (:submitterId, :day, :count) ON CONFLICT (submitter_id, day) DO UPDATE SET "
+              + "rejections = submitter_daily_rejections.rejections + EXCLUDED.rejections")
+  int incrementDailyRejections(UUID submitterId, LocalDate day, int count);
+
+  /**
+   * Adds {@code count} open reports to every submitter of the given content (normally exactly one).
+   */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.submitter_stats (submitter_id, open_reports) "
+              + "SELECT DISTINCT submitter_id, :count FROM moderation.moderation_items "
+              + "WHERE content_id = :contentId ON CONFLICT (submitter_id) DO UPDATE SET "
+              + "open_reports = submitter_stats.open_reports + EXCLUDED.open_reports, "
+              + "updated_at = NOW()")
+  int incrementOpenReports(UUID contentId, int count);
+
+  /** Removes one open report from every submitter of the given content. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "UPDATE moderation.submitter_stats SET open_reports = GREATEST(open_reports - 1, 0), "
+              + "updated_at = NOW() WHERE submitter_id IN (SELECT submitter_id "
+              + "FROM moderation.moderation_items WHERE content_id = :contentId)")
+  int decrementOpenReports(UUID contentId);
+
+  /** Removes {@code count} open reports from every submitter of the given content. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "UPDATE moderation.submitter_stats "
+              + "SET open_reports = GREATEST(open_reports - :count, 0), updated_at = NOW() "
+              + "WHERE submitter_id IN (SELECT submitter_id "
+              + "FROM moderation.moderation_items WHERE content_id = :contentId)")
+  int decrementOpenReportsBy(UUID contentId, int count);
+
+  /**
+   * Trust inputs for one submitter: a primary-key lookup plus a range scan over at most one row per
+   * day of the lookback window.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT COALESCE((SELECT SUM(r.rejections) FROM moderation.submitter_daily_rejections r "
+              + "WHERE r.submitter_id = :submitterId AND r.day >= :sinceDay), 0) "
+              + "AS \"recentRejections\", "
+              + "COALESCE((SELECT s.open_reports FROM moderation.submitter_stats s "
+              + "WHERE s.submitter_id = :submitterId), 0) AS \"activeReports\"")
+  TrustSignals findTrustSignals(UUID submitterId, LocalDate sinceDay);
+
+  /**
+   * Keyset page of submitters that may qualify for promotion or demotion, ordered by submitter ID.
+   *
+   * <p>Promotion candidates are not known to be above NEW, have at least {@code minApproved}
+   * approvals and a clean record; demotion candidates are not known to be anything but TRUSTED and
+   * are at or over either demotion threshold. Account age and the authoritative tier are checked
+   * against user-service afterwards.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT s.submitter_id FROM moderation.submitter_stats s "
+              + "LEFT JOIN moderation.submitter_trust_tiers t ON t.submitter_id = s.submitter_id "
+              + "CROSS JOIN LATERAL (SELECT COALESCE(SUM(r.rejections), 0) AS recent "
+              + "FROM moderation.submitter_daily_rejections r "
+              + "WHERE r.submitter_id = s.submitter_id AND r.day >= :sinceDay) rej "
+              + "WHERE s.submitter_id > :after AND ("
+              + "(COALESCE(t.trust_tier, 'NEW') = 'NEW' AND s.approved_count >= :minApproved "
+              + "AND s.open_reports = 0 AND rej.recent = 0) "
+              + "OR (COALESCE(t.trust_tier, 'TRUSTED') = 'TRUSTED' "
+              + "AND (s.open_reports >= :reportThreshold OR rej.recent >= :rejectionThreshold))) "
+              + "ORDER BY s.submitter_id LIMIT :limit")
+  List<UUID> findTrustSweepCandidates(
+      UUID after,
+      LocalDate sinceDay,
+      int minApproved,
+      int reportThreshold,
+      int rejectionThreshold,
+      int limit);
+
+  /**
+   * Submitters with any open report or any rejection since {@code sinceDay}; the seed for the
+   * in-memory flagged-submitter filter.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT submitter_id FROM moderation.submitter_stats WHERE open_reports > 0 "
+              + "UNION SELECT submitter_id FROM moderation.submitter_daily_rejections "
+              + "WHERE day >= :sinceDay")
+  List<UUID> findFlaggedSubmitters(LocalDate sinceDay);
+
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT DISTINCT submitter_id FROM moderation.moderation_items "
+              + "WHERE content_id = :contentId")
+  List<UUID> findSubmittersOfContent(UUID contentId);
+
+  // ---- Rebuild ----
+
+  /** Keyset page of submitter IDs with any moderation item; bounds one rebuild chunk. */
+  @Query(
+      nativeQuery = true,
+      value =
+          "SELECT DISTINCT submitter_id FROM moderation.moderation_items "
+              + "WHERE submitter_id > :after ORDER BY submitter_id LIMIT :limit")
+  List<UUID> findSubmittersAfter(UUID after, int limit);
+
+  /** Blocks counter writers (not readers) until the rebuilding transaction ends. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "LOCK TABLE moderation.submitter_stats, moderation.submitter_daily_rejections "
+              + "IN EXCLUSIVE MODE")
+  void lockForRebuild();
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "DELETE FROM moderation.submitter_stats "
+              + "WHERE submitter_id > :after AND submitter_id <= :upTo")
+  int deleteStatsInRange(UUID after, UUID upTo);
+
+  /** Recomputes the counters of submitters in {@code (after, upTo]} from the base tables. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.submitter_stats "
+              + "(submitter_id, open_reports, approved_count, rejected_count) "
+              + "SELECT s.submitter_id, (SELECT COUNT(*) FROM moderation.abuse_reports a "
+              + "WHERE a.status = 'OPEN' AND a.content_id IN (SELECT i.content_id "
+              + "FROM moderation.moderation_items i WHERE i.submitter_id = s.submitter_id)), "
+              + "COUNT(*) FILTER (WHERE s.status = 'APPROVED'), "
+              + "COUNT(*) FILTER (WHERE s.status = 'REJECTED') "
+              + "FROM moderation.moderation_items s "
+              + "WHERE s.submitter_id > :after AND s.submitter_id <= :upTo "
+              + "GROUP BY s.submitter_id")
+  int insertStatsFromBaseTables(UUID after, UUID upTo);
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "DELETE FROM moderation.submitter_daily_rejections "
+              + "WHERE submitter_id > :after AND submitter_id <= :upTo")
+  int deleteDailyRejectionsInRange(UUID after, UUID upTo);
+
+  /** Recomputes the daily buckets of submitters in {@code (after, upTo]} since {@code sinceDay}. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.submitter_daily_rejections (submitter_id, day, rejections) "
+              + "SELECT submitter_id, CAST(reviewed_at AT TIME ZONE 'UTC' AS DATE), COUNT(*) "
+              + "FROM moderation.moderation_items "
+              + "WHERE status = 'REJECTED' AND reviewed_at >= CAST(:sinceDay AS DATE) "
+              + "AND submitter_id > :after AND submitter_id <= :upTo "
+              + "GROUP BY submitter_id, CAST(reviewed_at AT TIME ZONE 'UTC' AS DATE)")
+  int insertDailyRejectionsFromBaseTables(LocalDate sinceDay, UUID after, UUID upTo);
+}
@@ -0,0 +1,23 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+import com.accountabilityatlas.moderationservice.domain.SubmitterTrustTier;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SubmitterTrustTierRepository extends JpaRepository<SubmitterTrustTier, UUID> {
+
+  @Transactional
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "INSERT INTO moderation.submitter_trust_tiers (submitter_id, trust_tier) "
+              + "VALUES (:submitterId, :trustTier) ON CONFLICT (submitter_id) DO UPDATE SET "
+              + "trust_tier = EXCLUDED.trust_tier, observed_at = NOW()")
+  int recordTier(UUID submitterId, String trustTier);
+}
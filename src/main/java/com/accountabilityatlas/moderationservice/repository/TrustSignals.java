@@ -0,0 +1,14 @@
+package com.accountabilityatlas.moderationservice.repository;
+
+/**
+ * Moderation-side inputs to trust promotion and demotion, loaded in a single round trip by {@link
+ * SubmitterStatsRepository#findTrustSignals}.
+ */
+public interface TrustSignals {
+
+  /** Rejections of the submitter's content since the requested day. */
+  long getRecentRejections();
+
+  /** OPEN abuse reports against any content the submitter has submitted. */
+  long getActiveReports();
+}
@@ -1,15 +1,39 @@
 package com.accountabilityatlas.moderationservice.service;
 
+import com.accountabilityatlas.moderationservice.config.ReplicaRead;
 import com.accountabilityatlas.moderationservice.domain.AbuseReason;
 import com.accountabilityatlas.moderationservice.domain.AbuseReport;
 import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ReportStatus;
 import com.accountabilityatlas.moderationservice.exception.AbuseReportNotFoundException;
+import com.accountabilityatlas.moderationservice.exception.DuplicateReportException;
+import com.accountabilityatlas.moderationservice.exception.ReportRateLimitedException;
+import com.accountabilityatlas.moderationservice.repository.AbuseReportBatchRepository;
 import com.accountabilityatlas.moderationservice.repository.AbuseReportRepository;
+import com.accountabilityatlas.moderationservice.repository.AbuseReportSpecifications;
+import com.accountabilityatlas.moderationservice.repository.ClosedReport;
+import com.accountabilityatlas.moderationservice.repository.ReportGroupSummary;
+import com.accountabilityatlas.moderationservice.repository.ReportReasonCount;
+import com.accountabilityatlas.moderationservice.repository.ReportRef;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,9 +41,25 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AbuseReportService {
 
+  static final String OPEN_REPORT_INDEX = "idx_abuse_reports_open_reporter_content";
+
+  /** Report IDs listed per group; the by-content resolve and dismiss close the rest with them. */
+  static final int REPORT_IDS_PER_GROUP = 20;
+
   private final AbuseReportRepository abuseReportRepository;
+  private final AbuseReportBatchRepository abuseReportBatchRepository;
   private final AuditLogService auditLogService;
+  private final SubmitterStatsService submitterStatsService;
+  private final ReportEscalationService reportEscalationService;
+  private final RecentReportCache recentReportCache;
+  private final ReporterRateLimiter reporterRateLimiter;
 
+  /**
+   * Opens a report, at most one per reporter and content while it stays OPEN.
+   *
+   * @throws DuplicateReportException if the reporter already has an OPEN report for the content
+   * @throws ReportRateLimitedException if the reporter has exhausted their report allowance
+   */
   @Transactional
   public AbuseReport submitReport(
       ContentType contentType,
@@ -27,6 +67,42 @@ public class AbuseReportService {
       UUID reporterId,
       AbuseReason reason,
       String description) {
+    checkCanReport(reporterId, contentId);
+    return openReport(contentType, contentId, reporterId, reason, description);
+  }
+
+  /**
+   * Refuses a report that is a known duplicate or over the reporter's rate limit, and otherwise
+   * charges the rate limit.
+   *
+   * <p>Known duplicates are refused from memory before the rate limit is charged, so retrying a
+   * report that already went through never costs a token. Touches no database state.
+   *
+   * @throws DuplicateReportException if the reporter already has an OPEN report for the content
+   * @throws ReportRateLimitedException if the reporter has exhausted their report allowance
+   */
+  public void checkCanReport(UUID reporterId, UUID contentId) {
+    if (recentReportCache.contains(reporterId, contentId)) {
+      throw new DuplicateReportException();
+    }
+    Duration retryAfter = reporterRateLimiter.tryAcquire(reporterId);
+    if (!retryAfter.isZero()) {
+      throw new ReportRateLimitedException(retryAfter);
+    }
+  }
+
+  /**
+   * Saves a report that has already passed {@link #checkCanReport}.
+   *
+   * @throws DuplicateReportException if the reporter already has an OPEN report for the content
+   */
+  @Transactional
+  public AbuseReport openReport(
+      ContentType contentType,
+      UUID contentId,
+      UUID reporterId,
+      AbuseReason reason,
+      String description) {
     AbuseReport report = new AbuseReport();
     report.setContentType(contentType);
     report.setContentId(contentId);
@@ -34,9 +110,49 @@ public class AbuseReportService {
     report.setReason(reason);
     report.setDescription(description);
     report.setStatus(ReportStatus.OPEN);
-    return abuseReportRepository.save(report);
+    AbuseReport saved;
+    try {
+      saved = abuseReportRepository.saveAndFlush(report);
+    } catch (DataIntegrityViolationException e) {
+      if (!isOpenReportConflict(e)) {
+        throw e;
+      }
+      recentReportCache.addExisting(reporterId, contentId);
+      throw new DuplicateReportException();
+    }
+    recentReportCache.add(reporterId, contentId);
+    submitterStatsService.recordReportOpened(contentId);
+    reportEscalationService.recordReportsOpened(contentId, 1, saved.getCreatedAt());
+    return saved;
+  }
+
+  /**
+   * Inserts queued reports, which already carry their IDs and creation times, in one JDBC batch and
+   * updates the submitter counters once per content.
+   *
+   * <p>Reports that duplicate an OPEN report are skipped.
+   *
+   * @return the reports that were inserted
+   */
+  @Transactional
+  public List<AbuseReport> insertQueuedReports(List<AbuseReport> reports) {
+    List<AbuseReport> inserted = abuseReportBatchRepository.insertAll(reports);
+    inserted.stream()
+        .collect(Collectors.groupingBy(AbuseReport::getContentId))
+        .forEach(
+            (contentId, opened) -> {
+              Instant latest =
+                  opened.stream()
+                      .map(AbuseReport::getCreatedAt)
+                      .max(Comparator.naturalOrder())
+                      .orElseThrow();
+              submitterStatsService.recordReportsOpened(contentId, opened.size());
+              reportEscalationService.recordReportsOpened(contentId, opened.size(), latest);
+            });
+    return inserted;
   }
 
+  @ReplicaRead
   @Transactional(readOnly = true)
   public AbuseReport getReport(UUID id) {
     return getReportInternal(id);
@@ -45,6 +161,11 @@ public class AbuseReportService {
   @Transactional
   public AbuseReport resolve(UUID id, UUID moderatorId, String resolution) {
     AbuseReport report = getReportInternal(id);
+    if (report.getStatus() == ReportStatus.OPEN) {
+      submitterStatsService.recordReportClosed(report.getContentId());
+      reportEscalationService.recordReportsClosed(report.getContentId(), 1);
+      recentReportCache.forgetContent(List.of(report.getContentId()));
+    }
     report.setStatus(ReportStatus.RESOLVED);
     report.setResolvedBy(moderatorId);
     report.setResolution(resolution);
@@ -55,6 +176,11 @@ public class AbuseReportService {
   @Transactional
   public AbuseReport dismiss(UUID id, UUID moderatorId, String reason) {
     AbuseReport report = getReportInternal(id);
+    if (report.getStatus() == ReportStatus.OPEN) {
+      submitterStatsService.recordReportClosed(report.getContentId());
+      reportEscalationService.recordReportsClosed(report.getContentId(), 1);
+      recentReportCache.forgetContent(List.of(report.getContentId()));
+    }
     report.setStatus(ReportStatus.DISMISSED);
     report.setResolvedBy(moderatorId);
     report.setResolution(reason);
@@ -62,9 +188,188 @@ public class AbuseReportService {
     return abuseReportRepository.save(report);
   }
 
+  /**
+   * Lists reports by offset page, oldest first.
+   *
+   * @param contentType optional content type filter
+   * @param reason optional reason filter
+   */
+  @ReplicaRead
+  @Transactional(readOnly = true)
+  public Page<AbuseReport> listReports(
+      ReportStatus status,
+      @Nullable ContentType contentType,
+      @Nullable AbuseReason reason,
+      int page,
+      int size) {
+    return abuseReportRepository.findAll(
+        AbuseReportSpecifications.matching(status, contentType, reason),
+        PageRequest.of(page, size, AbuseReportSpecifications.OLDEST_FIRST));
+  }
+
+  /**
+   * Lists up to {@code limit} reports after a keyset cursor, oldest first. Unlike {@link
+   * #listReports} this never counts the matching rows, so its cost does not grow with the backlog.
+   */
+  @ReplicaRead
+  @Transactional(readOnly = true)
+  public List<AbuseReport> listReportsAfter(
+      ReportStatus status,
+      @Nullable ContentType contentType,
+      @Nullable AbuseReason reason,
+      ReportCursor cursor,
+      int limit) {
+    Specification<AbuseReport> spec =
+        AbuseReportSpecifications.matching(status, contentType, reason)
+            .and(AbuseReportSpecifications.after(cursor.createdAt(), cursor.id()));
+    return abuseReportRepository.findBy(
+        spec, query -> query.sortBy(AbuseReportSpecifications.OLDEST_FIRST).limit(limit).all());
+  }
+
+  /**
+   * Lists reports grouped by content, most-reported first. Each group carries its full reason
+   * histogram but only the oldest {@value #REPORT_IDS_PER_GROUP} report IDs.
+   *
+   * @param contentType optional content type filter
+   */
+  @ReplicaRead
   @Transactional(readOnly = true)
-  public Page<AbuseReport> listReports(ReportStatus status, Pageable pageable) {
-    return abuseReportRepository.findByStatus(status, pageable);
+  public Page<ReportGroup> listReportGroups(
+      ReportStatus status, @Nullable ContentType contentType, int page, int size) {
+    Page<ReportGroupSummary> summaries =
+        abuseReportRepository.findReportGroups(status, contentType, PageRequest.of(page, size));
+    if (summaries.isEmpty()) {
+      return summaries.map(summary -> toReportGroup(summary, Map.of(), List.of()));
+    }
+    List<UUID> contentIds = summaries.map(ReportGroupSummary::getContentId).getContent();
+    Map<UUID, Map<AbuseReason, Long>> reasonsByContent = new HashMap<>();
+    for (ReportReasonCount count : abuseReportRepository.findReasonCounts(status, contentIds)) {
+      reasonsByContent
+          .computeIfAbsent(count.getContentId(), id -> new EnumMap<>(AbuseReason.class))
+          .put(count.getReason(), count.getReportCount());
+    }
+    Map<UUID, List<UUID>> idsByContent =
+        abuseReportRepository
+            .findOldestReportIds(
+                status.name(), contentIds.toArray(UUID[]::new), REPORT_IDS_PER_GROUP)
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    ReportRef::getContentId,
+                    Collectors.mapping(ReportRef::getId, Collectors.toList())));
+    return summaries.map(
+        summary ->
+            toReportGroup(
+                summary,
+                reasonsByContent.getOrDefault(summary.getContentId(), Map.of()),
+                idsByContent.getOrDefault(summary.getContentId(), List.of())));
+  }
+
+  /**
+   * Resolves the listed reports that are still OPEN in one set-based update.
+   *
+   * @return one outcome per distinct requested ID, in request order
+   */
+  @Transactional
+  public List<BulkOutcome> resolveAll(Collection<UUID> ids, UUID moderatorId, String resolution) {
+    return closeAll(ids, ReportStatus.RESOLVED, "RESOLVE", moderatorId, resolution);
+  }
+
+  /**
+   * Dismisses the listed reports that are still OPEN in one set-based update.
+   *
+   * @return one outcome per distinct requested ID, in request order
+   */
+  @Transactional
+  public List<BulkOutcome> dismissAll(
+      Collection<UUID> ids, UUID moderatorId, @Nullable String reason) {
+    return closeAll(ids, ReportStatus.DISMISSED, "DISMISS", moderatorId, reason);
+  }
+
+  /**
+   * Resolves every OPEN report against a piece of content.
+   *
+   * @return the IDs of the reports that were resolved; empty if none were open
+   */
+  @Transactional
+  public List<UUID> resolveAllForContent(UUID contentId, UUID moderatorId, String resolution) {
+    return recordClosed(
+        abuseReportRepository.closeOpenReportsForContent(
+            contentId, ReportStatus.RESOLVED.name(), "RESOLVE", moderatorId, resolution));
+  }
+
+  /**
+   * Dismisses every OPEN report against a piece of content.
+   *
+   * @return the IDs of the reports that were dismissed; empty if none were open
+   */
+  @Transactional
+  public List<UUID> dismissAllForContent(
+      UUID contentId, UUID moderatorId, @Nullable String reason) {
+    return recordClosed(
+        abuseReportRepository.closeOpenReportsForContent(
+            contentId, ReportStatus.DISMISSED.name(), "DISMISS", moderatorId, reason));
+  }
+
+  private List<BulkOutcome> closeAll(
+      Collection<UUID> ids,
+      ReportStatus status,
+      String action,
+      UUID moderatorId,
+      @Nullable String details) {
+    Set<UUID> requested = new LinkedHashSet<>(ids);
+    Set<UUID> closed =
+        new HashSet<>(
+            recordClosed(
+                abuseReportRepository.closeOpenReports(
+                    requested, status.name(), action, moderatorId, details)));
+    List<UUID> unchanged = requested.stream().filter(id -> !closed.contains(id)).toList();
+    Set<UUID> existing =
+        unchanged.isEmpty()
+            ? Set.of()
+            : new HashSet<>(abuseReportRepository.findExistingIds(unchanged));
+    return requested.stream()
+        .map(
+            id ->
+                new BulkOutcome(
+                    id,
+                    closed.contains(id)
+                        ? BulkOutcome.Result.UPDATED
+                        : existing.contains(id)
+                            ? BulkOutcome.Result.ALREADY_CLOSED
+                            : BulkOutcome.Result.NOT_FOUND))
+        .toList();
+  }
+
+  /** Updates the submitter counters once per content and returns the closed report IDs. */
+  private List<UUID> recordClosed(List<ClosedReport> closed) {
+    Map<UUID, Long> closedByContent =
+        closed.stream()
+            .collect(Collectors.groupingBy(ClosedReport::getContentId, Collectors.counting()));
+    closedByContent.forEach(
+        (contentId, count) -> {
+          submitterStatsService.recordReportsClosed(contentId, count.intValue());
+          reportEscalationService.recordReportsClosed(contentId, count.intValue());
+        });
+    recentReportCache.forgetContent(closedByContent.keySet());
+    return closed.stream().map(ClosedReport::getId).toList();
+  }
+
+  private static boolean isOpenReportConflict(DataIntegrityViolationException e) {
+    String message = e.getMostSpecificCause().getMessage();
+    return message != null && message.contains(OPEN_REPORT_INDEX);
+  }
+
+  private static ReportGroup toReportGroup(
+      ReportGroupSummary summary, Map<AbuseReason, Long> reasonCounts, List<UUID> reportIds) {
+    return new ReportGroup(
+        summary.getContentType(),
+        summary.getContentId(),
+        summary.getReportCount(),
+        reasonCounts,
+        summary.getFirstReportedAt(),
+        summary.getLastReportedAt(),
+        reportIds);
   }
 
   private AbuseReport getReportInternal(UUID id) {
@@ -72,4 +377,29 @@ public class AbuseReportService {
         .findById(id)
         .orElseThrow(() -> new AbuseReportNotFoundException(id));
   }
+
+  /**
+   * Reports against one piece of content, aggregated. Report IDs are the oldest {@value
+   * #REPORT_IDS_PER_GROUP}, oldest first; {@code reportCount} is the total.
+   */
+  public record ReportGroup(
+      ContentType contentType,
+      UUID contentId,
+      long reportCount,
+      Map<AbuseReason, Long> reasonCounts,
+      Instant firstReportedAt,
+      Instant lastReportedAt,
+      List<UUID> reportIds) {}
+
+  /** What a bulk transition did to one requested report. */
+  public record BulkOutcome(UUID reportId, Result result) {
+
+    public enum Result {
+      /** The report was OPEN and now has the requested status. */
+      UPDATED,
+      NOT_FOUND,
+      /** The report was already resolved or dismissed and is unchanged. */
+      ALREADY_CLOSED
+    }
+  }
 }
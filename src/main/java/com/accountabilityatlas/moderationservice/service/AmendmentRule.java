@@ -0,0 +1,41 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Raises content that references amendments listed in {@code
+ * app.priority-scoring.amendments.elevated}: {@code points-each} per listed amendment, capped at
+ * {@code max-points}.
+ */
+@Component
+public class AmendmentRule implements PriorityRule {
+
+  private final Set<String> elevated;
+  private final int pointsEach;
+  private final int maxPoints;
+
+  public AmendmentRule(
+      @Value("${app.priority-scoring.amendments.elevated:FOURTH,FIFTH}") Set<String> elevated,
+      @Value("${app.priority-scoring.amendments.points-each:1}") int pointsEach,
+      @Value("${app.priority-scoring.amendments.max-points:2}") int maxPoints) {
+    this.elevated = Set.copyOf(elevated);
+    this.pointsEach = pointsEach;
+    this.maxPoints = maxPoints;
+  }
+
+  @Override
+  public int score(Submission submission) {
+    if (elevated.isEmpty()) {
+      return 0;
+    }
+    int score = 0;
+    for (String amendment : submission.amendments()) {
+      if (elevated.contains(amendment)) {
+        score += pointsEach;
+      }
+    }
+    return Math.min(score, maxPoints);
+  }
+}
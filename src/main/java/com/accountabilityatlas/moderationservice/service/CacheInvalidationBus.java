@@ -0,0 +1,226 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts in-process cache entries on every node when the data behind them changes.
+ *
+ * <p>Write paths publish the IDs of changed entities. Once the transaction commits, subscribers on
+ * this node evict straight away, and the IDs are queued for the other nodes. The queue is flushed
+ * on the {@value #CHANNEL} channel of {@link PostgresNotifications} every {@code
+ * app.cache-invalidation.coalesce-window}, so a burst of writes to the same entities costs one
+ * notification per {@value #MAX_IDS_PER_MESSAGE} distinct IDs. An entity type with more than {@code
+ * max-pending-ids} IDs waiting is flushed entirely instead. If the listening connection was lost or
+ * another node dropped a message, every subscriber flushes entirely, since the evictions in
+ * question are gone.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationBus {
+
+  static final String CHANNEL = "moderation_cache_invalidation";
+
+  /** Keeps each payload well under the 8000-byte NOTIFY limit. */
+  static final int MAX_IDS_PER_MESSAGE = 100;
+
+  /** What changed; the published IDs are of this kind. */
+  public enum Entity {
+    /** Moderation item IDs. */
+    MODERATION_ITEM,
+    /** Content IDs whose moderation item changed. */
+    CONTENT,
+    /** Content IDs whose abuse reports were closed. */
+    CONTENT_REPORTS,
+    /** Submitter IDs with a new rejection. */
+    SUBMITTER_REJECTIONS,
+    /** Submitter IDs with a new rejection or open report, for the flagged-submitter filter. */
+    FLAGGED_SUBMITTERS,
+    /** User IDs whose profile or trust tier changed. */
+    USER
+  }
+
+  record Message(Entity entity, List<UUID> ids, boolean all) {}
+
+  private record Subscriber(Consumer<Collection<UUID>> evict, Runnable evictAll) {}
+
+  private final PostgresNotifications notifications;
+  private final ObjectMapper objectMapper;
+  private final int maxPendingIds;
+  private final Map<Entity, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final Map<Entity, Set<UUID>> pending = new EnumMap<>(Entity.class);
+  private final Set<Entity> pendingAll = EnumSet.noneOf(Entity.class);
+  private final Counter sentCounter;
+  private final Counter receivedCounter;
+
+  public CacheInvalidationBus(
+      PostgresNotifications notifications,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.cache-invalidation.max-pending-ids:10000}") int maxPendingIds) {
+    this.notifications = notifications;
+    this.objectMapper = objectMapper;
+    this.maxPendingIds = maxPendingIds;
+    this.sentCounter = meterRegistry.counter("moderation.cache-invalidation.sent");
+    this.receivedCounter = meterRegistry.counter("moderation.cache-invalidation.received");
+    notifications.listen(CHANNEL, this::receive, this::evictAllLocally);
+  }
+
+  /**
+   * Subscribes a cache to changes of one entity type. Both callbacks run on the thread that
+   * committed or received the change and must not block.
+   *
+   * @param evict drops the entries for the given IDs
+   * @param evictAll drops every entry
+   */
+  public void subscribe(Entity entity, Consumer<Collection<UUID>> evict, Runnable evictAll) {
+    subscribers
+        .computeIfAbsent(entity, e -> new CopyOnWriteArrayList<>())
+        .add(new Subscriber(evict, evictAll));
+  }
+
+  /** Evicts the entities everywhere once the current transaction (if any) commits. */
+  public void publish(Entity entity, Collection<UUID> ids) {
+    if (ids.isEmpty() || !subscribers.containsKey(entity)) {
+      return;
+    }
+    List<UUID> changed = List.copyOf(ids);
+    afterCommit(() -> changed(entity, changed));
+  }
+
+  /**
+   * Evicts every entity of the type everywhere once the current transaction (if any) commits, for
+   * writes too broad to list.
+   */
+  public void publishAll(Entity entity) {
+    if (subscribers.containsKey(entity)) {
+      afterCommit(() -> allChanged(entity));
+    }
+  }
+
+  /** Sends the IDs published since the last flush to the other nodes. */
+  @Scheduled(fixedDelayString = "${app.cache-invalidation.coalesce-window:PT0.1S}")
+  public void flush() {
+    List<Message> messages = new ArrayList<>();
+    synchronized (pending) {
+      for (Entity entity : pendingAll) {
+        messages.add(new Message(entity, List.of(), true));
+      }
+      pending.forEach(
+          (entity, ids) -> {
+            List<UUID> queued = List.copyOf(ids);
+            for (int from = 0; from < queued.size(); from += MAX_IDS_PER_MESSAGE) {
+              int to = Math.min(from + MAX_IDS_PER_MESSAGE, queued.size());
+              messages.add(new Message(entity, queued.subList(from, to), false));
+            }
+          });
+      pendingAll.clear();
+      pending.clear();
+    }
+    for (Message message : messages) {
+      try {
+        notifications.send(CHANNEL, objectMapper.writeValueAsString(message));
+        sentCounter.increment();
+      } catch (JsonProcessingException e) {
+        log.warn("Failed to send {} cache invalidation: {}", message.entity(), e.getMessage());
+      }
+    }
+  }
+
+  private void changed(Entity entity, List<UUID> ids) {
+    evictLocally(new Message(entity, ids, false));
+    if (!notifications.isEnabled()) {
+      return;
+    }
+    synchronized (pending) {
+      if (pendingAll.contains(entity)) {
+        return;
+      }
+      Set<UUID> queued = pending.computeIfAbsent(entity, e -> new LinkedHashSet<>());
+      queued.addAll(ids);
+      if (queued.size() > maxPendingIds) {
+        // Cheaper for everyone to start over than to ship the whole list
+        pending.remove(entity);
+        pendingAll.add(entity);
+      }
+    }
+  }
+
+  private void allChanged(Entity entity) {
+    evictLocally(new Message(entity, List.of(), true));
+    if (!notifications.isEnabled()) {
+      return;
+    }
+    synchronized (pending) {
+      pending.remove(entity);
+      pendingAll.add(entity);
+    }
+  }
+
+  private void receive(String payload) {
+    Message message;
+    try {
+      message = objectMapper.readValue(payload, Message.class);
+    } catch (JsonProcessingException e) {
+      log.warn("Ignoring malformed cache invalidation: {}", e.getMessage());
+      return;
+    }
+    receivedCounter.increment();
+    evictLocally(message);
+  }
+
+  private void evictLocally(Message message) {
+    for (Subscriber subscriber : subscribers.getOrDefault(message.entity(), List.of())) {
+      try {
+        if (message.all()) {
+          subscriber.evictAll().run();
+        } else {
+          subscriber.evict().accept(message.ids());
+        }
+      } catch (RuntimeException e) {
+        log.warn("Cache eviction for {} failed: {}", message.entity(), e.getMessage());
+      }
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private void evictAllLocally() {
+    log.info("Flushing cached entities after missed invalidations");
+    for (Entity entity : Entity.values()) {
+      evictLocally(new Message(entity, List.of(), true));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable consistent-hash ring of moderators.
+ *
+ * <p>Each member is placed at {@code virtualNodes} points on a 64-bit ring and a key belongs to the
+ * first point at or after its own hash, wrapping around. Adding or removing one of {@code n}
+ * members therefore moves only about {@code 1/n} of the keys, all of them to or from that member.
+ * Placement depends only on the member IDs, so every node builds the same ring from the same
+ * membership.
+ */
+final class ConsistentHashRing {
+
+  static final ConsistentHashRing EMPTY = new ConsistentHashRing(Set.of(), 1);
+
+  private final Set<UUID> members;
+  private final long[] points;
+  private final UUID[] owners;
+
+  ConsistentHashRing(Collection<UUID> members, int virtualNodes) {
+    if (virtualNodes <= 0) {
+      throw new IllegalArgumentException("virtualNodes must be positive");
+    }
+    this.members = Set.copyOf(members);
+    Point[] placed = new Point[this.members.size() * virtualNodes];
+    int i = 0;
+    for (UUID member : this.members) {
+      for (int replica = 0; replica < virtualNodes; replica++) {
+        placed[i++] = new Point(pointHash(member, replica), member);
+      }
+    }
+    // Ties (astronomically unlikely) are broken by member ID so the ring stays deterministic
+    Arrays.sort(
+        placed,
+        (a, b) -> a.hash != b.hash ? Long.compare(a.hash, b.hash) : a.owner.compareTo(b.owner));
+    points = new long[placed.length];
+    owners = new UUID[placed.length];
+    for (int p = 0; p < placed.length; p++) {
+      points[p] = placed[p].hash;
+      owners[p] = placed[p].owner;
+    }
+  }
+
+  /** Returns the member owning {@code key}, or null if the ring is empty. */
+  @Nullable
+  UUID ownerOf(UUID key) {
+    if (points.length == 0) {
+      return null;
+    }
+    int index = Arrays.binarySearch(points, keyHash(key));
+    if (index < 0) {
+      index = -index - 1;
+    }
+    return owners[index == points.length ? 0 : index];
+  }
+
+  boolean contains(UUID member) {
+    return members.contains(member);
+  }
+
+  Set<UUID> members() {
+    return members;
+  }
+
+  int size() {
+    return members.size();
+  }
+
+  private static long keyHash(UUID key) {
+    return mix(key.getMostSignificantBits() ^ Long.rotateLeft(key.getLeastSignificantBits(), 32));
+  }
+
+  private static long pointHash(UUID member, int replica) {
+    return mix(keyHash(member) + replica * 0x9E3779B97F4A7C15L);
+  }
+
+  /** MurmurHash3 64-bit finalizer: spreads structured IDs evenly over the ring. */
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  private record Point(long hash, UUID owner) {}
+}
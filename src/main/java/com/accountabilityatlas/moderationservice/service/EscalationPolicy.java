@@ -0,0 +1,57 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps the OPEN reports against a PENDING item to its queue priority.
+ *
+ * <p>Priority is the number of {@code app.escalation.thresholds} the open report count has reached,
+ * so with the default {@code 1,3,10,25} one report gives priority 1 and 25 give priority 4. Each
+ * full {@code app.escalation.decay-interval} since the latest report lowers the priority by one,
+ * but never below 1 while any report is still open: quiet content sinks back towards the FIFO order
+ * without losing its place ahead of unreported content. A zero decay interval disables decay.
+ */
+@Component
+public class EscalationPolicy {
+
+  private final int[] thresholds;
+  private final Duration decayInterval;
+
+  public EscalationPolicy(
+      @Value("${app.escalation.thresholds:1,3,10,25}") int[] thresholds,
+      @Value("${app.escalation.decay-interval:P3D}") Duration decayInterval) {
+    for (int i = 0; i < thresholds.length; i++) {
+      if (thresholds[i] <= 0 || (i > 0 && thresholds[i] <= thresholds[i - 1])) {
+        throw new IllegalArgumentException(
+            "Escalation thresholds must be positive and strictly increasing: "
+                + Arrays.toString(thresholds));
+      }
+    }
+    if (decayInterval.isNegative()) {
+      throw new IllegalArgumentException("Escalation decay interval must not be negative");
+    }
+    this.thresholds = thresholds.clone();
+    this.decayInterval = decayInterval;
+  }
+
+  /**
+   * Returns the priority for an item with {@code openReports} OPEN reports, the latest filed at
+   * {@code lastReportedAt}.
+   */
+  public int priorityFor(int openReports, @Nullable Instant lastReportedAt, Instant now) {
+    int level = 0;
+    while (level < thresholds.length && openReports >= thresholds[level]) {
+      level++;
+    }
+    if (level <= 1 || lastReportedAt == null || decayInterval.isZero()) {
+      return level;
+    }
+    long decaySteps = Duration.between(lastReportedAt, now).dividedBy(decayInterval);
+    return (int) Math.max(1, level - Math.max(0, decaySteps));
+  }
+}
@@ -0,0 +1,177 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.config.ReadReplicaRouter;
+import com.accountabilityatlas.moderationservice.repository.SubmitterStatsRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory set of submitters who may have open abuse reports or rejections inside the trust
+ * lookback window.
+ *
+ * <p>A submitter absent from the set is known to be clean, so promotion checks can skip the trust
+ * signals query for them. Presence only means "might be flagged": entries are added on every
+ * rejection and report but only removed by a periodic rebuild from {@code submitter_stats} and
+ * {@code submitter_daily_rejections}. Until the first rebuild completes every submitter is treated
+ * as flagged.
+ *
+ * <p>Entries are added before the triggering transaction commits. Adds made since the previous
+ * rebuild are carried into the next one, so a transaction that commits after the rebuild query
+ * takes its snapshot is not lost as long as it runs for less than the refresh interval.
+ *
+ * <p>The filter is per node. Every mark is also published on the {@link CacheInvalidationBus}, so
+ * rejections and reports on other instances are marked here within the coalesce window of their
+ * commit. A notification this node may have missed (a dropped message or a lost listening
+ * connection) means the set can no longer be trusted to be complete, so every submitter is treated
+ * as flagged until the next rebuild that starts after the miss. The rebuild always reads the
+ * primary. Set {@code app.trust-filter.enabled=false} to always query.
+ */
+@Component
+@Slf4j
+public class FlaggedSubmitterFilter {
+
+  private final SubmitterStatsRepository submitterStatsRepository;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final boolean enabled;
+  private final Object lock = new Object();
+  private UuidHashSet flagged;
+  private UuidHashSet recentAdds = new UuidHashSet(0);
+  /** Bumped whenever notifications were missed; a rebuild that spans a miss is discarded. */
+  private long missedGeneration;
+
+  public FlaggedSubmitterFilter(
+      SubmitterStatsRepository submitterStatsRepository,
+      CacheInvalidationBus cacheInvalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${app.trust-filter.enabled:true}") boolean enabled) {
+    this.submitterStatsRepository = submitterStatsRepository;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.enabled = enabled;
+    cacheInvalidationBus.subscribe(
+        CacheInvalidationBus.Entity.FLAGGED_SUBMITTERS, this::markLocally, this::markEveryone);
+    Gauge.builder("moderation.trust-filter.size", this, FlaggedSubmitterFilter::size)
+        .register(meterRegistry);
+    Gauge.builder("moderation.trust-filter.memory", this, FlaggedSubmitterFilter::memoryBytes)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Returns false only if the submitter is known to have no open reports and no rejections in the
+   * lookback window.
+   */
+  public boolean mightBeFlagged(UUID submitterId) {
+    if (!enabled) {
+      return true;
+    }
+    synchronized (lock) {
+      return flagged == null || flagged.contains(submitterId);
+    }
+  }
+
+  /**
+   * Marks submitters as possibly flagged, here at once and on the other nodes after the current
+   * transaction commits. Call before the write that flags them commits.
+   */
+  public void markFlagged(Collection<UUID> submitterIds) {
+    markLocally(submitterIds);
+    cacheInvalidationBus.publish(CacheInvalidationBus.Entity.FLAGGED_SUBMITTERS, submitterIds);
+  }
+
+  private void markLocally(Collection<UUID> submitterIds) {
+    synchronized (lock) {
+      for (UUID submitterId : submitterIds) {
+        recentAdds.add(submitterId);
+        if (flagged != null) {
+          flagged.add(submitterId);
+        }
+      }
+    }
+  }
+
+  /** Marks from other nodes may have been lost; trust no negative answer until a rebuild. */
+  private void markEveryone() {
+    synchronized (lock) {
+      missedGeneration++;
+      flagged = null;
+    }
+    log.warn("Flagged submitter marks may have been missed, treating everyone as flagged");
+  }
+
+  /** Replaces the set with the submitters currently flagged in the database. */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${app.trust-filter.refresh-interval:PT10M}",
+      initialDelayString = "${app.trust-filter.refresh-interval:PT10M}")
+  public void rebuild() {
+    if (!enabled) {
+      return;
+    }
+    long start = System.nanoTime();
+    LocalDate sinceDay =
+        LocalDate.ofInstant(
+            Instant.now().minus(TrustPromotionService.REJECTION_LOOKBACK_DAYS, ChronoUnit.DAYS),
+            ZoneOffset.UTC);
+    long generation;
+    synchronized (lock) {
+      generation = missedGeneration;
+    }
+    List<UUID> current;
+    try {
+      // The replica may not have the flags that made other nodes mark a submitter yet
+      current =
+          ReadReplicaRouter.onPrimary(
+              () -> submitterStatsRepository.findFlaggedSubmitters(sinceDay));
+    } catch (RuntimeException e) {
+      // Keep the previous set (or none, so everyone counts as flagged) until the next attempt
+      log.error("Failed to rebuild flagged submitter filter: {}", e.getMessage(), e);
+      return;
+    }
+    UuidHashSet rebuilt = new UuidHashSet(current.size());
+    current.forEach(rebuilt::add);
+    int size;
+    long memoryBytes;
+    synchronized (lock) {
+      if (missedGeneration != generation) {
+        log.info("Discarded flagged submitter rebuild that overlapped missed marks");
+        return;
+      }
+      rebuilt.addAll(recentAdds);
+      recentAdds = new UuidHashSet(0);
+      flagged = rebuilt;
+      size = rebuilt.size();
+      memoryBytes = rebuilt.memoryBytes();
+    }
+    log.info(
+        "Rebuilt flagged submitter filter: {} submitters, {} KiB in {} ms",
+        size,
+        memoryBytes / 1024,
+        Duration.ofNanos(System.nanoTime() - start).toMillis());
+  }
+
+  private double size() {
+    synchronized (lock) {
+      return flagged == null ? 0 : flagged.size();
+    }
+  }
+
+  private double memoryBytes() {
+    synchronized (lock) {
+      return (flagged == null ? 0 : flagged.memoryBytes()) + recentAdds.memoryBytes();
+    }
+  }
+}
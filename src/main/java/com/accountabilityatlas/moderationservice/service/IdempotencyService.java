@@ -0,0 +1,179 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.repository.IdempotencyKeyRepository;
+import com.accountabilityatlas.moderationservice.repository.IdempotencyKeyRepository.HeldClaim;
+import com.accountabilityatlas.moderationservice.repository.IdempotencyKeyRepository.IdempotencyRecord;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Remembers the response to each {@code Idempotency-Key} request so a retry is answered without
+ * running the request again.
+ *
+ * <p>Keys are scoped to the caller. Postgres is the source of truth across nodes: a request claims
+ * its key with one upsert before it runs, so a concurrent duplicate on any node sees the claim and
+ * is refused instead of running in parallel. Completed responses are also kept in a bounded local
+ * cache, so retries landing on the same node skip the database. Keys expire after {@code
+ * app.idempotency.ttl}.
+ *
+ * <p>While a request runs, its claim is refreshed every {@code app.idempotency.heartbeat-interval},
+ * so a slow request keeps its key however long it takes. Only a claim whose node stopped
+ * heartbeating (a crash) goes stale after {@code app.idempotency.stale-after} and can be taken over
+ * by a retry.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+  static final String CACHE_NAME = "idempotentResponses";
+
+  /** A response as it was first sent. */
+  public record StoredResponse(int status, @Nullable String contentType, String body) {}
+
+  /** What to do with an incoming request carrying a key. */
+  public record Claim(Result result, @Nullable StoredResponse response) {
+
+    public enum Result {
+      /** The key is new; run the request, then complete or release the key. */
+      ACQUIRED,
+      /** The request already completed; send {@link #response()} again. */
+      REPLAY,
+      /** The first request with this key is still running. */
+      IN_PROGRESS,
+      /** The key was already used for a different request. */
+      MISMATCH
+    }
+
+    static Claim of(Result result) {
+      return new Claim(result, null);
+    }
+  }
+
+  private record Key(String callerId, String key) {}
+
+  private record Completed(String fingerprint, StoredResponse response) {}
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+  private final Cache<Key, Completed> completed;
+  private final Duration ttl;
+  private final Duration staleAfter;
+  private final Set<HeldClaim> held = ConcurrentHashMap.newKeySet();
+  private final Counter replayCounter;
+
+  public IdempotencyService(
+      IdempotencyKeyRepository idempotencyKeyRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+      @Value("${app.idempotency.stale-after:PT1M}") Duration staleAfter,
+      @Value("${app.idempotency.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+      @Value("${app.idempotency.cache.max-size:10000}") long maxSize) {
+    if (heartbeatInterval.multipliedBy(2).compareTo(staleAfter) > 0) {
+      throw new IllegalArgumentException(
+          "app.idempotency.stale-after must be at least twice app.idempotency.heartbeat-interval");
+    }
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.ttl = ttl;
+    this.staleAfter = staleAfter;
+    this.completed =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, completed, CACHE_NAME);
+    this.replayCounter = meterRegistry.counter("moderation.idempotency.replayed");
+  }
+
+  /** Claims {@code key} for a request with the given fingerprint, or reports why it cannot run. */
+  public Claim claim(String callerId, String key, String fingerprint) {
+    Completed local = completed.getIfPresent(new Key(callerId, key));
+    if (local != null) {
+      return replay(local.fingerprint(), fingerprint, local.response());
+    }
+    Instant now = Instant.now();
+    if (idempotencyKeyRepository.claim(
+        callerId, key, fingerprint, now, now.plus(ttl), now.minus(staleAfter))) {
+      held.add(new HeldClaim(callerId, key, fingerprint));
+      return Claim.of(Claim.Result.ACQUIRED);
+    }
+    Optional<IdempotencyRecord> existing = idempotencyKeyRepository.find(callerId, key);
+    if (existing.isEmpty()) {
+      // Released or purged between the two statements; the client can simply retry
+      return Claim.of(Claim.Result.IN_PROGRESS);
+    }
+    IdempotencyRecord record = existing.get();
+    if (record.statusCode() == null || record.body() == null) {
+      return record.fingerprint().equals(fingerprint)
+          ? Claim.of(Claim.Result.IN_PROGRESS)
+          : Claim.of(Claim.Result.MISMATCH);
+    }
+    StoredResponse response =
+        new StoredResponse(record.statusCode(), record.contentType(), record.body());
+    completed.put(new Key(callerId, key), new Completed(record.fingerprint(), response));
+    return replay(record.fingerprint(), fingerprint, response);
+  }
+
+  /** Stores the response of an {@link Claim.Result#ACQUIRED ACQUIRED} request. */
+  public void complete(String callerId, String key, String fingerprint, StoredResponse response) {
+    completed.put(new Key(callerId, key), new Completed(fingerprint, response));
+    held.remove(new HeldClaim(callerId, key, fingerprint));
+    try {
+      idempotencyKeyRepository.complete(
+          callerId, key, fingerprint, response.status(), response.contentType(), response.body());
+    } catch (RuntimeException e) {
+      // The request itself succeeded; only retries on other nodes lose the stored response
+      log.warn("Failed to store idempotent response for {}: {}", callerId, e.getMessage());
+    }
+  }
+
+  /** Gives up an acquired key without a response, so a retry runs the request again. */
+  public void release(String callerId, String key, String fingerprint) {
+    held.remove(new HeldClaim(callerId, key, fingerprint));
+    try {
+      idempotencyKeyRepository.release(callerId, key, fingerprint);
+    } catch (RuntimeException e) {
+      // The claim goes stale and can be taken over after app.idempotency.stale-after
+      log.warn("Failed to release idempotency key for {}: {}", callerId, e.getMessage());
+    }
+  }
+
+  /** Keeps the claims of requests still running on this node from going stale. */
+  @Scheduled(fixedDelayString = "${app.idempotency.heartbeat-interval:PT15S}")
+  public void heartbeat() {
+    if (held.isEmpty()) {
+      return;
+    }
+    try {
+      idempotencyKeyRepository.heartbeat(List.copyOf(held), Instant.now());
+    } catch (RuntimeException e) {
+      // Retried on the next tick; stale-after spans at least two heartbeats
+      log.warn("Failed to heartbeat {} idempotency claims: {}", held.size(), e.getMessage());
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.idempotency.purge-interval:PT1H}",
+      initialDelayString = "${app.idempotency.purge-interval:PT1H}")
+  public void purgeExpired() {
+    int purged = idempotencyKeyRepository.deleteExpired(Instant.now());
+    log.debug("Purged {} expired idempotency keys", purged);
+  }
+
+  private Claim replay(String storedFingerprint, String fingerprint, StoredResponse response) {
+    if (!storedFingerprint.equals(fingerprint)) {
+      return Claim.of(Claim.Result.MISMATCH);
+    }
+    replayCounter.increment();
+    return new Claim(Claim.Result.REPLAY, response);
+  }
+}
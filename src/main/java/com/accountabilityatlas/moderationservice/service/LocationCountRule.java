@@ -0,0 +1,27 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Raises content tied to many locations, which is shown on more of the map once approved. Content
+ * with at least {@code app.priority-scoring.locations.threshold} locations gets {@code points}.
+ */
+@Component
+public class LocationCountRule implements PriorityRule {
+
+  private final int threshold;
+  private final int points;
+
+  public LocationCountRule(
+      @Value("${app.priority-scoring.locations.threshold:3}") int threshold,
+      @Value("${app.priority-scoring.locations.points:1}") int points) {
+    this.threshold = threshold;
+    this.points = points;
+  }
+
+  @Override
+  public int score(Submission submission) {
+    return submission.locationIds().size() >= threshold ? points : 0;
+  }
+}
@@ -0,0 +1,130 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.config.ReadReplicaRouter;
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, TTL-based cache of moderation items by ID and by content ID and status.
+ *
+ * <p>video-service looks items up by content far more often than they change, and most of those
+ * lookups find nothing, so misses are cached as {@link Optional#empty()} too. The by-content cache
+ * only maps a content ID and status to an item ID; the item itself is always read from the by-ID
+ * cache, so an item is evicted in one place whatever changed it.
+ *
+ * <p>Every write to an item publishes it on the {@link CacheInvalidationBus}, which evicts it here
+ * on every node; writes in {@link ModerationService} then {@link #put} the saved item, so the
+ * writer reads its own change straight away. The TTL only bounds staleness after a lost
+ * invalidation. Cached items are shared between callers and must not be modified.
+ *
+ * <p>Loads always read the primary: an item loaded from a lagging replica just after its eviction
+ * would otherwise stay cached, stale, for the whole TTL.
+ */
+@Component
+public class ModerationItemCache {
+
+  static final String ITEMS_CACHE_NAME = "moderationItems";
+  static final String BY_CONTENT_CACHE_NAME = "moderationItemsByContent";
+
+  private record ContentKey(UUID contentId, ModerationStatus status) {}
+
+  private final ModerationItemRepository moderationItemRepository;
+  private final Cache<UUID, Optional<ModerationItem>> items;
+  private final Cache<ContentKey, Optional<UUID>> byContent;
+
+  public ModerationItemCache(
+      ModerationItemRepository moderationItemRepository,
+      CacheInvalidationBus cacheInvalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${app.item-cache.max-size:10000}") long maxSize,
+      @Value("${app.item-cache.ttl:PT1M}") Duration ttl) {
+    this.moderationItemRepository = moderationItemRepository;
+    this.items =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    this.byContent =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, items, ITEMS_CACHE_NAME);
+    CaffeineCacheMetrics.monitor(meterRegistry, byContent, BY_CONTENT_CACHE_NAME);
+    cacheInvalidationBus.subscribe(
+        CacheInvalidationBus.Entity.MODERATION_ITEM, items::invalidateAll, items::invalidateAll);
+    cacheInvalidationBus.subscribe(
+        CacheInvalidationBus.Entity.CONTENT, this::evictContent, byContent::invalidateAll);
+  }
+
+  /** The item with the given ID, from cache when possible; empty if it does not exist. */
+  public Optional<ModerationItem> get(UUID id) {
+    return items.get(
+        id, key -> ReadReplicaRouter.onPrimary(() -> moderationItemRepository.findById(key)));
+  }
+
+  /** The item for the content in the given status, from cache when possible. */
+  public Optional<ModerationItem> findByContentId(UUID contentId, ModerationStatus status) {
+    ContentKey key = new ContentKey(contentId, status);
+    Optional<UUID> itemId =
+        byContent.get(
+            key,
+            k ->
+                ReadReplicaRouter.onPrimary(
+                        () -> moderationItemRepository.findByContentIdAndStatus(contentId, status))
+                    .map(
+                        item -> {
+                          items.put(item.getId(), Optional.of(item));
+                          return item.getId();
+                        }));
+    if (itemId.isEmpty()) {
+      return Optional.empty();
+    }
+    Optional<ModerationItem> item = get(itemId.get());
+    if (item.isPresent() && item.get().getStatus() == status) {
+      return item;
+    }
+    // The item changed between the two lookups and its eviction has not reached this node yet
+    byContent.invalidate(key);
+    return ReadReplicaRouter.onPrimary(
+        () -> moderationItemRepository.findByContentIdAndStatus(contentId, status));
+  }
+
+  /**
+   * Caches a saved item once the current transaction (if any) commits. Call after publishing the
+   * item's invalidation, so the fresh copy replaces the evicted one rather than being evicted.
+   */
+  public void put(ModerationItem item) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              store(item);
+            }
+          });
+    } else {
+      store(item);
+    }
+  }
+
+  private void store(ModerationItem item) {
+    items.put(item.getId(), Optional.of(item));
+    byContent.put(new ContentKey(item.getContentId(), item.getStatus()), Optional.of(item.getId()));
+  }
+
+  private void evictContent(Collection<UUID> contentIds) {
+    for (UUID contentId : contentIds) {
+      for (ModerationStatus status : ModerationStatus.values()) {
+        byContent.invalidate(new ContentKey(contentId, status));
+      }
+    }
+  }
+}
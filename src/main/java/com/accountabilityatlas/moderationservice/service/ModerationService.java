@@ -1,6 +1,7 @@
 package com.accountabilityatlas.moderationservice.service;
 
 import com.accountabilityatlas.moderationservice.client.VideoServiceClient;
+import com.accountabilityatlas.moderationservice.config.ReplicaRead;
 import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ModerationItem;
 import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
@@ -8,20 +9,36 @@ import com.accountabilityatlas.moderationservice.event.ModerationEventPublisher;
 import com.accountabilityatlas.moderationservice.exception.ItemAlreadyReviewedException;
 import com.accountabilityatlas.moderationservice.exception.ModerationItemNotFoundException;
 import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.repository.QueueChangeMarker;
+import com.accountabilityatlas.moderationservice.repository.ReviewedItem;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -38,30 +55,70 @@ public class ModerationService {
   private final AuditLogService auditLogService;
   private final VideoServiceClient videoServiceClient;
   private final ModerationEventPublisher eventPublisher;
-  private final TrustPromotionService trustPromotionService;
-  private final TrustDemotionService trustDemotionService;
+  private final SubmitterStatsService submitterStatsService;
+  private final TrustEvaluator trustEvaluator;
+  private final ReportEscalationService reportEscalationService;
+  private final PriorityScorer priorityScorer;
+  private final QueueAssignmentService queueAssignmentService;
+  private final OptimisticLockRetry optimisticLockRetry;
+  private final QueueEventBus queueEventBus;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final ModerationItemCache moderationItemCache;
 
   @Transactional
-  public ModerationItem createItem(ContentType contentType, UUID contentId, UUID submitterId) {
+  public ModerationItem createItem(Submission submission) {
     ModerationItem item = new ModerationItem();
-    item.setContentType(contentType);
-    item.setContentId(contentId);
-    item.setSubmitterId(submitterId);
+    item.setContentType(submission.contentType());
+    item.setContentId(submission.contentId());
+    item.setSubmitterId(submission.submitterId());
     item.setStatus(ModerationStatus.PENDING);
-    item.setPriority(0);
-    return moderationItemRepository.save(item);
+    item.setBasePriority(priorityScorer.score(submission));
+    reportEscalationService.initialize(item);
+    item.setEffectivePriority(item.getPriority());
+    item.setAssignedTo(
+        queueAssignmentService.assigneeFor(submission.contentId(), submission.submitterId()));
+    ModerationItem saved = moderationItemRepository.save(item);
+    queueEventBus.publish(QueueEvent.Type.CREATED, List.of(saved.getId()), saved.getAssignedTo());
+    itemsChanged(List.of(saved.getId()), List.of(saved.getContentId()));
+    moderationItemCache.put(saved);
+    return saved;
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Reads through {@link ModerationItemCache}; not transactional, so a cache hit never takes a
+   * connection. The returned item is shared with other callers and must not be modified.
+   */
   public ModerationItem getItem(UUID id) {
-    return getItemInternal(id);
+    return moderationItemCache.get(id).orElseThrow(() -> new ModerationItemNotFoundException(id));
   }
 
-  @Transactional(readOnly = true)
+  /** Reads through {@link ModerationItemCache}, like {@link #getItem}. */
   public Optional<ModerationItem> findByContentId(UUID contentId, ModerationStatus status) {
-    return moderationItemRepository.findByContentIdAndStatus(contentId, status);
+    return moderationItemCache.findByContentId(contentId, status);
+  }
+
+  /**
+   * The item in {@code status} for each content ID that has one, from a single query; a content ID
+   * with several maps to the newest. Bypasses {@link ModerationItemCache}, which caches single
+   * lookups only.
+   */
+  @ReplicaRead
+  @Transactional(readOnly = true)
+  public Map<UUID, ModerationItem> findByContentIds(
+      Collection<UUID> contentIds, ModerationStatus status) {
+    UUID[] distinct = new LinkedHashSet<>(contentIds).toArray(UUID[]::new);
+    Map<UUID, ModerationItem> items = new HashMap<>();
+    for (ModerationItem item :
+        moderationItemRepository.findByContentIdsAndStatus(distinct, status.name())) {
+      items.merge(
+          item.getContentId(),
+          item,
+          (kept, other) -> other.getCreatedAt().isAfter(kept.getCreatedAt()) ? other : kept);
+    }
+    return items;
   }
 
+  @ReplicaRead
   @Transactional(readOnly = true)
   public Page<ModerationItem> getQueue(
       ModerationStatus status, @Nullable ContentType contentType, Pageable pageable) {
@@ -71,6 +128,19 @@ public class ModerationService {
     return moderationItemRepository.findByStatus(status, pageable);
   }
 
+  /** The PENDING items in a moderator's shard of the queue. */
+  @ReplicaRead
+  @Transactional(readOnly = true)
+  public Page<ModerationItem> getAssignedQueue(
+      UUID moderatorId, @Nullable ContentType contentType, Pageable pageable) {
+    if (contentType != null) {
+      return moderationItemRepository.findByStatusAndContentTypeAndAssignedTo(
+          ModerationStatus.PENDING, contentType, moderatorId, pageable);
+    }
+    return moderationItemRepository.findByStatusAndAssignedTo(
+        ModerationStatus.PENDING, moderatorId, pageable);
+  }
+
   @Transactional
   public ModerationItem approve(UUID id, UUID reviewerId) {
     ModerationItem item = getItemInternal(id);
@@ -81,29 +151,22 @@ public class ModerationService {
     item.setReviewerId(reviewerId);
     item.setReviewedAt(Instant.now());
     auditLogService.logAction(reviewerId, ACTION_APPROVE, MODERATION_ITEM, id, null);
-    ModerationItem saved = moderationItemRepository.save(item);
-
-    // Update video status in video-service
-    try {
-      videoServiceClient.updateVideoStatus(item.getContentId(), STATUS_APPROVED);
-    } catch (Exception e) {
-      log.error(
-          "Failed to update video {} status to APPROVED: {}", item.getContentId(), e.getMessage());
-    }
+    // Flush so a concurrent review fails here, before video-service and the event bus hear of it
+    ModerationItem saved = moderationItemRepository.saveAndFlush(item);
+    submitterStatsService.recordApprovals(item.getSubmitterId(), 1);
+    queueEventBus.publish(QueueEvent.Type.APPROVED, List.of(id), reviewerId);
+    itemsChanged(List.of(id), List.of(item.getContentId()));
+    moderationItemCache.put(saved);
 
-    // Publish approval event
-    eventPublisher.publishVideoApproved(item.getContentId(), reviewerId);
+    // Tell video-service and the event bus once the approval commits
+    afterCommit(
+        () -> {
+          updateVideoStatus(item.getContentId(), STATUS_APPROVED);
+          eventPublisher.publishVideoApproved(item.getContentId(), reviewerId);
+        });
 
-    // Check if submitter qualifies for trust tier promotion
-    try {
-      boolean promoted = trustPromotionService.checkAndPromote(item.getSubmitterId());
-      if (promoted) {
-        log.info("User {} was promoted after approval of video {}", item.getSubmitterId(), id);
-      }
-    } catch (Exception e) {
-      log.error(
-          "Failed to check trust promotion for user {}: {}", item.getSubmitterId(), e.getMessage());
-    }
+    // Check if submitter qualifies for trust tier promotion (after commit, in the background)
+    trustEvaluator.requestPromotionCheck(item.getSubmitterId());
 
     return saved;
   }
@@ -119,33 +182,107 @@ public class ModerationService {
     item.setReviewedAt(Instant.now());
     item.setRejectionReason(reason);
     auditLogService.logAction(reviewerId, ACTION_REJECT, MODERATION_ITEM, id, reason);
-    ModerationItem saved = moderationItemRepository.save(item);
+    ModerationItem saved = moderationItemRepository.saveAndFlush(item);
+    submitterStatsService.recordRejection(item.getSubmitterId(), item.getReviewedAt());
+    queueEventBus.publish(QueueEvent.Type.REJECTED, List.of(id), reviewerId);
+    itemsChanged(List.of(id), List.of(item.getContentId()));
+    cacheInvalidationBus.publish(
+        CacheInvalidationBus.Entity.SUBMITTER_REJECTIONS, List.of(item.getSubmitterId()));
+    moderationItemCache.put(saved);
 
-    // Update video status in video-service
-    try {
-      videoServiceClient.updateVideoStatus(item.getContentId(), STATUS_REJECTED);
-    } catch (Exception e) {
-      log.error(
-          "Failed to update video {} status to REJECTED: {}", item.getContentId(), e.getMessage());
+    // Tell video-service and the event bus once the rejection commits
+    afterCommit(
+        () -> {
+          updateVideoStatus(item.getContentId(), STATUS_REJECTED);
+          eventPublisher.publishVideoRejected(item.getContentId(), reviewerId, reason);
+        });
+
+    // Check if submitter should be demoted (after commit, in the background)
+    trustEvaluator.requestDemotionCheck(item.getSubmitterId());
+
+    return saved;
+  }
+
+  /**
+   * Approves every listed item that is still PENDING in one set-based update.
+   *
+   * <p>Once the update commits, video-service gets one batch status update, events go out in SQS
+   * batches, and a promotion check is requested once per distinct submitter.
+   *
+   * @return one outcome per distinct requested ID, in request order
+   */
+  @Transactional
+  public List<BatchOutcome> approveAll(Collection<UUID> ids, UUID reviewerId) {
+    Set<UUID> requested = new LinkedHashSet<>(ids);
+    List<ReviewedItem> approved =
+        moderationItemRepository.reviewPendingItems(
+            requested,
+            ModerationStatus.APPROVED.name(),
+            ACTION_APPROVE,
+            reviewerId,
+            Instant.now(),
+            null);
+    Map<UUID, Integer> perSubmitter = countBySubmitter(approved);
+    perSubmitter.forEach(submitterStatsService::recordApprovals);
+    List<UUID> itemIds = approved.stream().map(ReviewedItem::getId).toList();
+    queueEventBus.publish(QueueEvent.Type.APPROVED, itemIds, reviewerId);
+
+    List<UUID> contentIds = approved.stream().map(ReviewedItem::getContentId).toList();
+    itemsChanged(itemIds, contentIds);
+    if (!contentIds.isEmpty()) {
+      afterCommit(
+          () -> {
+            updateVideoStatuses(contentIds, STATUS_APPROVED);
+            eventPublisher.publishVideosApproved(contentIds, reviewerId);
+          });
     }
+    perSubmitter.keySet().forEach(trustEvaluator::requestPromotionCheck);
 
-    // Publish rejection event
-    eventPublisher.publishVideoRejected(item.getContentId(), reviewerId, reason);
+    return outcomes(requested, approved);
+  }
 
-    // Check if submitter should be demoted
-    try {
-      boolean demoted = trustDemotionService.checkAndDemote(item.getSubmitterId());
-      if (demoted) {
-        log.info("User {} was demoted after rejection of video {}", item.getSubmitterId(), id);
-      }
-    } catch (Exception e) {
-      log.error(
-          "Failed to check trust demotion for user {}: {}", item.getSubmitterId(), e.getMessage());
+  /**
+   * Rejects every listed item that is still PENDING in one set-based update. Downstream calls are
+   * batched as in {@link #approveAll}; a demotion check is requested once per distinct submitter.
+   *
+   * @return one outcome per distinct requested ID, in request order
+   */
+  @Transactional
+  public List<BatchOutcome> rejectAll(Collection<UUID> ids, UUID reviewerId, String reason) {
+    Set<UUID> requested = new LinkedHashSet<>(ids);
+    Instant reviewedAt = Instant.now();
+    List<ReviewedItem> rejected =
+        moderationItemRepository.reviewPendingItems(
+            requested,
+            ModerationStatus.REJECTED.name(),
+            ACTION_REJECT,
+            reviewerId,
+            reviewedAt,
+            reason);
+    Map<UUID, Integer> perSubmitter = countBySubmitter(rejected);
+    perSubmitter.forEach(
+        (submitterId, count) ->
+            submitterStatsService.recordRejections(submitterId, count, reviewedAt));
+    List<UUID> itemIds = rejected.stream().map(ReviewedItem::getId).toList();
+    queueEventBus.publish(QueueEvent.Type.REJECTED, itemIds, reviewerId);
+
+    List<UUID> contentIds = rejected.stream().map(ReviewedItem::getContentId).toList();
+    itemsChanged(itemIds, contentIds);
+    cacheInvalidationBus.publish(
+        CacheInvalidationBus.Entity.SUBMITTER_REJECTIONS, perSubmitter.keySet());
+    if (!contentIds.isEmpty()) {
+      afterCommit(
+          () -> {
+            updateVideoStatuses(contentIds, STATUS_REJECTED);
+            eventPublisher.publishVideosRejected(contentIds, reviewerId, reason);
+          });
     }
+    perSubmitter.keySet().forEach(trustEvaluator::requestDemotionCheck);
 
-    return saved;
+    return outcomes(requested, rejected);
   }
 
+  @ReplicaRead
   @Transactional(readOnly = true)
   public QueueStats getQueueStats() {
     long pending = moderationItemRepository.countByStatus(ModerationStatus.PENDING);
@@ -162,16 +299,70 @@ public class ModerationService {
     return new QueueStats(pending, approvedToday, rejectedToday, avgReviewTime);
   }
 
+  /**
+   * The change counter of each status, for ETags on queue pages and stats. Every committed
+   * statement that inserts, updates or deletes items bumps the counters of their old and new
+   * status, so an unchanged counter means the items with that status are unchanged.
+   */
+  @Transactional(readOnly = true)
+  public Map<ModerationStatus, Long> getQueueChangeSeqs() {
+    Map<ModerationStatus, Long> seqs = new EnumMap<>(ModerationStatus.class);
+    for (QueueChangeMarker marker : moderationItemRepository.findQueueChangeMarkers()) {
+      seqs.put(ModerationStatus.valueOf(marker.getStatus()), marker.getChangeSeq());
+    }
+    return seqs;
+  }
+
+  /**
+   * Runs {@code reads} in one repeatable-read transaction, so an ETag built from {@link
+   * #getQueueChangeSeqs()} and the body sent with it come from the same snapshot of the same data
+   * source. Calls to the read methods of this service made inside it join the transaction.
+   */
+  @ReplicaRead
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public <T> T readSnapshot(Supplier<T> reads) {
+    return reads.get();
+  }
+
+  /**
+   * A value that changes whenever {@link #getQueueStats()} may return something different: any item
+   * change, or the UTC date rolling over the "today" counts.
+   */
+  @Transactional(readOnly = true)
+  public String getQueueStatsVersion() {
+    Map<ModerationStatus, Long> changeSeqs = getQueueChangeSeqs();
+    String counters =
+        Arrays.stream(ModerationStatus.values())
+            .map(status -> String.valueOf(changeSeqs.getOrDefault(status, 0L)))
+            .collect(Collectors.joining("."));
+    return LocalDate.now(ZoneId.of("UTC")) + "-" + counters;
+  }
+
+  /**
+   * The item with a value that changes whenever it is updated, both read from one snapshot so they
+   * always match. Bypasses {@link ModerationItemCache}, whose copy can be older than the row.
+   */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public VersionedItem getVersionedItem(UUID id) {
+    String version =
+        moderationItemRepository
+            .findRowVersion(id)
+            .orElseThrow(() -> new ModerationItemNotFoundException(id));
+    return new VersionedItem(getItemInternal(id), version);
+  }
+
   /**
    * Auto-approves all pending moderation items for a user.
    *
-   * <p>Called when a user's trust tier is upgraded to TRUSTED or higher.
+   * <p>Called when a user's trust tier is upgraded to TRUSTED or higher. Each item is approved in
+   * its own transaction, retried by {@link OptimisticLockRetry} if a moderator or another node
+   * changes it meanwhile; an item that is no longer PENDING on retry is skipped. Video-service and
+   * the event bus only hear about approvals that committed.
    *
    * @param submitterId the user whose pending items should be approved
    * @param systemReviewerId the system user ID for audit purposes
    * @return the number of items approved
    */
-  @Transactional
   public int approvePendingItemsForUser(UUID submitterId, UUID systemReviewerId) {
     List<ModerationItem> pendingItems =
         moderationItemRepository.findBySubmitterIdAndStatus(submitterId, ModerationStatus.PENDING);
@@ -187,40 +378,147 @@ public class ModerationService {
         submitterId);
 
     int approved = 0;
-    for (ModerationItem item : pendingItems) {
+    for (ModerationItem pending : pendingItems) {
+      UUID id = pending.getId();
+      ModerationItem item;
       try {
-        item.setStatus(ModerationStatus.APPROVED);
-        item.setReviewerId(systemReviewerId);
-        item.setReviewedAt(Instant.now());
-        moderationItemRepository.save(item);
-
-        // Update video status
-        videoServiceClient.updateVideoStatus(item.getContentId(), STATUS_APPROVED);
-
-        // Publish approval event
-        eventPublisher.publishVideoApproved(item.getContentId(), systemReviewerId);
-
-        auditLogService.logAction(
-            systemReviewerId,
-            ACTION_AUTO_APPROVE,
-            MODERATION_ITEM,
-            item.getId(),
-            "trust_tier_upgrade");
-        approved++;
+        item = optimisticLockRetry.execute("auto-approve", () -> autoApprove(id, systemReviewerId));
       } catch (Exception e) {
-        log.error("Failed to auto-approve item {}: {}", item.getId(), e.getMessage());
+        log.error("Failed to auto-approve item {}: {}", id, e.getMessage());
+        continue;
       }
+      if (item == null) {
+        log.debug("Item {} was reviewed before it could be auto-approved", id);
+        continue;
+      }
+      approved++;
+
+      // Update video status and publish the approval event
+      updateVideoStatus(item.getContentId(), STATUS_APPROVED);
+      eventPublisher.publishVideoApproved(item.getContentId(), systemReviewerId);
     }
 
     return approved;
   }
 
+  /** Approves one item if it is still PENDING; runs inside an {@link OptimisticLockRetry}. */
+  @Nullable
+  private ModerationItem autoApprove(UUID id, UUID systemReviewerId) {
+    ModerationItem item = moderationItemRepository.findById(id).orElse(null);
+    if (item == null || item.getStatus() != ModerationStatus.PENDING) {
+      return null;
+    }
+    item.setStatus(ModerationStatus.APPROVED);
+    item.setReviewerId(systemReviewerId);
+    item.setReviewedAt(Instant.now());
+    ModerationItem saved = moderationItemRepository.saveAndFlush(item);
+    auditLogService.logAction(
+        systemReviewerId, ACTION_AUTO_APPROVE, MODERATION_ITEM, id, "trust_tier_upgrade");
+    submitterStatsService.recordApprovals(item.getSubmitterId(), 1);
+    queueEventBus.publish(QueueEvent.Type.APPROVED, List.of(id), systemReviewerId);
+    itemsChanged(List.of(id), List.of(item.getContentId()));
+    return saved;
+  }
+
+  /** Evicts cached copies of the items, on every node, once the change commits. */
+  private void itemsChanged(List<UUID> itemIds, List<UUID> contentIds) {
+    cacheInvalidationBus.publish(CacheInvalidationBus.Entity.MODERATION_ITEM, itemIds);
+    cacheInvalidationBus.publish(CacheInvalidationBus.Entity.CONTENT, contentIds);
+  }
+
+  /**
+   * Runs {@code action} once the current transaction commits, or straight away outside one.
+   *
+   * <p>Every write to {@code moderation_items} locks its status's queue change marker until commit,
+   * so calls to video-service and SQS made inside the transaction would make every other writer in
+   * the cluster wait out their round trips. An exception from {@code action} still reaches the
+   * caller, but the review it follows has already committed.
+   */
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private void updateVideoStatus(UUID videoId, String status) {
+    try {
+      videoServiceClient.updateVideoStatus(videoId, status);
+    } catch (Exception e) {
+      // VideoStatusReconciler repairs any video left behind
+      log.error("Failed to update video {} status to {}: {}", videoId, status, e.getMessage());
+    }
+  }
+
+  private void updateVideoStatuses(List<UUID> videoIds, String status) {
+    try {
+      videoServiceClient.updateVideoStatuses(videoIds, status);
+    } catch (Exception e) {
+      // VideoStatusReconciler repairs any video left behind
+      log.error(
+          "Failed to update {} videos to status {}: {}", videoIds.size(), status, e.getMessage());
+    }
+  }
+
+  private static Map<UUID, Integer> countBySubmitter(List<ReviewedItem> items) {
+    Map<UUID, Integer> counts = new LinkedHashMap<>();
+    for (ReviewedItem item : items) {
+      counts.merge(item.getSubmitterId(), 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  private List<BatchOutcome> outcomes(Set<UUID> requested, List<ReviewedItem> reviewed) {
+    Set<UUID> updated = new HashSet<>();
+    reviewed.forEach(item -> updated.add(item.getId()));
+    List<UUID> unchanged = requested.stream().filter(id -> !updated.contains(id)).toList();
+    Set<UUID> existing =
+        unchanged.isEmpty()
+            ? Set.of()
+            : new HashSet<>(moderationItemRepository.findExistingIds(unchanged));
+    return requested.stream()
+        .map(
+            id -> {
+              if (updated.contains(id)) {
+                return new BatchOutcome(id, BatchOutcome.Result.UPDATED);
+              }
+              return new BatchOutcome(
+                  id,
+                  existing.contains(id)
+                      ? BatchOutcome.Result.ALREADY_REVIEWED
+                      : BatchOutcome.Result.NOT_FOUND);
+            })
+        .toList();
+  }
+
   private ModerationItem getItemInternal(UUID id) {
     return moderationItemRepository
         .findById(id)
         .orElseThrow(() -> new ModerationItemNotFoundException(id));
   }
 
+  /** An item and the row version its ETag is derived from. */
+  public record VersionedItem(ModerationItem item, String version) {}
+
   public record QueueStats(
       long pending, long approvedToday, long rejectedToday, Double avgReviewTimeMinutes) {}
+
+  /** What a batch review did to one requested item. */
+  public record BatchOutcome(UUID itemId, Result result) {
+
+    public enum Result {
+      /** The item was PENDING and now has the requested status. */
+      UPDATED,
+      NOT_FOUND,
+      /** The item was already approved or rejected and is unchanged. */
+      ALREADY_REVIEWED
+    }
+  }
 }
@@ -0,0 +1,102 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs system-initiated writes in their own transaction, retrying when an optimistic lock check
+ * fails.
+ *
+ * <p>A version conflict poisons the transaction it happens in, so each attempt starts a new one and
+ * re-reads what it changes. Attempts back off with jitter so two system paths racing on the same
+ * rows do not collide again in lockstep. User requests are not retried; their conflicts surface as
+ * 409 so the moderator can look at the new state first.
+ */
+@Component
+@Slf4j
+public class OptimisticLockRetry {
+
+  private final TransactionOperations transactions;
+  private final int maxAttempts;
+  private final long backoffMillis;
+  private final Counter retryCounter;
+  private final Counter exhaustedCounter;
+
+  @Autowired
+  public OptimisticLockRetry(
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.optimistic-retry.max-attempts:3}") int maxAttempts,
+      @Value("${app.optimistic-retry.backoff:PT0.05S}") Duration backoff) {
+    this(newTransaction(transactionManager), meterRegistry, maxAttempts, backoff);
+  }
+
+  OptimisticLockRetry(
+      TransactionOperations transactions,
+      MeterRegistry meterRegistry,
+      int maxAttempts,
+      Duration backoff) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("app.optimistic-retry.max-attempts must be at least 1");
+    }
+    this.transactions = transactions;
+    this.maxAttempts = maxAttempts;
+    this.backoffMillis = backoff.toMillis();
+    this.retryCounter = meterRegistry.counter("moderation.optimistic-lock.retries");
+    this.exhaustedCounter = meterRegistry.counter("moderation.optimistic-lock.exhausted");
+  }
+
+  /**
+   * Runs {@code work} in a new transaction, retrying on a version conflict.
+   *
+   * @throws OptimisticLockingFailureException if every attempt conflicted
+   */
+  @Nullable
+  public <T> T execute(String operation, Supplier<T> work) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactions.execute(status -> work.get());
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt >= maxAttempts) {
+          exhaustedCounter.increment();
+          throw e;
+        }
+        retryCounter.increment();
+        log.debug("Version conflict in {} (attempt {}), retrying", operation, attempt);
+        backOff(attempt, e);
+      }
+    }
+  }
+
+  private void backOff(int attempt, OptimisticLockingFailureException cause) {
+    long ceiling = backoffMillis * attempt;
+    if (ceiling <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw cause;
+    }
+  }
+
+  private static TransactionTemplate newTransaction(PlatformTransactionManager transactionManager) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return template;
+  }
+}
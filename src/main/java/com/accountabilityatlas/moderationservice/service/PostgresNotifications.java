@@ -0,0 +1,243 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node-to-node messaging over Postgres {@code LISTEN}/{@code NOTIFY}.
+ *
+ * <p>Each node holds one pooled connection that listens on every channel registered with {@link
+ * #listen}. Payloads are sent with {@code pg_notify} from a single background thread, never from
+ * the caller's (possibly still transaction-bound) connection, and are tagged with this node's ID so
+ * the sender does not hear its own messages. The send queue is bounded; messages that do not fit,
+ * or that fail to send, are dropped and counted in {@code moderation.notify.dropped}.
+ *
+ * <p>Notifications are not stored, so every channel has a callback for when messages may have been
+ * missed. It runs after the listening connection failed and was reopened (after {@code
+ * app.postgres-notify.reconnect-delay}), and when a sender dropped messages: each message carries a
+ * per-channel sequence number from its sender, taken before it is queued, so a dropped message
+ * shows up as a gap at the receivers with the sender's next message.
+ */
+@Component
+@Slf4j
+public class PostgresNotifications {
+
+  private static final int POLL_MILLIS = 5_000;
+  private static final char ORIGIN_SEPARATOR = '|';
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final Duration reconnectDelay;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> sentSequences = new ConcurrentHashMap<>();
+  /** Last sequence number heard per channel and sending node; listener thread only. */
+  private final Map<String, Long> heardSequences = new HashMap<>();
+  private final ThreadPoolExecutor sender;
+  private final Counter droppedCounter;
+  private volatile boolean running;
+  @Nullable private Thread listener;
+
+  public PostgresNotifications(
+      DataSource dataSource,
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${app.postgres-notify.enabled:true}") boolean enabled,
+      @Value("${app.postgres-notify.reconnect-delay:PT5S}") Duration reconnectDelay,
+      @Value("${app.postgres-notify.queue-capacity:1000}") int queueCapacity) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+    this.reconnectDelay = reconnectDelay;
+    this.droppedCounter = meterRegistry.counter("moderation.notify.dropped");
+    this.sender =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+              Thread thread = new Thread(r, "postgres-notify");
+              thread.setDaemon(true);
+              return thread;
+            },
+            (r, executor) -> droppedCounter.increment());
+  }
+
+  /**
+   * Registers a channel. Must be called while the application starts, before the listener opens.
+   *
+   * @param channel the channel name, a plain SQL identifier
+   * @param handler receives payloads sent by other nodes, on the listener thread
+   * @param onMissed runs, on the listener thread, when messages may have been missed: after the
+   *     listening connection was lost and reopened, or when another node dropped a message
+   */
+  public void listen(String channel, Consumer<String> handler, Runnable onMissed) {
+    channels.put(channel, new Channel(handler, onMissed));
+  }
+
+  /** Whether messages are actually exchanged; when false, {@link #send} does nothing. */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Sends a payload to the other nodes without blocking the caller. */
+  public void send(String channel, String payload) {
+    if (enabled) {
+      long sequence =
+          sentSequences.computeIfAbsent(channel, c -> new AtomicLong()).incrementAndGet();
+      String message = nodeId + ORIGIN_SEPARATOR + sequence + ORIGIN_SEPARATOR + payload;
+      sender.execute(() -> notifyOthers(channel, message));
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled || channels.isEmpty()) {
+      return;
+    }
+    running = true;
+    Thread thread = new Thread(this::listenLoop, "postgres-listen");
+    thread.setDaemon(true);
+    listener = thread;
+    thread.start();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    if (listener != null) {
+      listener.interrupt();
+    }
+    sender.shutdown();
+  }
+
+  private void notifyOthers(String channel, String message) {
+    try {
+      jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, message);
+    } catch (DataAccessException e) {
+      droppedCounter.increment();
+      log.warn("Failed to notify {}: {}", channel, e.getMessage());
+    }
+  }
+
+  private void listenLoop() {
+    boolean reconnecting = false;
+    while (running) {
+      try (Connection connection = dataSource.getConnection()) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+          for (String channel : channels.keySet()) {
+            statement.execute("LISTEN " + channel);
+          }
+        }
+        if (reconnecting) {
+          log.info("Postgres notification listener reconnected");
+          heardSequences.clear();
+          channels.values().forEach(Channel::missed);
+          reconnecting = false;
+        }
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              receive(notification.getName(), notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        reconnecting = true;
+        log.warn(
+            "Postgres notification listener lost its connection, retrying in {}: {}",
+            reconnectDelay,
+            e.getMessage());
+        try {
+          Thread.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void receive(String channel, String message) {
+    Channel target = channels.get(channel);
+    int origin = message.indexOf(ORIGIN_SEPARATOR);
+    int sequenceEnd = origin < 0 ? -1 : message.indexOf(ORIGIN_SEPARATOR, origin + 1);
+    if (target == null || sequenceEnd < 0) {
+      return;
+    }
+    String sendingNode = message.substring(0, origin);
+    if (sendingNode.equals(nodeId)) {
+      return;
+    }
+    long sequence;
+    try {
+      sequence = Long.parseLong(message.substring(origin + 1, sequenceEnd));
+    } catch (NumberFormatException e) {
+      log.warn("Ignoring malformed notification on {}", channel);
+      return;
+    }
+    // The first message heard from a node only sets the baseline
+    Long previous = heardSequences.put(channel + ORIGIN_SEPARATOR + sendingNode, sequence);
+    if (previous != null && sequence != previous + 1) {
+      log.warn(
+          "Missed {} notifications on {} from node {}",
+          sequence - previous - 1,
+          channel,
+          sendingNode);
+      target.missed();
+    }
+    target.deliver(channel, message.substring(sequenceEnd + 1));
+  }
+
+  private record Channel(Consumer<String> handler, Runnable onMissed) {
+
+    void deliver(String channel, String payload) {
+      try {
+        handler.accept(payload);
+      } catch (RuntimeException e) {
+        log.warn("Handler for {} failed: {}", channel, e.getMessage());
+      }
+    }
+
+    void missed() {
+      try {
+        onMissed.run();
+      } catch (RuntimeException e) {
+        log.warn("Missed-messages handler failed: {}", e.getMessage());
+      }
+    }
+  }
+}
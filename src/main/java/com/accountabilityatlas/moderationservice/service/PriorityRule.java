@@ -0,0 +1,14 @@
+package com.accountabilityatlas.moderationservice.service;
+
+/**
+ * One contribution to a new moderation item's base priority.
+ *
+ * <p>Every {@code PriorityRule} bean is summed by {@link PriorityScorer} on the SQS listener thread
+ * for each submission that needs review, so rules must be cheap: no per-call allocation beyond what
+ * the inputs force, and any database lookup behind a cache.
+ */
+public interface PriorityRule {
+
+  /** Returns this rule's points for the submission; zero when the rule does not apply. */
+  int score(Submission submission);
+}
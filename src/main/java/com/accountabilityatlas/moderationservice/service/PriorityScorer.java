@@ -0,0 +1,44 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scores a submission's base priority as the sum of every {@link PriorityRule}.
+ *
+ * <p>A rule that throws contributes nothing and is counted in {@code
+ * moderation.priority.rule-failures}: a scoring problem must never keep content out of the queue.
+ * The total is never negative.
+ */
+@Component
+@Slf4j
+public class PriorityScorer {
+
+  private final PriorityRule[] rules;
+  private final Counter failureCounter;
+
+  public PriorityScorer(List<PriorityRule> rules, MeterRegistry meterRegistry) {
+    this.rules = rules.toArray(PriorityRule[]::new);
+    this.failureCounter = meterRegistry.counter("moderation.priority.rule-failures");
+  }
+
+  public int score(Submission submission) {
+    int score = 0;
+    for (PriorityRule rule : rules) {
+      try {
+        score += rule.score(submission);
+      } catch (RuntimeException e) {
+        failureCounter.increment();
+        log.warn(
+            "Priority rule {} failed for content {}: {}",
+            rule.getClass().getSimpleName(),
+            submission.contentId(),
+            e.getMessage());
+      }
+    }
+    return Math.max(0, score);
+  }
+}
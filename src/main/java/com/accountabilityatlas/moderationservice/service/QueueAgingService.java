@@ -0,0 +1,85 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.repository.AgingBatch;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Ages PENDING items so that sorting the queue by effective priority never starves low-priority
+ * items.
+ *
+ * <p>An item's {@code effective_priority} is its {@code priority} plus one for every full {@code
+ * app.queue-aging.interval} it has been waiting. Priorities are bounded by the scoring and
+ * escalation configuration, so every item eventually outranks newer urgent ones; within one
+ * effective priority the queue is oldest first. The value is stored, not computed on read, so the
+ * sort uses {@code idx_moderation_items_status_effective_priority_created_at}.
+ *
+ * <p>{@link #refresh()} walks the PENDING items in keyset batches of {@code
+ * app.queue-aging.batch-size}, each batch one short transaction that only writes rows crossing an
+ * aging step. Priority changes between refreshes shift the effective priority immediately (see
+ * {@link ModerationItemRepository#updatePriority}), so only the aging part lags, by at most the
+ * refresh interval. Each batch evicts only the items it changed from the item caches on every node.
+ */
+@Service
+@Slf4j
+public class QueueAgingService {
+
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  private final ModerationItemRepository moderationItemRepository;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final long agingSeconds;
+  private final int batchSize;
+  private final Counter updatedCounter;
+
+  public QueueAgingService(
+      ModerationItemRepository moderationItemRepository,
+      CacheInvalidationBus cacheInvalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${app.queue-aging.interval:PT6H}") Duration interval,
+      @Value("${app.queue-aging.batch-size:200}") int batchSize) {
+    if (interval.toSeconds() <= 0) {
+      throw new IllegalArgumentException("Queue aging interval must be at least one second");
+    }
+    this.moderationItemRepository = moderationItemRepository;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.agingSeconds = interval.toSeconds();
+    this.batchSize = batchSize;
+    this.updatedCounter = meterRegistry.counter("moderation.queue-aging.updated");
+  }
+
+  /** Brings every PENDING item's effective priority up to date. */
+  @Scheduled(
+      fixedDelayString = "${app.queue-aging.refresh-interval:PT5M}",
+      initialDelayString = "${app.queue-aging.initial-delay:PT1M}")
+  public void refresh() {
+    long start = System.nanoTime();
+    Instant now = Instant.now();
+    UUID after = MIN_UUID;
+    long scanned = 0;
+    long updated = 0;
+    AgingBatch batch;
+    do {
+      batch =
+          moderationItemRepository.refreshEffectivePriorities(after, batchSize, now, agingSeconds);
+      scanned += batch.getScanned();
+      updated += batch.getUpdated();
+      updatedCounter.increment(batch.getUpdated());
+      cacheInvalidationBus.publish(CacheInvalidationBus.Entity.MODERATION_ITEM, batch.updatedIds());
+      after = batch.getLastId();
+    } while (batch.getScanned() == batchSize && after != null);
+    log.debug(
+        "Queue aging refresh scanned {} items, updated {} in {} ms",
+        scanned,
+        updated,
+        Duration.ofNanos(System.nanoTime() - start).toMillis());
+  }
+}
@@ -0,0 +1,221 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.repository.ItemAssignment;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.repository.ModeratorPresenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Partitions the PENDING queue across active moderators so they stop opening the same items.
+ *
+ * <p>A moderator is active while they have listed the queue within {@code
+ * app.queue-assignment.active-window}. The active moderators form a {@link ConsistentHashRing}, and
+ * each PENDING item's {@code assigned_to} is the ring owner of its submitter ID (keeping a
+ * submitter's items together) or, with {@code partition-key: CONTENT}, its content ID. New items
+ * are assigned on creation; {@link #rebalance()} rebuilds the ring from {@code moderator_presence}
+ * and moves the items whose owner changed, which consistent hashing limits to the share of the
+ * moderator who joined or left.
+ *
+ * <p>Every node rebuilds its own ring from the same presence rows, so all nodes agree on owners.
+ * Only one node at a time moves items: as in {@link TrustSweep}, a Postgres session advisory lock
+ * guards the move, and the other nodes skip it until their next rebalance. A moderator not yet in
+ * the ring (first request since joining) sees the whole queue until the next rebalance. Disabled
+ * unless {@code app.queue-assignment.enabled=true}.
+ */
+@Service
+@Slf4j
+public class QueueAssignmentService {
+
+  /** Which ID places an item on the ring. */
+  public enum PartitionKey {
+    SUBMITTER,
+    CONTENT
+  }
+
+  /** Arbitrary application-wide key for the rebalance advisory lock. */
+  static final long REBALANCE_LOCK_KEY = 0x5175657565526562L;
+
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  private final ModerationItemRepository moderationItemRepository;
+  private final ModeratorPresenceRepository moderatorPresenceRepository;
+  private final QueueEventBus queueEventBus;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final DataSource dataSource;
+  private final boolean enabled;
+  private final PartitionKey partitionKey;
+  private final int virtualNodes;
+  private final Duration activeWindow;
+  private final long heartbeatMillis;
+  private final int batchSize;
+  private final Map<UUID, Long> lastHeartbeat = new ConcurrentHashMap<>();
+  private final Counter movedCounter;
+  private volatile ConsistentHashRing ring = ConsistentHashRing.EMPTY;
+
+  public QueueAssignmentService(
+      ModerationItemRepository moderationItemRepository,
+      ModeratorPresenceRepository moderatorPresenceRepository,
+      QueueEventBus queueEventBus,
+      CacheInvalidationBus cacheInvalidationBus,
+      DataSource dataSource,
+      MeterRegistry meterRegistry,
+      @Value("${app.queue-assignment.enabled:false}") boolean enabled,
+      @Value("${app.queue-assignment.partition-key:SUBMITTER}") PartitionKey partitionKey,
+      @Value("${app.queue-assignment.virtual-nodes:100}") int virtualNodes,
+      @Value("${app.queue-assignment.active-window:PT5M}") Duration activeWindow,
+      @Value("${app.queue-assignment.heartbeat-interval:PT30S}") Duration heartbeatInterval,
+      @Value("${app.queue-assignment.batch-size:500}") int batchSize) {
+    this.moderationItemRepository = moderationItemRepository;
+    this.moderatorPresenceRepository = moderatorPresenceRepository;
+    this.queueEventBus = queueEventBus;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.dataSource = dataSource;
+    this.enabled = enabled;
+    this.partitionKey = partitionKey;
+    this.virtualNodes = virtualNodes;
+    this.activeWindow = activeWindow;
+    this.heartbeatMillis = heartbeatInterval.toMillis();
+    this.batchSize = batchSize;
+    this.movedCounter = meterRegistry.counter("moderation.queue-assignment.moved");
+    Gauge.builder("moderation.queue-assignment.moderators", this, s -> s.ring.size())
+        .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Records that a moderator is working the queue. Writes at most once per heartbeat interval per
+   * moderator on each node.
+   */
+  public void recordActivity(UUID moderatorId) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    Long previous = lastHeartbeat.get(moderatorId);
+    if (previous != null && now - previous < heartbeatMillis) {
+      return;
+    }
+    lastHeartbeat.put(moderatorId, now);
+    moderatorPresenceRepository.recordSeen(moderatorId, Instant.ofEpochMilli(now));
+  }
+
+  /** True if the moderator owns a shard of the queue in the current ring. */
+  public boolean hasShard(UUID moderatorId) {
+    return enabled && ring.contains(moderatorId);
+  }
+
+  /** Returns the shard owner for a new item, or null if assignment is off or nobody is active. */
+  @Nullable
+  public UUID assigneeFor(UUID contentId, UUID submitterId) {
+    return enabled ? ring.ownerOf(keyOf(contentId, submitterId)) : null;
+  }
+
+  /**
+   * Rebuilds the ring from current presence and, on the node holding the rebalance lock, moves
+   * items whose owner changed.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${app.queue-assignment.rebalance-interval:PT30S}",
+      initialDelayString = "${app.queue-assignment.rebalance-interval:PT30S}")
+  public void rebalance() {
+    if (!enabled) {
+      return;
+    }
+    Instant now = Instant.now();
+    List<UUID> active = moderatorPresenceRepository.findActiveSince(now.minus(activeWindow));
+    ConsistentHashRing rebuilt = new ConsistentHashRing(active, virtualNodes);
+    if (!rebuilt.members().equals(ring.members())) {
+      log.info("Queue assignment ring now has {} moderators", rebuilt.size());
+    }
+    ring = rebuilt;
+    if (rebuilt.size() == 0) {
+      // Keep the last assignments; nobody is around to take them over
+      return;
+    }
+    try (Connection lockConnection = dataSource.getConnection()) {
+      if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)")) {
+        log.debug("Queue rebalance already running on another node, skipping");
+        return;
+      }
+      try {
+        // Forget moderators long gone so the presence table stays small
+        moderatorPresenceRepository.deleteSeenBefore(now.minus(activeWindow.multipliedBy(12)));
+        moveItems(rebuilt);
+      } finally {
+        advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)");
+      }
+    } catch (Exception e) {
+      log.error("Queue rebalance failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private void moveItems(ConsistentHashRing rebuilt) {
+    long start = System.nanoTime();
+    UUID after = MIN_UUID;
+    long moved = 0;
+    List<ItemAssignment> batch;
+    do {
+      batch = moderationItemRepository.findAssignmentsAfter(after, batchSize);
+      Map<UUID, List<UUID>> moves = new HashMap<>();
+      for (ItemAssignment item : batch) {
+        UUID owner = rebuilt.ownerOf(keyOf(item.getContentId(), item.getSubmitterId()));
+        if (owner != null && !owner.equals(item.getAssignedTo())) {
+          moves.computeIfAbsent(owner, k -> new ArrayList<>()).add(item.getId());
+        }
+      }
+      for (Map.Entry<UUID, List<UUID>> move : moves.entrySet()) {
+        moved += moderationItemRepository.assignTo(move.getKey(), move.getValue());
+        queueEventBus.publish(QueueEvent.Type.ASSIGNED, move.getValue(), move.getKey());
+        cacheInvalidationBus.publish(CacheInvalidationBus.Entity.MODERATION_ITEM, move.getValue());
+      }
+      if (!batch.isEmpty()) {
+        after = batch.get(batch.size() - 1).getId();
+      }
+    } while (batch.size() == batchSize);
+    movedCounter.increment(moved);
+    log.debug(
+        "Queue rebalance across {} moderators moved {} items in {} ms",
+        rebuilt.size(),
+        moved,
+        Duration.ofNanos(System.nanoTime() - start).toMillis());
+  }
+
+  private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, REBALANCE_LOCK_KEY);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private UUID keyOf(UUID contentId, UUID submitterId) {
+    return partitionKey == PartitionKey.CONTENT ? contentId : submitterId;
+  }
+}
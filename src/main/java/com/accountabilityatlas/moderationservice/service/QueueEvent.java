@@ -0,0 +1,26 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * A committed change to the moderation queue, pushed to moderator consoles.
+ *
+ * @param itemIds the moderation items that changed
+ * @param moderatorId the reviewer for APPROVED and REJECTED, the shard owner for CREATED (if
+ *     assigned) and ASSIGNED
+ */
+public record QueueEvent(Type type, List<UUID> itemIds, @Nullable UUID moderatorId) {
+
+  public enum Type {
+    /** New PENDING items. */
+    CREATED,
+    /** PENDING items moved to a moderator's shard of the queue. */
+    ASSIGNED,
+    APPROVED,
+    REJECTED,
+    /** Changes may have been missed (cross-node delivery was interrupted); reload the queue. */
+    RESYNC
+  }
+}
@@ -0,0 +1,84 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process fan-out of {@link QueueEvent}s to the listeners on this node, and through {@link
+ * QueueEventRelay} to every other node.
+ *
+ * <p>Events raised inside a transaction are delivered only after it commits, so listeners never
+ * hear of a change that was rolled back. Listeners run on the committing thread and must not block.
+ */
+@Service
+@Slf4j
+public class QueueEventBus {
+
+  /** Keeps each relayed payload well under the 8000-byte NOTIFY limit. */
+  static final int MAX_ITEMS_PER_EVENT = 100;
+
+  private final QueueEventRelay relay;
+  private final List<Consumer<QueueEvent>> listeners = new CopyOnWriteArrayList<>();
+  private final Counter publishedCounter;
+
+  public QueueEventBus(QueueEventRelay relay, MeterRegistry meterRegistry) {
+    this.relay = relay;
+    this.publishedCounter = meterRegistry.counter("moderation.queue-events.published");
+    relay.onRemoteEvent(this::deliver);
+  }
+
+  public void subscribe(Consumer<QueueEvent> listener) {
+    listeners.add(listener);
+  }
+
+  /** Publishes a change to the listed items once the current transaction (if any) commits. */
+  public void publish(QueueEvent.Type type, Collection<UUID> itemIds, @Nullable UUID moderatorId) {
+    if (itemIds.isEmpty()) {
+      return;
+    }
+    List<UUID> ids = List.copyOf(itemIds);
+    List<QueueEvent> events = new ArrayList<>();
+    for (int from = 0; from < ids.size(); from += MAX_ITEMS_PER_EVENT) {
+      List<UUID> chunk = ids.subList(from, Math.min(from + MAX_ITEMS_PER_EVENT, ids.size()));
+      events.add(new QueueEvent(type, chunk, moderatorId));
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              events.forEach(QueueEventBus.this::dispatch);
+            }
+          });
+    } else {
+      events.forEach(this::dispatch);
+    }
+  }
+
+  private void dispatch(QueueEvent event) {
+    publishedCounter.increment();
+    deliver(event);
+    relay.send(event);
+  }
+
+  void deliver(QueueEvent event) {
+    for (Consumer<QueueEvent> listener : listeners) {
+      try {
+        listener.accept(event);
+      } catch (RuntimeException e) {
+        log.warn("Queue event listener failed on {}: {}", event.type(), e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries {@link QueueEvent}s between nodes on the {@value #CHANNEL} channel of {@link
+ * PostgresNotifications}. If the listening connection was lost, local listeners get a RESYNC event
+ * because notifications sent in between are gone.
+ */
+@Component
+@Slf4j
+public class QueueEventRelay {
+
+  static final String CHANNEL = "moderation_queue_events";
+
+  private final PostgresNotifications notifications;
+  private final ObjectMapper objectMapper;
+  private final Counter receivedCounter;
+  private volatile Consumer<QueueEvent> sink = event -> {};
+
+  public QueueEventRelay(
+      PostgresNotifications notifications, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.notifications = notifications;
+    this.objectMapper = objectMapper;
+    this.receivedCounter = meterRegistry.counter("moderation.queue-events.relay.received");
+    notifications.listen(
+        CHANNEL,
+        this::receive,
+        () -> sink.accept(new QueueEvent(QueueEvent.Type.RESYNC, List.of(), null)));
+  }
+
+  /** Sets where events from other nodes are delivered. */
+  void onRemoteEvent(Consumer<QueueEvent> sink) {
+    this.sink = sink;
+  }
+
+  /** Sends a local event to the other nodes without blocking the caller. */
+  void send(QueueEvent event) {
+    if (!notifications.isEnabled()) {
+      return;
+    }
+    try {
+      notifications.send(CHANNEL, objectMapper.writeValueAsString(event));
+    } catch (JsonProcessingException e) {
+      log.warn("Failed to relay queue event {}: {}", event.type(), e.getMessage());
+    }
+  }
+
+  private void receive(String payload) {
+    QueueEvent event;
+    try {
+      event = objectMapper.readValue(payload, QueueEvent.class);
+    } catch (JsonProcessingException e) {
+      log.warn("Ignoring malformed queue event notification: {}", e.getMessage());
+      return;
+    }
+    receivedCounter.increment();
+    sink.accept(event);
+  }
+}
@@ -0,0 +1,44 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking rate limiter that hands out permits evenly spaced at a fixed rate.
+ *
+ * <p>Used by background jobs to keep their calls to other services well below the rate of live
+ * traffic. Permits are not accumulated while idle, so a job that wakes up after a pause cannot
+ * burst.
+ */
+public final class RateLimiter {
+
+  private final long intervalNanos;
+  private long nextFreeNanos;
+
+  public RateLimiter(double permitsPerSecond) {
+    if (permitsPerSecond <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond must be positive");
+    }
+    this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    this.nextFreeNanos = System.nanoTime();
+  }
+
+  /**
+   * Blocks until a permit is available.
+   *
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public void acquire() throws InterruptedException {
+    long waitNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      if (nextFreeNanos < now) {
+        nextFreeNanos = now;
+      }
+      waitNanos = nextFreeNanos - now;
+      nextFreeNanos += intervalNanos;
+    }
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, TTL-based record of which reporters have an OPEN report against which content.
+ *
+ * <p>Lets a repeated report be rejected without touching the database. A miss proves nothing: the
+ * unique index {@code idx_abuse_reports_open_reporter_content} is the source of truth, and a
+ * duplicate that gets past the cache fails there instead. A hit is trusted, so entries are only
+ * added once the report's transaction commits and are dropped when reports against the content are
+ * closed. Closes on other instances arrive through the {@link CacheInvalidationBus}, so a closed
+ * report can read as a duplicate here only until that notification lands.
+ */
+@Component
+public class RecentReportCache {
+
+  static final String CACHE_NAME = "recentReports";
+
+  private final Cache<Key, Boolean> cache;
+  private final CacheInvalidationBus cacheInvalidationBus;
+
+  public RecentReportCache(
+      CacheInvalidationBus cacheInvalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${app.report-dedup.max-size:100000}") long maxSize,
+      @Value("${app.report-dedup.ttl:PT10M}") Duration ttl) {
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    cacheInvalidationBus.subscribe(
+        CacheInvalidationBus.Entity.CONTENT_REPORTS, this::forget, cache::invalidateAll);
+  }
+
+  /** Returns true if the reporter is known to have an OPEN report against the content. */
+  public boolean contains(UUID reporterId, UUID contentId) {
+    return cache.getIfPresent(new Key(reporterId, contentId)) != null;
+  }
+
+  /** Records an OPEN report once the current transaction, if any, commits. */
+  public void add(UUID reporterId, UUID contentId) {
+    afterCommit(() -> cache.put(new Key(reporterId, contentId), Boolean.TRUE));
+  }
+
+  /**
+   * Records an OPEN report immediately: one the database has already confirmed, or one queued for
+   * insert that later repeats must not race past.
+   */
+  public void addExisting(UUID reporterId, UUID contentId) {
+    cache.put(new Key(reporterId, contentId), Boolean.TRUE);
+  }
+
+  /**
+   * Forgets every reporter of the content, on every node, once the current transaction (if any)
+   * commits.
+   */
+  public void forgetContent(Collection<UUID> contentIds) {
+    cacheInvalidationBus.publish(CacheInvalidationBus.Entity.CONTENT_REPORTS, contentIds);
+  }
+
+  private void forget(Collection<UUID> contentIds) {
+    Set<UUID> closed = Set.copyOf(contentIds);
+    cache.asMap().keySet().removeIf(key -> closed.contains(key.contentId()));
+  }
+
+  long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private record Key(UUID reporterId, UUID contentId) {}
+}
@@ -0,0 +1,97 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Raises content from submitters with rejections inside the trust lookback window: {@code
+ * app.priority-scoring.rejections.points-each} per recent rejection, capped at {@code max-points}.
+ *
+ * <p>Submitters the {@link FlaggedSubmitterFilter} knows to be clean score zero without a lookup.
+ * Other scores come from the submitter counters and are cached per submitter for {@code cache.ttl},
+ * so a burst of submissions from one flagged submitter costs one query. A rejection evicts the
+ * submitter's entry on every node through the {@link CacheInvalidationBus}.
+ */
+@Component
+public class RejectionHistoryRule implements PriorityRule {
+
+  static final String CACHE_NAME = "submitterRejectionScores";
+
+  private final Predicate<UUID> mightBeFlagged;
+  private final ToLongFunction<UUID> recentRejections;
+  private final int pointsEach;
+  private final int maxPoints;
+  private final Cache<UUID, Integer> cache;
+  private final Function<UUID, Integer> loader = this::load;
+
+  @Autowired
+  public RejectionHistoryRule(
+      FlaggedSubmitterFilter flaggedSubmitterFilter,
+      SubmitterStatsService submitterStatsService,
+      CacheInvalidationBus cacheInvalidationBus,
+      MeterRegistry meterRegistry,
+      @Value("${app.priority-scoring.rejections.points-each:1}") int pointsEach,
+      @Value("${app.priority-scoring.rejections.max-points:2}") int maxPoints,
+      @Value("${app.priority-scoring.rejections.cache.max-size:10000}") long maxSize,
+      @Value("${app.priority-scoring.rejections.cache.ttl:PT5M}") Duration ttl) {
+    this(
+        flaggedSubmitterFilter::mightBeFlagged,
+        submitterId ->
+            submitterStatsService
+                .getTrustSignals(
+                    submitterId,
+                    Instant.now()
+                        .minus(TrustPromotionService.REJECTION_LOOKBACK_DAYS, ChronoUnit.DAYS))
+                .getRecentRejections(),
+        meterRegistry,
+        pointsEach,
+        maxPoints,
+        maxSize,
+        ttl);
+    cacheInvalidationBus.subscribe(
+        CacheInvalidationBus.Entity.SUBMITTER_REJECTIONS,
+        cache::invalidateAll,
+        cache::invalidateAll);
+  }
+
+  RejectionHistoryRule(
+      Predicate<UUID> mightBeFlagged,
+      ToLongFunction<UUID> recentRejections,
+      MeterRegistry meterRegistry,
+      int pointsEach,
+      int maxPoints,
+      long maxSize,
+      Duration ttl) {
+    this.mightBeFlagged = mightBeFlagged;
+    this.recentRejections = recentRejections;
+    this.pointsEach = pointsEach;
+    this.maxPoints = maxPoints;
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @Override
+  public int score(Submission submission) {
+    if (!mightBeFlagged.test(submission.submitterId())) {
+      return 0;
+    }
+    return cache.get(submission.submitterId(), loader);
+  }
+
+  private Integer load(UUID submitterId) {
+    return (int) Math.min(maxPoints, recentRejections.applyAsLong(submitterId) * pointsEach);
+  }
+}
@@ -0,0 +1,47 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.domain.AbuseReport;
+import com.accountabilityatlas.moderationservice.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in an abuse report listing: the {@code (createdAt, id)} of the last report
+ * returned. Encoded as an opaque URL-safe string for API clients.
+ */
+public record ReportCursor(Instant createdAt, UUID id) {
+
+  public static ReportCursor of(AbuseReport report) {
+    return new ReportCursor(report.getCreatedAt(), report.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt + "|" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor previously returned by {@link #encode()}.
+   *
+   * @throws InvalidCursorException if the cursor is malformed
+   */
+  public static ReportCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      if (separator < 0) {
+        throw new InvalidCursorException(cursor);
+      }
+      return new ReportCursor(
+          Instant.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+}
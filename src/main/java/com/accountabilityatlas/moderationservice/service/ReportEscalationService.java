@@ -0,0 +1,155 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.repository.EscalationState;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.repository.OpenReportSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Raises the queue priority of PENDING items as abuse reports against their content accumulate.
+ *
+ * <p>Each item carries an {@code open_report_count} and {@code last_reported_at} that the {@code
+ * record*} methods adjust in the caller's transaction whenever reports are opened or closed, so
+ * escalation never recounts {@code abuse_reports}. The priority is the item's ingest-time base
+ * score plus the level from {@link EscalationPolicy}, and is written only when it changes.
+ *
+ * <p>Because the policy decays priority with time, {@link #refresh()} periodically re-applies it to
+ * every PENDING item that has open reports or a priority above its base score. The refresh also
+ * picks up counters backfilled by a migration and policy changes made in configuration. Like {@link
+ * QueueAgingService#refresh()}, each keyset chunk is read and updated in its own short transaction,
+ * so the pass never holds row locks or a snapshot for longer than one chunk.
+ */
+@Service
+@Slf4j
+public class ReportEscalationService {
+
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  private final ModerationItemRepository moderationItemRepository;
+  private final EscalationPolicy escalationPolicy;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final Counter changedCounter;
+
+  public ReportEscalationService(
+      ModerationItemRepository moderationItemRepository,
+      EscalationPolicy escalationPolicy,
+      CacheInvalidationBus cacheInvalidationBus,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.escalation.refresh-chunk-size:500}") int chunkSize) {
+    this.moderationItemRepository = moderationItemRepository;
+    this.escalationPolicy = escalationPolicy;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.changedCounter = meterRegistry.counter("moderation.escalation.priority-changed");
+  }
+
+  /**
+   * Sets a new item's counters from the reports already open against its content, and its priority
+   * from those and its base score.
+   */
+  public void initialize(ModerationItem item) {
+    OpenReportSummary summary = moderationItemRepository.summarizeOpenReports(item.getContentId());
+    int openReports = (int) summary.getOpenReportCount();
+    item.setOpenReportCount(openReports);
+    item.setLastReportedAt(summary.getLastReportedAt());
+    int level =
+        escalationPolicy.priorityFor(openReports, summary.getLastReportedAt(), Instant.now());
+    item.setPriority(item.getBasePriority() + level);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordReportsOpened(UUID contentId, int count, Instant reportedAt) {
+    if (count > 0) {
+      countersChanged(moderationItemRepository.addOpenReports(contentId, count, reportedAt));
+    }
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordReportsClosed(UUID contentId, int count) {
+    if (count > 0) {
+      countersChanged(moderationItemRepository.removeOpenReports(contentId, count));
+    }
+  }
+
+  /** Re-applies the policy to every PENDING item whose priority could have decayed. */
+  @Scheduled(
+      fixedDelayString = "${app.escalation.refresh-interval:PT15M}",
+      initialDelayString = "${app.escalation.refresh-interval:PT15M}")
+  public void refresh() {
+    Instant now = Instant.now();
+    UUID after = MIN_UUID;
+    int checked = 0;
+    int changed = 0;
+    List<EscalationState> chunk;
+    do {
+      UUID from = after;
+      List<EscalationState> candidates = new ArrayList<>();
+      changed +=
+          transactionTemplate.execute(
+              status -> {
+                candidates.addAll(
+                    moderationItemRepository.findEscalationCandidatesAfter(from, chunkSize));
+                List<UUID> reprioritized = apply(candidates, now);
+                cacheInvalidationBus.publish(
+                    CacheInvalidationBus.Entity.MODERATION_ITEM, reprioritized);
+                return reprioritized.size();
+              });
+      chunk = candidates;
+      checked += chunk.size();
+      if (!chunk.isEmpty()) {
+        after = chunk.get(chunk.size() - 1).getId();
+      }
+    } while (chunk.size() == chunkSize);
+    log.debug("Escalation refresh checked {} items, changed {}", checked, changed);
+  }
+
+  /**
+   * Re-applies the policy to items whose counters changed. Every one of them changed, whatever its
+   * priority, so all are invalidated in a single publish once their priorities are written.
+   */
+  private void countersChanged(List<EscalationState> states) {
+    apply(states, Instant.now());
+    cacheInvalidationBus.publish(
+        CacheInvalidationBus.Entity.MODERATION_ITEM,
+        states.stream().map(EscalationState::getId).toList());
+  }
+
+  /**
+   * Writes the policy's priority for each state that differs.
+   *
+   * @return the IDs of the items whose priority was written
+   */
+  private List<UUID> apply(List<EscalationState> states, Instant now) {
+    List<UUID> changed = new ArrayList<>();
+    for (EscalationState state : states) {
+      int priority =
+          state.getBasePriority()
+              + escalationPolicy.priorityFor(
+                  state.getOpenReportCount(), state.getLastReportedAt(), now);
+      if (priority != state.getPriority()
+          && moderationItemRepository.updatePriority(state.getId(), priority) > 0) {
+        changed.add(state.getId());
+      }
+    }
+    changedCounter.increment(changed.size());
+    return changed;
+  }
+}
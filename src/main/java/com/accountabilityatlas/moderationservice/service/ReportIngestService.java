@@ -0,0 +1,230 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.domain.AbuseReason;
+import com.accountabilityatlas.moderationservice.domain.AbuseReport;
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import com.accountabilityatlas.moderationservice.domain.ReportStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingDeque;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Entry point for abuse report submissions, optionally buffering them for batched inserts.
+ *
+ * <p>With {@code app.report-ingest.enabled=false} (the default) every report is written in its own
+ * transaction before the response. When enabled, a report that passes the duplicate and rate-limit
+ * checks gets its ID immediately and is queued in a bounded in-memory buffer; the buffer is flushed
+ * every {@code flush-interval} in JDBC batches of up to {@code batch-size}. A burst against one
+ * viral video then costs one connection and round trip per batch instead of one per report. When
+ * the buffer is full the report is written synchronously instead, so load beyond the buffer falls
+ * back to the old behaviour rather than being refused.
+ *
+ * <p>The creation time is set again when a report is written, so a report flushed late still sorts
+ * after everything that was already visible and {@code (createdAt, id)} keyset listings cannot skip
+ * it; the {@code createdAt} in the 202 response is only provisional.
+ *
+ * <p>Queued reports are visible to moderators after the next flush. A batch that fails is retried
+ * one report at a time, and a report that still fails with a non-transient error (a constraint
+ * violation, say) is logged and dead-lettered so it cannot block the reports behind it. When the
+ * database itself is unavailable the rest of the batch is put back at the head of the buffer for
+ * the next flush; reports that no longer fit are dropped and counted. Shutdown flushes the buffer,
+ * but reports queued when the process dies abruptly are lost.
+ */
+@Service
+@Slf4j
+public class ReportIngestService {
+
+  private final AbuseReportService abuseReportService;
+  private final RecentReportCache recentReportCache;
+  private final boolean enabled;
+  private final int batchSize;
+  private final LinkedBlockingDeque<AbuseReport> buffer;
+  private final Object flushLock = new Object();
+  private final Timer flushTimer;
+  private final Counter queuedCounter;
+  private final Counter fallbackCounter;
+  private final Counter droppedCounter;
+  private final Counter deadLetteredCounter;
+
+  public ReportIngestService(
+      AbuseReportService abuseReportService,
+      RecentReportCache recentReportCache,
+      MeterRegistry meterRegistry,
+      @Value("${app.report-ingest.enabled:false}") boolean enabled,
+      @Value("${app.report-ingest.buffer-capacity:10000}") int bufferCapacity,
+      @Value("${app.report-ingest.batch-size:500}") int batchSize) {
+    this.abuseReportService = abuseReportService;
+    this.recentReportCache = recentReportCache;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.buffer = new LinkedBlockingDeque<>(bufferCapacity);
+    this.flushTimer = meterRegistry.timer("moderation.reports.ingest.flush");
+    this.queuedCounter = meterRegistry.counter("moderation.reports.ingest.queued");
+    this.fallbackCounter = meterRegistry.counter("moderation.reports.ingest.fallback");
+    this.droppedCounter = meterRegistry.counter("moderation.reports.ingest.dropped");
+    this.deadLetteredCounter = meterRegistry.counter("moderation.reports.ingest.dead-lettered");
+    meterRegistry.gauge("moderation.reports.ingest.depth", buffer, LinkedBlockingDeque::size);
+  }
+
+  /**
+   * Submits a report, queueing it if buffering is enabled and the buffer has room.
+   *
+   * @throws com.accountabilityatlas.moderationservice.exception.DuplicateReportException if the
+   *     reporter already has an OPEN report for the content
+   * @throws com.accountabilityatlas.moderationservice.exception.ReportRateLimitedException if the
+   *     reporter has exhausted their report allowance
+   */
+  public SubmittedReport submit(
+      ContentType contentType,
+      UUID contentId,
+      UUID reporterId,
+      AbuseReason reason,
+      String description) {
+    if (!enabled) {
+      return new SubmittedReport(
+          abuseReportService.submitReport(contentType, contentId, reporterId, reason, description),
+          false);
+    }
+    abuseReportService.checkCanReport(reporterId, contentId);
+    AbuseReport report = new AbuseReport();
+    report.setId(UUID.randomUUID());
+    report.setContentType(contentType);
+    report.setContentId(contentId);
+    report.setReporterId(reporterId);
+    report.setReason(reason);
+    report.setDescription(description);
+    report.setStatus(ReportStatus.OPEN);
+    report.setCreatedAt(Instant.now());
+    if (buffer.offer(report)) {
+      recentReportCache.addExisting(reporterId, contentId);
+      queuedCounter.increment();
+      return new SubmittedReport(report, true);
+    }
+    fallbackCounter.increment();
+    return new SubmittedReport(
+        abuseReportService.openReport(contentType, contentId, reporterId, reason, description),
+        false);
+  }
+
+  /** Writes everything currently buffered, one batch at a time. */
+  @Scheduled(fixedDelayString = "${app.report-ingest.flush-interval:PT1S}")
+  public void flush() {
+    synchronized (flushLock) {
+      List<AbuseReport> batch = new ArrayList<>(batchSize);
+      while (buffer.drainTo(batch, batchSize) > 0) {
+        long start = System.nanoTime();
+        try {
+          Instant now = Instant.now();
+          batch.forEach(report -> report.setCreatedAt(now));
+          int inserted = abuseReportService.insertQueuedReports(batch).size();
+          log.debug("Flushed {} queued abuse reports, {} inserted", batch.size(), inserted);
+        } catch (RuntimeException e) {
+          if (isTransient(e)) {
+            log.error("Failed to flush {} abuse reports: {}", batch.size(), e.getMessage(), e);
+            requeue(batch);
+            return;
+          }
+          log.warn(
+              "Batch of {} abuse reports failed, inserting one at a time: {}",
+              batch.size(),
+              e.getMessage());
+          if (!insertIndividually(batch)) {
+            return;
+          }
+        } finally {
+          flushTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+        batch = new ArrayList<>(batchSize);
+      }
+    }
+  }
+
+  int depth() {
+    return buffer.size();
+  }
+
+  /**
+   * Inserts each report in its own transaction, dead-lettering the ones that fail for a reason
+   * retrying cannot fix.
+   *
+   * @return false if the database became unavailable and the rest of the batch was requeued
+   */
+  private boolean insertIndividually(List<AbuseReport> batch) {
+    for (int i = 0; i < batch.size(); i++) {
+      AbuseReport report = batch.get(i);
+      try {
+        report.setCreatedAt(Instant.now());
+        abuseReportService.insertQueuedReports(List.of(report));
+      } catch (RuntimeException e) {
+        if (isTransient(e)) {
+          log.error("Failed to flush abuse reports: {}", e.getMessage(), e);
+          requeue(batch.subList(i, batch.size()));
+          return false;
+        }
+        deadLetter(report, e);
+      }
+    }
+    return true;
+  }
+
+  private void deadLetter(AbuseReport report, RuntimeException e) {
+    deadLetteredCounter.increment();
+    log.error(
+        "Dead-lettered queued abuse report {} (content {} {}, reporter {}, reason {}): {}",
+        report.getId(),
+        report.getContentType(),
+        report.getContentId(),
+        report.getReporterId(),
+        report.getReason(),
+        e.getMessage(),
+        e);
+  }
+
+  /** The database or a connection was unavailable; a later flush can expect to succeed. */
+  private static boolean isTransient(RuntimeException e) {
+    return e instanceof TransientDataAccessException
+        || e instanceof RecoverableDataAccessException
+        || e instanceof DataAccessResourceFailureException
+        || e instanceof TransactionException;
+  }
+
+  private void requeue(List<AbuseReport> batch) {
+    // Newest first so the batch ends up back at the head in its original order
+    for (int i = batch.size() - 1; i >= 0; i--) {
+      if (!buffer.offerFirst(batch.get(i))) {
+        droppedCounter.increment();
+        log.error("Dropped queued abuse report {}: buffer full", batch.get(i).getId());
+      }
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    flush();
+    if (!buffer.isEmpty()) {
+      log.error("{} queued abuse reports were not written at shutdown", buffer.size());
+    }
+  }
+
+  /**
+   * A submitted report.
+   *
+   * @param queued true if the report was buffered and is not yet visible to moderators
+   */
+  public record SubmittedReport(AbuseReport report, boolean queued) {}
+}
@@ -0,0 +1,113 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-reporter token bucket for abuse report submissions.
+ *
+ * <p>Each reporter may submit {@code capacity} reports in a burst, then one more per {@code
+ * refill-interval}. A bucket is stored as the single instant at which it will be full again, so an
+ * entry costs one boxed long; entries whose bucket has refilled are dropped by {@link
+ * #evictIdle()}. Reporters are spread over independently locked stripes so concurrent submissions
+ * by different users rarely contend.
+ *
+ * <p>Limits are per node. With several instances a reporter can submit up to {@code capacity} times
+ * the node count in a burst; the unique open-report index still stops duplicates.
+ */
+@Component
+public class ReporterRateLimiter {
+
+  private final long capacity;
+  private final long intervalNanos;
+  private final LongSupplier nanoClock;
+  private final Stripe[] stripes;
+  private final Counter limitedCounter;
+
+  @Autowired
+  public ReporterRateLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${app.report-rate-limit.capacity:5}") int capacity,
+      @Value("${app.report-rate-limit.refill-interval:PT1M}") Duration refillInterval,
+      @Value("${app.report-rate-limit.stripes:64}") int stripes) {
+    this(meterRegistry, capacity, refillInterval, stripes, System::nanoTime);
+  }
+
+  ReporterRateLimiter(
+      MeterRegistry meterRegistry,
+      int capacity,
+      Duration refillInterval,
+      int stripes,
+      LongSupplier nanoClock) {
+    if (capacity <= 0 || stripes <= 0 || refillInterval.isNegative() || refillInterval.isZero()) {
+      throw new IllegalArgumentException("capacity, stripes and refill-interval must be positive");
+    }
+    this.capacity = capacity;
+    this.intervalNanos = refillInterval.toNanos();
+    this.nanoClock = nanoClock;
+    this.stripes = new Stripe[stripes];
+    for (int i = 0; i < stripes; i++) {
+      this.stripes[i] = new Stripe();
+    }
+    this.limitedCounter = meterRegistry.counter("moderation.reports.rate-limited");
+  }
+
+  /**
+   * Takes a token from the reporter's bucket if one is available.
+   *
+   * @return {@link Duration#ZERO} if a token was taken, otherwise how long until the next token
+   */
+  public Duration tryAcquire(UUID reporterId) {
+    Stripe stripe = stripeFor(reporterId);
+    long now = nanoClock.getAsLong();
+    synchronized (stripe) {
+      // Instant at which the bucket is full again; at or before now means it is full
+      long fullAt = Math.max(stripe.fullAt.getOrDefault(reporterId, now), now);
+      long earliest = fullAt - (capacity - 1) * intervalNanos;
+      if (earliest > now) {
+        limitedCounter.increment();
+        return Duration.ofNanos(earliest - now);
+      }
+      stripe.fullAt.put(reporterId, fullAt + intervalNanos);
+      return Duration.ZERO;
+    }
+  }
+
+  /** Drops reporters whose bucket has refilled; they are indistinguishable from new reporters. */
+  @Scheduled(fixedDelayString = "${app.report-rate-limit.evict-interval:PT5M}")
+  public void evictIdle() {
+    for (Stripe stripe : stripes) {
+      long now = nanoClock.getAsLong();
+      synchronized (stripe) {
+        stripe.fullAt.values().removeIf(fullAt -> fullAt - now <= 0);
+      }
+    }
+  }
+
+  int size() {
+    int size = 0;
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.fullAt.size();
+      }
+    }
+    return size;
+  }
+
+  private Stripe stripeFor(UUID reporterId) {
+    return stripes[Math.floorMod(reporterId.hashCode(), stripes.length)];
+  }
+
+  private static final class Stripe {
+    final Map<UUID, Long> fullAt = new HashMap<>();
+  }
+}
@@ -0,0 +1,35 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * What is known about a piece of content when it enters the moderation queue; the input to {@link
+ * PriorityRule}s.
+ *
+ * @param contentType the type of the submitted content
+ * @param contentId the ID of the submitted content
+ * @param submitterId the ID of the user who submitted it
+ * @param title the content title, if known
+ * @param amendments amendment names referenced by the content; never null
+ * @param locationIds locations associated with the content; never null
+ * @param submittedAt when the submission occurred, if known
+ */
+public record Submission(
+    ContentType contentType,
+    UUID contentId,
+    UUID submitterId,
+    @Nullable String title,
+    Set<String> amendments,
+    List<UUID> locationIds,
+    @Nullable Instant submittedAt) {
+
+  public Submission {
+    amendments = amendments == null ? Set.of() : amendments;
+    locationIds = locationIds == null ? List.of() : locationIds;
+  }
+}
@@ -0,0 +1,45 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Raises submissions that reach the queue late.
+ *
+ * <p>The queue orders equal priorities by the item's creation time, so a submission whose event sat
+ * in SQS (retries, a consumer outage) would otherwise wait behind everything that arrived during
+ * the delay. Submissions at least {@code app.priority-scoring.age.threshold} old get {@code
+ * app.priority-scoring.age.points}.
+ */
+@Component
+public class SubmissionAgeRule implements PriorityRule {
+
+  private final long thresholdMillis;
+  private final int points;
+  private final LongSupplier clock;
+
+  @Autowired
+  public SubmissionAgeRule(
+      @Value("${app.priority-scoring.age.threshold:PT1H}") Duration threshold,
+      @Value("${app.priority-scoring.age.points:1}") int points) {
+    this(threshold, points, System::currentTimeMillis);
+  }
+
+  SubmissionAgeRule(Duration threshold, int points, LongSupplier clock) {
+    this.thresholdMillis = threshold.toMillis();
+    this.points = points;
+    this.clock = clock;
+  }
+
+  @Override
+  public int score(Submission submission) {
+    if (submission.submittedAt() == null) {
+      return 0;
+    }
+    long ageMillis = clock.getAsLong() - submission.submittedAt().toEpochMilli();
+    return ageMillis >= thresholdMillis ? points : 0;
+  }
+}
@@ -0,0 +1,203 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.config.ReadReplicaRouter;
+import com.accountabilityatlas.moderationservice.repository.SubmitterStatsRepository;
+import com.accountabilityatlas.moderationservice.repository.TrustSignals;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the denormalized per-submitter trust counters.
+ *
+ * <p>The {@code record*} methods join the caller's transaction, so a counter change commits or
+ * rolls back together with the decision or report change that caused it. Rejections are bucketed
+ * per UTC day, which makes a "last N days" count a sum over at most N + 1 rows. Rejections and new
+ * reports also mark the submitter in the {@link FlaggedSubmitterFilter}.
+ *
+ * <p>{@link #rebuild()} recomputes both tables from {@code moderation_items} and {@code
+ * abuse_reports} to repair any drift (e.g. reports filed against content whose moderation item
+ * arrived later). Daily buckets older than the retention period are dropped by the rebuild. It
+ * works through submitters in ID ranges of {@code app.submitter-stats.rebuild-chunk-size}, one
+ * short transaction each, so counter writers only ever wait for a single range.
+ */
+@Service
+@Slf4j
+public class SubmitterStatsService {
+
+  /** Arbitrary application-wide key for the rebuild advisory lock. */
+  static final long REBUILD_LOCK_KEY = 0x5375624d53746174L;
+
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+  private static final UUID MAX_UUID = new UUID(-1L, -1L);
+
+  private final SubmitterStatsRepository submitterStatsRepository;
+  private final FlaggedSubmitterFilter flaggedSubmitterFilter;
+  private final DataSource dataSource;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration rejectionRetention;
+  private final int rebuildChunkSize;
+
+  public SubmitterStatsService(
+      SubmitterStatsRepository submitterStatsRepository,
+      FlaggedSubmitterFilter flaggedSubmitterFilter,
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.submitter-stats.rejection-retention:P90D}") Duration rejectionRetention,
+      @Value("${app.submitter-stats.rebuild-chunk-size:500}") int rebuildChunkSize) {
+    this.submitterStatsRepository = submitterStatsRepository;
+    this.flaggedSubmitterFilter = flaggedSubmitterFilter;
+    this.dataSource = dataSource;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.rejectionRetention = rejectionRetention;
+    this.rebuildChunkSize = rebuildChunkSize;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordApprovals(UUID submitterId, int count) {
+    if (count > 0) {
+      submitterStatsRepository.incrementApproved(submitterId, count);
+    }
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordRejection(UUID submitterId, Instant reviewedAt) {
+    recordRejections(submitterId, 1, reviewedAt);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordRejections(UUID submitterId, int count, Instant reviewedAt) {
+    if (count > 0) {
+      flaggedSubmitterFilter.markFlagged(List.of(submitterId));
+      submitterStatsRepository.incrementRejected(submitterId, count);
+      submitterStatsRepository.incrementDailyRejections(submitterId, utcDay(reviewedAt), count);
+    }
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordReportOpened(UUID contentId) {
+    recordReportsOpened(contentId, 1);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordReportsOpened(UUID contentId, int count) {
+    if (count > 0) {
+      flaggedSubmitterFilter.markFlagged(
+          submitterStatsRepository.findSubmittersOfContent(contentId));
+      submitterStatsRepository.incrementOpenReports(contentId, count);
+    }
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordReportClosed(UUID contentId) {
+    submitterStatsRepository.decrementOpenReports(contentId);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordReportsClosed(UUID contentId, int count) {
+    if (count > 0) {
+      submitterStatsRepository.decrementOpenReportsBy(contentId, count);
+    }
+  }
+
+  /**
+   * Reads rejections since {@code since} (rounded down to the start of its UTC day) and open
+   * reports for a submitter. Always reads the primary, since trust checks follow right after the
+   * rejections they count.
+   */
+  @Transactional(readOnly = true)
+  public TrustSignals getTrustSignals(UUID submitterId, Instant since) {
+    return ReadReplicaRouter.onPrimary(
+        () -> submitterStatsRepository.findTrustSignals(submitterId, utcDay(since)));
+  }
+
+  /**
+   * Recomputes all counters from the base tables.
+   *
+   * <p>Each range of submitters is locked, cleared and refilled in its own transaction, so counter
+   * writers wait at most one range and readers are unaffected. Skipped if another node is already
+   * rebuilding.
+   */
+  @Scheduled(cron = "${app.submitter-stats.rebuild-cron:0 30 3 * * *}", zone = "UTC")
+  public void rebuild() {
+    // Held on its own connection across the per-range transactions, as in TrustSweep
+    try (Connection lockConnection = dataSource.getConnection()) {
+      if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)")) {
+        log.info("Submitter stats rebuild already running on another node, skipping");
+        return;
+      }
+      try {
+        rebuildRanges();
+      } finally {
+        advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)");
+      }
+    } catch (Exception e) {
+      log.error("Submitter stats rebuild failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private void rebuildRanges() {
+    long start = System.nanoTime();
+    LocalDate sinceDay = utcDay(Instant.now().minus(rejectionRetention));
+    UUID after = MIN_UUID;
+    int submitters = 0;
+    int buckets = 0;
+    while (true) {
+      List<UUID> page = submitterStatsRepository.findSubmittersAfter(after, rebuildChunkSize);
+      // The last range is open-ended so it also clears counters of submitters past the last item
+      UUID upTo = page.size() < rebuildChunkSize ? MAX_UUID : page.get(page.size() - 1);
+      UUID from = after;
+      int[] counts = transactionTemplate.execute(status -> rebuildRange(from, upTo, sinceDay));
+      submitters += counts[0];
+      buckets += counts[1];
+      if (upTo.equals(MAX_UUID)) {
+        break;
+      }
+      after = upTo;
+    }
+    log.info(
+        "Rebuilt submitter stats: {} submitters, {} daily rejection buckets in {} ms",
+        submitters,
+        buckets,
+        Duration.ofNanos(System.nanoTime() - start).toMillis());
+  }
+
+  private int[] rebuildRange(UUID after, UUID upTo, LocalDate sinceDay) {
+    submitterStatsRepository.lockForRebuild();
+    submitterStatsRepository.deleteStatsInRange(after, upTo);
+    int submitters = submitterStatsRepository.insertStatsFromBaseTables(after, upTo);
+    submitterStatsRepository.deleteDailyRejectionsInRange(after, upTo);
+    int buckets =
+        submitterStatsRepository.insertDailyRejectionsFromBaseTables(sinceDay, after, upTo);
+    return new int[] {submitters, buckets};
+  }
+
+  private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, REBUILD_LOCK_KEY);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private static LocalDate utcDay(Instant instant) {
+    return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+  }
+}
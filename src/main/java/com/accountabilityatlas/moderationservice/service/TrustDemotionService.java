@@ -2,8 +2,8 @@ package com.accountabilityatlas.moderationservice.service;
 
 import com.accountabilityatlas.moderationservice.client.UserServiceClient;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
-import com.accountabilityatlas.moderationservice.repository.AbuseReportRepository;
-import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.repository.TrustSignals;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
@@ -29,24 +29,24 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class TrustDemotionService {
 
-  private static final int DEMOTION_REJECTION_THRESHOLD = 3;
-  private static final int DEMOTION_REPORT_THRESHOLD = 3;
-  private static final int REJECTION_LOOKBACK_DAYS = 30;
-  private static final String TRUSTED_TIER = "TRUSTED";
+  static final int DEMOTION_REJECTION_THRESHOLD = 3;
+  static final int DEMOTION_REPORT_THRESHOLD = 3;
+  static final int REJECTION_LOOKBACK_DAYS = 30;
+  static final String TRUSTED_TIER = "TRUSTED";
   private static final String NEW_TIER = "NEW";
   private static final String AUTO_DEMOTION_REASON = "AUTO_DEMOTION";
 
   private final UserServiceClient userServiceClient;
-  private final ModerationItemRepository moderationItemRepository;
-  private final AbuseReportRepository abuseReportRepository;
+  private final UserSummaryCache userSummaryCache;
+  private final SubmitterStatsService submitterStatsService;
 
   public TrustDemotionService(
       UserServiceClient userServiceClient,
-      ModerationItemRepository moderationItemRepository,
-      AbuseReportRepository abuseReportRepository) {
+      UserSummaryCache userSummaryCache,
+      SubmitterStatsService submitterStatsService) {
     this.userServiceClient = userServiceClient;
-    this.moderationItemRepository = moderationItemRepository;
-    this.abuseReportRepository = abuseReportRepository;
+    this.userSummaryCache = userSummaryCache;
+    this.submitterStatsService = submitterStatsService;
   }
 
   /**
@@ -61,13 +61,23 @@ public class TrustDemotionService {
   public boolean checkAndDemote(UUID userId) {
     log.debug("Checking trust demotion eligibility for user {}", userId);
 
-    Optional<UserSummary> userOpt = userServiceClient.getUser(userId);
+    Optional<UserSummary> userOpt = userSummaryCache.getUser(userId);
     if (userOpt.isEmpty()) {
       log.debug("User {} not found, skipping demotion check", userId);
       return false;
     }
 
-    UserSummary user = userOpt.get();
+    return demoteIfEligible(userOpt.get());
+  }
+
+  /**
+   * Demotes an already-fetched TRUSTED user to NEW if they meet either demotion threshold.
+   *
+   * @param user the user's current profile
+   * @return true if the user was demoted, false otherwise
+   */
+  public boolean demoteIfEligible(UserSummary user) {
+    UUID userId = user.id();
 
     // Only TRUSTED users can be automatically demoted
     if (!TRUSTED_TIER.equals(user.trustTier())) {
@@ -78,13 +88,11 @@ public class TrustDemotionService {
       return false;
     }
 
-    // Check for recent rejections
+    // Load recent rejections and active abuse reports from the per-submitter counters
     Instant rejectionLookbackStart = Instant.now().minus(REJECTION_LOOKBACK_DAYS, ChronoUnit.DAYS);
-    int recentRejections =
-        moderationItemRepository.countRejectionsSince(userId, rejectionLookbackStart);
-
-    // Check for active abuse reports
-    int activeReports = abuseReportRepository.countActiveReportsAgainst(userId);
+    TrustSignals signals = submitterStatsService.getTrustSignals(userId, rejectionLookbackStart);
+    long recentRejections = signals.getRecentRejections();
+    long activeReports = signals.getActiveReports();
 
     // Demotion is triggered if EITHER threshold is met
     boolean shouldDemote =
@@ -108,10 +116,11 @@ public class TrustDemotionService {
         userId,
         demotionReason);
     userServiceClient.updateTrustTier(userId, NEW_TIER, AUTO_DEMOTION_REASON);
+    userSummaryCache.invalidate(userId);
     return true;
   }
 
-  private static @NonNull String getDemotionReason(int recentRejections, int activeReports) {
+  private static @NonNull String getDemotionReason(long recentRejections, long activeReports) {
     String demotionReason;
     if (recentRejections >= DEMOTION_REJECTION_THRESHOLD
         && activeReports >= DEMOTION_REPORT_THRESHOLD) {
@@ -0,0 +1,172 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs trust promotion and demotion checks off the moderator request path.
+ *
+ * <p>Approvals and rejections signal that a submitter's record changed. Signals are collected per
+ * user and drained once per dedup window, so a burst of decisions for the same submitter costs a
+ * single evaluation. Drained users are evaluated on a small bounded pool; when the pool's queue is
+ * full the remaining signals stay pending for the next drain. Evaluations call user-service, so
+ * they never run on the draining thread, which is shared with every other scheduled job.
+ *
+ * <p>Signals raised inside a transaction are only recorded after it commits, so evaluations never
+ * see (or act on) a decision that was rolled back.
+ */
+@Service
+@Slf4j
+public class TrustEvaluator {
+
+  static final int PROMOTION = 1;
+  static final int DEMOTION = 2;
+
+  private final TrustPromotionService trustPromotionService;
+  private final TrustDemotionService trustDemotionService;
+  private final Map<UUID, Integer> pending = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor executor;
+  private final Counter requestedCounter;
+  private final Counter evaluatedCounter;
+  private final Counter deferredCounter;
+
+  public TrustEvaluator(
+      TrustPromotionService trustPromotionService,
+      TrustDemotionService trustDemotionService,
+      MeterRegistry meterRegistry,
+      @Value("${app.trust-evaluation.max-concurrency:4}") int maxConcurrency,
+      @Value("${app.trust-evaluation.queue-capacity:1000}") int queueCapacity) {
+    this.trustPromotionService = trustPromotionService;
+    this.trustDemotionService = trustDemotionService;
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            maxConcurrency,
+            maxConcurrency,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+              Thread thread = new Thread(r, "trust-eval-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    this.requestedCounter = meterRegistry.counter("moderation.trust.requested");
+    this.evaluatedCounter = meterRegistry.counter("moderation.trust.evaluated");
+    this.deferredCounter = meterRegistry.counter("moderation.trust.deferred");
+    meterRegistry.gaugeMapSize("moderation.trust.pending", List.of(), pending);
+    meterRegistry.gauge("moderation.trust.queued", executor, e -> e.getQueue().size());
+  }
+
+  /**
+   * Requests a promotion check for a submitter whose content was approved.
+   *
+   * @param userId the submitter
+   */
+  public void requestPromotionCheck(UUID userId) {
+    signal(userId, PROMOTION);
+  }
+
+  /**
+   * Requests a demotion check for a submitter whose content was rejected.
+   *
+   * @param userId the submitter
+   */
+  public void requestDemotionCheck(UUID userId) {
+    signal(userId, DEMOTION);
+  }
+
+  /**
+   * Hands users signalled since the last drain to the evaluation pool, until its queue is full.
+   * Users that do not fit keep their signals (merged with any new ones) for the next drain.
+   */
+  @Scheduled(fixedDelayString = "${app.trust-evaluation.dedup-window:PT2S}")
+  public void drain() {
+    for (UUID userId : pending.keySet()) {
+      Integer checks = pending.remove(userId);
+      if (checks == null) {
+        continue;
+      }
+      try {
+        executor.execute(() -> evaluate(userId, checks));
+      } catch (RejectedExecutionException e) {
+        pending.merge(userId, checks, (a, b) -> a | b);
+        deferredCounter.increment();
+        return;
+      }
+    }
+  }
+
+  void evaluate(UUID userId, int checks) {
+    evaluatedCounter.increment();
+    // Demotion first: a rejection in the same window also disqualifies promotion
+    if ((checks & DEMOTION) != 0) {
+      try {
+        if (trustDemotionService.checkAndDemote(userId)) {
+          log.info("User {} was demoted after a rejection", userId);
+        }
+      } catch (Exception e) {
+        log.error("Failed to check trust demotion for user {}: {}", userId, e.getMessage());
+      }
+    }
+    if ((checks & PROMOTION) != 0) {
+      try {
+        if (trustPromotionService.checkAndPromote(userId)) {
+          log.info("User {} was promoted after an approval", userId);
+        }
+      } catch (Exception e) {
+        log.error("Failed to check trust promotion for user {}: {}", userId, e.getMessage());
+      }
+    }
+  }
+
+  int pendingCount() {
+    return pending.size();
+  }
+
+  private void signal(UUID userId, int check) {
+    requestedCounter.increment();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              pending.merge(userId, check, (a, b) -> a | b);
+            }
+          });
+    } else {
+      pending.merge(userId, check, (a, b) -> a | b);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    drain();
+    if (!pending.isEmpty()) {
+      log.warn("Dropping {} pending trust evaluations at shutdown", pending.size());
+    }
+    executor.shutdown();
+    if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn(
+          "Trust evaluations still running at shutdown, {} queued", executor.getQueue().size());
+      executor.shutdownNow();
+    }
+  }
+}
@@ -2,8 +2,8 @@ package com.accountabilityatlas.moderationservice.service;
 
 import com.accountabilityatlas.moderationservice.client.UserServiceClient;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
-import com.accountabilityatlas.moderationservice.repository.AbuseReportRepository;
-import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.repository.TrustSignals;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -28,24 +28,27 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class TrustPromotionService {
 
-  private static final int MINIMUM_ACCOUNT_AGE_DAYS = 30;
-  private static final int MINIMUM_APPROVED_SUBMISSIONS = 10;
-  private static final int REJECTION_LOOKBACK_DAYS = 30;
-  private static final String NEW_TIER = "NEW";
+  static final int MINIMUM_ACCOUNT_AGE_DAYS = 30;
+  static final int MINIMUM_APPROVED_SUBMISSIONS = 10;
+  static final int REJECTION_LOOKBACK_DAYS = 30;
+  static final String NEW_TIER = "NEW";
   private static final String TRUSTED_TIER = "TRUSTED";
   private static final String AUTO_PROMOTION_REASON = "AUTO_PROMOTION";
 
   private final UserServiceClient userServiceClient;
-  private final ModerationItemRepository moderationItemRepository;
-  private final AbuseReportRepository abuseReportRepository;
+  private final UserSummaryCache userSummaryCache;
+  private final SubmitterStatsService submitterStatsService;
+  private final FlaggedSubmitterFilter flaggedSubmitterFilter;
 
   public TrustPromotionService(
       UserServiceClient userServiceClient,
-      ModerationItemRepository moderationItemRepository,
-      AbuseReportRepository abuseReportRepository) {
+      UserSummaryCache userSummaryCache,
+      SubmitterStatsService submitterStatsService,
+      FlaggedSubmitterFilter flaggedSubmitterFilter) {
     this.userServiceClient = userServiceClient;
-    this.moderationItemRepository = moderationItemRepository;
-    this.abuseReportRepository = abuseReportRepository;
+    this.userSummaryCache = userSummaryCache;
+    this.submitterStatsService = submitterStatsService;
+    this.flaggedSubmitterFilter = flaggedSubmitterFilter;
   }
 
   /**
@@ -59,13 +62,23 @@ public class TrustPromotionService {
   public boolean checkAndPromote(UUID userId) {
     log.debug("Checking trust promotion eligibility for user {}", userId);
 
-    Optional<UserSummary> userOpt = userServiceClient.getUser(userId);
+    Optional<UserSummary> userOpt = userSummaryCache.getUser(userId);
     if (userOpt.isEmpty()) {
       log.debug("User {} not found, skipping promotion check", userId);
       return false;
     }
 
-    UserSummary user = userOpt.get();
+    return promoteIfEligible(userOpt.get());
+  }
+
+  /**
+   * Promotes an already-fetched NEW user to TRUSTED if they meet all promotion criteria.
+   *
+   * @param user the user's current profile
+   * @return true if the user was promoted, false otherwise
+   */
+  public boolean promoteIfEligible(UserSummary user) {
+    UUID userId = user.id();
 
     // Only NEW users can be promoted to TRUSTED automatically
     if (!NEW_TIER.equals(user.trustTier())) {
@@ -98,30 +111,42 @@ public class TrustPromotionService {
       return false;
     }
 
-    // Check for recent rejections
+    // Submitters absent from the filter have no rejections or open reports; skip the query
+    if (flaggedSubmitterFilter.mightBeFlagged(userId) && hasRecentFlags(userId)) {
+      return false;
+    }
+
+    // All criteria met - promote the user
+    log.info("User {} meets all promotion criteria, promoting from NEW to TRUSTED", userId);
+    userServiceClient.updateTrustTier(userId, TRUSTED_TIER, AUTO_PROMOTION_REASON);
+    userSummaryCache.invalidate(userId);
+    return true;
+  }
+
+  private boolean hasRecentFlags(UUID userId) {
+    // Load recent rejections and active abuse reports from the per-submitter counters
     Instant rejectionLookbackStart = Instant.now().minus(REJECTION_LOOKBACK_DAYS, ChronoUnit.DAYS);
-    int recentRejections =
-        moderationItemRepository.countRejectionsSince(userId, rejectionLookbackStart);
+    TrustSignals signals = submitterStatsService.getTrustSignals(userId, rejectionLookbackStart);
+
+    // Check for recent rejections
+    long recentRejections = signals.getRecentRejections();
     if (recentRejections > 0) {
       log.debug(
           "User {} has {} rejections in last {} days, not eligible for promotion",
           userId,
           recentRejections,
           REJECTION_LOOKBACK_DAYS);
-      return false;
+      return true;
     }
 
     // Check for active abuse reports
-    int activeReports = abuseReportRepository.countActiveReportsAgainst(userId);
+    long activeReports = signals.getActiveReports();
     if (activeReports > 0) {
       log.debug(
           "User {} has {} active abuse reports, not eligible for promotion", userId, activeReports);
-      return false;
+      return true;
     }
 
-    // All criteria met - promote the user
-    log.info("User {} meets all promotion criteria, promoting from NEW to TRUSTED", userId);
-    userServiceClient.updateTrustTier(userId, TRUSTED_TIER, AUTO_PROMOTION_REASON);
-    return true;
+    return false;
   }
 }
@@ -0,0 +1,241 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.domain.JobCheckpoint;
+import com.accountabilityatlas.moderationservice.repository.JobCheckpointRepository;
+import com.accountabilityatlas.moderationservice.repository.SubmitterStatsRepository;
+import com.accountabilityatlas.moderationservice.repository.SubmitterTrustTierRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Periodically re-evaluates trust tiers for submitters whose counters put them near a promotion or
+ * demotion threshold.
+ *
+ * <p>Event-driven evaluation only runs when a submitter's own items are decided, so submitters
+ * whose signals change without a new decision (rejections ageing out of the lookback window,
+ * reports being dismissed) would otherwise never be re-checked. Candidates are selected in SQL from
+ * {@code submitter_stats}, {@code submitter_daily_rejections} and the last observed tier in {@code
+ * submitter_trust_tiers}, then fetched from user-service one batch request per chunk. The final
+ * decision is made by {@link TrustPromotionService} and {@link TrustDemotionService} against the
+ * fetched profile.
+ *
+ * <p>Like {@link VideoStatusReconciler} the sweep is throttled by a shared {@link RateLimiter},
+ * runs tier changes on a small fixed pool, and checkpoints its keyset cursor after every chunk. A
+ * Postgres session advisory lock ensures only one node sweeps at a time.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(
+    prefix = "app.trust-sweep",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class TrustSweep {
+
+  static final String JOB_NAME = "trust-sweep";
+
+  /** Arbitrary application-wide key for the sweep advisory lock. */
+  static final long SWEEP_LOCK_KEY = 0x5472757374537770L;
+
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  private final SubmitterStatsRepository submitterStatsRepository;
+  private final SubmitterTrustTierRepository submitterTrustTierRepository;
+  private final JobCheckpointRepository jobCheckpointRepository;
+  private final UserSummaryCache userSummaryCache;
+  private final TrustPromotionService trustPromotionService;
+  private final TrustDemotionService trustDemotionService;
+  private final DataSource dataSource;
+  private final RateLimiter rateLimiter;
+  private final ExecutorService evaluationExecutor;
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final int chunkSize;
+  private final int maxChunksPerRun;
+  private final Counter checkedCounter;
+  private final Counter promotedCounter;
+  private final Counter demotedCounter;
+
+  public TrustSweep(
+      SubmitterStatsRepository submitterStatsRepository,
+      SubmitterTrustTierRepository submitterTrustTierRepository,
+      JobCheckpointRepository jobCheckpointRepository,
+      UserSummaryCache userSummaryCache,
+      TrustPromotionService trustPromotionService,
+      TrustDemotionService trustDemotionService,
+      DataSource dataSource,
+      MeterRegistry meterRegistry,
+      @Value("${app.trust-sweep.chunk-size:100}") int chunkSize,
+      @Value("${app.trust-sweep.max-chunks-per-run:100}") int maxChunksPerRun,
+      @Value("${app.trust-sweep.max-concurrency:2}") int maxConcurrency,
+      @Value("${app.trust-sweep.requests-per-second:5}") double requestsPerSecond) {
+    this.submitterStatsRepository = submitterStatsRepository;
+    this.submitterTrustTierRepository = submitterTrustTierRepository;
+    this.jobCheckpointRepository = jobCheckpointRepository;
+    this.userSummaryCache = userSummaryCache;
+    this.trustPromotionService = trustPromotionService;
+    this.trustDemotionService = trustDemotionService;
+    this.dataSource = dataSource;
+    this.chunkSize = chunkSize;
+    this.maxChunksPerRun = maxChunksPerRun;
+    this.rateLimiter = new RateLimiter(requestsPerSecond);
+    this.evaluationExecutor = Executors.newFixedThreadPool(maxConcurrency);
+    this.checkedCounter = meterRegistry.counter("moderation.trust-sweep.checked");
+    this.promotedCounter = meterRegistry.counter("moderation.trust-sweep.promoted");
+    this.demotedCounter = meterRegistry.counter("moderation.trust-sweep.demoted");
+  }
+
+  /** Scheduled entry point. Skipped if this node or another node is already sweeping. */
+  @Scheduled(cron = "${app.trust-sweep.cron:0 0 4 * * *}", zone = "UTC")
+  public void sweep() {
+    if (!running.compareAndSet(false, true)) {
+      log.debug("Trust sweep already running, skipping");
+      return;
+    }
+    // The lock is held on its own connection for the whole run, so it survives the many short
+    // transactions the sweep makes and is released even if the node dies mid-run.
+    try (Connection lockConnection = dataSource.getConnection()) {
+      if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)")) {
+        log.info("Trust sweep already running on another node, skipping");
+        return;
+      }
+      try {
+        runChunks();
+      } finally {
+        advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Trust sweep interrupted");
+    } catch (Exception e) {
+      log.error("Trust sweep failed: {}", e.getMessage(), e);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * Processes up to {@code maxChunksPerRun} chunks of candidates starting at the saved checkpoint.
+   *
+   * @return the number of tier changes made
+   */
+  int runChunks() throws InterruptedException {
+    JobCheckpoint checkpoint =
+        jobCheckpointRepository.findById(JOB_NAME).orElseGet(() -> new JobCheckpoint(JOB_NAME));
+    UUID cursorId = checkpoint.getCursorId() != null ? checkpoint.getCursorId() : MIN_UUID;
+    LocalDate sinceDay =
+        LocalDate.ofInstant(
+            Instant.now().minus(TrustDemotionService.REJECTION_LOOKBACK_DAYS, ChronoUnit.DAYS),
+            ZoneOffset.UTC);
+
+    int changed = 0;
+    for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+      List<UUID> candidates =
+          submitterStatsRepository.findTrustSweepCandidates(
+              cursorId,
+              sinceDay,
+              TrustPromotionService.MINIMUM_APPROVED_SUBMISSIONS,
+              TrustDemotionService.DEMOTION_REPORT_THRESHOLD,
+              TrustDemotionService.DEMOTION_REJECTION_THRESHOLD,
+              chunkSize);
+      if (!candidates.isEmpty()) {
+        changed += evaluateChunk(candidates);
+        cursorId = candidates.get(candidates.size() - 1);
+        checkpoint.setCursorId(cursorId);
+        checkpoint = jobCheckpointRepository.save(checkpoint);
+      }
+      if (candidates.size() < chunkSize) {
+        log.info("Trust sweep pass complete ({} tier changes this run)", changed);
+        jobCheckpointRepository.deleteById(JOB_NAME);
+        return changed;
+      }
+    }
+    log.info("Trust sweep paused at {} ({} tier changes this run)", cursorId, changed);
+    return changed;
+  }
+
+  private int evaluateChunk(List<UUID> candidates) throws InterruptedException {
+    rateLimiter.acquire();
+    Map<UUID, UserSummary> users = userSummaryCache.getUsers(candidates);
+    checkedCounter.increment(users.size());
+
+    List<Callable<Boolean>> evaluations = new ArrayList<>();
+    for (UserSummary user : users.values()) {
+      submitterTrustTierRepository.recordTier(user.id(), user.trustTier());
+      if (TrustPromotionService.NEW_TIER.equals(user.trustTier())) {
+        evaluations.add(() -> evaluate(user, true));
+      } else if (TrustDemotionService.TRUSTED_TIER.equals(user.trustTier())) {
+        evaluations.add(() -> evaluate(user, false));
+      }
+    }
+    if (evaluations.isEmpty()) {
+      return 0;
+    }
+
+    int changed = 0;
+    for (Future<Boolean> result : evaluationExecutor.invokeAll(evaluations)) {
+      try {
+        if (Boolean.TRUE.equals(result.get())) {
+          changed++;
+        }
+      } catch (ExecutionException e) {
+        log.error("Trust sweep evaluation failed: {}", e.getCause().getMessage());
+      }
+    }
+    return changed;
+  }
+
+  private boolean evaluate(UserSummary user, boolean promotion) throws InterruptedException {
+    rateLimiter.acquire();
+    if (promotion) {
+      if (trustPromotionService.promoteIfEligible(user)) {
+        promotedCounter.increment();
+        return true;
+      }
+    } else if (trustDemotionService.demoteIfEligible(user)) {
+      demotedCounter.increment();
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, SWEEP_LOCK_KEY);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    evaluationExecutor.shutdownNow();
+  }
+}
@@ -0,0 +1,125 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import java.util.UUID;
+
+/**
+ * Insert-only open-addressing hash set of UUIDs stored as pairs of primitive longs.
+ *
+ * <p>Each slot is two adjacent entries of one {@code long[]}, so the set costs 16 bytes per slot
+ * with no per-element objects. The table is kept at most half full and sized to a power of two, so
+ * one million entries occupy 2<sup>21</sup> slots = 32 MiB; a boxed {@code HashSet<UUID>} needs
+ * roughly 80 MB for the same. The nil UUID marks an empty slot and is tracked separately.
+ *
+ * <p>Not thread-safe; callers synchronize.
+ */
+final class UuidHashSet {
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] slots;
+  private int mask;
+  private int size;
+  private boolean containsNil;
+
+  UuidHashSet(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < (long) expectedSize * 2) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  boolean add(UUID uuid) {
+    long msb = uuid.getMostSignificantBits();
+    long lsb = uuid.getLeastSignificantBits();
+    if (msb == 0L && lsb == 0L) {
+      boolean added = !containsNil;
+      containsNil = true;
+      return added;
+    }
+    if (insert(slots, mask, msb, lsb)) {
+      size++;
+      if ((long) size * 2 > mask + 1) {
+        resize();
+      }
+      return true;
+    }
+    return false;
+  }
+
+  void addAll(UuidHashSet other) {
+    if (other.containsNil) {
+      containsNil = true;
+    }
+    for (int i = 0; i < other.slots.length; i += 2) {
+      long msb = other.slots[i];
+      long lsb = other.slots[i + 1];
+      if (msb != 0L || lsb != 0L) {
+        add(new UUID(msb, lsb));
+      }
+    }
+  }
+
+  boolean contains(UUID uuid) {
+    long msb = uuid.getMostSignificantBits();
+    long lsb = uuid.getLeastSignificantBits();
+    if (msb == 0L && lsb == 0L) {
+      return containsNil;
+    }
+    for (int slot = slotFor(msb, lsb, mask); ; slot = (slot + 1) & mask) {
+      long slotMsb = slots[slot * 2];
+      long slotLsb = slots[slot * 2 + 1];
+      if (slotMsb == msb && slotLsb == lsb) {
+        return true;
+      }
+      if (slotMsb == 0L && slotLsb == 0L) {
+        return false;
+      }
+    }
+  }
+
+  int size() {
+    return size + (containsNil ? 1 : 0);
+  }
+
+  /** Approximate heap used by the slot array, in bytes. */
+  long memoryBytes() {
+    return (long) slots.length * Long.BYTES;
+  }
+
+  private void resize() {
+    long[] old = slots;
+    allocate((mask + 1) * 2);
+    for (int i = 0; i < old.length; i += 2) {
+      if (old[i] != 0L || old[i + 1] != 0L) {
+        insert(slots, mask, old[i], old[i + 1]);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    slots = new long[capacity * 2];
+    mask = capacity - 1;
+  }
+
+  private static boolean insert(long[] slots, int mask, long msb, long lsb) {
+    for (int slot = slotFor(msb, lsb, mask); ; slot = (slot + 1) & mask) {
+      long slotMsb = slots[slot * 2];
+      long slotLsb = slots[slot * 2 + 1];
+      if (slotMsb == msb && slotLsb == lsb) {
+        return false;
+      }
+      if (slotMsb == 0L && slotLsb == 0L) {
+        slots[slot * 2] = msb;
+        slots[slot * 2 + 1] = lsb;
+        return true;
+      }
+    }
+  }
+
+  private static int slotFor(long msb, long lsb, int mask) {
+    // Random UUIDs are already well mixed; the multiply spreads any structured ones
+    long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & mask;
+  }
+}
@@ -0,0 +1,263 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import com.accountabilityatlas.moderationservice.client.VideoServiceClient;
+import com.accountabilityatlas.moderationservice.domain.JobCheckpoint;
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.repository.JobCheckpointRepository;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Detects and repairs drift between {@code moderation_items.status} and video-service's view of
+ * each video.
+ *
+ * <p>Drift happens when the video-service call made after an approval or rejection fails (e.g.
+ * during an outage): the moderation decision is committed but the video keeps its old status. This
+ * job walks recently reviewed items in {@code (reviewed_at, id)} keyset order, compares them with
+ * video-service in batches, and pushes corrective status updates.
+ *
+ * <p>The job is deliberately slow: every video-service call goes through a shared {@link
+ * RateLimiter}, corrections run on a small fixed pool, and each run processes a bounded number of
+ * chunks. The keyset cursor is checkpointed after every chunk so a restart resumes mid-pass. As in
+ * {@link TrustSweep}, a Postgres session advisory lock ensures only one node reconciles at a time.
+ *
+ * <p>The batch comparison needs video-service's {@code POST /internal/videos/statuses}, so the job
+ * only runs with {@code app.video-service.batch-statuses-enabled} set.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(
+    prefix = "app",
+    name = {"reconciliation.enabled", "video-service.batch-statuses-enabled"},
+    havingValue = "true")
+public class VideoStatusReconciler {
+
+  static final String JOB_NAME = "video-status-reconciliation";
+
+  /** Arbitrary application-wide key for the reconciliation advisory lock. */
+  static final long RECONCILE_LOCK_KEY = 0x5669645265636e63L;
+
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  /** Video statuses owned by the moderation workflow; anything else (e.g. REMOVED) is kept. */
+  private static final Set<String> RECONCILABLE_STATUSES =
+      Set.of("PENDING", "PENDING_REVIEW", "APPROVED", "REJECTED");
+
+  private final ModerationItemRepository moderationItemRepository;
+  private final JobCheckpointRepository jobCheckpointRepository;
+  private final VideoServiceClient videoServiceClient;
+  private final DataSource dataSource;
+  private final RateLimiter rateLimiter;
+  private final ExecutorService correctionExecutor;
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final Duration lookback;
+  private final Duration settleDelay;
+  private final int chunkSize;
+  private final int maxChunksPerRun;
+  private final Counter checkedCounter;
+  private final Counter driftCounter;
+  private final Counter correctedCounter;
+
+  public VideoStatusReconciler(
+      ModerationItemRepository moderationItemRepository,
+      JobCheckpointRepository jobCheckpointRepository,
+      VideoServiceClient videoServiceClient,
+      DataSource dataSource,
+      MeterRegistry meterRegistry,
+      @Value("${app.reconciliation.lookback:P7D}") Duration lookback,
+      @Value("${app.reconciliation.settle-delay:PT10M}") Duration settleDelay,
+      @Value("${app.reconciliation.chunk-size:100}") int chunkSize,
+      @Value("${app.reconciliation.max-chunks-per-run:50}") int maxChunksPerRun,
+      @Value("${app.reconciliation.max-concurrency:2}") int maxConcurrency,
+      @Value("${app.reconciliation.requests-per-second:5}") double requestsPerSecond) {
+    this.moderationItemRepository = moderationItemRepository;
+    this.jobCheckpointRepository = jobCheckpointRepository;
+    this.videoServiceClient = videoServiceClient;
+    this.dataSource = dataSource;
+    this.lookback = lookback;
+    this.settleDelay = settleDelay;
+    this.chunkSize = chunkSize;
+    this.maxChunksPerRun = maxChunksPerRun;
+    this.rateLimiter = new RateLimiter(requestsPerSecond);
+    this.correctionExecutor = Executors.newFixedThreadPool(maxConcurrency);
+    this.checkedCounter = meterRegistry.counter("moderation.reconciliation.checked");
+    this.driftCounter = meterRegistry.counter("moderation.reconciliation.drift");
+    this.correctedCounter = meterRegistry.counter("moderation.reconciliation.corrected");
+  }
+
+  /** Scheduled entry point. Skipped if this node or another node is already reconciling. */
+  @Scheduled(
+      fixedDelayString = "${app.reconciliation.interval:PT15M}",
+      initialDelayString = "${app.reconciliation.initial-delay:PT2M}")
+  public void reconcile() {
+    if (!running.compareAndSet(false, true)) {
+      log.debug("Video status reconciliation already running, skipping");
+      return;
+    }
+    // Held on its own connection for the whole run, like the trust sweep's lock, so every node
+    // does not walk the same keyset and race on the shared checkpoint row
+    try (Connection lockConnection = dataSource.getConnection()) {
+      if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)")) {
+        log.info("Video status reconciliation already running on another node, skipping");
+        return;
+      }
+      try {
+        runChunks();
+      } finally {
+        advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Video status reconciliation interrupted");
+    } catch (Exception e) {
+      log.error("Video status reconciliation failed: {}", e.getMessage(), e);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * Processes up to {@code maxChunksPerRun} chunks starting at the saved checkpoint.
+   *
+   * @return the number of corrected videos
+   */
+  int runChunks() throws InterruptedException {
+    Instant now = Instant.now();
+    Instant until = now.minus(settleDelay);
+    JobCheckpoint checkpoint =
+        jobCheckpointRepository.findById(JOB_NAME).orElseGet(() -> new JobCheckpoint(JOB_NAME));
+
+    Instant windowStart = now.minus(lookback);
+    Instant cursorTimestamp = checkpoint.getCursorTimestamp();
+    UUID cursorId = checkpoint.getCursorId();
+    if (cursorTimestamp == null || cursorId == null || cursorTimestamp.isBefore(windowStart)) {
+      cursorTimestamp = windowStart;
+      cursorId = MIN_UUID;
+    }
+
+    int corrected = 0;
+    for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+      List<ModerationItem> items =
+          moderationItemRepository.findReviewedVideosAfter(
+              cursorTimestamp, cursorId, until, chunkSize);
+      if (!items.isEmpty()) {
+        corrected += reconcileChunk(items);
+        ModerationItem last = items.get(items.size() - 1);
+        cursorTimestamp = last.getReviewedAt();
+        cursorId = last.getId();
+        checkpoint.setCursorTimestamp(cursorTimestamp);
+        checkpoint.setCursorId(cursorId);
+        checkpoint = jobCheckpointRepository.save(checkpoint);
+      }
+      if (items.size() < chunkSize) {
+        // Pass complete; the next run starts a fresh pass over the lookback window
+        log.info("Video status reconciliation pass complete ({} corrected this run)", corrected);
+        jobCheckpointRepository.deleteById(JOB_NAME);
+        return corrected;
+      }
+    }
+    log.info(
+        "Video status reconciliation paused at ({}, {}) ({} corrected this run)",
+        cursorTimestamp,
+        cursorId,
+        corrected);
+    return corrected;
+  }
+
+  private int reconcileChunk(List<ModerationItem> items) throws InterruptedException {
+    List<UUID> videoIds = items.stream().map(ModerationItem::getContentId).distinct().toList();
+    rateLimiter.acquire();
+    Map<UUID, String> actualStatuses = videoServiceClient.getVideoStatuses(videoIds);
+    checkedCounter.increment(items.size());
+
+    List<Callable<Boolean>> corrections = new ArrayList<>();
+    for (ModerationItem item : items) {
+      String expected = item.getStatus().name();
+      String actual = actualStatuses.get(item.getContentId());
+      if (actual == null || expected.equals(actual)) {
+        continue;
+      }
+      if (!RECONCILABLE_STATUSES.contains(actual)) {
+        log.debug(
+            "Video {} has status {} outside the moderation workflow, not reconciling",
+            item.getContentId(),
+            actual);
+        continue;
+      }
+      driftCounter.increment();
+      log.warn(
+          "Video {} status drift: moderation item {} is {} but video-service reports {}",
+          item.getContentId(),
+          item.getId(),
+          expected,
+          actual);
+      corrections.add(() -> correct(item.getContentId(), expected));
+    }
+    if (corrections.isEmpty()) {
+      return 0;
+    }
+
+    int corrected = 0;
+    for (Future<Boolean> result : correctionExecutor.invokeAll(corrections)) {
+      try {
+        if (Boolean.TRUE.equals(result.get())) {
+          corrected++;
+        }
+      } catch (ExecutionException e) {
+        log.error("Video status correction failed: {}", e.getCause().getMessage());
+      }
+    }
+    correctedCounter.increment(corrected);
+    return corrected;
+  }
+
+  private boolean correct(UUID videoId, String status) throws InterruptedException {
+    rateLimiter.acquire();
+    try {
+      videoServiceClient.updateVideoStatus(videoId, status);
+      return true;
+    } catch (VideoServiceClient.VideoServiceException e) {
+      log.error("Failed to correct video {} status to {}: {}", videoId, status, e.getMessage());
+      return false;
+    }
+  }
+
+  private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, RECONCILE_LOCK_KEY);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    correctionExecutor.shutdownNow();
+  }
+}
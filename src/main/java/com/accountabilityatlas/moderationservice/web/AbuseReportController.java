@@ -5,11 +5,24 @@ import com.accountabilityatlas.moderationservice.domain.AbuseReport;
 import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ReportStatus;
 import com.accountabilityatlas.moderationservice.service.AbuseReportService;
+import com.accountabilityatlas.moderationservice.service.AbuseReportService.BulkOutcome;
+import com.accountabilityatlas.moderationservice.service.AbuseReportService.ReportGroup;
+import com.accountabilityatlas.moderationservice.service.ReportCursor;
+import com.accountabilityatlas.moderationservice.service.ReportIngestService;
+import com.accountabilityatlas.moderationservice.service.ReportIngestService.SubmittedReport;
 import com.accountabilityatlas.moderationservice.web.api.ReportsApi;
 import com.accountabilityatlas.moderationservice.web.model.AbuseReportDetail;
 import com.accountabilityatlas.moderationservice.web.model.AbuseReportListResponse;
+import com.accountabilityatlas.moderationservice.web.model.BulkDismissReportsRequest;
+import com.accountabilityatlas.moderationservice.web.model.BulkReportActionResponse;
+import com.accountabilityatlas.moderationservice.web.model.BulkReportResult;
+import com.accountabilityatlas.moderationservice.web.model.BulkResolveReportsRequest;
 import com.accountabilityatlas.moderationservice.web.model.CreateAbuseReportRequest;
+import com.accountabilityatlas.moderationservice.web.model.DismissContentReportsResponse;
 import com.accountabilityatlas.moderationservice.web.model.DismissReportRequest;
+import com.accountabilityatlas.moderationservice.web.model.ReasonCount;
+import com.accountabilityatlas.moderationservice.web.model.ReportGroupListResponse;
+import com.accountabilityatlas.moderationservice.web.model.ResolveContentReportsResponse;
 import com.accountabilityatlas.moderationservice.web.model.ResolveReportRequest;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -17,8 +30,6 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
@@ -31,50 +42,133 @@ import org.springframework.web.bind.annotation.RestController;
 public class AbuseReportController implements ReportsApi {
 
   private final AbuseReportService abuseReportService;
+  private final ReportIngestService reportIngestService;
 
   @Override
   public ResponseEntity<com.accountabilityatlas.moderationservice.web.model.AbuseReport>
       submitAbuseReport(CreateAbuseReportRequest createAbuseReportRequest) {
     UUID reporterId = getCurrentUserId();
 
-    AbuseReport report =
-        abuseReportService.submitReport(
+    SubmittedReport submitted =
+        reportIngestService.submit(
             toDomainContentType(createAbuseReportRequest.getContentType()),
             createAbuseReportRequest.getContentId(),
             reporterId,
             toDomainAbuseReason(createAbuseReportRequest.getReason()),
             createAbuseReportRequest.getDescription());
 
-    return ResponseEntity.status(HttpStatus.CREATED).body(toApiAbuseReport(report));
+    return ResponseEntity.status(submitted.queued() ? HttpStatus.ACCEPTED : HttpStatus.CREATED)
+        .body(toApiAbuseReport(submitted.report()));
   }
 
   @Override
   public ResponseEntity<AbuseReportListResponse> listAbuseReports(
       @Nullable com.accountabilityatlas.moderationservice.web.model.ReportStatus status,
       @Nullable com.accountabilityatlas.moderationservice.web.model.ContentType contentType,
+      @Nullable com.accountabilityatlas.moderationservice.web.model.AbuseReason reason,
       Integer page,
-      Integer size) {
+      Integer size,
+      @Nullable String cursor) {
 
     ReportStatus domainStatus = status != null ? toDomainReportStatus(status) : ReportStatus.OPEN;
-    Pageable pageable = PageRequest.of(page, size);
+    ContentType domainContentType = contentType != null ? toDomainContentType(contentType) : null;
+    AbuseReason domainReason = reason != null ? toDomainAbuseReason(reason) : null;
+
+    AbuseReportListResponse response;
+    List<AbuseReport> reports;
+    if (cursor != null) {
+      reports =
+          abuseReportService.listReportsAfter(
+              domainStatus, domainContentType, domainReason, ReportCursor.decode(cursor), size);
+      response = new AbuseReportListResponse().page(0).size(size);
+    } else {
+      Page<AbuseReport> reportPage =
+          abuseReportService.listReports(domainStatus, domainContentType, domainReason, page, size);
+      reports = reportPage.getContent();
+      response =
+          new AbuseReportListResponse()
+              .page(reportPage.getNumber())
+              .size(reportPage.getSize())
+              .totalElements((int) reportPage.getTotalElements())
+              .totalPages(reportPage.getTotalPages());
+    }
+
+    response.content(reports.stream().map(this::toApiAbuseReport).toList());
+    if (reports.size() == size) {
+      response.nextCursor(ReportCursor.of(reports.get(reports.size() - 1)).encode());
+    }
+    return ResponseEntity.ok(response);
+  }
+
+  @Override
+  public ResponseEntity<ReportGroupListResponse> listAbuseReportsByContent(
+      @Nullable com.accountabilityatlas.moderationservice.web.model.ReportStatus status,
+      @Nullable com.accountabilityatlas.moderationservice.web.model.ContentType contentType,
+      Integer page,
+      Integer size) {
 
-    // Note: contentType filtering not currently supported by service layer
-    Page<AbuseReport> reportPage = abuseReportService.listReports(domainStatus, pageable);
+    ReportStatus domainStatus = status != null ? toDomainReportStatus(status) : ReportStatus.OPEN;
+    ContentType domainContentType = contentType != null ? toDomainContentType(contentType) : null;
 
-    List<com.accountabilityatlas.moderationservice.web.model.AbuseReport> reports =
-        reportPage.getContent().stream().map(this::toApiAbuseReport).toList();
+    Page<ReportGroup> groupPage =
+        abuseReportService.listReportGroups(domainStatus, domainContentType, page, size);
 
-    AbuseReportListResponse response =
-        new AbuseReportListResponse()
-            .content(reports)
-            .page(reportPage.getNumber())
-            .size(reportPage.getSize())
-            .totalElements((int) reportPage.getTotalElements())
-            .totalPages(reportPage.getTotalPages());
+    ReportGroupListResponse response =
+        new ReportGroupListResponse()
+            .content(groupPage.getContent().stream().map(this::toApiReportGroup).toList())
+            .page(groupPage.getNumber())
+            .size(groupPage.getSize())
+            .totalElements((int) groupPage.getTotalElements())
+            .totalPages(groupPage.getTotalPages());
 
     return ResponseEntity.ok(response);
   }
 
+  @Override
+  public ResponseEntity<ResolveContentReportsResponse> resolveAbuseReportsForContent(
+      UUID contentId, ResolveReportRequest resolveReportRequest) {
+    UUID moderatorId = getCurrentUserId();
+    List<UUID> resolved =
+        abuseReportService.resolveAllForContent(
+            contentId, moderatorId, resolveReportRequest.getResolution());
+    return ResponseEntity.ok(
+        new ResolveContentReportsResponse()
+            .contentId(contentId)
+            .resolvedCount(resolved.size())
+            .reportIds(resolved));
+  }
+
+  @Override
+  public ResponseEntity<DismissContentReportsResponse> dismissAbuseReportsForContent(
+      UUID contentId, @Nullable DismissReportRequest dismissReportRequest) {
+    UUID moderatorId = getCurrentUserId();
+    String reason = dismissReportRequest != null ? dismissReportRequest.getReason() : null;
+    List<UUID> dismissed = abuseReportService.dismissAllForContent(contentId, moderatorId, reason);
+    return ResponseEntity.ok(
+        new DismissContentReportsResponse()
+            .contentId(contentId)
+            .dismissedCount(dismissed.size())
+            .reportIds(dismissed));
+  }
+
+  @Override
+  public ResponseEntity<BulkReportActionResponse> bulkResolveAbuseReports(
+      BulkResolveReportsRequest request) {
+    UUID moderatorId = getCurrentUserId();
+    List<BulkOutcome> outcomes =
+        abuseReportService.resolveAll(request.getReportIds(), moderatorId, request.getResolution());
+    return ResponseEntity.ok(toBulkResponse(outcomes));
+  }
+
+  @Override
+  public ResponseEntity<BulkReportActionResponse> bulkDismissAbuseReports(
+      BulkDismissReportsRequest request) {
+    UUID moderatorId = getCurrentUserId();
+    List<BulkOutcome> outcomes =
+        abuseReportService.dismissAll(request.getReportIds(), moderatorId, request.getReason());
+    return ResponseEntity.ok(toBulkResponse(outcomes));
+  }
+
   @Override
   public ResponseEntity<AbuseReportDetail> getAbuseReport(UUID id) {
     AbuseReport report = abuseReportService.getReport(id);
@@ -99,6 +193,20 @@ public class AbuseReportController implements ReportsApi {
     return ResponseEntity.ok(toApiAbuseReportDetail(report));
   }
 
+  private static BulkReportActionResponse toBulkResponse(List<BulkOutcome> outcomes) {
+    return new BulkReportActionResponse()
+        .updatedCount(
+            (int) outcomes.stream().filter(o -> o.result() == BulkOutcome.Result.UPDATED).count())
+        .results(
+            outcomes.stream()
+                .map(
+                    o ->
+                        new BulkReportResult()
+                            .reportId(o.reportId())
+                            .outcome(BulkReportResult.OutcomeEnum.valueOf(o.result().name())))
+                .toList());
+  }
+
   private UUID getCurrentUserId() {
     Jwt jwt = (Jwt) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     String subject = jwt.getSubject();
@@ -194,6 +302,26 @@ public class AbuseReportController implements ReportsApi {
     // by enriching with data from user-service and video-service
   }
 
+  private com.accountabilityatlas.moderationservice.web.model.ReportGroup toApiReportGroup(
+      ReportGroup group) {
+    List<ReasonCount> reasonCounts =
+        group.reasonCounts().entrySet().stream()
+            .map(
+                e ->
+                    new ReasonCount()
+                        .reason(toApiAbuseReason(e.getKey()))
+                        .count(e.getValue().intValue()))
+            .toList();
+    return new com.accountabilityatlas.moderationservice.web.model.ReportGroup()
+        .contentType(toApiContentType(group.contentType()))
+        .contentId(group.contentId())
+        .reportCount((int) group.reportCount())
+        .reasonCounts(reasonCounts)
+        .firstReportedAt(toOffsetDateTime(group.firstReportedAt()))
+        .lastReportedAt(toOffsetDateTime(group.lastReportedAt()))
+        .reportIds(group.reportIds());
+  }
+
   @Nullable
   private OffsetDateTime toOffsetDateTime(@Nullable java.time.Instant instant) {
     if (instant == null) {
@@ -0,0 +1,256 @@
+package com.accountabilityatlas.moderationservice.web;
+
+import com.accountabilityatlas.moderationservice.exception.GlobalExceptionHandler.ErrorResponse;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService.Claim;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Answers retried writes that carry an {@code Idempotency-Key} header from the stored response
+ * instead of running them again.
+ *
+ * <p>Runs after Spring Security, so keys are scoped to the authenticated caller. The key is claimed
+ * before the request reaches the controller; the response is stored if it is a final outcome
+ * (anything but 5xx and 429) and the claim is released otherwise, so a retry after a server error
+ * runs the request again. A key reused with a different method, path or body is refused with 422,
+ * and a retry that arrives while the first request is still running gets 409.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+  public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private static final List<PathPattern> IDEMPOTENT_PATHS =
+      List.of(
+          PathPatternParser.defaultInstance.parse("/moderation/queue/{id}/approve"),
+          PathPatternParser.defaultInstance.parse("/moderation/queue/{id}/reject"),
+          PathPatternParser.defaultInstance.parse("/moderation/queue/batch/approve"),
+          PathPatternParser.defaultInstance.parse("/moderation/queue/batch/reject"),
+          PathPatternParser.defaultInstance.parse("/moderation/reports"),
+          PathPatternParser.defaultInstance.parse("/moderation/reports/{id}/resolve"),
+          PathPatternParser.defaultInstance.parse("/moderation/reports/{id}/dismiss"));
+
+  private final IdempotencyService idempotencyService;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+
+  public IdempotencyFilter(
+      IdempotencyService idempotencyService,
+      ObjectMapper objectMapper,
+      @Value("${app.idempotency.enabled:true}") boolean enabled) {
+    this.idempotencyService = idempotencyService;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!enabled
+        || !HttpMethod.POST.matches(request.getMethod())
+        || request.getHeader(IDEMPOTENCY_KEY) == null) {
+      return true;
+    }
+    PathContainer path = PathContainer.parsePath(request.getRequestURI());
+    return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pattern.matches(path));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    String key = request.getHeader(IDEMPOTENCY_KEY);
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      writeError(
+          response,
+          HttpStatus.BAD_REQUEST,
+          "INVALID_IDEMPOTENCY_KEY",
+          "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+      return;
+    }
+    String callerId = authentication.getName();
+    byte[] body = request.getInputStream().readAllBytes();
+    String fingerprint = fingerprint(request, body);
+
+    Claim claim = idempotencyService.claim(callerId, key, fingerprint);
+    switch (claim.result()) {
+      case REPLAY -> replay(response, claim.response());
+      case IN_PROGRESS -> {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        writeError(
+            response,
+            HttpStatus.CONFLICT,
+            "IDEMPOTENCY_KEY_IN_USE",
+            "A request with this Idempotency-Key is still being processed");
+      }
+      case MISMATCH ->
+          writeError(
+              response,
+              HttpStatus.UNPROCESSABLE_ENTITY,
+              "IDEMPOTENCY_KEY_REUSED",
+              "This Idempotency-Key was already used for a different request");
+      case ACQUIRED -> run(request, response, filterChain, body, callerId, key, fingerprint);
+    }
+  }
+
+  private void run(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain,
+      byte[] body,
+      String callerId,
+      String key,
+      String fingerprint)
+      throws ServletException, IOException {
+    ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+    try {
+      filterChain.doFilter(new CachedBodyRequest(request, body), captured);
+    } catch (ServletException | IOException | RuntimeException e) {
+      idempotencyService.release(callerId, key, fingerprint);
+      throw e;
+    }
+    int status = captured.getStatus();
+    if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+      idempotencyService.complete(
+          callerId,
+          key,
+          fingerprint,
+          new StoredResponse(
+              status,
+              captured.getContentType(),
+              new String(captured.getContentAsByteArray(), StandardCharsets.UTF_8)));
+    } else {
+      idempotencyService.release(callerId, key, fingerprint);
+    }
+    captured.copyBodyToResponse();
+  }
+
+  private static void replay(HttpServletResponse response, StoredResponse stored)
+      throws IOException {
+    response.setStatus(stored.status());
+    if (stored.contentType() != null) {
+      response.setContentType(stored.contentType());
+    }
+    response.setHeader(IDEMPOTENT_REPLAYED, "true");
+    byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private void writeError(HttpServletResponse response, HttpStatus status, String code, String msg)
+      throws IOException {
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        new ErrorResponse(code, msg, null, UUID.randomUUID().toString()));
+  }
+
+  private static String fingerprint(HttpServletRequest request, byte[] body) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is a required JDK algorithm", e);
+    }
+    String target = request.getMethod() + ' ' + request.getRequestURI() + '\n';
+    digest.update(target.getBytes(StandardCharsets.UTF_8));
+    digest.update(body);
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /** Replays a body that was already read to fingerprint it. */
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream in = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return in.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+          throw new UnsupportedOperationException("Async reads are not supported");
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getContentLength() {
+      return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return body.length;
+    }
+  }
+}
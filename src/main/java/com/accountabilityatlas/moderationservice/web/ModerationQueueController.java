@@ -6,30 +6,47 @@ import com.accountabilityatlas.moderationservice.domain.ModerationItem;
 import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
 import com.accountabilityatlas.moderationservice.exception.StatusNotAllowedException;
 import com.accountabilityatlas.moderationservice.service.ModerationService;
+import com.accountabilityatlas.moderationservice.service.ModerationService.BatchOutcome;
 import com.accountabilityatlas.moderationservice.service.ModerationService.QueueStats;
+import com.accountabilityatlas.moderationservice.service.ModerationService.VersionedItem;
+import com.accountabilityatlas.moderationservice.service.QueueAssignmentService;
 import com.accountabilityatlas.moderationservice.web.api.QueueApi;
 import com.accountabilityatlas.moderationservice.web.model.AddLocationRequest;
 import com.accountabilityatlas.moderationservice.web.model.ApproveRequest;
+import com.accountabilityatlas.moderationservice.web.model.BatchApproveRequest;
+import com.accountabilityatlas.moderationservice.web.model.BatchContentLookupRequest;
+import com.accountabilityatlas.moderationservice.web.model.BatchContentLookupResponse;
+import com.accountabilityatlas.moderationservice.web.model.BatchRejectRequest;
+import com.accountabilityatlas.moderationservice.web.model.BatchReviewResponse;
+import com.accountabilityatlas.moderationservice.web.model.BatchReviewResult;
 import com.accountabilityatlas.moderationservice.web.model.ModerationItemDetail;
 import com.accountabilityatlas.moderationservice.web.model.ModerationQueueResponse;
 import com.accountabilityatlas.moderationservice.web.model.QueueStatsResponse;
 import com.accountabilityatlas.moderationservice.web.model.RejectRequest;
 import com.accountabilityatlas.moderationservice.web.model.UpdateVideoRequest;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -38,6 +55,7 @@ public class ModerationQueueController implements QueueApi {
 
   private final ModerationService moderationService;
   private final VideoServiceClient videoServiceClient;
+  private final QueueAssignmentService queueAssignmentService;
 
   @Override
   public ResponseEntity<ModerationQueueResponse> listModerationQueue(
@@ -46,7 +64,9 @@ public class ModerationQueueController implements QueueApi {
       String sortBy,
       String direction,
       Integer page,
-      Integer size) {
+      Integer size,
+      String assignee,
+      @Nullable String ifNoneMatch) {
 
     ModerationStatus domainStatus =
         status != null ? toDomainStatus(status) : ModerationStatus.PENDING;
@@ -55,23 +75,52 @@ public class ModerationQueueController implements QueueApi {
     Sort.Direction sortDirection =
         "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
     Sort sort = Sort.by(sortDirection, sortBy);
+    if (!"createdAt".equals(sortBy)) {
+      // Oldest first within a priority, matching the (status, priority, created_at) indexes
+      sort = sort.and(Sort.by(Sort.Direction.ASC, "createdAt"));
+    }
     Pageable pageable = PageRequest.of(page, size, sort);
 
-    Page<ModerationItem> queuePage =
-        moderationService.getQueue(domainStatus, domainContentType, pageable);
-
-    List<com.accountabilityatlas.moderationservice.web.model.ModerationItem> items =
-        queuePage.getContent().stream().map(this::toApiModerationItem).toList();
-
-    ModerationQueueResponse response =
-        new ModerationQueueResponse()
-            .content(items)
-            .page(queuePage.getNumber())
-            .size(queuePage.getSize())
-            .totalElements((int) queuePage.getTotalElements())
-            .totalPages(queuePage.getTotalPages());
-
-    return ResponseEntity.ok(response);
+    UUID moderatorId = queueAssignmentService.isEnabled() ? getCurrentUserId() : null;
+    if (moderatorId != null) {
+      queueAssignmentService.recordActivity(moderatorId);
+    }
+    boolean ownShard =
+        moderatorId != null
+            && domainStatus == ModerationStatus.PENDING
+            && !"all".equals(assignee)
+            && queueAssignmentService.hasShard(moderatorId);
+
+    // Pages of one status only change when its counter does, but each page, page size, order
+    // and content type is a different answer, and the shard view also depends on who is asking.
+    // The counter and the page are read from one snapshot.
+    String query = fingerprint(domainContentType, pageable) + (ownShard ? "-" + moderatorId : "");
+    return moderationService.readSnapshot(
+        () -> {
+          long changeSeq = moderationService.getQueueChangeSeqs().getOrDefault(domainStatus, 0L);
+          ETag etag = new ETag("queue-" + domainStatus + "-" + changeSeq + "-" + query, false);
+          if (isNotModified(ifNoneMatch, etag)) {
+            return notModified(etag);
+          }
+
+          Page<ModerationItem> queuePage =
+              ownShard
+                  ? moderationService.getAssignedQueue(moderatorId, domainContentType, pageable)
+                  : moderationService.getQueue(domainStatus, domainContentType, pageable);
+
+          List<com.accountabilityatlas.moderationservice.web.model.ModerationItem> items =
+              queuePage.getContent().stream().map(this::toApiModerationItem).toList();
+
+          ModerationQueueResponse response =
+              new ModerationQueueResponse()
+                  .content(items)
+                  .page(queuePage.getNumber())
+                  .size(queuePage.getSize())
+                  .totalElements((int) queuePage.getTotalElements())
+                  .totalPages(queuePage.getTotalPages());
+
+          return withETag(etag, response);
+        });
   }
 
   @Override
@@ -88,9 +137,46 @@ public class ModerationQueueController implements QueueApi {
   }
 
   @Override
-  public ResponseEntity<ModerationItemDetail> getModerationItem(UUID id) {
-    ModerationItem item = moderationService.getItem(id);
-    return ResponseEntity.ok(toApiModerationItemDetail(item));
+  public ResponseEntity<BatchContentLookupResponse> batchGetModerationItemsByContentId(
+      BatchContentLookupRequest batchContentLookupRequest, @Nullable String ifNoneMatch) {
+    ModerationStatus domainStatus =
+        batchContentLookupRequest.getStatus() != null
+            ? toDomainStatus(batchContentLookupRequest.getStatus())
+            : ModerationStatus.PENDING;
+    List<UUID> contentIds = batchContentLookupRequest.getContentIds();
+
+    // The answer only changes when the status counter does, but it depends on the IDs asked for
+    return moderationService.readSnapshot(
+        () -> {
+          long changeSeq = moderationService.getQueueChangeSeqs().getOrDefault(domainStatus, 0L);
+          ETag etag =
+              new ETag(
+                  "content-" + domainStatus + "-" + changeSeq + "-" + fingerprint(contentIds),
+                  false);
+          if (isNotModified(ifNoneMatch, etag)) {
+            return notModified(etag);
+          }
+
+          Map<String, com.accountabilityatlas.moderationservice.web.model.ModerationItem> items =
+              new HashMap<>();
+          moderationService
+              .findByContentIds(contentIds, domainStatus)
+              .forEach(
+                  (contentId, item) -> items.put(contentId.toString(), toApiModerationItem(item)));
+          return withETag(etag, new BatchContentLookupResponse().items(items));
+        });
+  }
+
+  @Override
+  public ResponseEntity<ModerationItemDetail> getModerationItem(
+      UUID id, @Nullable String ifNoneMatch) {
+    // Not from the item cache: the ETag must describe exactly the body sent with it
+    VersionedItem versioned = moderationService.getVersionedItem(id);
+    ETag etag = new ETag("item-" + versioned.version(), false);
+    if (isNotModified(ifNoneMatch, etag)) {
+      return notModified(etag);
+    }
+    return withETag(etag, toApiModerationItemDetail(versioned.item()));
   }
 
   @Override
@@ -109,20 +195,47 @@ public class ModerationQueueController implements QueueApi {
   }
 
   @Override
-  public ResponseEntity<QueueStatsResponse> getQueueStats() {
-    QueueStats stats = moderationService.getQueueStats();
-
-    QueueStatsResponse response =
-        new QueueStatsResponse()
-            .pending((int) stats.pending())
-            .approvedToday((int) stats.approvedToday())
-            .rejectedToday((int) stats.rejectedToday())
-            .avgReviewTimeMinutes(
-                stats.avgReviewTimeMinutes() != null
-                    ? stats.avgReviewTimeMinutes().floatValue()
-                    : null);
-
-    return ResponseEntity.ok(response);
+  public ResponseEntity<BatchReviewResponse> batchApproveContent(
+      BatchApproveRequest batchApproveRequest) {
+    UUID reviewerId = getCurrentUserId();
+    List<BatchOutcome> outcomes =
+        moderationService.approveAll(batchApproveRequest.getItemIds(), reviewerId);
+    return ResponseEntity.ok(toBatchReviewResponse(outcomes));
+  }
+
+  @Override
+  public ResponseEntity<BatchReviewResponse> batchRejectContent(
+      BatchRejectRequest batchRejectRequest) {
+    UUID reviewerId = getCurrentUserId();
+    List<BatchOutcome> outcomes =
+        moderationService.rejectAll(
+            batchRejectRequest.getItemIds(), reviewerId, batchRejectRequest.getReason());
+    return ResponseEntity.ok(toBatchReviewResponse(outcomes));
+  }
+
+  @Override
+  public ResponseEntity<QueueStatsResponse> getQueueStats(@Nullable String ifNoneMatch) {
+    return moderationService.readSnapshot(
+        () -> {
+          ETag etag = new ETag("stats-" + moderationService.getQueueStatsVersion(), false);
+          if (isNotModified(ifNoneMatch, etag)) {
+            return notModified(etag);
+          }
+
+          QueueStats stats = moderationService.getQueueStats();
+
+          QueueStatsResponse response =
+              new QueueStatsResponse()
+                  .pending((int) stats.pending())
+                  .approvedToday((int) stats.approvedToday())
+                  .rejectedToday((int) stats.rejectedToday())
+                  .avgReviewTimeMinutes(
+                      stats.avgReviewTimeMinutes() != null
+                          ? stats.avgReviewTimeMinutes().floatValue()
+                          : null);
+
+          return withETag(etag, response);
+        });
   }
 
   @Override
@@ -204,6 +317,64 @@ public class ModerationQueueController implements QueueApi {
         .anyMatch(auth -> auth.equals("ROLE_ADMIN"));
   }
 
+  private static boolean isNotModified(@Nullable String ifNoneMatch, ETag etag) {
+    return ifNoneMatch != null
+        && ETag.parse(ifNoneMatch).stream()
+            .anyMatch(tag -> tag.isWildcard() || tag.compare(etag, false));
+  }
+
+  /**
+   * Dashboards poll these reads, so clients may keep the body but must revalidate it on every use.
+   * Setting Cache-Control here also stops Spring Security's default {@code no-store}.
+   */
+  private static <T> ResponseEntity<T> withETag(ETag etag, T body) {
+    return ResponseEntity.ok()
+        .eTag(etag.formattedTag())
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .body(body);
+  }
+
+  /** Identifies a set of IDs regardless of order and duplicates. */
+  private static String fingerprint(List<UUID> ids) {
+    String sorted =
+        ids.stream().distinct().sorted().map(UUID::toString).collect(Collectors.joining(","));
+    return DigestUtils.md5DigestAsHex(sorted.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Hashes the normalized parameters that select and order one queue page. */
+  private static String fingerprint(@Nullable ContentType contentType, Pageable pageable) {
+    String query =
+        contentType
+            + "|"
+            + pageable.getPageNumber()
+            + "|"
+            + pageable.getPageSize()
+            + "|"
+            + pageable.getSort();
+    return DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static <T> ResponseEntity<T> notModified(ETag etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .eTag(etag.formattedTag())
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .build();
+  }
+
+  private static BatchReviewResponse toBatchReviewResponse(List<BatchOutcome> outcomes) {
+    return new BatchReviewResponse()
+        .updatedCount(
+            (int) outcomes.stream().filter(o -> o.result() == BatchOutcome.Result.UPDATED).count())
+        .results(
+            outcomes.stream()
+                .map(
+                    o ->
+                        new BatchReviewResult()
+                            .itemId(o.itemId())
+                            .outcome(BatchReviewResult.OutcomeEnum.valueOf(o.result().name())))
+                .toList());
+  }
+
   private UUID getCurrentUserId() {
     Jwt jwt = (Jwt) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     String subject = jwt.getSubject();
@@ -255,6 +426,9 @@ public class ModerationQueueController implements QueueApi {
         .submitterId(item.getSubmitterId())
         .status(toApiStatus(item.getStatus()))
         .priority(item.getPriority())
+        .effectivePriority(item.getEffectivePriority())
+        .openReportCount(item.getOpenReportCount())
+        .assignedTo(item.getAssignedTo())
         .reviewerId(item.getReviewerId())
         .reviewedAt(toOffsetDateTime(item.getReviewedAt()))
         .rejectionReason(item.getRejectionReason())
@@ -269,6 +443,9 @@ public class ModerationQueueController implements QueueApi {
         .submitterId(item.getSubmitterId())
         .status(toApiStatus(item.getStatus()))
         .priority(item.getPriority())
+        .effectivePriority(item.getEffectivePriority())
+        .openReportCount(item.getOpenReportCount())
+        .assignedTo(item.getAssignedTo())
         .reviewerId(item.getReviewerId())
         .reviewedAt(toOffsetDateTime(item.getReviewedAt()))
         .rejectionReason(item.getRejectionReason())
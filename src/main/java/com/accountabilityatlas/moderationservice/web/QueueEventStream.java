@@ -0,0 +1,237 @@
+package com.accountabilityatlas.moderationservice.web;
+
+import com.accountabilityatlas.moderationservice.service.ModerationService;
+import com.accountabilityatlas.moderationservice.service.ModerationService.QueueStats;
+import com.accountabilityatlas.moderationservice.service.QueueEvent;
+import com.accountabilityatlas.moderationservice.service.QueueEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans queue changes out to moderator consoles connected over server-sent events.
+ *
+ * <p>Every {@link QueueEvent} heard on the {@link QueueEventBus} (local or relayed from another
+ * node) is queued to each open stream, along with a {@code stats} event whenever the queue stats
+ * may have changed and a keep-alive comment on a fixed interval. Each stream has its own bounded
+ * buffer drained by a virtual thread, so a slow client never holds up the committing thread or the
+ * other streams. A client that falls {@code app.queue-events.buffer-size} events behind is
+ * disconnected instead of buffered without bound; the browser reconnects and reloads the queue.
+ */
+@Component
+@Slf4j
+public class QueueEventStream {
+
+  private static final String STATS_EVENT = "stats";
+
+  private final ModerationService moderationService;
+  private final Executor senders;
+  private final int bufferSize;
+  private final int maxSubscribers;
+  private final long timeoutMillis;
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private final Counter droppedCounter;
+  private volatile String lastStatsVersion = "";
+
+  @Autowired
+  public QueueEventStream(
+      ModerationService moderationService,
+      QueueEventBus queueEventBus,
+      MeterRegistry meterRegistry,
+      @Value("${app.queue-events.buffer-size:100}") int bufferSize,
+      @Value("${app.queue-events.max-subscribers:1000}") int maxSubscribers,
+      @Value("${app.queue-events.timeout:PT30M}") Duration timeout) {
+    this(
+        moderationService,
+        queueEventBus,
+        meterRegistry,
+        bufferSize,
+        maxSubscribers,
+        timeout,
+        Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  QueueEventStream(
+      ModerationService moderationService,
+      QueueEventBus queueEventBus,
+      MeterRegistry meterRegistry,
+      int bufferSize,
+      int maxSubscribers,
+      Duration timeout,
+      Executor senders) {
+    this.moderationService = moderationService;
+    this.senders = senders;
+    this.bufferSize = bufferSize;
+    this.maxSubscribers = maxSubscribers;
+    this.timeoutMillis = timeout.toMillis();
+    this.droppedCounter = meterRegistry.counter("moderation.queue-events.subscribers.dropped");
+    meterRegistry.gauge("moderation.queue-events.subscribers", subscribers, Set::size);
+    queueEventBus.subscribe(this::onQueueEvent);
+  }
+
+  /**
+   * Opens a stream for one console.
+   *
+   * @return the emitter to return from the handler, or {@code null} if this node already serves
+   *     {@code app.queue-events.max-subscribers} streams
+   */
+  @Nullable
+  public SseEmitter open() {
+    if (subscribers.size() >= maxSubscribers) {
+      return null;
+    }
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(emitter);
+    emitter.onCompletion(subscriber::close);
+    emitter.onError(error -> subscriber.close());
+    emitter.onTimeout(
+        () -> {
+          subscriber.close();
+          emitter.complete();
+        });
+    subscribers.add(subscriber);
+    // Flushes the response headers so proxies and the browser see the stream open straight away
+    subscriber.offer(new Message(null, null, "connected"));
+    return emitter;
+  }
+
+  /** Pushes fresh queue stats when any item changed or the UTC day rolled over. */
+  @Scheduled(fixedDelayString = "${app.queue-events.stats-interval:PT5S}")
+  public void publishStats() {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+    // The version and the stats it stands for come from one snapshot
+    QueueStats stats =
+        moderationService.readSnapshot(
+            () -> {
+              String version = moderationService.getQueueStatsVersion();
+              if (version.equals(lastStatsVersion)) {
+                return null;
+              }
+              lastStatsVersion = version;
+              return moderationService.getQueueStats();
+            });
+    if (stats != null) {
+      broadcast(new Message(STATS_EVENT, stats, null));
+    }
+  }
+
+  /** Keeps idle streams from being cut by proxies, and surfaces clients that stopped reading. */
+  @Scheduled(fixedDelayString = "${app.queue-events.heartbeat-interval:PT15S}")
+  public void heartbeat() {
+    broadcast(new Message(null, null, "keep-alive"));
+  }
+
+  int subscriberCount() {
+    return subscribers.size();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    subscribers.forEach(Subscriber::disconnect);
+    if (senders instanceof ExecutorService executor) {
+      executor.shutdown();
+    }
+  }
+
+  private void onQueueEvent(QueueEvent event) {
+    broadcast(new Message(event.type().name().toLowerCase(Locale.ROOT), event, null));
+  }
+
+  private void broadcast(Message message) {
+    for (Subscriber subscriber : subscribers) {
+      subscriber.offer(message);
+    }
+  }
+
+  /** One event to write; SSE event builders are single-use, so each stream builds its own. */
+  private record Message(@Nullable String name, @Nullable Object data, @Nullable String comment) {
+
+    SseEmitter.SseEventBuilder toEvent() {
+      SseEmitter.SseEventBuilder event = SseEmitter.event();
+      if (comment != null) {
+        event.comment(comment);
+      }
+      if (name != null && data != null) {
+        event.name(name).data(data, MediaType.APPLICATION_JSON);
+      }
+      return event;
+    }
+  }
+
+  private final class Subscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    void offer(Message message) {
+      if (closed) {
+        return;
+      }
+      if (!buffer.offer(message)) {
+        droppedCounter.increment();
+        log.debug("Disconnecting a queue event stream that fell {} events behind", bufferSize);
+        disconnect();
+        return;
+      }
+      if (draining.compareAndSet(false, true)) {
+        senders.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      do {
+        Message message;
+        while (!closed && (message = buffer.poll()) != null) {
+          try {
+            emitter.send(message.toEvent());
+          } catch (IOException | IllegalStateException e) {
+            // The client went away; the container completes the emitter
+            close();
+            return;
+          }
+        }
+        draining.set(false);
+        // Picks up a message offered between the last poll and clearing the flag
+      } while (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    /** Stops delivery and ends the response; completing may wait on a blocked write. */
+    void disconnect() {
+      close();
+      senders.execute(emitter::complete);
+    }
+
+    void close() {
+      closed = true;
+      subscribers.remove(this);
+      buffer.clear();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.accountabilityatlas.moderationservice.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event stream of queue changes. Mapped here rather than through the generated {@code
+ * QueueApi} because the OpenAPI generator has no streaming return type.
+ */
+@RestController
+@RequiredArgsConstructor
+public class QueueEventStreamController {
+
+  /** Seconds a client should wait before retrying when this node is at its stream limit. */
+  private static final String RETRY_AFTER_SECONDS = "5";
+
+  private final QueueEventStream queueEventStream;
+
+  @GetMapping(path = "/moderation/queue/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamQueueEvents() {
+    SseEmitter emitter = queueEventStream.open();
+    if (emitter == null) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .build();
+    }
+    // Stops nginx-style proxies from buffering the stream
+    return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+  }
+}
@@ -0,0 +1,50 @@
+package com.accountabilityatlas.moderationservice.web;
+
+import com.accountabilityatlas.moderationservice.config.ReadReplicaRouter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Keeps a caller's reads on the primary for a short while after they send a write, so they see
+ * their own change even when the read replica is behind.
+ *
+ * <p>The write is recorded before it runs, so the window also covers reads the caller fires while
+ * it is still in flight. Does nothing unless a read replica is configured.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final ObjectProvider<ReadReplicaRouter> readReplicaRouter;
+
+  public ReadYourWritesFilter(ObjectProvider<ReadReplicaRouter> readReplicaRouter) {
+    this.readReplicaRouter = readReplicaRouter;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return SAFE_METHODS.contains(request.getMethod());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ReadReplicaRouter router = readReplicaRouter.getIfAvailable();
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (router != null && authentication != null && authentication.isAuthenticated()) {
+      router.recordWrite(authentication.getName());
+    }
+    filterChain.doFilter(request, response);
+  }
+}
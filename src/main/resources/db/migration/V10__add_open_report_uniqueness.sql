@@ -0,0 +1,30 @@
+-- One OPEN report per reporter per content. Later duplicates are dismissed (the versioning
+-- trigger keeps their history) so the unique index can be built.
+CREATE TEMPORARY TABLE duplicate_report_content ON COMMIT DROP AS
+SELECT DISTINCT a.content_id
+  FROM moderation.abuse_reports a
+ WHERE a.status = 'OPEN'
+   AND EXISTS (SELECT 1 FROM moderation.abuse_reports b
+                WHERE b.reporter_id = a.reporter_id AND b.content_id = a.content_id
+                  AND b.status = 'OPEN' AND (b.created_at, b.id) < (a.created_at, a.id));
+
+UPDATE moderation.abuse_reports a
+   SET status = 'DISMISSED', resolution = 'Duplicate report'
+ WHERE a.status = 'OPEN'
+   AND EXISTS (SELECT 1 FROM moderation.abuse_reports b
+                WHERE b.reporter_id = a.reporter_id AND b.content_id = a.content_id
+                  AND b.status = 'OPEN' AND (b.created_at, b.id) < (a.created_at, a.id));
+
+-- Recount open reports for submitters of the affected content
+UPDATE moderation.submitter_stats s
+   SET open_reports = (SELECT COUNT(*) FROM moderation.abuse_reports a
+                        WHERE a.status = 'OPEN' AND a.content_id IN
+                              (SELECT i.content_id FROM moderation.moderation_items i
+                                WHERE i.submitter_id = s.submitter_id)),
+       updated_at = NOW()
+ WHERE s.submitter_id IN (SELECT i.submitter_id FROM moderation.moderation_items i
+                           WHERE i.content_id IN (SELECT content_id FROM duplicate_report_content));
+
+CREATE UNIQUE INDEX idx_abuse_reports_open_reporter_content
+    ON moderation.abuse_reports(reporter_id, content_id)
+    WHERE status = 'OPEN';
@@ -0,0 +1,43 @@
+-- Per-item counters of OPEN abuse reports against the item's content, maintained with every
+-- report change so escalation never recounts abuse_reports. Only PENDING items are kept current.
+ALTER TABLE moderation.moderation_items
+    ADD COLUMN open_report_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN last_reported_at TIMESTAMPTZ;
+
+ALTER TABLE moderation.moderation_items_history
+    ADD COLUMN open_report_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN last_reported_at TIMESTAMPTZ;
+
+-- The history table's new columns follow sys_period, so name every column explicitly
+CREATE OR REPLACE FUNCTION moderation.versioning_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO moderation.moderation_items_history
+        (id, content_type, content_id, submitter_id, status, priority, reviewer_id,
+         reviewed_at, rejection_reason, created_at, open_report_count, last_reported_at,
+         sys_period)
+    VALUES (OLD.id, OLD.content_type, OLD.content_id, OLD.submitter_id, OLD.status,
+            OLD.priority, OLD.reviewer_id, OLD.reviewed_at, OLD.rejection_reason,
+            OLD.created_at, OLD.open_report_count, OLD.last_reported_at,
+            tstzrange(lower(OLD.sys_period), NOW()));
+    IF TG_OP = 'UPDATE' THEN
+        NEW.sys_period = tstzrange(NOW(), NULL);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill; priorities are recomputed from these by the first escalation refresh
+UPDATE moderation.moderation_items i
+   SET open_report_count = r.open_reports, last_reported_at = r.last_reported_at
+  FROM (SELECT content_id, COUNT(*) AS open_reports, MAX(created_at) AS last_reported_at
+          FROM moderation.abuse_reports
+         WHERE status = 'OPEN'
+         GROUP BY content_id) r
+ WHERE i.content_id = r.content_id AND i.status = 'PENDING';
+
+-- Queue reads by status, most urgent first then oldest first; supersedes the status index
+CREATE INDEX idx_moderation_items_status_priority_created_at
+    ON moderation.moderation_items(status, priority DESC, created_at);
+DROP INDEX moderation.idx_moderation_items_status;
@@ -0,0 +1,26 @@
+-- Ingest-time priority score; report escalation adds its level on top. Existing items were
+-- created before scoring existed, so their base is 0 and their priority is already escalation-only.
+ALTER TABLE moderation.moderation_items
+    ADD COLUMN base_priority INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE moderation.moderation_items_history
+    ADD COLUMN base_priority INTEGER NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION moderation.versioning_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO moderation.moderation_items_history
+        (id, content_type, content_id, submitter_id, status, priority, reviewer_id,
+         reviewed_at, rejection_reason, created_at, open_report_count, last_reported_at,
+         base_priority, sys_period)
+    VALUES (OLD.id, OLD.content_type, OLD.content_id, OLD.submitter_id, OLD.status,
+            OLD.priority, OLD.reviewer_id, OLD.reviewed_at, OLD.rejection_reason,
+            OLD.created_at, OLD.open_report_count, OLD.last_reported_at,
+            OLD.base_priority, tstzrange(lower(OLD.sys_period), NOW()));
+    IF TG_OP = 'UPDATE' THEN
+        NEW.sys_period = tstzrange(NOW(), NULL);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
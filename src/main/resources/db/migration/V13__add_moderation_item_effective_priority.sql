@@ -0,0 +1,41 @@
+-- Queue ordering that ages waiting items: priority plus one level per aging interval spent
+-- PENDING, refreshed in batches by QueueAgingService so the sort stays an index scan.
+ALTER TABLE moderation.moderation_items
+    ADD COLUMN effective_priority INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE moderation.moderation_items_history
+    ADD COLUMN effective_priority INTEGER NOT NULL DEFAULT 0;
+
+-- effective_priority is derived and rewritten on every aging step; an update that changes nothing
+-- else is not a new version, so it gets no history row
+CREATE OR REPLACE FUNCTION moderation.versioning_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE'
+       AND to_jsonb(OLD) - 'effective_priority' - 'sys_period'
+           = to_jsonb(NEW) - 'effective_priority' - 'sys_period' THEN
+        RETURN NEW;
+    END IF;
+    INSERT INTO moderation.moderation_items_history
+        (id, content_type, content_id, submitter_id, status, priority, reviewer_id,
+         reviewed_at, rejection_reason, created_at, open_report_count, last_reported_at,
+         base_priority, effective_priority, sys_period)
+    VALUES (OLD.id, OLD.content_type, OLD.content_id, OLD.submitter_id, OLD.status,
+            OLD.priority, OLD.reviewer_id, OLD.reviewed_at, OLD.rejection_reason,
+            OLD.created_at, OLD.open_report_count, OLD.last_reported_at,
+            OLD.base_priority, OLD.effective_priority, tstzrange(lower(OLD.sys_period), NOW()));
+    IF TG_OP = 'UPDATE' THEN
+        NEW.sys_period = tstzrange(NOW(), NULL);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Aging is applied by the first refresh after startup
+UPDATE moderation.moderation_items
+   SET effective_priority = priority
+ WHERE status = 'PENDING' AND priority <> 0;
+
+CREATE INDEX idx_moderation_items_status_effective_priority_created_at
+    ON moderation.moderation_items(status, effective_priority DESC, created_at);
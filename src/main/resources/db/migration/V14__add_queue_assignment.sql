@@ -0,0 +1,44 @@
+-- Moderators seen working the queue; the active ones form the consistent-hash ring that
+-- partitions PENDING items between them.
+CREATE TABLE moderation.moderator_presence (
+    moderator_id UUID PRIMARY KEY,
+    last_seen_at TIMESTAMPTZ NOT NULL
+);
+
+ALTER TABLE moderation.moderation_items
+    ADD COLUMN assigned_to UUID;
+
+ALTER TABLE moderation.moderation_items_history
+    ADD COLUMN assigned_to UUID;
+
+-- Shard membership moves whenever moderators come and go; like effective_priority it is
+-- operational state, not a new version of the item
+CREATE OR REPLACE FUNCTION moderation.versioning_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE'
+       AND to_jsonb(OLD) - 'effective_priority' - 'assigned_to' - 'sys_period'
+           = to_jsonb(NEW) - 'effective_priority' - 'assigned_to' - 'sys_period' THEN
+        RETURN NEW;
+    END IF;
+    INSERT INTO moderation.moderation_items_history
+        (id, content_type, content_id, submitter_id, status, priority, reviewer_id,
+         reviewed_at, rejection_reason, created_at, open_report_count, last_reported_at,
+         base_priority, effective_priority, assigned_to, sys_period)
+    VALUES (OLD.id, OLD.content_type, OLD.content_id, OLD.submitter_id, OLD.status,
+            OLD.priority, OLD.reviewer_id, OLD.reviewed_at, OLD.rejection_reason,
+            OLD.created_at, OLD.open_report_count, OLD.last_reported_at,
+            OLD.base_priority, OLD.effective_priority, OLD.assigned_to,
+            tstzrange(lower(OLD.sys_period), NOW()));
+    IF TG_OP = 'UPDATE' THEN
+        NEW.sys_period = tstzrange(NOW(), NULL);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A moderator's shard of the queue, oldest first
+CREATE INDEX idx_moderation_items_assigned_pending
+    ON moderation.moderation_items(assigned_to, created_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,56 @@
+-- Optimistic locking: JPA increments version on every entity update and rejects the update if
+-- the row changed since it was read. Bulk updates that change reviewed state bump it as well.
+ALTER TABLE moderation.moderation_items
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE moderation.moderation_items_history
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE moderation.abuse_reports
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE moderation.abuse_reports_history
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION moderation.versioning_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE'
+       AND to_jsonb(OLD) - 'effective_priority' - 'assigned_to' - 'sys_period'
+           = to_jsonb(NEW) - 'effective_priority' - 'assigned_to' - 'sys_period' THEN
+        RETURN NEW;
+    END IF;
+    INSERT INTO moderation.moderation_items_history
+        (id, content_type, content_id, submitter_id, status, priority, reviewer_id,
+         reviewed_at, rejection_reason, created_at, open_report_count, last_reported_at,
+         base_priority, effective_priority, assigned_to, version, sys_period)
+    VALUES (OLD.id, OLD.content_type, OLD.content_id, OLD.submitter_id, OLD.status,
+            OLD.priority, OLD.reviewer_id, OLD.reviewed_at, OLD.rejection_reason,
+            OLD.created_at, OLD.open_report_count, OLD.last_reported_at,
+            OLD.base_priority, OLD.effective_priority, OLD.assigned_to, OLD.version,
+            tstzrange(lower(OLD.sys_period), NOW()));
+    IF TG_OP = 'UPDATE' THEN
+        NEW.sys_period = tstzrange(NOW(), NULL);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The original function inserted by position; list the columns now that the tables have grown
+CREATE OR REPLACE FUNCTION moderation.abuse_reports_versioning_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO moderation.abuse_reports_history
+        (id, content_type, content_id, reporter_id, reason, description, status,
+         resolved_by, resolution, created_at, version, sys_period)
+    VALUES (OLD.id, OLD.content_type, OLD.content_id, OLD.reporter_id, OLD.reason,
+            OLD.description, OLD.status, OLD.resolved_by, OLD.resolution, OLD.created_at,
+            OLD.version, tstzrange(lower(OLD.sys_period), NOW()));
+    IF TG_OP = 'UPDATE' THEN
+        NEW.sys_period = tstzrange(NOW(), NULL);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,17 @@
+-- Responses to write requests sent with an Idempotency-Key header, so a retried request is
+-- answered from here on any node instead of running again.
+CREATE TABLE moderation.idempotency_keys (
+    caller_id VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    -- SHA-256 of method, path and body; a key reused for a different request is refused
+    fingerprint CHAR(64) NOT NULL,
+    -- NULL while the first request is still running
+    status_code INTEGER,
+    content_type VARCHAR(255),
+    response_body TEXT,
+    created_at TIMESTAMPTZ NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (caller_id, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON moderation.idempotency_keys(expires_at);
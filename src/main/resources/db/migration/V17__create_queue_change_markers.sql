@@ -0,0 +1,52 @@
+-- One change counter per moderation status, bumped in the same transaction as every statement
+-- that inserts, updates or deletes items with that status. Queue and stats ETags are built from
+-- these counters, so an unchanged queue can be answered with 304 without running its queries.
+CREATE TABLE moderation.queue_change_markers (
+    status VARCHAR(50) PRIMARY KEY,
+    change_seq BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO moderation.queue_change_markers (status)
+VALUES ('PENDING'), ('APPROVED'), ('REJECTED');
+
+CREATE OR REPLACE FUNCTION moderation.bump_queue_change_markers()
+RETURNS TRIGGER AS $$
+DECLARE
+    changed TEXT[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT array_agg(DISTINCT status) INTO changed FROM new_rows;
+    ELSIF TG_OP = 'UPDATE' THEN
+        SELECT array_agg(DISTINCT status) INTO changed
+        FROM (SELECT status FROM old_rows UNION SELECT status FROM new_rows) s;
+    ELSE
+        SELECT array_agg(DISTINCT status) INTO changed FROM old_rows;
+    END IF;
+    IF changed IS NOT NULL THEN
+        -- Lock the counters in a fixed order so statements touching several statuses
+        -- (a review moves an item from PENDING) cannot deadlock each other
+        PERFORM 1 FROM moderation.queue_change_markers
+        WHERE status = ANY (changed) ORDER BY status FOR UPDATE;
+        UPDATE moderation.queue_change_markers SET change_seq = change_seq + 1
+        WHERE status = ANY (changed);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement-level, so a bulk update bumps each counter once rather than once per row.
+-- Transition tables need one trigger per event.
+CREATE TRIGGER moderation_items_change_markers_insert
+    AFTER INSERT ON moderation.moderation_items
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION moderation.bump_queue_change_markers();
+
+CREATE TRIGGER moderation_items_change_markers_update
+    AFTER UPDATE ON moderation.moderation_items
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION moderation.bump_queue_change_markers();
+
+CREATE TRIGGER moderation_items_change_markers_delete
+    AFTER DELETE ON moderation.moderation_items
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION moderation.bump_queue_change_markers();
@@ -0,0 +1,9 @@
+-- Refreshed periodically while the claiming request is still running, so only a claim whose node
+-- stopped heartbeating (crash) goes stale and can be taken over by a retry.
+ALTER TABLE moderation.idempotency_keys
+    ADD COLUMN heartbeat_at TIMESTAMPTZ;
+
+UPDATE moderation.idempotency_keys SET heartbeat_at = created_at;
+
+ALTER TABLE moderation.idempotency_keys
+    ALTER COLUMN heartbeat_at SET NOT NULL;
@@ -0,0 +1,7 @@
+-- Trust checks read the submitter_stats counters (V6), so the per-item trust-signals query these
+-- V5 indexes were built for is gone. Submitter lookups (auto-approval, the stats rebuild) only
+-- need the plain submitter index that V5 replaced.
+DROP INDEX moderation.idx_moderation_items_submitter_rejected;
+
+CREATE INDEX idx_moderation_items_submitter_id ON moderation.moderation_items(submitter_id);
+DROP INDEX moderation.idx_moderation_items_submitter_content;
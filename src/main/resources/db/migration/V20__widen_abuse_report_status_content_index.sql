@@ -0,0 +1,6 @@
+-- The grouped-by-content report view lists only the oldest few report IDs per content; with
+-- (created_at, id) in the index each content's IDs are read in order and the scan stops at the
+-- limit. The (status, content_id) prefix still serves the grouping and the open-report counts.
+CREATE INDEX idx_abuse_reports_status_content_created_at
+    ON moderation.abuse_reports(status, content_id, created_at, id);
+DROP INDEX moderation.idx_abuse_reports_status_content;
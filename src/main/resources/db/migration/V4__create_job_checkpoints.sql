@@ -0,0 +1,12 @@
+-- Create job_checkpoints table (resume cursors for chunked background jobs)
+CREATE TABLE moderation.job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    cursor_timestamp TIMESTAMPTZ,
+    cursor_id UUID,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Keyset index for walking reviewed items in (reviewed_at, id) order
+CREATE INDEX idx_moderation_items_reviewed_at_id
+    ON moderation.moderation_items(reviewed_at, id)
+    WHERE reviewed_at IS NOT NULL;
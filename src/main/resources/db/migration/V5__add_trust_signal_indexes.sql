@@ -0,0 +1,16 @@
+-- Indexes backing the combined trust-signals query (ModerationItemRepository.findTrustSignals)
+
+-- Recent rejections per submitter: only REJECTED rows are ever counted
+CREATE INDEX idx_moderation_items_submitter_rejected
+    ON moderation.moderation_items(submitter_id, reviewed_at)
+    WHERE status = 'REJECTED';
+
+-- A submitter's content IDs without touching the heap; supersedes the single-column index
+CREATE INDEX idx_moderation_items_submitter_content
+    ON moderation.moderation_items(submitter_id, content_id);
+DROP INDEX moderation.idx_moderation_items_submitter_id;
+
+-- OPEN reports are a small, hot subset of abuse_reports
+CREATE INDEX idx_abuse_reports_open_content_id
+    ON moderation.abuse_reports(content_id)
+    WHERE status = 'OPEN';
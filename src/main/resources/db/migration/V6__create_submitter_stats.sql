@@ -0,0 +1,35 @@
+-- Denormalized per-submitter trust counters, maintained in the same transaction as the
+-- decision or report change that affects them and rebuilt nightly from the base tables.
+CREATE TABLE moderation.submitter_stats (
+    submitter_id UUID PRIMARY KEY,
+    open_reports INTEGER NOT NULL DEFAULT 0,
+    approved_count INTEGER NOT NULL DEFAULT 0,
+    rejected_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Rejections per submitter per UTC day; summed over the lookback window for trust checks
+CREATE TABLE moderation.submitter_daily_rejections (
+    submitter_id UUID NOT NULL,
+    day DATE NOT NULL,
+    rejections INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (submitter_id, day)
+);
+
+-- Backfill from existing data
+INSERT INTO moderation.submitter_stats (submitter_id, open_reports, approved_count, rejected_count)
+SELECT s.submitter_id,
+       (SELECT COUNT(*) FROM moderation.abuse_reports a
+         WHERE a.status = 'OPEN' AND a.content_id IN
+               (SELECT i.content_id FROM moderation.moderation_items i
+                 WHERE i.submitter_id = s.submitter_id)),
+       COUNT(*) FILTER (WHERE s.status = 'APPROVED'),
+       COUNT(*) FILTER (WHERE s.status = 'REJECTED')
+  FROM moderation.moderation_items s
+ GROUP BY s.submitter_id;
+
+INSERT INTO moderation.submitter_daily_rejections (submitter_id, day, rejections)
+SELECT submitter_id, (reviewed_at AT TIME ZONE 'UTC')::date, COUNT(*)
+  FROM moderation.moderation_items
+ WHERE status = 'REJECTED' AND reviewed_at >= NOW() - INTERVAL '90 days'
+ GROUP BY submitter_id, (reviewed_at AT TIME ZONE 'UTC')::date;
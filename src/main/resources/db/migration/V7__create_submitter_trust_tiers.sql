@@ -0,0 +1,7 @@
+-- Last trust tier observed for each submitter (from user-service lookups and tier-change events).
+-- Lets the trust sweep skip submitters whose tier makes them ineligible without asking user-service.
+CREATE TABLE moderation.submitter_trust_tiers (
+    submitter_id UUID PRIMARY KEY,
+    trust_tier VARCHAR(50) NOT NULL,
+    observed_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
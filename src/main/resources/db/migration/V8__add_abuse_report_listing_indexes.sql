@@ -0,0 +1,11 @@
+-- Indexes backing abuse report listings, which filter by status (and optionally content type)
+-- and walk oldest first in (created_at, id) keyset order
+
+-- Unfiltered listing by status; supersedes the single-column status index
+CREATE INDEX idx_abuse_reports_status_created_at
+    ON moderation.abuse_reports(status, created_at, id);
+DROP INDEX moderation.idx_abuse_reports_status;
+
+-- Listing by status and content type
+CREATE INDEX idx_abuse_reports_status_type_created_at
+    ON moderation.abuse_reports(status, content_type, created_at, id);
@@ -0,0 +1,6 @@
+-- Backs the grouped-by-content report view (GROUP BY content under a status filter) and the
+-- trust-signals / counter queries that look up OPEN reports by content ID. Supersedes the
+-- OPEN-only partial index from V5.
+CREATE INDEX idx_abuse_reports_status_content
+    ON moderation.abuse_reports(status, content_id);
+DROP INDEX moderation.idx_abuse_reports_open_content_id;
@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserServiceException;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import okhttp3.mockwebserver.MockResponse;
@@ -19,6 +21,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 class UserServiceClientTest {
 
   private MockWebServer mockWebServer;
+  private WebClient webClient;
   private UserServiceClient userServiceClient;
 
   @BeforeEach
@@ -26,8 +29,8 @@ class UserServiceClientTest {
     mockWebServer = new MockWebServer();
     mockWebServer.start();
     String baseUrl = mockWebServer.url("/").toString();
-    WebClient webClient = WebClient.builder().baseUrl(baseUrl).build();
-    userServiceClient = new UserServiceClient(webClient);
+    webClient = WebClient.builder().baseUrl(baseUrl).build();
+    userServiceClient = new UserServiceClient(webClient, true);
   }
 
   @AfterEach
@@ -233,4 +236,77 @@ class UserServiceClientTest {
     assertThat(thrown).isInstanceOf(UserServiceException.class);
     assertThat(((UserServiceException) thrown).getHttpStatusCode().value()).isEqualTo(500);
   }
+
+  @Test
+  void getUsers_success_returnsUsersById() throws Exception {
+    // Arrange
+    UUID firstId = UUID.randomUUID();
+    UUID secondId = UUID.randomUUID();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", "application/json")
+            .setBody(
+                """
+                [
+                  {"id": "%s", "displayName": "First", "trustTier": "NEW",
+                   "createdAt": "2025-01-15T10:30:00Z"},
+                  {"id": "%s", "displayName": "Second", "trustTier": "TRUSTED",
+                   "createdAt": "2025-01-15T10:30:00Z"}
+                ]
+                """
+                    .formatted(firstId, secondId)));
+
+    // Act
+    Map<UUID, UserSummary> result = userServiceClient.getUsers(List.of(firstId, secondId));
+
+    // Assert
+    assertThat(result).hasSize(2);
+    assertThat(result.get(firstId).trustTier()).isEqualTo("NEW");
+    assertThat(result.get(secondId).trustTier()).isEqualTo("TRUSTED");
+    RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("POST");
+    assertThat(request.getPath()).isEqualTo("/users/batch");
+    assertThat(request.getBody().readUtf8()).contains(firstId.toString());
+  }
+
+  @Test
+  void getUsers_serverError_throwsException() {
+    // Arrange
+    mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+    // Act
+    Throwable thrown = catchThrowable(() -> userServiceClient.getUsers(List.of(UUID.randomUUID())));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(UserServiceException.class);
+    assertThat(((UserServiceException) thrown).getHttpStatusCode().value()).isEqualTo(503);
+  }
+
+  @Test
+  void getUsers_batchDisabled_fetchesEachUserAndSkipsUnknown() throws Exception {
+    // Arrange
+    UserServiceClient client = new UserServiceClient(webClient, false);
+    UUID knownId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", "application/json")
+            .setBody(
+                """
+                {"id": "%s", "displayName": "Known", "trustTier": "NEW",
+                 "createdAt": "2025-01-15T10:30:00Z"}
+                """
+                    .formatted(knownId)));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+    // Act
+    Map<UUID, UserSummary> result = client.getUsers(List.of(knownId, unknownId));
+
+    // Assert
+    assertThat(result).containsOnlyKeys(knownId);
+    assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/users/" + knownId);
+    assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/users/" + unknownId);
+  }
 }
@@ -0,0 +1,233 @@
+package com.accountabilityatlas.moderationservice.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserServiceException;
+import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserStats;
+import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
+import com.accountabilityatlas.moderationservice.service.CacheInvalidationBus;
+import com.accountabilityatlas.moderationservice.service.PostgresNotifications;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryCacheTest {
+
+  @Mock private UserServiceClient userServiceClient;
+
+  private UserSummaryCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new UserSummaryCache(
+            userServiceClient,
+            new CacheInvalidationBus(
+                mock(PostgresNotifications.class),
+                new ObjectMapper(),
+                new SimpleMeterRegistry(),
+                100),
+            new SimpleMeterRegistry(),
+            100,
+            Duration.ofMinutes(5));
+  }
+
+  @Test
+  void getUser_repeatedLookup_callsUserServiceOnce() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    UserSummary user = createUser(userId);
+    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
+
+    // Act
+    Optional<UserSummary> first = cache.getUser(userId);
+    Optional<UserSummary> second = cache.getUser(userId);
+
+    // Assert
+    assertThat(first).contains(user);
+    assertThat(second).contains(user);
+    verify(userServiceClient, times(1)).getUser(userId);
+  }
+
+  @Test
+  void getUser_notFound_cachesEmptyResult() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    when(userServiceClient.getUser(userId)).thenReturn(Optional.empty());
+
+    // Act
+    cache.getUser(userId);
+    Optional<UserSummary> result = cache.getUser(userId);
+
+    // Assert
+    assertThat(result).isEmpty();
+    verify(userServiceClient, times(1)).getUser(userId);
+  }
+
+  @Test
+  void getUser_lookupFails_doesNotCacheFailure() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    UserSummary user = createUser(userId);
+    when(userServiceClient.getUser(userId))
+        .thenThrow(new UserServiceException("boom", null))
+        .thenReturn(Optional.of(user));
+
+    // Act & Assert
+    assertThatThrownBy(() -> cache.getUser(userId)).isInstanceOf(UserServiceException.class);
+    assertThat(cache.getUser(userId)).contains(user);
+    verify(userServiceClient, times(2)).getUser(userId);
+  }
+
+  @Test
+  void invalidate_cachedUser_refetchesOnNextLookup() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(createUser(userId)));
+    cache.getUser(userId);
+
+    // Act
+    cache.invalidate(userId);
+    cache.getUser(userId);
+
+    // Assert
+    verify(userServiceClient, times(2)).getUser(userId);
+  }
+
+  @Test
+  void getUser_concurrentLookups_shareOneRequest() throws Exception {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    UserSummary user = createUser(userId);
+    CountDownLatch release = new CountDownLatch(1);
+    when(userServiceClient.getUser(userId))
+        .thenAnswer(
+            inv -> {
+              release.await(5, TimeUnit.SECONDS);
+              return Optional.of(user);
+            });
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // Act
+    List<Future<Optional<UserSummary>>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < 4; i++) {
+        results.add(executor.submit(() -> cache.getUser(userId)));
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      // Assert
+      for (Future<Optional<UserSummary>> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).contains(user);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    verify(userServiceClient, times(1)).getUser(userId);
+  }
+
+  @Test
+  void getUser_loaderThrowsError_failsWaitingLookupsAndDoesNotCache() throws Exception {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    UserSummary user = createUser(userId);
+    CountDownLatch release = new CountDownLatch(1);
+    when(userServiceClient.getUser(userId))
+        .thenAnswer(
+            inv -> {
+              release.await(5, TimeUnit.SECONDS);
+              throw new StackOverflowError();
+            })
+        .thenReturn(Optional.of(user));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // Act
+    List<Future<Optional<UserSummary>>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < 4; i++) {
+        results.add(executor.submit(() -> cache.getUser(userId)));
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      // Assert
+      for (Future<Optional<UserSummary>> result : results) {
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(StackOverflowError.class);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(cache.getUser(userId)).contains(user);
+    verify(userServiceClient, times(2)).getUser(userId);
+  }
+
+  @Test
+  void getUsers_partlyCached_fetchesOnlyMissingUsersInOneBatch() {
+    // Arrange
+    UUID cachedId = UUID.randomUUID();
+    UUID missingId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+    UserSummary cached = createUser(cachedId);
+    UserSummary missing = createUser(missingId);
+    when(userServiceClient.getUser(cachedId)).thenReturn(Optional.of(cached));
+    cache.getUser(cachedId);
+    when(userServiceClient.getUsers(anyCollection())).thenReturn(Map.of(missingId, missing));
+
+    // Act
+    Map<UUID, UserSummary> result = cache.getUsers(List.of(cachedId, missingId, unknownId));
+
+    // Assert
+    assertThat(result).containsOnlyKeys(cachedId, missingId);
+    verify(userServiceClient)
+        .getUsers(argThat(ids -> ids.size() == 2 && ids.containsAll(Set.of(missingId, unknownId))));
+  }
+
+  @Test
+  void getUsers_allCached_doesNotCallUserService() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(createUser(userId)));
+    cache.getUser(userId);
+
+    // Act
+    Map<UUID, UserSummary> result = cache.getUsers(List.of(userId));
+
+    // Assert
+    assertThat(result).containsOnlyKeys(userId);
+    verify(userServiceClient, never()).getUsers(anyCollection());
+  }
+
+  private UserSummary createUser(UUID userId) {
+    return new UserSummary(userId, "testuser", null, "NEW", new UserStats(1, 1), Instant.now());
+  }
+}
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.accountabilityatlas.moderationservice.client.VideoServiceClient.VideoServiceException;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -17,6 +19,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 class VideoServiceClientTest {
 
   private MockWebServer mockWebServer;
+  private WebClient webClient;
   private VideoServiceClient videoServiceClient;
 
   @BeforeEach
@@ -24,8 +27,8 @@ class VideoServiceClientTest {
     mockWebServer = new MockWebServer();
     mockWebServer.start();
     String baseUrl = mockWebServer.url("/").toString();
-    WebClient webClient = WebClient.builder().baseUrl(baseUrl).build();
-    videoServiceClient = new VideoServiceClient(webClient);
+    webClient = WebClient.builder().baseUrl(baseUrl).build();
+    videoServiceClient = new VideoServiceClient(webClient, true);
   }
 
   @AfterEach
@@ -53,6 +56,61 @@ class VideoServiceClientTest {
     assertThat(body).contains("\"status\":\"APPROVED\"");
   }
 
+  @Test
+  void updateVideoStatuses_success_sendsAllIdsInOneRequest() throws Exception {
+    // Arrange
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+    // Act
+    videoServiceClient.updateVideoStatuses(List.of(first, second), "REJECTED");
+
+    // Assert
+    RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("PUT");
+    assertThat(request.getPath()).isEqualTo("/internal/videos/statuses");
+    String body = request.getBody().readUtf8();
+    assertThat(body).contains(first.toString(), second.toString(), "\"status\":\"REJECTED\"");
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  void updateVideoStatuses_batchDisabled_updatesEachVideo() throws Exception {
+    // Arrange
+    VideoServiceClient client = new VideoServiceClient(webClient, false);
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+    // Act
+    Throwable thrown =
+        catchThrowable(() -> client.updateVideoStatuses(List.of(first, second), "REJECTED"));
+
+    // Assert
+    assertThat(thrown)
+        .isInstanceOf(VideoServiceException.class)
+        .hasMessage("Failed to update 1 of 2 video statuses");
+    assertThat(mockWebServer.takeRequest().getPath())
+        .isEqualTo("/internal/videos/" + first + "/status");
+    assertThat(mockWebServer.takeRequest().getPath())
+        .isEqualTo("/internal/videos/" + second + "/status");
+  }
+
+  @Test
+  void getVideoStatuses_batchDisabled_throwsWithoutCalling() {
+    // Arrange
+    VideoServiceClient client = new VideoServiceClient(webClient, false);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> client.getVideoStatuses(List.of(UUID.randomUUID())));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(IllegalStateException.class);
+    assertThat(mockWebServer.getRequestCount()).isZero();
+  }
+
   @Test
   void updateVideoStatus_serverError_throwsException() {
     // Arrange
@@ -225,4 +283,48 @@ class VideoServiceClientTest {
     assertThat(thrown).isInstanceOf(VideoServiceException.class);
     assertThat(((VideoServiceException) thrown).getHttpStatusCode().value()).isEqualTo(404);
   }
+
+  @Test
+  void getVideoStatuses_success_returnsStatusMap() throws Exception {
+    // Arrange
+    UUID approvedId = UUID.randomUUID();
+    UUID rejectedId = UUID.randomUUID();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .setHeader("Content-Type", "application/json")
+            .setBody(
+                """
+                [
+                  {"id": "%s", "status": "APPROVED"},
+                  {"id": "%s", "status": "REJECTED"}
+                ]
+                """
+                    .formatted(approvedId, rejectedId)));
+
+    // Act
+    Map<UUID, String> result =
+        videoServiceClient.getVideoStatuses(List.of(approvedId, rejectedId));
+
+    // Assert
+    assertThat(result).containsEntry(approvedId, "APPROVED").containsEntry(rejectedId, "REJECTED");
+    RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("POST");
+    assertThat(request.getPath()).isEqualTo("/internal/videos/statuses");
+    assertThat(request.getBody().readUtf8()).contains(approvedId.toString());
+  }
+
+  @Test
+  void getVideoStatuses_serverError_throwsException() {
+    // Arrange
+    mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+    // Act
+    Throwable thrown =
+        catchThrowable(() -> videoServiceClient.getVideoStatuses(List.of(UUID.randomUUID())));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(VideoServiceException.class);
+    assertThat(((VideoServiceException) thrown).getHttpStatusCode().value()).isEqualTo(503);
+  }
 }
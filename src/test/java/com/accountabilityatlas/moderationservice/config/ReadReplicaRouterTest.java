@@ -0,0 +1,189 @@
+package com.accountabilityatlas.moderationservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import javax.sql.DataSource;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRouterTest {
+
+  @Mock private DataSource replica;
+  @Mock private DataSource primary;
+  @Mock private JdbcOperations replicaJdbc;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ReadReplicaRouter router;
+
+  @BeforeEach
+  void setUp() {
+    router =
+        new ReadReplicaRouter(
+            replica, replicaJdbc, Duration.ofSeconds(1), Duration.ofSeconds(5), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void route_replicaCaughtUp_usesReplica() throws Throwable {
+    // Arrange
+    replicaLag(0.2);
+
+    // Act
+    DataSource target = replicaRead(() -> router.route(primary));
+
+    // Assert
+    assertThat(target).isSameAs(replica);
+    assertThat(routed("replica", "replica")).isEqualTo(1);
+  }
+
+  @Test
+  void route_notInReplicaRead_usesPrimary() {
+    // Arrange
+    replicaLag(0.0);
+
+    // Act
+    DataSource target = router.route(primary);
+
+    // Assert
+    assertThat(target).isSameAs(primary);
+    assertThat(routed("primary", "unmarked")).isEqualTo(1);
+  }
+
+  @Test
+  void route_beforeFirstLagCheck_usesPrimary() throws Throwable {
+    // Act
+    DataSource target = replicaRead(() -> router.route(primary));
+
+    // Assert
+    assertThat(target).isSameAs(primary);
+    assertThat(routed("primary", "replica-lagging")).isEqualTo(1);
+  }
+
+  @Test
+  void route_replicaBehind_usesPrimary() throws Throwable {
+    // Arrange
+    replicaLag(3.5);
+
+    // Act
+    DataSource target = replicaRead(() -> router.route(primary));
+
+    // Assert
+    assertThat(target).isSameAs(primary);
+    assertThat(routed("primary", "replica-lagging")).isEqualTo(1);
+    assertThat(meterRegistry.get("moderation.datasource.replica.lag").gauge().value())
+        .isEqualTo(3.5);
+  }
+
+  @Test
+  void route_lagCheckFails_usesPrimary() throws Throwable {
+    // Arrange
+    replicaLag(0.0);
+    when(replicaJdbc.queryForObject(ReadReplicaRouter.LAG_QUERY, Double.class))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"));
+    router.checkLag();
+
+    // Act
+    DataSource target = replicaRead(() -> router.route(primary));
+
+    // Assert
+    assertThat(target).isSameAs(primary);
+  }
+
+  @Test
+  void route_callerWroteRecently_usesPrimaryForThatCallerOnly() throws Throwable {
+    // Arrange
+    replicaLag(0.0);
+    router.recordWrite("moderator-1");
+
+    // Act
+    authenticateAs("moderator-1");
+    DataSource writer = replicaRead(() -> router.route(primary));
+    authenticateAs("moderator-2");
+    DataSource other = replicaRead(() -> router.route(primary));
+
+    // Assert
+    assertThat(writer).isSameAs(primary);
+    assertThat(other).isSameAs(replica);
+    assertThat(routed("primary", "recent-write")).isEqualTo(1);
+  }
+
+  @Test
+  void onPrimary_pinsReplicaReadsUntilItReturns() throws Throwable {
+    // Arrange
+    replicaLag(0.0);
+
+    // Act
+    DataSource pinned = replicaRead(() -> ReadReplicaRouter.onPrimary(() -> router.route(primary)));
+    DataSource after = replicaRead(() -> router.route(primary));
+
+    // Assert
+    assertThat(pinned).isSameAs(primary);
+    assertThat(after).isSameAs(replica);
+    assertThat(routed("primary", "pinned")).isEqualTo(1);
+  }
+
+  @Test
+  void readOnlyDataSource_connectsToRoutedTarget() throws Throwable {
+    // Arrange
+    replicaLag(0.0);
+    Connection connection = mock(Connection.class);
+    when(replica.getConnection()).thenReturn(connection);
+
+    // Act
+    Connection result = replicaRead(() -> router.readOnlyDataSource(primary).getConnection());
+
+    // Assert
+    assertThat(result).isSameAs(connection);
+    verify(replica).getConnection();
+  }
+
+  /** Runs {@code reads} as the body of a {@link ReplicaRead} method. */
+  @SuppressWarnings("unchecked")
+  private static <T> T replicaRead(Callable<T> reads) throws Throwable {
+    MethodInvocation invocation = mock(MethodInvocation.class);
+    when(invocation.proceed()).thenAnswer(i -> reads.call());
+    return (T) ReadReplicaRouter.replicaRead(invocation);
+  }
+
+  private void replicaLag(double seconds) {
+    when(replicaJdbc.queryForObject(eq(ReadReplicaRouter.LAG_QUERY), eq(Double.class)))
+        .thenReturn(seconds);
+    router.checkLag();
+  }
+
+  private static void authenticateAs(String userId) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(new TestingAuthenticationToken(userId, null, "ROLE_MODERATOR"));
+  }
+
+  private double routed(String target, String reason) {
+    return meterRegistry
+        .get("moderation.datasource.read-only")
+        .tag("target", target)
+        .tag("reason", reason)
+        .counter()
+        .count();
+  }
+}
@@ -3,11 +3,16 @@ package com.accountabilityatlas.moderationservice.event;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.awspring.cloud.sqs.operations.SqsTemplate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +21,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +34,8 @@ class ModerationEventPublisherTest {
 
   @Captor private ArgumentCaptor<Object> eventCaptor;
 
+  @Captor private ArgumentCaptor<Collection<Message<Object>>> batchCaptor;
+
   @InjectMocks private ModerationEventPublisher moderationEventPublisher;
 
   private void setQueues() {
@@ -118,4 +126,45 @@ class ModerationEventPublisherTest {
             () -> moderationEventPublisher.publishVideoRejected(videoId, reviewerId, reason))
         .isSameAs(sqsException);
   }
+
+  @Test
+  void publishVideosApproved_sendsBatchesOfAtMostTenToBothQueues() {
+    // Arrange
+    setQueues();
+    UUID reviewerId = UUID.randomUUID();
+    List<UUID> videoIds = new ArrayList<>();
+    for (int i = 0; i < 23; i++) {
+      videoIds.add(UUID.randomUUID());
+    }
+
+    // Act
+    moderationEventPublisher.publishVideosApproved(videoIds, reviewerId);
+
+    // Assert
+    verify(sqsTemplate, times(3)).sendMany(eq(MODERATION_EVENTS_QUEUE), batchCaptor.capture());
+    verify(sqsTemplate, times(3)).sendMany(eq(SEARCH_MODERATION_EVENTS_QUEUE), anyCollection());
+    assertThat(batchCaptor.getAllValues()).extracting(Collection::size).containsExactly(10, 10, 3);
+    assertThat(
+            batchCaptor.getAllValues().stream()
+                .flatMap(Collection::stream)
+                .map(message -> ((VideoApprovedEvent) message.getPayload()).videoId()))
+        .containsExactlyElementsOf(videoIds);
+  }
+
+  @Test
+  void publishVideosRejected_carriesReasonOnEveryEvent() {
+    // Arrange
+    setQueues();
+    UUID reviewerId = UUID.randomUUID();
+    List<UUID> videoIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+    // Act
+    moderationEventPublisher.publishVideosRejected(videoIds, reviewerId, "Spam video");
+
+    // Assert
+    verify(sqsTemplate).sendMany(eq(MODERATION_EVENTS_QUEUE), batchCaptor.capture());
+    assertThat(batchCaptor.getValue())
+        .extracting(message -> ((VideoRejectedEvent) message.getPayload()).reason())
+        .containsOnly("Spam video");
+  }
 }
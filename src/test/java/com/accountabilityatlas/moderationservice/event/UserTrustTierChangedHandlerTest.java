@@ -5,6 +5,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.repository.SubmitterTrustTierRepository;
 import com.accountabilityatlas.moderationservice.service.ModerationService;
 import java.time.Instant;
 import java.util.UUID;
@@ -21,12 +23,16 @@ class UserTrustTierChangedHandlerTest {
       UUID.fromString("00000000-0000-0000-0000-000000000000");
 
   @Mock private ModerationService moderationService;
+  @Mock private UserSummaryCache userSummaryCache;
+  @Mock private SubmitterTrustTierRepository submitterTrustTierRepository;
 
   private UserTrustTierChangedHandler handler;
 
   @BeforeEach
   void setUp() {
-    handler = new UserTrustTierChangedHandler(moderationService);
+    handler =
+        new UserTrustTierChangedHandler(
+            moderationService, userSummaryCache, submitterTrustTierRepository);
   }
 
   @Test
@@ -42,6 +48,8 @@ class UserTrustTierChangedHandlerTest {
 
     // Assert
     verify(moderationService).approvePendingItemsForUser(userId, SYSTEM_USER_ID);
+    verify(userSummaryCache).invalidate(userId);
+    verify(submitterTrustTierRepository).recordTier(userId, "TRUSTED");
   }
 
   @Test
@@ -1,6 +1,7 @@
 package com.accountabilityatlas.moderationservice.event;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,6 +10,7 @@ import com.accountabilityatlas.moderationservice.client.VideoServiceClient;
 import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ModerationItem;
 import com.accountabilityatlas.moderationservice.service.ModerationService;
+import com.accountabilityatlas.moderationservice.service.Submission;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
@@ -42,6 +44,8 @@ class VideoSubmittedHandlerTest {
     // Arrange
     UUID videoId = UUID.randomUUID();
     UUID submitterId = UUID.randomUUID();
+    List<UUID> locationIds = List.of(UUID.randomUUID());
+    Instant timestamp = Instant.now();
     VideoSubmittedEvent event =
         new VideoSubmittedEvent(
             videoId,
@@ -49,18 +53,27 @@ class VideoSubmittedHandlerTest {
             "NEW",
             "Test Video",
             Set.of("FIRST", "FOURTH"),
-            List.of(UUID.randomUUID()),
-            Instant.now());
+            locationIds,
+            timestamp);
+    Submission expected =
+        new Submission(
+            ContentType.VIDEO,
+            videoId,
+            submitterId,
+            "Test Video",
+            Set.of("FIRST", "FOURTH"),
+            locationIds,
+            timestamp);
 
     ModerationItem item = new ModerationItem();
     item.setId(UUID.randomUUID());
-    when(moderationService.createItem(ContentType.VIDEO, videoId, submitterId)).thenReturn(item);
+    when(moderationService.createItem(expected)).thenReturn(item);
 
     // Act
     handler.handleVideoSubmitted(event);
 
     // Assert
-    verify(moderationService).createItem(ContentType.VIDEO, videoId, submitterId);
+    verify(moderationService).createItem(expected);
     verify(videoServiceClient, never()).updateVideoStatus(any(), any());
     verify(moderationEventPublisher, never()).publishVideoApproved(any(), any());
   }
@@ -85,7 +98,7 @@ class VideoSubmittedHandlerTest {
     handler.handleVideoSubmitted(event);
 
     // Assert
-    verify(moderationService, never()).createItem(any(), any(), any());
+    verify(moderationService, never()).createItem(any());
     verify(videoServiceClient).updateVideoStatus(videoId, "APPROVED");
     verify(moderationEventPublisher).publishVideoApproved(videoId, submitterId);
   }
@@ -109,13 +122,15 @@ class VideoSubmittedHandlerTest {
 
     ModerationItem item = new ModerationItem();
     item.setId(UUID.randomUUID());
-    when(moderationService.createItem(ContentType.VIDEO, videoId, submitterId)).thenReturn(item);
+    when(moderationService.createItem(any(Submission.class))).thenReturn(item);
 
     // Act
     handler.handleVideoSubmitted(event);
 
     // Assert - should queue for moderation, not auto-approve
-    verify(moderationService).createItem(ContentType.VIDEO, videoId, submitterId);
+    verify(moderationService)
+        .createItem(
+            argThat(s -> s.contentId().equals(videoId) && s.submitterId().equals(submitterId)));
     verify(videoServiceClient, never()).updateVideoStatus(any(), any());
     verify(moderationEventPublisher, never()).publishVideoApproved(any(), any());
   }
@@ -0,0 +1,286 @@
+package com.accountabilityatlas.moderationservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.accountabilityatlas.moderationservice.domain.AbuseReason;
+import com.accountabilityatlas.moderationservice.domain.AbuseReport;
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import com.accountabilityatlas.moderationservice.domain.ReportStatus;
+import com.accountabilityatlas.moderationservice.repository.AbuseReportBatchRepository;
+import com.accountabilityatlas.moderationservice.repository.AbuseReportRepository;
+import com.accountabilityatlas.moderationservice.repository.AbuseReportSpecifications;
+import com.accountabilityatlas.moderationservice.repository.AuditLogRepository;
+import com.accountabilityatlas.moderationservice.repository.ClosedReport;
+import com.accountabilityatlas.moderationservice.repository.ReportGroupSummary;
+import com.accountabilityatlas.moderationservice.repository.ReportReasonCount;
+import com.accountabilityatlas.moderationservice.repository.ReportRef;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AbuseReportBatchRepository.class)
+class AbuseReportRepositoryTest extends PostgresIntegrationTest {
+
+  @Autowired private AbuseReportRepository abuseReportRepository;
+  @Autowired private AbuseReportBatchRepository abuseReportBatchRepository;
+  @Autowired private AuditLogRepository auditLogRepository;
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void keysetPages_walkFilteredReportsOldestFirstWithoutGapsOrDuplicates() {
+    // Arrange - several reports share a created_at so the id tie-breaker matters
+    Instant base = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(1, ChronoUnit.HOURS);
+    List<UUID> expected = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      Instant createdAt = base.plusSeconds(i / 3);
+      expected.add(save(ContentType.VIDEO, AbuseReason.SPAM, createdAt).getId());
+      save(ContentType.LOCATION, AbuseReason.SPAM, createdAt);
+      save(ContentType.VIDEO, AbuseReason.COPYRIGHT, createdAt);
+    }
+    Specification<AbuseReport> filter =
+        AbuseReportSpecifications.matching(ReportStatus.OPEN, ContentType.VIDEO, AbuseReason.SPAM);
+
+    // Act
+    List<UUID> walked = new ArrayList<>();
+    List<AbuseReport> page = fetch(filter, 3);
+    while (!page.isEmpty()) {
+      page.forEach(r -> walked.add(r.getId()));
+      AbuseReport last = page.get(page.size() - 1);
+      page =
+          fetch(filter.and(AbuseReportSpecifications.after(last.getCreatedAt(), last.getId())), 3);
+    }
+
+    // Assert
+    assertThat(walked).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(walked).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void findReportGroups_ordersByReportCountAndSkipsClosedReports() {
+    // Arrange
+    Instant base = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(1, ChronoUnit.HOURS);
+    UUID busy = UUID.randomUUID();
+    UUID quiet = UUID.randomUUID();
+    save(ContentType.VIDEO, busy, AbuseReason.SPAM, ReportStatus.OPEN, base);
+    save(ContentType.VIDEO, busy, AbuseReason.COPYRIGHT, ReportStatus.OPEN, base.plusSeconds(5));
+    save(ContentType.VIDEO, busy, AbuseReason.SPAM, ReportStatus.OPEN, base.plusSeconds(9));
+    save(ContentType.VIDEO, quiet, AbuseReason.OTHER, ReportStatus.OPEN, base.plusSeconds(1));
+    save(ContentType.VIDEO, quiet, AbuseReason.OTHER, ReportStatus.DISMISSED, base);
+    save(ContentType.VIDEO, quiet, AbuseReason.OTHER, ReportStatus.DISMISSED, base);
+
+    // Act
+    Page<ReportGroupSummary> groups =
+        abuseReportRepository.findReportGroups(
+            ReportStatus.OPEN, ContentType.VIDEO, PageRequest.of(0, 50));
+
+    // Assert
+    List<ReportGroupSummary> ours =
+        groups.getContent().stream()
+            .filter(g -> g.getContentId().equals(busy) || g.getContentId().equals(quiet))
+            .toList();
+    assertThat(ours).extracting(ReportGroupSummary::getContentId).containsExactly(busy, quiet);
+    assertThat(ours.get(0).getReportCount()).isEqualTo(3);
+    assertThat(ours.get(0).getFirstReportedAt()).isEqualTo(base);
+    assertThat(ours.get(0).getLastReportedAt()).isEqualTo(base.plusSeconds(9));
+    assertThat(ours.get(1).getReportCount()).isEqualTo(1);
+  }
+
+  @Test
+  void findOldestReportIds_returnsFirstReportsPerContentOldestFirst() {
+    // Arrange
+    Instant base = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(1, ChronoUnit.HOURS);
+    UUID busy = UUID.randomUUID();
+    UUID quiet = UUID.randomUUID();
+    List<UUID> busyIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      busyIds.add(
+          save(ContentType.VIDEO, busy, AbuseReason.SPAM, ReportStatus.OPEN, base.plusSeconds(i))
+              .getId());
+    }
+    save(ContentType.VIDEO, busy, AbuseReason.SPAM, ReportStatus.DISMISSED, base.minusSeconds(1));
+    UUID quietId =
+        save(ContentType.VIDEO, quiet, AbuseReason.OTHER, ReportStatus.OPEN, base).getId();
+
+    // Act
+    List<ReportRef> refs =
+        abuseReportRepository.findOldestReportIds("OPEN", new UUID[] {busy, quiet}, 3);
+
+    // Assert
+    assertThat(refs.stream().filter(r -> r.getContentId().equals(busy)).map(ReportRef::getId))
+        .containsExactlyElementsOf(busyIds.subList(0, 3));
+    assertThat(refs.stream().filter(r -> r.getContentId().equals(quiet)).map(ReportRef::getId))
+        .containsExactly(quietId);
+  }
+
+  @Test
+  void findReasonCounts_countsOpenReportsPerContentAndReason() {
+    // Arrange
+    Instant base = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(1, ChronoUnit.HOURS);
+    UUID contentId = UUID.randomUUID();
+    save(ContentType.VIDEO, contentId, AbuseReason.SPAM, ReportStatus.OPEN, base);
+    save(ContentType.VIDEO, contentId, AbuseReason.SPAM, ReportStatus.OPEN, base.plusSeconds(1));
+    save(ContentType.VIDEO, contentId, AbuseReason.COPYRIGHT, ReportStatus.OPEN, base);
+    save(ContentType.VIDEO, contentId, AbuseReason.COPYRIGHT, ReportStatus.RESOLVED, base);
+
+    // Act
+    List<ReportReasonCount> counts =
+        abuseReportRepository.findReasonCounts(ReportStatus.OPEN, List.of(contentId));
+
+    // Assert
+    assertThat(counts)
+        .extracting(ReportReasonCount::getReason, ReportReasonCount::getReportCount)
+        .containsExactlyInAnyOrder(tuple(AbuseReason.SPAM, 2L), tuple(AbuseReason.COPYRIGHT, 1L));
+  }
+
+  @Test
+  void closeOpenReports_updatesOnlyOpenReportsAndAuditsEachOnce() {
+    // Arrange
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    UUID contentId = UUID.randomUUID();
+    UUID moderatorId = UUID.randomUUID();
+    AbuseReport open = save(ContentType.VIDEO, contentId, AbuseReason.SPAM, ReportStatus.OPEN, now);
+    AbuseReport dismissed =
+        save(ContentType.VIDEO, contentId, AbuseReason.SPAM, ReportStatus.DISMISSED, now);
+    List<UUID> ids = List.of(open.getId(), dismissed.getId(), UUID.randomUUID());
+
+    // Act
+    List<ClosedReport> first =
+        abuseReportRepository.closeOpenReports(
+            ids, "RESOLVED", "RESOLVE", moderatorId, "Video removed");
+    List<ClosedReport> second =
+        abuseReportRepository.closeOpenReports(
+            ids, "RESOLVED", "RESOLVE", moderatorId, "Video removed");
+    entityManager.clear();
+
+    // Assert
+    assertThat(first).extracting(ClosedReport::getId).containsExactly(open.getId());
+    assertThat(first).extracting(ClosedReport::getContentId).containsExactly(contentId);
+    assertThat(second).isEmpty();
+    AbuseReport reloaded = abuseReportRepository.findById(open.getId()).orElseThrow();
+    assertThat(reloaded.getStatus()).isEqualTo(ReportStatus.RESOLVED);
+    assertThat(reloaded.getResolvedBy()).isEqualTo(moderatorId);
+    assertThat(reloaded.getResolution()).isEqualTo("Video removed");
+    assertThat(abuseReportRepository.findById(dismissed.getId()).orElseThrow().getStatus())
+        .isEqualTo(ReportStatus.DISMISSED);
+    assertThat(auditLogRepository.findAll())
+        .filteredOn(e -> e.getActorId().equals(moderatorId))
+        .singleElement()
+        .satisfies(
+            e -> {
+              assertThat(e.getAction()).isEqualTo("RESOLVE");
+              assertThat(e.getTargetType()).isEqualTo("ABUSE_REPORT");
+              assertThat(e.getTargetId()).isEqualTo(open.getId());
+            });
+    assertThat(abuseReportRepository.findExistingIds(ids))
+        .containsExactlyInAnyOrder(open.getId(), dismissed.getId());
+  }
+
+  @Test
+  void openReportIndex_rejectsSecondOpenReportFromSameReporterOnly() {
+    // Arrange
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+    save(reporterId, contentId, ReportStatus.DISMISSED, now);
+    save(reporterId, contentId, ReportStatus.OPEN, now);
+    save(UUID.randomUUID(), contentId, ReportStatus.OPEN, now);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> save(reporterId, contentId, ReportStatus.OPEN, now));
+
+    // Assert
+    assertThat(thrown)
+        .isInstanceOf(DataIntegrityViolationException.class)
+        .hasStackTraceContaining("idx_abuse_reports_open_reporter_content");
+  }
+
+  @Test
+  void insertAll_insertsBatchAndSkipsOpenDuplicates() {
+    // Arrange
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+    save(reporterId, contentId, ReportStatus.OPEN, now);
+    AbuseReport duplicate = queued(reporterId, contentId, now);
+    AbuseReport first = queued(UUID.randomUUID(), contentId, now);
+    AbuseReport second = queued(UUID.randomUUID(), UUID.randomUUID(), now.plusSeconds(1));
+
+    // Act
+    List<AbuseReport> inserted =
+        abuseReportBatchRepository.insertAll(List.of(first, duplicate, second));
+    entityManager.clear();
+
+    // Assert
+    assertThat(inserted).containsExactly(first, second);
+    AbuseReport reloaded = abuseReportRepository.findById(first.getId()).orElseThrow();
+    assertThat(reloaded.getStatus()).isEqualTo(ReportStatus.OPEN);
+    assertThat(reloaded.getReason()).isEqualTo(AbuseReason.SPAM);
+    assertThat(reloaded.getCreatedAt()).isEqualTo(now);
+    assertThat(abuseReportRepository.findById(duplicate.getId())).isEmpty();
+  }
+
+  private List<AbuseReport> fetch(Specification<AbuseReport> spec, int limit) {
+    return abuseReportRepository.findBy(
+        spec, query -> query.sortBy(AbuseReportSpecifications.OLDEST_FIRST).limit(limit).all());
+  }
+
+  private AbuseReport save(ContentType contentType, AbuseReason reason, Instant createdAt) {
+    return save(contentType, UUID.randomUUID(), reason, ReportStatus.OPEN, createdAt);
+  }
+
+  private static AbuseReport queued(UUID reporterId, UUID contentId, Instant createdAt) {
+    AbuseReport report = new AbuseReport();
+    report.setId(UUID.randomUUID());
+    report.setContentType(ContentType.VIDEO);
+    report.setContentId(contentId);
+    report.setReporterId(reporterId);
+    report.setReason(AbuseReason.SPAM);
+    report.setStatus(ReportStatus.OPEN);
+    report.setCreatedAt(createdAt);
+    return report;
+  }
+
+  private AbuseReport save(
+      UUID reporterId, UUID contentId, ReportStatus status, Instant createdAt) {
+    AbuseReport report = new AbuseReport();
+    report.setContentType(ContentType.VIDEO);
+    report.setContentId(contentId);
+    report.setReporterId(reporterId);
+    report.setReason(AbuseReason.SPAM);
+    report.setStatus(status);
+    report.setCreatedAt(createdAt);
+    return abuseReportRepository.saveAndFlush(report);
+  }
+
+  private AbuseReport save(
+      ContentType contentType,
+      UUID contentId,
+      AbuseReason reason,
+      ReportStatus status,
+      Instant createdAt) {
+    AbuseReport report = new AbuseReport();
+    report.setContentType(contentType);
+    report.setContentId(contentId);
+    report.setReporterId(UUID.randomUUID());
+    report.setReason(reason);
+    report.setStatus(status);
+    report.setCreatedAt(createdAt);
+    return abuseReportRepository.saveAndFlush(report);
+  }
+}
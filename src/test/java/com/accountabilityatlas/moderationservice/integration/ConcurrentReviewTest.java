@@ -0,0 +1,121 @@
+package com.accountabilityatlas.moderationservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import com.accountabilityatlas.moderationservice.client.VideoServiceClient;
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
+import com.accountabilityatlas.moderationservice.event.ModerationEventPublisher;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.service.AuditLogService;
+import com.accountabilityatlas.moderationservice.service.CacheInvalidationBus;
+import com.accountabilityatlas.moderationservice.service.ModerationItemCache;
+import com.accountabilityatlas.moderationservice.service.ModerationService;
+import com.accountabilityatlas.moderationservice.service.OptimisticLockRetry;
+import com.accountabilityatlas.moderationservice.service.PriorityScorer;
+import com.accountabilityatlas.moderationservice.service.QueueAssignmentService;
+import com.accountabilityatlas.moderationservice.service.QueueEventBus;
+import com.accountabilityatlas.moderationservice.service.ReportEscalationService;
+import com.accountabilityatlas.moderationservice.service.SubmitterStatsService;
+import com.accountabilityatlas.moderationservice.service.TrustEvaluator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reviews committed by separate transactions, as they are in production; every review locks the
+ * queue change markers of the statuses it touches until it commits.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ModerationService.class)
+class ConcurrentReviewTest extends PostgresIntegrationTest {
+
+  @Autowired private ModerationService moderationService;
+  @Autowired private ModerationItemRepository moderationItemRepository;
+
+  @MockitoBean private AuditLogService auditLogService;
+  @MockitoBean private VideoServiceClient videoServiceClient;
+  @MockitoBean private ModerationEventPublisher eventPublisher;
+  @MockitoBean private SubmitterStatsService submitterStatsService;
+  @MockitoBean private TrustEvaluator trustEvaluator;
+  @MockitoBean private ReportEscalationService reportEscalationService;
+  @MockitoBean private PriorityScorer priorityScorer;
+  @MockitoBean private QueueAssignmentService queueAssignmentService;
+  @MockitoBean private OptimisticLockRetry optimisticLockRetry;
+  @MockitoBean private QueueEventBus queueEventBus;
+  @MockitoBean private CacheInvalidationBus cacheInvalidationBus;
+  @MockitoBean private ModerationItemCache moderationItemCache;
+
+  private final List<UUID> created = new ArrayList<>();
+
+  @AfterEach
+  void deleteItems() {
+    moderationItemRepository.deleteAllById(created);
+  }
+
+  @Test
+  void approve_whileAnotherReviewWaitsOnVideoService_isNotBlocked() throws Exception {
+    // Arrange
+    ModerationItem slow = save();
+    ModerationItem fast = save();
+    CountDownLatch calling = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              calling.countDown();
+              release.await(10, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(videoServiceClient)
+        .updateVideoStatus(eq(slow.getContentId()), any());
+    CompletableFuture<ModerationItem> slowReview =
+        CompletableFuture.supplyAsync(
+            () -> moderationService.approve(slow.getId(), UUID.randomUUID()));
+
+    try {
+      assertThat(calling.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // Act
+      CompletableFuture<ModerationItem> fastReview =
+          CompletableFuture.supplyAsync(
+              () -> moderationService.reject(fast.getId(), UUID.randomUUID(), "Spam video"));
+
+      // Assert
+      assertThat(fastReview.get(5, TimeUnit.SECONDS).getStatus())
+          .isEqualTo(ModerationStatus.REJECTED);
+    } finally {
+      release.countDown();
+    }
+    assertThat(slowReview.get(10, TimeUnit.SECONDS).getStatus())
+        .isEqualTo(ModerationStatus.APPROVED);
+  }
+
+  private ModerationItem save() {
+    ModerationItem item = new ModerationItem();
+    item.setContentType(ContentType.VIDEO);
+    item.setContentId(UUID.randomUUID());
+    item.setSubmitterId(UUID.randomUUID());
+    item.setStatus(ModerationStatus.PENDING);
+    ModerationItem saved = moderationItemRepository.saveAndFlush(item);
+    created.add(saved.getId());
+    return saved;
+  }
+}
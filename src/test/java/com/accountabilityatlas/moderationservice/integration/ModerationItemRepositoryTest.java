@@ -0,0 +1,305 @@
+package com.accountabilityatlas.moderationservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
+import com.accountabilityatlas.moderationservice.repository.AgingBatch;
+import com.accountabilityatlas.moderationservice.repository.AuditLogRepository;
+import com.accountabilityatlas.moderationservice.repository.EscalationState;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.repository.QueueChangeMarker;
+import com.accountabilityatlas.moderationservice.repository.ReviewedItem;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ModerationItemRepositoryTest extends PostgresIntegrationTest {
+
+  @Autowired private ModerationItemRepository moderationItemRepository;
+  @Autowired private AuditLogRepository auditLogRepository;
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void reviewPendingItems_updatesOnlyPendingItemsAndAuditsEachOnce() {
+    // Arrange
+    UUID reviewerId = UUID.randomUUID();
+    Instant reviewedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    ModerationItem pending = save(ModerationStatus.PENDING);
+    ModerationItem approved = save(ModerationStatus.APPROVED);
+    List<UUID> ids = List.of(pending.getId(), approved.getId(), UUID.randomUUID());
+
+    // Act
+    List<ReviewedItem> first =
+        moderationItemRepository.reviewPendingItems(
+            ids, "REJECTED", "REJECT", reviewerId, reviewedAt, "Spam video");
+    List<ReviewedItem> second =
+        moderationItemRepository.reviewPendingItems(
+            ids, "REJECTED", "REJECT", reviewerId, reviewedAt, "Spam video");
+    entityManager.clear();
+
+    // Assert
+    assertThat(first)
+        .singleElement()
+        .satisfies(
+            item -> {
+              assertThat(item.getId()).isEqualTo(pending.getId());
+              assertThat(item.getContentId()).isEqualTo(pending.getContentId());
+              assertThat(item.getSubmitterId()).isEqualTo(pending.getSubmitterId());
+            });
+    assertThat(second).isEmpty();
+    ModerationItem reloaded = moderationItemRepository.findById(pending.getId()).orElseThrow();
+    assertThat(reloaded.getStatus()).isEqualTo(ModerationStatus.REJECTED);
+    assertThat(reloaded.getReviewerId()).isEqualTo(reviewerId);
+    assertThat(reloaded.getReviewedAt()).isEqualTo(reviewedAt);
+    assertThat(reloaded.getRejectionReason()).isEqualTo("Spam video");
+    assertThat(moderationItemRepository.findById(approved.getId()).orElseThrow().getStatus())
+        .isEqualTo(ModerationStatus.APPROVED);
+    assertThat(auditLogRepository.findAll())
+        .filteredOn(e -> e.getActorId().equals(reviewerId))
+        .singleElement()
+        .satisfies(e -> assertThat(e.getTargetId()).isEqualTo(pending.getId()));
+    assertThat(moderationItemRepository.findExistingIds(ids))
+        .containsExactlyInAnyOrder(pending.getId(), approved.getId());
+  }
+
+  @Test
+  void openReportCounters_trackPendingItemsOnlyAndKeepHistory() {
+    // Arrange
+    Instant reportedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    ModerationItem pending = save(ModerationStatus.PENDING);
+    ModerationItem approved = save(ModerationStatus.APPROVED);
+    approved.setContentId(pending.getContentId());
+    moderationItemRepository.saveAndFlush(approved);
+
+    // Act
+    List<EscalationState> added =
+        moderationItemRepository.addOpenReports(pending.getContentId(), 3, reportedAt);
+    List<EscalationState> removed =
+        moderationItemRepository.removeOpenReports(pending.getContentId(), 5);
+    int changed = moderationItemRepository.updatePriority(pending.getId(), 2);
+    int unchanged = moderationItemRepository.updatePriority(pending.getId(), 2);
+    entityManager.clear();
+
+    // Assert
+    assertThat(added)
+        .singleElement()
+        .satisfies(
+            state -> {
+              assertThat(state.getId()).isEqualTo(pending.getId());
+              assertThat(state.getOpenReportCount()).isEqualTo(3);
+              assertThat(state.getLastReportedAt()).isEqualTo(reportedAt);
+            });
+    assertThat(removed).singleElement().satisfies(s -> assertThat(s.getOpenReportCount()).isZero());
+    assertThat(changed).isEqualTo(1);
+    assertThat(unchanged).isZero();
+    ModerationItem reloaded = moderationItemRepository.findById(pending.getId()).orElseThrow();
+    assertThat(reloaded.getPriority()).isEqualTo(2);
+    assertThat(reloaded.getLastReportedAt()).isEqualTo(reportedAt);
+    ModerationItem reloadedApproved =
+        moderationItemRepository.findById(approved.getId()).orElseThrow();
+    assertThat(reloadedApproved.getOpenReportCount()).isZero();
+    Number historyWithCount =
+        (Number)
+            entityManager
+                .createNativeQuery(
+                    "SELECT COUNT(*) FROM moderation.moderation_items_history "
+                        + "WHERE id = :id AND open_report_count = 3")
+                .setParameter("id", pending.getId())
+                .getSingleResult();
+    assertThat(historyWithCount.intValue()).isEqualTo(1);
+    assertThat(moderationItemRepository.findEscalationCandidatesAfter(new UUID(0L, 0L), 1000))
+        .extracting(EscalationState::getId)
+        .contains(pending.getId())
+        .doesNotContain(approved.getId());
+  }
+
+  @Test
+  void refreshEffectivePriorities_agesPendingItemsWithoutHistoryRows() {
+    // Arrange
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    long sixHours = Duration.ofHours(6).toSeconds();
+    ModerationItem waiting = save(ModerationStatus.PENDING, now.minus(Duration.ofHours(13)), 1);
+    ModerationItem fresh = save(ModerationStatus.PENDING, now, 2);
+    ModerationItem approved = save(ModerationStatus.APPROVED, now.minus(Duration.ofDays(3)), 0);
+
+    // Act
+    AgingBatch first =
+        moderationItemRepository.refreshEffectivePriorities(new UUID(0L, 0L), 1000, now, sixHours);
+    AgingBatch second =
+        moderationItemRepository.refreshEffectivePriorities(new UUID(0L, 0L), 1000, now, sixHours);
+    int escalated = moderationItemRepository.updatePriority(waiting.getId(), 2);
+    entityManager.clear();
+
+    // Assert
+    assertThat(first.getUpdated()).isEqualTo(2);
+    assertThat(first.updatedIds()).containsExactlyInAnyOrder(waiting.getId(), fresh.getId());
+    assertThat(second.getUpdated()).isZero();
+    assertThat(second.updatedIds()).isEmpty();
+    assertThat(second.getScanned()).isEqualTo(first.getScanned());
+    assertThat(escalated).isEqualTo(1);
+    assertThat(moderationItemRepository.findById(waiting.getId()).orElseThrow())
+        .satisfies(
+            item -> {
+              assertThat(item.getPriority()).isEqualTo(2);
+              assertThat(item.getEffectivePriority()).isEqualTo(4);
+            });
+    ModerationItem reloadedFresh = moderationItemRepository.findById(fresh.getId()).orElseThrow();
+    assertThat(reloadedFresh.getEffectivePriority()).isEqualTo(2);
+    ModerationItem reloadedApproved =
+        moderationItemRepository.findById(approved.getId()).orElseThrow();
+    assertThat(reloadedApproved.getEffectivePriority()).isZero();
+    assertThat(historyRows(waiting.getId())).isEqualTo(1);
+    assertThat(historyRows(fresh.getId())).isZero();
+  }
+
+  @Test
+  void assignTo_movesOnlyPendingItemsWithoutHistoryRows() {
+    // Arrange
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    UUID moderatorId = UUID.randomUUID();
+    ModerationItem pending = save(ModerationStatus.PENDING, now, 0);
+    ModerationItem approved = save(ModerationStatus.APPROVED, now, 0);
+    List<UUID> ids = List.of(pending.getId(), approved.getId());
+
+    // Act
+    int first = moderationItemRepository.assignTo(moderatorId, ids);
+    int second = moderationItemRepository.assignTo(moderatorId, ids);
+    entityManager.clear();
+
+    // Assert
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+    assertThat(
+            moderationItemRepository.findByStatusAndAssignedTo(
+                ModerationStatus.PENDING, moderatorId, PageRequest.of(0, 10)))
+        .extracting(ModerationItem::getId)
+        .containsExactly(pending.getId());
+    assertThat(moderationItemRepository.findById(approved.getId()).orElseThrow().getAssignedTo())
+        .isNull();
+    assertThat(moderationItemRepository.findAssignmentsAfter(new UUID(0L, 0L), 1000))
+        .filteredOn(a -> a.getId().equals(pending.getId()))
+        .singleElement()
+        .satisfies(a -> assertThat(a.getAssignedTo()).isEqualTo(moderatorId));
+    assertThat(historyRows(pending.getId())).isZero();
+  }
+
+  @Test
+  void saveAndFlush_staleCopyAfterBulkReview_failsVersionCheck() {
+    // Arrange
+    ModerationItem stale = save(ModerationStatus.PENDING);
+    moderationItemRepository.reviewPendingItems(
+        List.of(stale.getId()),
+        "REJECTED",
+        "REJECT",
+        UUID.randomUUID(),
+        Instant.now().truncatedTo(ChronoUnit.MICROS),
+        "Spam video");
+    stale.setStatus(ModerationStatus.APPROVED);
+
+    // Act
+    Throwable thrown = catchThrowable(() -> moderationItemRepository.saveAndFlush(stale));
+    entityManager.clear();
+
+    // Assert
+    assertThat(thrown).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    ModerationItem reloaded = moderationItemRepository.findById(stale.getId()).orElseThrow();
+    assertThat(reloaded.getStatus()).isEqualTo(ModerationStatus.REJECTED);
+    assertThat(reloaded.getVersion()).isEqualTo(1);
+    assertThat(historyRows(stale.getId())).isEqualTo(1);
+  }
+
+  @Test
+  void queueChangeMarkers_bumpOldAndNewStatusOncePerStatement() {
+    // Arrange
+    ModerationItem first = save(ModerationStatus.PENDING);
+    ModerationItem second = save(ModerationStatus.PENDING);
+    Map<String, Long> before = changeSeqs();
+
+    // Act
+    moderationItemRepository.reviewPendingItems(
+        List.of(first.getId(), second.getId()),
+        "REJECTED",
+        "REJECT",
+        UUID.randomUUID(),
+        Instant.now().truncatedTo(ChronoUnit.MICROS),
+        "Spam video");
+    Map<String, Long> afterReview = changeSeqs();
+    moderationItemRepository.assignTo(UUID.randomUUID(), List.of(first.getId()));
+    Map<String, Long> afterNoOp = changeSeqs();
+
+    // Assert
+    assertThat(afterReview.get("PENDING")).isEqualTo(before.get("PENDING") + 1);
+    assertThat(afterReview.get("REJECTED")).isEqualTo(before.get("REJECTED") + 1);
+    assertThat(afterReview.get("APPROVED")).isEqualTo(before.get("APPROVED"));
+    assertThat(afterNoOp).isEqualTo(afterReview);
+    assertThat(moderationItemRepository.findRowVersion(first.getId())).isPresent();
+    assertThat(moderationItemRepository.findRowVersion(UUID.randomUUID())).isEmpty();
+  }
+
+  @Test
+  void findByContentIdsAndStatus_returnsOnlyListedContentInThatStatus() {
+    // Arrange
+    ModerationItem pending = save(ModerationStatus.PENDING);
+    ModerationItem approved = save(ModerationStatus.APPROVED);
+    save(ModerationStatus.PENDING);
+    UUID[] contentIds = {pending.getContentId(), approved.getContentId(), UUID.randomUUID()};
+
+    // Act
+    List<ModerationItem> found =
+        moderationItemRepository.findByContentIdsAndStatus(contentIds, "PENDING");
+
+    // Assert
+    assertThat(found).extracting(ModerationItem::getId).containsExactly(pending.getId());
+  }
+
+  private int historyRows(UUID id) {
+    return ((Number)
+            entityManager
+                .createNativeQuery(
+                    "SELECT COUNT(*) FROM moderation.moderation_items_history WHERE id = :id")
+                .setParameter("id", id)
+                .getSingleResult())
+        .intValue();
+  }
+
+  private Map<String, Long> changeSeqs() {
+    return moderationItemRepository.findQueueChangeMarkers().stream()
+        .collect(Collectors.toMap(QueueChangeMarker::getStatus, QueueChangeMarker::getChangeSeq));
+  }
+
+  private ModerationItem save(ModerationStatus status, Instant createdAt, int priority) {
+    ModerationItem item = new ModerationItem();
+    item.setContentType(ContentType.VIDEO);
+    item.setContentId(UUID.randomUUID());
+    item.setSubmitterId(UUID.randomUUID());
+    item.setStatus(status);
+    item.setPriority(priority);
+    item.setCreatedAt(createdAt);
+    return moderationItemRepository.saveAndFlush(item);
+  }
+
+  private ModerationItem save(ModerationStatus status) {
+    ModerationItem item = new ModerationItem();
+    item.setContentType(ContentType.VIDEO);
+    item.setContentId(UUID.randomUUID());
+    item.setSubmitterId(UUID.randomUUID());
+    item.setStatus(status);
+    return moderationItemRepository.saveAndFlush(item);
+  }
+}
@@ -0,0 +1,108 @@
+package com.accountabilityatlas.moderationservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accountabilityatlas.moderationservice.service.PostgresNotifications;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostgresNotificationsTest extends PostgresIntegrationTest {
+
+  private static final String CHANNEL = "moderation_test_channel";
+
+  @Autowired private DataSource dataSource;
+
+  @Test
+  void send_reachesOtherNodesButNotTheSender() throws InterruptedException {
+    // Arrange
+    BlockingQueue<String> heardBySender = new LinkedBlockingQueue<>();
+    BlockingQueue<String> heardByOther = new LinkedBlockingQueue<>();
+    PostgresNotifications sender = node();
+    PostgresNotifications other = node();
+    sender.listen(CHANNEL, heardBySender::add, () -> {});
+    other.listen(CHANNEL, heardByOther::add, () -> {});
+    sender.start();
+    other.start();
+
+    try {
+      // Act (repeat until the other node's LISTEN is in place)
+      String heard = null;
+      for (int attempt = 0; attempt < 50 && heard == null; attempt++) {
+        sender.send(CHANNEL, "item|changed");
+        heard = heardByOther.poll(200, TimeUnit.MILLISECONDS);
+      }
+
+      // Assert
+      assertThat(heard).isEqualTo("item|changed");
+      assertThat(heardBySender.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    } finally {
+      sender.shutdown();
+      other.shutdown();
+    }
+  }
+
+  @Test
+  void receive_gapInSendersSequence_runsMissedCallback() throws Exception {
+    // Arrange
+    BlockingQueue<String> heard = new LinkedBlockingQueue<>();
+    CountDownLatch missed = new CountDownLatch(1);
+    PostgresNotifications other = node();
+    other.listen(CHANNEL, heard::add, missed::countDown);
+    other.start();
+
+    try {
+      // Repeat until the LISTEN is in place; consecutive sequence numbers are not a gap
+      long sequence = 0;
+      String first = null;
+      while (first == null && sequence < 50) {
+        notifyAs("remote-node", ++sequence, "before");
+        first = heard.poll(200, TimeUnit.MILLISECONDS);
+      }
+      assertThat(first).isEqualTo("before");
+
+      // Act
+      notifyAs("remote-node", sequence + 2, "after");
+
+      // Assert
+      assertThat(heard.poll(5, TimeUnit.SECONDS)).isEqualTo("after");
+      assertThat(missed.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      other.shutdown();
+    }
+  }
+
+  /** Sends a message as another node would, on its own autocommitted connection. */
+  private void notifyAs(String nodeId, long sequence, String payload) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+      statement.setString(1, CHANNEL);
+      statement.setString(2, nodeId + '|' + sequence + '|' + payload);
+      statement.execute();
+    }
+  }
+
+  private PostgresNotifications node() {
+    return new PostgresNotifications(
+        dataSource,
+        new JdbcTemplate(dataSource),
+        new SimpleMeterRegistry(),
+        true,
+        Duration.ofSeconds(1),
+        100);
+  }
+}
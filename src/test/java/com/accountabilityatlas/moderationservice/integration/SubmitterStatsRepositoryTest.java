@@ -0,0 +1,153 @@
+package com.accountabilityatlas.moderationservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accountabilityatlas.moderationservice.repository.SubmitterStatsRepository;
+import com.accountabilityatlas.moderationservice.repository.SubmitterTrustTierRepository;
+import com.accountabilityatlas.moderationservice.repository.TrustSignals;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SubmitterStatsRepositoryTest extends PostgresIntegrationTest {
+
+  @Autowired private SubmitterStatsRepository submitterStatsRepository;
+  @Autowired private SubmitterTrustTierRepository submitterTrustTierRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void incrementalUpdates_matchRebuildFromBaseTables() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    UUID reportedContent = UUID.randomUUID();
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    insertItem(submitterId, reportedContent, "APPROVED");
+    insertItem(submitterId, UUID.randomUUID(), "REJECTED");
+    insertItem(submitterId, UUID.randomUUID(), "REJECTED");
+    insertOpenReport(reportedContent);
+    insertOpenReport(reportedContent);
+
+    // Act - incremental
+    submitterStatsRepository.incrementApproved(submitterId, 1);
+    submitterStatsRepository.incrementRejected(submitterId, 1);
+    submitterStatsRepository.incrementDailyRejections(submitterId, today, 1);
+    submitterStatsRepository.incrementRejected(submitterId, 1);
+    submitterStatsRepository.incrementDailyRejections(submitterId, today, 1);
+    submitterStatsRepository.incrementOpenReports(reportedContent, 1);
+    submitterStatsRepository.incrementOpenReports(reportedContent, 1);
+    TrustSignals incremental =
+        submitterStatsRepository.findTrustSignals(submitterId, today.minusDays(30));
+
+    // Act - rebuild
+    UUID min = new UUID(0L, 0L);
+    UUID max = new UUID(-1L, -1L);
+    submitterStatsRepository.lockForRebuild();
+    submitterStatsRepository.deleteStatsInRange(min, max);
+    submitterStatsRepository.insertStatsFromBaseTables(min, max);
+    submitterStatsRepository.deleteDailyRejectionsInRange(min, max);
+    submitterStatsRepository.insertDailyRejectionsFromBaseTables(today.minusDays(90), min, max);
+    TrustSignals rebuilt =
+        submitterStatsRepository.findTrustSignals(submitterId, today.minusDays(30));
+
+    // Assert
+    assertThat(incremental.getRecentRejections()).isEqualTo(2);
+    assertThat(incremental.getActiveReports()).isEqualTo(2);
+    assertThat(rebuilt.getRecentRejections()).isEqualTo(2);
+    assertThat(rebuilt.getActiveReports()).isEqualTo(2);
+    assertThat(submitterStatsRepository.findById(submitterId))
+        .hasValueSatisfying(
+            stats -> {
+              assertThat(stats.getApprovedCount()).isEqualTo(1);
+              assertThat(stats.getRejectedCount()).isEqualTo(2);
+            });
+  }
+
+  @Test
+  void decrementOpenReports_neverGoesNegative() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+    insertItem(submitterId, contentId, "APPROVED");
+    submitterStatsRepository.incrementOpenReports(contentId, 1);
+
+    // Act
+    submitterStatsRepository.decrementOpenReports(contentId);
+    submitterStatsRepository.decrementOpenReports(contentId);
+
+    // Assert
+    TrustSignals signals =
+        submitterStatsRepository.findTrustSignals(submitterId, LocalDate.now(ZoneOffset.UTC));
+    assertThat(signals.getActiveReports()).isZero();
+  }
+
+  @Test
+  void findTrustSignals_unknownSubmitter_returnsZeros() {
+    // Act
+    TrustSignals signals =
+        submitterStatsRepository.findTrustSignals(UUID.randomUUID(), LocalDate.now(ZoneOffset.UTC));
+
+    // Assert
+    assertThat(signals.getRecentRejections()).isZero();
+    assertThat(signals.getActiveReports()).isZero();
+  }
+
+  @Test
+  void findTrustSweepCandidates_selectsOnlySubmittersNearAThreshold() {
+    // Arrange
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    UUID promotable = UUID.randomUUID();
+    UUID fewApprovals = UUID.randomUUID();
+    UUID demotable = UUID.randomUUID();
+    UUID demotableButNew = UUID.randomUUID();
+    submitterStatsRepository.incrementApproved(promotable, 10);
+    submitterStatsRepository.incrementApproved(fewApprovals, 2);
+    submitterStatsRepository.incrementApproved(demotable, 10);
+    submitterStatsRepository.incrementApproved(demotableButNew, 1);
+    for (int i = 0; i < 3; i++) {
+      submitterStatsRepository.incrementRejected(demotable, 1);
+      submitterStatsRepository.incrementDailyRejections(demotable, today, 1);
+      submitterStatsRepository.incrementRejected(demotableButNew, 1);
+      submitterStatsRepository.incrementDailyRejections(demotableButNew, today, 1);
+    }
+    submitterTrustTierRepository.recordTier(demotable, "TRUSTED");
+    submitterTrustTierRepository.recordTier(demotableButNew, "NEW");
+
+    // Act
+    List<UUID> candidates =
+        submitterStatsRepository.findTrustSweepCandidates(
+            new UUID(0L, 0L), today.minusDays(30), 10, 3, 3, 100);
+
+    // Assert
+    assertThat(candidates).containsExactlyInAnyOrder(promotable, demotable);
+  }
+
+  private void insertItem(UUID submitterId, UUID contentId, String status) {
+    jdbcTemplate.update(
+        "INSERT INTO moderation.moderation_items "
+            + "(content_type, content_id, submitter_id, status, reviewed_at) "
+            + "VALUES ('VIDEO', ?, ?, ?, ?)",
+        contentId,
+        submitterId,
+        status,
+        Timestamp.from(Instant.now().minus(1, ChronoUnit.MINUTES)));
+  }
+
+  private void insertOpenReport(UUID contentId) {
+    jdbcTemplate.update(
+        "INSERT INTO moderation.abuse_reports (content_type, content_id, reporter_id, reason) "
+            + "VALUES ('VIDEO', ?, ?, 'SPAM')",
+        contentId,
+        UUID.randomUUID());
+  }
+}
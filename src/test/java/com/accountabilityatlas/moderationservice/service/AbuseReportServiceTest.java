@@ -3,7 +3,11 @@ package com.accountabilityatlas.moderationservice.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,31 +16,61 @@ import com.accountabilityatlas.moderationservice.domain.AbuseReport;
 import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ReportStatus;
 import com.accountabilityatlas.moderationservice.exception.AbuseReportNotFoundException;
+import com.accountabilityatlas.moderationservice.exception.DuplicateReportException;
+import com.accountabilityatlas.moderationservice.exception.ReportRateLimitedException;
+import com.accountabilityatlas.moderationservice.repository.AbuseReportBatchRepository;
 import com.accountabilityatlas.moderationservice.repository.AbuseReportRepository;
+import com.accountabilityatlas.moderationservice.repository.AbuseReportSpecifications;
+import com.accountabilityatlas.moderationservice.repository.ClosedReport;
+import com.accountabilityatlas.moderationservice.repository.ReportGroupSummary;
+import com.accountabilityatlas.moderationservice.repository.ReportReasonCount;
+import com.accountabilityatlas.moderationservice.repository.ReportRef;
+import com.accountabilityatlas.moderationservice.service.AbuseReportService.BulkOutcome;
+import com.accountabilityatlas.moderationservice.service.AbuseReportService.ReportGroup;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 class AbuseReportServiceTest {
 
   @Mock private AbuseReportRepository abuseReportRepository;
+  @Mock private AbuseReportBatchRepository abuseReportBatchRepository;
   @Mock private AuditLogService auditLogService;
+  @Mock private SubmitterStatsService submitterStatsService;
+  @Mock private ReportEscalationService reportEscalationService;
+  @Mock private RecentReportCache recentReportCache;
+  @Mock private ReporterRateLimiter reporterRateLimiter;
 
   private AbuseReportService abuseReportService;
 
   @BeforeEach
   void setUp() {
-    abuseReportService = new AbuseReportService(abuseReportRepository, auditLogService);
+    abuseReportService =
+        new AbuseReportService(
+            abuseReportRepository,
+            abuseReportBatchRepository,
+            auditLogService,
+            submitterStatsService,
+            reportEscalationService,
+            recentReportCache,
+            reporterRateLimiter);
   }
 
   @Test
@@ -45,7 +79,9 @@ class AbuseReportServiceTest {
     UUID contentId = UUID.randomUUID();
     UUID reporterId = UUID.randomUUID();
     String description = "This content violates community guidelines";
-    when(abuseReportRepository.save(any(AbuseReport.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(reporterRateLimiter.tryAcquire(reporterId)).thenReturn(Duration.ZERO);
+    when(abuseReportRepository.saveAndFlush(any(AbuseReport.class)))
+        .thenAnswer(inv -> inv.getArgument(0));
 
     // Act
     AbuseReport result =
@@ -59,6 +95,126 @@ class AbuseReportServiceTest {
     assertThat(result.getReason()).isEqualTo(AbuseReason.INAPPROPRIATE);
     assertThat(result.getDescription()).isEqualTo(description);
     assertThat(result.getStatus()).isEqualTo(ReportStatus.OPEN);
+    verify(submitterStatsService).recordReportOpened(contentId);
+    verify(reportEscalationService).recordReportsOpened(eq(contentId), eq(1), any());
+    verify(recentReportCache).add(reporterId, contentId);
+  }
+
+  @Test
+  void submitReport_knownDuplicate_throwsWithoutChargingRateLimitOrWriting() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+    when(recentReportCache.contains(reporterId, contentId)).thenReturn(true);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                abuseReportService.submitReport(
+                    ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, null));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(DuplicateReportException.class);
+    verify(reporterRateLimiter, never()).tryAcquire(any());
+    verify(abuseReportRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  void submitReport_rateLimited_throwsWithRetryAfterAndDoesNotWrite() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    when(reporterRateLimiter.tryAcquire(reporterId)).thenReturn(Duration.ofSeconds(12));
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                abuseReportService.submitReport(
+                    ContentType.VIDEO, UUID.randomUUID(), reporterId, AbuseReason.SPAM, null));
+
+    // Assert
+    assertThat(thrown)
+        .isInstanceOfSatisfying(
+            ReportRateLimitedException.class,
+            e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(12)));
+    verify(abuseReportRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  void submitReport_openReportIndexConflict_cachesAndThrowsDuplicate() {
+    // Arrange - another node accepted the same report first
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+    when(reporterRateLimiter.tryAcquire(reporterId)).thenReturn(Duration.ZERO);
+    when(abuseReportRepository.saveAndFlush(any(AbuseReport.class)))
+        .thenThrow(
+            new DataIntegrityViolationException(
+                "insert failed",
+                new SQLException(
+                    "duplicate key value violates unique constraint \""
+                        + AbuseReportService.OPEN_REPORT_INDEX
+                        + "\"")));
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                abuseReportService.submitReport(
+                    ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, null));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(DuplicateReportException.class);
+    verify(recentReportCache).addExisting(reporterId, contentId);
+    verify(submitterStatsService, never()).recordReportOpened(any());
+  }
+
+  @Test
+  void submitReport_otherIntegrityViolation_propagates() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    DataIntegrityViolationException failure =
+        new DataIntegrityViolationException("insert failed", new SQLException("not-null"));
+    when(reporterRateLimiter.tryAcquire(reporterId)).thenReturn(Duration.ZERO);
+    when(abuseReportRepository.saveAndFlush(any(AbuseReport.class))).thenThrow(failure);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                abuseReportService.submitReport(
+                    ContentType.VIDEO, UUID.randomUUID(), reporterId, AbuseReason.SPAM, null));
+
+    // Assert
+    assertThat(thrown).isSameAs(failure);
+    verify(recentReportCache, never()).addExisting(any(), any());
+  }
+
+  @Test
+  void insertQueuedReports_countsInsertedReportsOncePerContent() {
+    // Arrange
+    UUID contentA = UUID.randomUUID();
+    UUID contentB = UUID.randomUUID();
+    Instant now = Instant.now();
+    AbuseReport a1 = createOpenReport(contentA, AbuseReason.SPAM);
+    a1.setCreatedAt(now.minusSeconds(5));
+    AbuseReport a2 = createOpenReport(contentA, AbuseReason.SPAM);
+    a2.setCreatedAt(now);
+    AbuseReport b1 = createOpenReport(contentB, AbuseReason.SPAM);
+    b1.setCreatedAt(now.minusSeconds(3));
+    AbuseReport skipped = createOpenReport(contentB, AbuseReason.SPAM);
+    List<AbuseReport> batch = List.of(a1, a2, b1, skipped);
+    when(abuseReportBatchRepository.insertAll(batch)).thenReturn(List.of(a1, a2, b1));
+
+    // Act
+    List<AbuseReport> inserted = abuseReportService.insertQueuedReports(batch);
+
+    // Assert
+    assertThat(inserted).containsExactly(a1, a2, b1);
+    verify(submitterStatsService).recordReportsOpened(contentA, 2);
+    verify(submitterStatsService).recordReportsOpened(contentB, 1);
+    verify(reportEscalationService).recordReportsOpened(contentA, 2, a2.getCreatedAt());
+    verify(reportEscalationService).recordReportsOpened(contentB, 1, b1.getCreatedAt());
   }
 
   @Test
@@ -94,9 +250,11 @@ class AbuseReportServiceTest {
     // Arrange
     UUID id = UUID.randomUUID();
     UUID resolverId = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
     String resolutionNotes = "Content was reviewed and action taken";
     AbuseReport report = new AbuseReport();
     report.setId(id);
+    report.setContentId(contentId);
     report.setStatus(ReportStatus.OPEN);
     when(abuseReportRepository.findById(id)).thenReturn(Optional.of(report));
     when(abuseReportRepository.save(any(AbuseReport.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -109,6 +267,27 @@ class AbuseReportServiceTest {
     assertThat(result.getResolvedBy()).isEqualTo(resolverId);
     assertThat(result.getResolution()).isEqualTo(resolutionNotes);
     verify(auditLogService).logAction(resolverId, "RESOLVE", "ABUSE_REPORT", id, resolutionNotes);
+    verify(submitterStatsService).recordReportClosed(contentId);
+    verify(reportEscalationService).recordReportsClosed(contentId, 1);
+    verify(recentReportCache).forgetContent(List.of(contentId));
+  }
+
+  @Test
+  void resolve_alreadyDismissedReport_doesNotCloseOpenReportAgain() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    AbuseReport report = new AbuseReport();
+    report.setId(id);
+    report.setContentId(UUID.randomUUID());
+    report.setStatus(ReportStatus.DISMISSED);
+    when(abuseReportRepository.findById(id)).thenReturn(Optional.of(report));
+    when(abuseReportRepository.save(any(AbuseReport.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    // Act
+    abuseReportService.resolve(id, UUID.randomUUID(), "Reopened and actioned");
+
+    // Assert
+    verify(submitterStatsService, never()).recordReportClosed(any());
   }
 
   @Test
@@ -116,9 +295,11 @@ class AbuseReportServiceTest {
     // Arrange
     UUID id = UUID.randomUUID();
     UUID resolverId = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
     String dismissalReason = "Report was determined to be unfounded";
     AbuseReport report = new AbuseReport();
     report.setId(id);
+    report.setContentId(contentId);
     report.setStatus(ReportStatus.OPEN);
     when(abuseReportRepository.findById(id)).thenReturn(Optional.of(report));
     when(abuseReportRepository.save(any(AbuseReport.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -131,6 +312,7 @@ class AbuseReportServiceTest {
     assertThat(result.getResolvedBy()).isEqualTo(resolverId);
     assertThat(result.getResolution()).isEqualTo(dismissalReason);
     verify(auditLogService).logAction(resolverId, "DISMISS", "ABUSE_REPORT", id, dismissalReason);
+    verify(submitterStatsService).recordReportClosed(contentId);
   }
 
   @Test
@@ -143,16 +325,224 @@ class AbuseReportServiceTest {
     report2.setId(UUID.randomUUID());
     report2.setStatus(ReportStatus.OPEN);
     Page<AbuseReport> page = new PageImpl<>(List.of(report1, report2));
-    Pageable pageable = PageRequest.of(0, 20);
-    when(abuseReportRepository.findByStatus(eq(ReportStatus.OPEN), any(Pageable.class)))
+    when(abuseReportRepository.findAll(any(Specification.class), any(Pageable.class)))
         .thenReturn(page);
 
     // Act
-    Page<AbuseReport> result = abuseReportService.listReports(ReportStatus.OPEN, pageable);
+    Page<AbuseReport> result =
+        abuseReportService.listReports(ReportStatus.OPEN, ContentType.VIDEO, null, 0, 20);
 
     // Assert
     assertThat(result.getContent()).hasSize(2);
     assertThat(result.getContent()).allMatch(r -> r.getStatus() == ReportStatus.OPEN);
-    verify(abuseReportRepository).findByStatus(ReportStatus.OPEN, pageable);
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(abuseReportRepository).findAll(any(Specification.class), pageable.capture());
+    assertThat(pageable.getValue().getPageSize()).isEqualTo(20);
+    assertThat(pageable.getValue().getSort()).isEqualTo(AbuseReportSpecifications.OLDEST_FIRST);
+  }
+
+  @Test
+  void listReportsAfter_returnsKeysetPageWithoutCounting() {
+    // Arrange
+    AbuseReport report = new AbuseReport();
+    report.setId(UUID.randomUUID());
+    ReportCursor cursor = new ReportCursor(Instant.now(), UUID.randomUUID());
+    when(abuseReportRepository.findBy(any(Specification.class), any())).thenReturn(List.of(report));
+
+    // Act
+    List<AbuseReport> result =
+        abuseReportService.listReportsAfter(ReportStatus.OPEN, null, AbuseReason.SPAM, cursor, 20);
+
+    // Assert
+    assertThat(result).containsExactly(report);
+    verify(abuseReportRepository, never()).count(any(Specification.class));
+  }
+
+  @Test
+  void listReportGroups_attachesReasonHistogramAndReportIds() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    Instant first = Instant.parse("2026-05-01T10:00:00Z");
+    Instant last = Instant.parse("2026-05-01T12:00:00Z");
+    ReportGroupSummary summary = mock(ReportGroupSummary.class);
+    when(summary.getContentType()).thenReturn(ContentType.VIDEO);
+    when(summary.getContentId()).thenReturn(contentId);
+    when(summary.getReportCount()).thenReturn(3L);
+    when(summary.getFirstReportedAt()).thenReturn(first);
+    when(summary.getLastReportedAt()).thenReturn(last);
+    when(abuseReportRepository.findReportGroups(ReportStatus.OPEN, null, PageRequest.of(0, 20)))
+        .thenReturn(new PageImpl<>(List.of(summary)));
+    when(abuseReportRepository.findReasonCounts(ReportStatus.OPEN, List.of(contentId)))
+        .thenReturn(
+            List.of(
+                reasonCount(contentId, AbuseReason.SPAM, 2),
+                reasonCount(contentId, AbuseReason.COPYRIGHT, 1)));
+    UUID oldest = UUID.randomUUID();
+    UUID newest = UUID.randomUUID();
+    when(abuseReportRepository.findOldestReportIds(
+            "OPEN", new UUID[] {contentId}, AbuseReportService.REPORT_IDS_PER_GROUP))
+        .thenReturn(List.of(reportRef(oldest, contentId), reportRef(newest, contentId)));
+
+    // Act
+    Page<ReportGroup> result = abuseReportService.listReportGroups(ReportStatus.OPEN, null, 0, 20);
+
+    // Assert
+    assertThat(result.getContent()).hasSize(1);
+    ReportGroup group = result.getContent().get(0);
+    assertThat(group.reportCount()).isEqualTo(3);
+    assertThat(group.reasonCounts())
+        .containsEntry(AbuseReason.SPAM, 2L)
+        .containsEntry(AbuseReason.COPYRIGHT, 1L)
+        .hasSize(2);
+    assertThat(group.reportIds()).containsExactly(oldest, newest);
+    assertThat(group.firstReportedAt()).isEqualTo(first);
+    assertThat(group.lastReportedAt()).isEqualTo(last);
+  }
+
+  @Test
+  void listReportGroups_noGroups_skipsReportLookup() {
+    // Arrange
+    when(abuseReportRepository.findReportGroups(ReportStatus.OPEN, null, PageRequest.of(0, 20)))
+        .thenReturn(Page.empty(PageRequest.of(0, 20)));
+
+    // Act
+    Page<ReportGroup> result = abuseReportService.listReportGroups(ReportStatus.OPEN, null, 0, 20);
+
+    // Assert
+    assertThat(result.getContent()).isEmpty();
+    verify(abuseReportRepository, never()).findReasonCounts(any(), any());
+    verify(abuseReportRepository, never()).findOldestReportIds(any(), any(), anyInt());
+  }
+
+  @Test
+  void resolveAllForContent_closesOpenReportsAndUpdatesCountersOnce() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID moderatorId = UUID.randomUUID();
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(abuseReportRepository.closeOpenReportsForContent(
+            contentId, "RESOLVED", "RESOLVE", moderatorId, "Video removed"))
+        .thenReturn(List.of(closed(first, contentId), closed(second, contentId)));
+
+    // Act
+    List<UUID> resolved =
+        abuseReportService.resolveAllForContent(contentId, moderatorId, "Video removed");
+
+    // Assert
+    assertThat(resolved).containsExactly(first, second);
+    verify(submitterStatsService).recordReportsClosed(contentId, 2);
+    verify(reportEscalationService).recordReportsClosed(contentId, 2);
+    verify(recentReportCache).forgetContent(Set.of(contentId));
+  }
+
+  @Test
+  void resolveAll_reportsOutcomePerRequestedIdInRequestOrder() {
+    // Arrange
+    UUID moderatorId = UUID.randomUUID();
+    UUID open = UUID.randomUUID();
+    UUID closedAlready = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+    when(abuseReportRepository.closeOpenReports(
+            any(), eq("RESOLVED"), eq("RESOLVE"), eq(moderatorId), eq("Video removed")))
+        .thenReturn(List.of(closed(open, contentId)));
+    when(abuseReportRepository.findExistingIds(List.of(missing, closedAlready)))
+        .thenReturn(List.of(closedAlready));
+
+    // Act
+    List<BulkOutcome> outcomes =
+        abuseReportService.resolveAll(
+            List.of(missing, open, closedAlready, open), moderatorId, "Video removed");
+
+    // Assert
+    assertThat(outcomes)
+        .containsExactly(
+            new BulkOutcome(missing, BulkOutcome.Result.NOT_FOUND),
+            new BulkOutcome(open, BulkOutcome.Result.UPDATED),
+            new BulkOutcome(closedAlready, BulkOutcome.Result.ALREADY_CLOSED));
+    verify(submitterStatsService).recordReportsClosed(contentId, 1);
+  }
+
+  @Test
+  void dismissAll_allUpdated_skipsExistenceLookup() {
+    // Arrange
+    UUID moderatorId = UUID.randomUUID();
+    UUID contentA = UUID.randomUUID();
+    UUID contentB = UUID.randomUUID();
+    UUID a1 = UUID.randomUUID();
+    UUID a2 = UUID.randomUUID();
+    UUID b1 = UUID.randomUUID();
+    when(abuseReportRepository.closeOpenReports(
+            any(), eq("DISMISSED"), eq("DISMISS"), eq(moderatorId), isNull()))
+        .thenReturn(List.of(closed(a1, contentA), closed(b1, contentB), closed(a2, contentA)));
+
+    // Act
+    List<BulkOutcome> outcomes =
+        abuseReportService.dismissAll(List.of(a1, a2, b1), moderatorId, null);
+
+    // Assert
+    assertThat(outcomes).allMatch(o -> o.result() == BulkOutcome.Result.UPDATED).hasSize(3);
+    verify(submitterStatsService).recordReportsClosed(contentA, 2);
+    verify(submitterStatsService).recordReportsClosed(contentB, 1);
+    verify(abuseReportRepository, never()).findExistingIds(any());
+  }
+
+  private AbuseReport createOpenReport(UUID contentId, AbuseReason reason) {
+    AbuseReport report = new AbuseReport();
+    report.setId(UUID.randomUUID());
+    report.setContentType(ContentType.VIDEO);
+    report.setContentId(contentId);
+    report.setReporterId(UUID.randomUUID());
+    report.setReason(reason);
+    report.setStatus(ReportStatus.OPEN);
+    return report;
+  }
+
+  private static ClosedReport closed(UUID id, UUID contentId) {
+    return new ClosedReport() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public UUID getContentId() {
+        return contentId;
+      }
+    };
+  }
+
+  private static ReportReasonCount reasonCount(UUID contentId, AbuseReason reason, long count) {
+    return new ReportReasonCount() {
+      @Override
+      public UUID getContentId() {
+        return contentId;
+      }
+
+      @Override
+      public AbuseReason getReason() {
+        return reason;
+      }
+
+      @Override
+      public long getReportCount() {
+        return count;
+      }
+    };
+  }
+
+  private static ReportRef reportRef(UUID id, UUID contentId) {
+    return new ReportRef() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public UUID getContentId() {
+        return contentId;
+      }
+    };
   }
 }
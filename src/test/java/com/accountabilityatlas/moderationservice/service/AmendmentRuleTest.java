@@ -0,0 +1,37 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AmendmentRuleTest {
+
+  private final AmendmentRule rule = new AmendmentRule(Set.of("FOURTH", "FIFTH", "SIXTH"), 1, 2);
+
+  @Test
+  void score_countsElevatedAmendmentsOnly() {
+    // Act & Assert
+    assertThat(rule.score(withAmendments(Set.of("FIRST", "FOURTH")))).isEqualTo(1);
+  }
+
+  @Test
+  void score_manyElevatedAmendments_isCapped() {
+    // Act & Assert
+    assertThat(rule.score(withAmendments(Set.of("FOURTH", "FIFTH", "SIXTH")))).isEqualTo(2);
+  }
+
+  @Test
+  void score_missingAmendments_returnsZero() {
+    // Act & Assert
+    assertThat(rule.score(withAmendments(null))).isZero();
+  }
+
+  private static Submission withAmendments(Set<String> amendments) {
+    return new Submission(
+        ContentType.VIDEO, UUID.randomUUID(), UUID.randomUUID(), null, amendments, List.of(), null);
+  }
+}
@@ -0,0 +1,168 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.service.CacheInvalidationBus.Entity;
+import com.accountabilityatlas.moderationservice.service.CacheInvalidationBus.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+  @Mock private PostgresNotifications notifications;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<UUID> evicted = new ArrayList<>();
+  private final AtomicInteger flushes = new AtomicInteger();
+  private CacheInvalidationBus bus;
+
+  @BeforeEach
+  void setUp() {
+    bus = new CacheInvalidationBus(notifications, objectMapper, new SimpleMeterRegistry(), 150);
+    bus.subscribe(Entity.MODERATION_ITEM, evicted::addAll, flushes::incrementAndGet);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void publish_insideTransaction_evictsLocallyOnlyAfterCommit() {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    bus.publish(Entity.MODERATION_ITEM, List.of(itemId));
+    boolean evictedBeforeCommit = !evicted.isEmpty();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    // Assert
+    assertThat(evictedBeforeCommit).isFalse();
+    assertThat(evicted).containsExactly(itemId);
+  }
+
+  @Test
+  void flush_repeatedIds_sendOneCoalescedMessage() throws Exception {
+    // Arrange
+    when(notifications.isEnabled()).thenReturn(true);
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    bus.publish(Entity.MODERATION_ITEM, List.of(first));
+    bus.publish(Entity.MODERATION_ITEM, List.of(first, second));
+
+    // Act
+    bus.flush();
+    bus.flush();
+
+    // Assert
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(notifications).send(eq(CacheInvalidationBus.CHANNEL), payload.capture());
+    assertThat(objectMapper.readValue(payload.getValue(), Message.class))
+        .isEqualTo(new Message(Entity.MODERATION_ITEM, List.of(first, second), false));
+  }
+
+  @Test
+  void flush_tooManyPendingIds_sendsFlushAll() throws Exception {
+    // Arrange
+    when(notifications.isEnabled()).thenReturn(true);
+    bus.publish(Entity.MODERATION_ITEM, Stream.generate(UUID::randomUUID).limit(200).toList());
+
+    // Act
+    bus.flush();
+
+    // Assert
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(notifications).send(eq(CacheInvalidationBus.CHANNEL), payload.capture());
+    assertThat(objectMapper.readValue(payload.getValue(), Message.class).all()).isTrue();
+  }
+
+  @Test
+  void publishAll_evictsEverythingAndSendsFlushAll() throws Exception {
+    // Arrange
+    when(notifications.isEnabled()).thenReturn(true);
+    bus.publish(Entity.MODERATION_ITEM, List.of(UUID.randomUUID()));
+
+    // Act
+    bus.publishAll(Entity.MODERATION_ITEM);
+    bus.flush();
+
+    // Assert
+    assertThat(flushes).hasValue(1);
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(notifications).send(eq(CacheInvalidationBus.CHANNEL), payload.capture());
+    assertThat(objectMapper.readValue(payload.getValue(), Message.class).all()).isTrue();
+  }
+
+  @Test
+  void publish_entityWithoutSubscribers_doesNothing() {
+    // Act
+    bus.publish(Entity.USER, List.of(UUID.randomUUID()));
+    bus.flush();
+
+    // Assert
+    verify(notifications, never()).send(anyString(), anyString());
+  }
+
+  @Test
+  void remoteMessage_evictsListedIds() throws Exception {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    String payload =
+        objectMapper.writeValueAsString(
+            new Message(Entity.MODERATION_ITEM, List.of(itemId), false));
+
+    // Act
+    remoteHandler().accept(payload);
+
+    // Assert
+    assertThat(evicted).containsExactly(itemId);
+  }
+
+  @Test
+  void reconnect_flushesEverySubscriber() {
+    // Arrange
+    ArgumentCaptor<Runnable> onReconnect = ArgumentCaptor.forClass(Runnable.class);
+    verify(notifications).listen(eq(CacheInvalidationBus.CHANNEL), any(), onReconnect.capture());
+
+    // Act
+    onReconnect.getValue().run();
+
+    // Assert
+    assertThat(flushes).hasValue(1);
+    assertThat(evicted).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Consumer<String> remoteHandler() {
+    ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+    verify(notifications).listen(eq(CacheInvalidationBus.CHANNEL), handler.capture(), any());
+    return handler.getValue();
+  }
+}
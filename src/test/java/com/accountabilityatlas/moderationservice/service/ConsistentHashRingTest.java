@@ -0,0 +1,87 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+  @Test
+  void ownerOf_emptyRing_returnsNull() {
+    // Act & Assert
+    assertThat(ConsistentHashRing.EMPTY.ownerOf(UUID.randomUUID())).isNull();
+  }
+
+  @Test
+  void ownerOf_sameMembersInAnyOrder_placesKeysIdentically() {
+    // Arrange
+    List<UUID> members = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    ConsistentHashRing ring = new ConsistentHashRing(members, 100);
+    ConsistentHashRing reordered = new ConsistentHashRing(members.reversed(), 100);
+
+    // Act & Assert
+    for (int i = 0; i < 1_000; i++) {
+      UUID key = UUID.randomUUID();
+      assertThat(reordered.ownerOf(key)).isEqualTo(ring.ownerOf(key)).isIn(members);
+    }
+  }
+
+  @Test
+  void ownerOf_addingAMember_movesAboutItsShareAndOnlyToIt() {
+    // Arrange
+    List<UUID> members = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      members.add(UUID.randomUUID());
+    }
+    ConsistentHashRing before = new ConsistentHashRing(members, 100);
+    UUID joined = UUID.randomUUID();
+    members.add(joined);
+    ConsistentHashRing after = new ConsistentHashRing(members, 100);
+
+    // Act
+    int keys = 20_000;
+    int moved = 0;
+    for (int i = 0; i < keys; i++) {
+      UUID key = UUID.randomUUID();
+      UUID oldOwner = before.ownerOf(key);
+      UUID newOwner = after.ownerOf(key);
+      if (!newOwner.equals(oldOwner)) {
+        assertThat(newOwner).isEqualTo(joined);
+        moved++;
+      }
+    }
+
+    // Assert - ideal is 1/5 of the keys
+    assertThat((double) moved / keys).isBetween(0.12, 0.28);
+  }
+
+  @Test
+  void ownerOf_spreadsKeysRoughlyEvenly() {
+    // Arrange
+    Set<UUID> members = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    ConsistentHashRing ring = new ConsistentHashRing(members, 100);
+    Map<UUID, Integer> counts = new HashMap<>();
+
+    // Act
+    for (int i = 0; i < 30_000; i++) {
+      counts.merge(ring.ownerOf(UUID.randomUUID()), 1, Integer::sum);
+    }
+
+    // Assert
+    assertThat(counts.values()).allSatisfy(c -> assertThat(c).isBetween(7_000, 13_000));
+  }
+
+  @Test
+  void constructor_nonPositiveVirtualNodes_isRejected() {
+    // Act & Assert
+    assertThatThrownBy(() -> new ConsistentHashRing(List.of(UUID.randomUUID()), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,70 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class EscalationPolicyTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+  private final EscalationPolicy policy =
+      new EscalationPolicy(new int[] {1, 3, 10, 25}, Duration.ofDays(3));
+
+  @Test
+  void priorityFor_countsThresholdsReached() {
+    // Act & Assert
+    assertThat(policy.priorityFor(0, null, NOW)).isZero();
+    assertThat(policy.priorityFor(1, NOW, NOW)).isEqualTo(1);
+    assertThat(policy.priorityFor(2, NOW, NOW)).isEqualTo(1);
+    assertThat(policy.priorityFor(3, NOW, NOW)).isEqualTo(2);
+    assertThat(policy.priorityFor(24, NOW, NOW)).isEqualTo(3);
+    assertThat(policy.priorityFor(500, NOW, NOW)).isEqualTo(4);
+  }
+
+  @Test
+  void priorityFor_quietContent_decaysOneLevelPerInterval() {
+    // Arrange
+    Instant lastReported = NOW.minus(Duration.ofDays(7));
+
+    // Act
+    int priority = policy.priorityFor(25, lastReported, NOW);
+
+    // Assert - two full intervals have passed
+    assertThat(priority).isEqualTo(2);
+  }
+
+  @Test
+  void priorityFor_decayNeverDropsOpenReportsBelowOne() {
+    // Act
+    int priority = policy.priorityFor(25, NOW.minus(Duration.ofDays(90)), NOW);
+
+    // Assert
+    assertThat(priority).isEqualTo(1);
+  }
+
+  @Test
+  void priorityFor_zeroDecayInterval_disablesDecay() {
+    // Arrange
+    EscalationPolicy noDecay = new EscalationPolicy(new int[] {1, 3}, Duration.ZERO);
+
+    // Act
+    int priority = noDecay.priorityFor(3, NOW.minus(Duration.ofDays(90)), NOW);
+
+    // Assert
+    assertThat(priority).isEqualTo(2);
+  }
+
+  @Test
+  void constructor_unorderedThresholds_throws() {
+    // Act
+    Throwable thrown =
+        catchThrowable(() -> new EscalationPolicy(new int[] {3, 3}, Duration.ofDays(1)));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,182 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.repository.SubmitterStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FlaggedSubmitterFilterTest {
+
+  @Mock private SubmitterStatsRepository submitterStatsRepository;
+  @Mock private CacheInvalidationBus cacheInvalidationBus;
+
+  private FlaggedSubmitterFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter =
+        new FlaggedSubmitterFilter(
+            submitterStatsRepository, cacheInvalidationBus, new SimpleMeterRegistry(), true);
+  }
+
+  @Test
+  void mightBeFlagged_beforeFirstRebuild_returnsTrue() {
+    // Act & Assert
+    assertThat(filter.mightBeFlagged(UUID.randomUUID())).isTrue();
+  }
+
+  @Test
+  void mightBeFlagged_afterRebuild_onlyFlaggedSubmittersMatch() {
+    // Arrange
+    UUID flagged = UUID.randomUUID();
+    when(submitterStatsRepository.findFlaggedSubmitters(any())).thenReturn(List.of(flagged));
+
+    // Act
+    filter.rebuild();
+
+    // Assert
+    assertThat(filter.mightBeFlagged(flagged)).isTrue();
+    assertThat(filter.mightBeFlagged(UUID.randomUUID())).isFalse();
+  }
+
+  @Test
+  void markFlagged_afterRebuild_isVisibleImmediately() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    when(submitterStatsRepository.findFlaggedSubmitters(any())).thenReturn(List.of());
+    filter.rebuild();
+
+    // Act
+    filter.markFlagged(List.of(submitterId));
+
+    // Assert
+    assertThat(filter.mightBeFlagged(submitterId)).isTrue();
+  }
+
+  @Test
+  void rebuild_carriesOverAddsSinceThePreviousRebuild() {
+    // Arrange - the flag's transaction has not committed when the rebuild query runs
+    UUID submitterId = UUID.randomUUID();
+    when(submitterStatsRepository.findFlaggedSubmitters(any())).thenReturn(List.of());
+    filter.rebuild();
+    filter.markFlagged(List.of(submitterId));
+
+    // Act
+    filter.rebuild();
+
+    // Assert
+    assertThat(filter.mightBeFlagged(submitterId)).isTrue();
+  }
+
+  @Test
+  void rebuild_dropsAddsOlderThanOneRefreshInterval() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    when(submitterStatsRepository.findFlaggedSubmitters(any())).thenReturn(List.of());
+    filter.rebuild();
+    filter.markFlagged(List.of(submitterId));
+    filter.rebuild();
+
+    // Act
+    filter.rebuild();
+
+    // Assert
+    assertThat(filter.mightBeFlagged(submitterId)).isFalse();
+  }
+
+  @Test
+  void rebuild_queryFails_keepsTreatingEveryoneAsFlagged() {
+    // Arrange
+    when(submitterStatsRepository.findFlaggedSubmitters(any()))
+        .thenThrow(new IllegalStateException("db down"));
+
+    // Act
+    filter.rebuild();
+
+    // Assert
+    assertThat(filter.mightBeFlagged(UUID.randomUUID())).isTrue();
+  }
+
+  @Test
+  void markFlagged_publishesToOtherNodes() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+
+    // Act
+    filter.markFlagged(List.of(submitterId));
+
+    // Assert
+    verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.FLAGGED_SUBMITTERS, List.of(submitterId));
+  }
+
+  @Test
+  void missedNotifications_treatEveryoneAsFlaggedUntilNextRebuild() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    when(submitterStatsRepository.findFlaggedSubmitters(any())).thenReturn(List.of());
+    filter.rebuild();
+
+    // Act
+    missedCallback().run();
+
+    // Assert
+    assertThat(filter.mightBeFlagged(submitterId)).isTrue();
+    filter.rebuild();
+    assertThat(filter.mightBeFlagged(submitterId)).isFalse();
+  }
+
+  @Test
+  void rebuild_notificationsMissedWhileQuerying_discardsResult() {
+    // Arrange
+    Runnable missed = missedCallback();
+    when(submitterStatsRepository.findFlaggedSubmitters(any()))
+        .thenAnswer(
+            invocation -> {
+              missed.run();
+              return List.of();
+            });
+
+    // Act
+    filter.rebuild();
+
+    // Assert
+    assertThat(filter.mightBeFlagged(UUID.randomUUID())).isTrue();
+  }
+
+  @Test
+  void disabled_alwaysFlaggedAndNeverQueries() {
+    // Arrange
+    FlaggedSubmitterFilter disabled =
+        new FlaggedSubmitterFilter(
+            submitterStatsRepository, cacheInvalidationBus, new SimpleMeterRegistry(), false);
+
+    // Act
+    disabled.rebuild();
+
+    // Assert
+    assertThat(disabled.mightBeFlagged(UUID.randomUUID())).isTrue();
+    verify(submitterStatsRepository, never()).findFlaggedSubmitters(any());
+  }
+
+  private Runnable missedCallback() {
+    ArgumentCaptor<Runnable> evictAll = ArgumentCaptor.forClass(Runnable.class);
+    verify(cacheInvalidationBus)
+        .subscribe(eq(CacheInvalidationBus.Entity.FLAGGED_SUBMITTERS), any(), evictAll.capture());
+    return evictAll.getValue();
+  }
+}
@@ -0,0 +1,185 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.repository.IdempotencyKeyRepository;
+import com.accountabilityatlas.moderationservice.repository.IdempotencyKeyRepository.HeldClaim;
+import com.accountabilityatlas.moderationservice.repository.IdempotencyKeyRepository.IdempotencyRecord;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService.Claim;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService.StoredResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class IdempotencyServiceTest {
+
+  private static final String CALLER = "moderator-1";
+  private static final String KEY = "retry-1";
+  private static final String FINGERPRINT = "a".repeat(64);
+
+  private IdempotencyKeyRepository repository;
+  private SimpleMeterRegistry meterRegistry;
+  private IdempotencyService service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(IdempotencyKeyRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    service =
+        new IdempotencyService(
+            repository,
+            meterRegistry,
+            Duration.ofHours(24),
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(15),
+            100);
+  }
+
+  @Test
+  void claim_newKey_isAcquired() {
+    // Arrange
+    when(repository.claim(anyString(), anyString(), anyString(), any(), any(), any()))
+        .thenReturn(true);
+
+    // Act
+    Claim claim = service.claim(CALLER, KEY, FINGERPRINT);
+
+    // Assert
+    assertThat(claim.result()).isEqualTo(Claim.Result.ACQUIRED);
+    verify(repository, never()).find(anyString(), anyString());
+  }
+
+  @Test
+  void claim_completedInDatabase_replaysStoredResponse() {
+    // Arrange
+    when(repository.claim(anyString(), anyString(), anyString(), any(), any(), any()))
+        .thenReturn(false);
+    when(repository.find(CALLER, KEY))
+        .thenReturn(
+            Optional.of(new IdempotencyRecord(FINGERPRINT, 201, "application/json", "{}")));
+
+    // Act
+    Claim claim = service.claim(CALLER, KEY, FINGERPRINT);
+
+    // Assert
+    assertThat(claim.result()).isEqualTo(Claim.Result.REPLAY);
+    assertThat(claim.response()).isEqualTo(new StoredResponse(201, "application/json", "{}"));
+    assertThat(meterRegistry.counter("moderation.idempotency.replayed").count()).isEqualTo(1);
+  }
+
+  @Test
+  void claim_completedOnThisNode_replaysWithoutDatabase() {
+    // Arrange
+    StoredResponse response = new StoredResponse(200, "application/json", "{\"id\":1}");
+    service.complete(CALLER, KEY, FINGERPRINT, response);
+
+    // Act
+    Claim claim = service.claim(CALLER, KEY, FINGERPRINT);
+
+    // Assert
+    assertThat(claim.result()).isEqualTo(Claim.Result.REPLAY);
+    assertThat(claim.response()).isEqualTo(response);
+    verify(repository, never()).claim(anyString(), anyString(), anyString(), any(), any(), any());
+  }
+
+  @Test
+  void claim_keyUsedForDifferentRequest_isMismatch() {
+    // Arrange
+    service.complete(CALLER, KEY, FINGERPRINT, new StoredResponse(200, null, ""));
+
+    // Act
+    Claim claim = service.claim(CALLER, KEY, "b".repeat(64));
+
+    // Assert
+    assertThat(claim.result()).isEqualTo(Claim.Result.MISMATCH);
+    assertThat(claim.response()).isNull();
+  }
+
+  @Test
+  void claim_firstRequestStillRunning_isInProgress() {
+    // Arrange
+    when(repository.claim(anyString(), anyString(), anyString(), any(), any(), any()))
+        .thenReturn(false);
+    when(repository.find(CALLER, KEY))
+        .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, null, null, null)));
+
+    // Act
+    Claim claim = service.claim(CALLER, KEY, FINGERPRINT);
+
+    // Assert
+    assertThat(claim.result()).isEqualTo(Claim.Result.IN_PROGRESS);
+  }
+
+  @Test
+  void complete_databaseUnavailable_stillCachesResponseLocally() {
+    // Arrange
+    StoredResponse response = new StoredResponse(200, "application/json", "{}");
+    doThrow(new DataAccessResourceFailureException("down"))
+        .when(repository)
+        .complete(anyString(), anyString(), anyString(), anyInt(), any(), any());
+
+    // Act
+    service.complete(CALLER, KEY, FINGERPRINT, response);
+
+    // Assert
+    assertThat(service.claim(CALLER, KEY, FINGERPRINT).result()).isEqualTo(Claim.Result.REPLAY);
+  }
+
+  @Test
+  void heartbeat_requestStillRunning_refreshesItsClaim() {
+    // Arrange
+    when(repository.claim(anyString(), anyString(), anyString(), any(), any(), any()))
+        .thenReturn(true);
+    service.claim(CALLER, KEY, FINGERPRINT);
+
+    // Act
+    service.heartbeat();
+
+    // Assert
+    verify(repository).heartbeat(eq(List.of(new HeldClaim(CALLER, KEY, FINGERPRINT))), any());
+  }
+
+  @Test
+  void heartbeat_requestCompleted_stopsRefreshingItsClaim() {
+    // Arrange
+    when(repository.claim(anyString(), anyString(), anyString(), any(), any(), any()))
+        .thenReturn(true);
+    service.claim(CALLER, KEY, FINGERPRINT);
+    service.complete(CALLER, KEY, FINGERPRINT, new StoredResponse(200, null, ""));
+
+    // Act
+    service.heartbeat();
+
+    // Assert
+    verify(repository, never()).heartbeat(any(), any());
+  }
+
+  @Test
+  void constructor_staleAfterShorterThanTwoHeartbeats_isRejected() {
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                new IdempotencyService(
+                    repository,
+                    meterRegistry,
+                    Duration.ofHours(24),
+                    Duration.ofSeconds(20),
+                    Duration.ofSeconds(15),
+                    100))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
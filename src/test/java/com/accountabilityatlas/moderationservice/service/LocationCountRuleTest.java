@@ -0,0 +1,32 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class LocationCountRuleTest {
+
+  private final LocationCountRule rule = new LocationCountRule(2, 1);
+
+  @Test
+  void score_atThreshold_returnsPoints() {
+    // Act & Assert
+    assertThat(rule.score(withLocations(List.of(UUID.randomUUID(), UUID.randomUUID()))))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void score_belowThreshold_returnsZero() {
+    // Act & Assert
+    assertThat(rule.score(withLocations(List.of(UUID.randomUUID())))).isZero();
+  }
+
+  private static Submission withLocations(List<UUID> locationIds) {
+    return new Submission(
+        ContentType.VIDEO, UUID.randomUUID(), UUID.randomUUID(), null, Set.of(), locationIds, null);
+  }
+}
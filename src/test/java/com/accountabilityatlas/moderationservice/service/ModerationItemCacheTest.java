@@ -0,0 +1,169 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ModerationItemCacheTest {
+
+  @Mock private ModerationItemRepository moderationItemRepository;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private CacheInvalidationBus bus;
+  private ModerationItemCache cache;
+
+  @BeforeEach
+  void setUp() {
+    bus =
+        new CacheInvalidationBus(
+            mock(PostgresNotifications.class), new ObjectMapper(), new SimpleMeterRegistry(), 100);
+    cache =
+        new ModerationItemCache(
+            moderationItemRepository, bus, meterRegistry, 100, Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void findByContentId_repeatedMiss_queriesOnce() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    when(moderationItemRepository.findByContentIdAndStatus(contentId, ModerationStatus.PENDING))
+        .thenReturn(Optional.empty());
+
+    // Act
+    Optional<ModerationItem> first = cache.findByContentId(contentId, ModerationStatus.PENDING);
+    Optional<ModerationItem> second = cache.findByContentId(contentId, ModerationStatus.PENDING);
+
+    // Assert
+    assertThat(first).isEmpty();
+    assertThat(second).isEmpty();
+    verify(moderationItemRepository).findByContentIdAndStatus(contentId, ModerationStatus.PENDING);
+  }
+
+  @Test
+  void get_repeatedLookup_countsHit() {
+    // Arrange
+    ModerationItem item = item(ModerationStatus.PENDING);
+    when(moderationItemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+
+    // Act
+    cache.get(item.getId());
+    Optional<ModerationItem> result = cache.get(item.getId());
+
+    // Assert
+    assertThat(result).containsSame(item);
+    verify(moderationItemRepository).findById(item.getId());
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", ModerationItemCache.ITEMS_CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void get_afterItemChangePublished_reloads() {
+    // Arrange
+    ModerationItem item = item(ModerationStatus.PENDING);
+    when(moderationItemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+    cache.get(item.getId());
+
+    // Act
+    bus.publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(item.getId()));
+    cache.get(item.getId());
+
+    // Assert
+    verify(moderationItemRepository, times(2)).findById(item.getId());
+  }
+
+  @Test
+  void put_afterCommit_servesWriterTheSavedItem() {
+    // Arrange
+    ModerationItem pending = item(ModerationStatus.PENDING);
+    when(moderationItemRepository.findById(pending.getId())).thenReturn(Optional.of(pending));
+    cache.get(pending.getId());
+    ModerationItem approved = item(ModerationStatus.APPROVED);
+    approved.setId(pending.getId());
+    approved.setContentId(pending.getContentId());
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act - as in ModerationService: publish the change, then put the saved copy
+    bus.publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(approved.getId()));
+    bus.publish(CacheInvalidationBus.Entity.CONTENT, List.of(approved.getContentId()));
+    cache.put(approved);
+    Optional<ModerationItem> beforeCommit = cache.get(approved.getId());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    // Assert
+    assertThat(beforeCommit).containsSame(pending);
+    assertThat(cache.get(approved.getId())).containsSame(approved);
+    assertThat(cache.findByContentId(approved.getContentId(), ModerationStatus.APPROVED))
+        .containsSame(approved);
+    verify(moderationItemRepository).findById(pending.getId());
+    verify(moderationItemRepository, never()).findByContentIdAndStatus(any(), any());
+  }
+
+  @Test
+  void findByContentId_itemNoLongerInStatus_queriesAgain() {
+    // Arrange
+    ModerationItem pending = item(ModerationStatus.PENDING);
+    when(moderationItemRepository.findByContentIdAndStatus(
+            pending.getContentId(), ModerationStatus.PENDING))
+        .thenReturn(Optional.of(pending), Optional.empty());
+    cache.findByContentId(pending.getContentId(), ModerationStatus.PENDING);
+    ModerationItem approved = item(ModerationStatus.APPROVED);
+    approved.setId(pending.getId());
+    approved.setContentId(pending.getContentId());
+    when(moderationItemRepository.findById(pending.getId())).thenReturn(Optional.of(approved));
+
+    // Act - only the item's own eviction has arrived so far
+    bus.publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(pending.getId()));
+    Optional<ModerationItem> result =
+        cache.findByContentId(pending.getContentId(), ModerationStatus.PENDING);
+
+    // Assert
+    assertThat(result).isEmpty();
+    verify(moderationItemRepository, times(2))
+        .findByContentIdAndStatus(pending.getContentId(), ModerationStatus.PENDING);
+  }
+
+  private static ModerationItem item(ModerationStatus status) {
+    ModerationItem item = new ModerationItem();
+    item.setId(UUID.randomUUID());
+    item.setContentId(UUID.randomUUID());
+    item.setStatus(status);
+    return item;
+  }
+}
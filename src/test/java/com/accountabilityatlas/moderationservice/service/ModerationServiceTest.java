@@ -3,8 +3,11 @@ package com.accountabilityatlas.moderationservice.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,13 +20,31 @@ import com.accountabilityatlas.moderationservice.event.ModerationEventPublisher;
 import com.accountabilityatlas.moderationservice.exception.ItemAlreadyReviewedException;
 import com.accountabilityatlas.moderationservice.exception.ModerationItemNotFoundException;
 import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.repository.ReviewedItem;
+import com.accountabilityatlas.moderationservice.service.ModerationService.BatchOutcome;
+import com.accountabilityatlas.moderationservice.service.ModerationService.VersionedItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class ModerationServiceTest {
@@ -32,8 +53,14 @@ class ModerationServiceTest {
   @Mock private AuditLogService auditLogService;
   @Mock private VideoServiceClient videoServiceClient;
   @Mock private ModerationEventPublisher eventPublisher;
-  @Mock private TrustPromotionService trustPromotionService;
-  @Mock private TrustDemotionService trustDemotionService;
+  @Mock private SubmitterStatsService submitterStatsService;
+  @Mock private TrustEvaluator trustEvaluator;
+  @Mock private ReportEscalationService reportEscalationService;
+  @Mock private PriorityScorer priorityScorer;
+  @Mock private QueueAssignmentService queueAssignmentService;
+  @Mock private QueueEventBus queueEventBus;
+  @Mock private CacheInvalidationBus cacheInvalidationBus;
+  @Mock private ModerationItemCache moderationItemCache;
 
   private ModerationService moderationService;
 
@@ -45,8 +72,26 @@ class ModerationServiceTest {
             auditLogService,
             videoServiceClient,
             eventPublisher,
-            trustPromotionService,
-            trustDemotionService);
+            submitterStatsService,
+            trustEvaluator,
+            reportEscalationService,
+            priorityScorer,
+            queueAssignmentService,
+            new OptimisticLockRetry(
+                TransactionOperations.withoutTransaction(),
+                new SimpleMeterRegistry(),
+                3,
+                Duration.ZERO),
+            queueEventBus,
+            cacheInvalidationBus,
+            moderationItemCache);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
   }
 
   @Test
@@ -54,17 +99,35 @@ class ModerationServiceTest {
     // Arrange
     UUID contentId = UUID.randomUUID();
     UUID submitterId = UUID.randomUUID();
+    Submission submission =
+        new Submission(
+            ContentType.VIDEO, contentId, submitterId, "Title", Set.of(), List.of(), null);
+    when(priorityScorer.score(submission)).thenReturn(2);
+    UUID moderatorId = UUID.randomUUID();
+    when(queueAssignmentService.assigneeFor(contentId, submitterId)).thenReturn(moderatorId);
+    UUID itemId = UUID.randomUUID();
     when(moderationItemRepository.save(any(ModerationItem.class)))
-        .thenAnswer(inv -> inv.getArgument(0));
+        .thenAnswer(
+            inv -> {
+              ModerationItem saved = inv.getArgument(0);
+              saved.setId(itemId);
+              return saved;
+            });
 
     // Act
-    ModerationItem result = moderationService.createItem(ContentType.VIDEO, contentId, submitterId);
+    ModerationItem result = moderationService.createItem(submission);
 
     // Assert
     assertThat(result.getContentType()).isEqualTo(ContentType.VIDEO);
     assertThat(result.getContentId()).isEqualTo(contentId);
     assertThat(result.getSubmitterId()).isEqualTo(submitterId);
     assertThat(result.getStatus()).isEqualTo(ModerationStatus.PENDING);
+    assertThat(result.getBasePriority()).isEqualTo(2);
+    verify(reportEscalationService).initialize(result);
+    assertThat(result.getEffectivePriority()).isEqualTo(result.getPriority());
+    assertThat(result.getAssignedTo()).isEqualTo(moderatorId);
+    verify(queueEventBus).publish(QueueEvent.Type.CREATED, List.of(itemId), moderatorId);
+    verify(moderationItemCache).put(result);
   }
 
   @Test
@@ -73,7 +136,7 @@ class ModerationServiceTest {
     UUID id = UUID.randomUUID();
     ModerationItem item = new ModerationItem();
     item.setId(id);
-    when(moderationItemRepository.findById(id)).thenReturn(Optional.of(item));
+    when(moderationItemCache.get(id)).thenReturn(Optional.of(item));
 
     // Act
     ModerationItem result = moderationService.getItem(id);
@@ -86,7 +149,7 @@ class ModerationServiceTest {
   void getItem_nonExistingId_throwsException() {
     // Arrange
     UUID id = UUID.randomUUID();
-    when(moderationItemRepository.findById(id)).thenReturn(Optional.empty());
+    when(moderationItemCache.get(id)).thenReturn(Optional.empty());
 
     // Act
     Throwable thrown = catchThrowable(() -> moderationService.getItem(id));
@@ -95,6 +158,54 @@ class ModerationServiceTest {
     assertThat(thrown).isInstanceOf(ModerationItemNotFoundException.class);
   }
 
+  @Test
+  void getVersionedItem_existingId_readsRowNotCache() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    ModerationItem item = new ModerationItem();
+    item.setId(id);
+    when(moderationItemRepository.findRowVersion(id)).thenReturn(Optional.of("1234"));
+    when(moderationItemRepository.findById(id)).thenReturn(Optional.of(item));
+
+    // Act
+    VersionedItem result = moderationService.getVersionedItem(id);
+
+    // Assert
+    assertThat(result.item()).isSameAs(item);
+    assertThat(result.version()).isEqualTo("1234");
+    verify(moderationItemCache, never()).get(any());
+  }
+
+  @Test
+  void getVersionedItem_nonExistingId_throwsException() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    when(moderationItemRepository.findRowVersion(id)).thenReturn(Optional.empty());
+
+    // Act
+    Throwable thrown = catchThrowable(() -> moderationService.getVersionedItem(id));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(ModerationItemNotFoundException.class);
+  }
+
+  @Test
+  void getAssignedQueue_readsOnlyTheModeratorsPendingShard() {
+    // Arrange
+    UUID moderatorId = UUID.randomUUID();
+    Pageable pageable = PageRequest.of(0, 20);
+    Page<ModerationItem> page = new PageImpl<>(List.of(new ModerationItem()));
+    when(moderationItemRepository.findByStatusAndAssignedTo(
+            ModerationStatus.PENDING, moderatorId, pageable))
+        .thenReturn(page);
+
+    // Act
+    Page<ModerationItem> result = moderationService.getAssignedQueue(moderatorId, null, pageable);
+
+    // Assert
+    assertThat(result).isSameAs(page);
+  }
+
   @Test
   void approve_pendingItem_setsApprovedStatus() {
     // Arrange
@@ -108,7 +219,7 @@ class ModerationServiceTest {
     item.setSubmitterId(submitterId);
     item.setStatus(ModerationStatus.PENDING);
     when(moderationItemRepository.findById(id)).thenReturn(Optional.of(item));
-    when(moderationItemRepository.save(any(ModerationItem.class)))
+    when(moderationItemRepository.saveAndFlush(any(ModerationItem.class)))
         .thenAnswer(inv -> inv.getArgument(0));
 
     // Act
@@ -121,7 +232,41 @@ class ModerationServiceTest {
     verify(auditLogService).logAction(reviewerId, "APPROVE", "MODERATION_ITEM", id, null);
     verify(videoServiceClient).updateVideoStatus(contentId, "APPROVED");
     verify(eventPublisher).publishVideoApproved(contentId, reviewerId);
-    verify(trustPromotionService).checkAndPromote(submitterId);
+    verify(submitterStatsService).recordApprovals(submitterId, 1);
+    verify(trustEvaluator).requestPromotionCheck(submitterId);
+    verify(queueEventBus).publish(QueueEvent.Type.APPROVED, List.of(id), reviewerId);
+  }
+
+  @Test
+  void approve_insideTransaction_callsVideoServiceAndPublishesAfterCommit() {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+    UUID reviewerId = UUID.randomUUID();
+    ModerationItem item = new ModerationItem();
+    item.setId(id);
+    item.setContentId(contentId);
+    item.setSubmitterId(UUID.randomUUID());
+    item.setStatus(ModerationStatus.PENDING);
+    when(moderationItemRepository.findById(id)).thenReturn(Optional.of(item));
+    when(moderationItemRepository.saveAndFlush(any(ModerationItem.class)))
+        .thenAnswer(inv -> inv.getArgument(0));
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    moderationService.approve(id, reviewerId);
+
+    // Assert - nothing leaves the service before commit
+    verify(videoServiceClient, never()).updateVideoStatus(any(), any());
+    verify(eventPublisher, never()).publishVideoApproved(any(), any());
+
+    // Act - commit
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    // Assert
+    verify(videoServiceClient).updateVideoStatus(contentId, "APPROVED");
+    verify(eventPublisher).publishVideoApproved(contentId, reviewerId);
   }
 
   @Test
@@ -155,7 +300,7 @@ class ModerationServiceTest {
     item.setSubmitterId(submitterId);
     item.setStatus(ModerationStatus.PENDING);
     when(moderationItemRepository.findById(id)).thenReturn(Optional.of(item));
-    when(moderationItemRepository.save(any(ModerationItem.class)))
+    when(moderationItemRepository.saveAndFlush(any(ModerationItem.class)))
         .thenAnswer(inv -> inv.getArgument(0));
 
     // Act
@@ -168,7 +313,12 @@ class ModerationServiceTest {
     verify(auditLogService).logAction(reviewerId, "REJECT", "MODERATION_ITEM", id, reason);
     verify(videoServiceClient).updateVideoStatus(contentId, "REJECTED");
     verify(eventPublisher).publishVideoRejected(contentId, reviewerId, reason);
-    verify(trustDemotionService).checkAndDemote(submitterId);
+    verify(submitterStatsService).recordRejection(submitterId, result.getReviewedAt());
+    verify(trustEvaluator).requestDemotionCheck(submitterId);
+    verify(cacheInvalidationBus).publish(CacheInvalidationBus.Entity.CONTENT, List.of(contentId));
+    verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.SUBMITTER_REJECTIONS, List.of(submitterId));
+    verify(moderationItemCache).put(result);
   }
 
   @Test
@@ -184,7 +334,7 @@ class ModerationServiceTest {
     item.setSubmitterId(submitterId);
     item.setStatus(ModerationStatus.PENDING);
     when(moderationItemRepository.findById(id)).thenReturn(Optional.of(item));
-    when(moderationItemRepository.save(any(ModerationItem.class)))
+    when(moderationItemRepository.saveAndFlush(any(ModerationItem.class)))
         .thenAnswer(inv -> inv.getArgument(0));
     doThrow(new VideoServiceException("Connection failed", null))
         .when(videoServiceClient)
@@ -196,7 +346,7 @@ class ModerationServiceTest {
     // Assert - approval continues despite video service failure
     assertThat(result.getStatus()).isEqualTo(ModerationStatus.APPROVED);
     verify(eventPublisher).publishVideoApproved(contentId, reviewerId);
-    verify(trustPromotionService).checkAndPromote(submitterId);
+    verify(trustEvaluator).requestPromotionCheck(submitterId);
   }
 
   @Test
@@ -213,7 +363,7 @@ class ModerationServiceTest {
     item.setSubmitterId(submitterId);
     item.setStatus(ModerationStatus.PENDING);
     when(moderationItemRepository.findById(id)).thenReturn(Optional.of(item));
-    when(moderationItemRepository.save(any(ModerationItem.class)))
+    when(moderationItemRepository.saveAndFlush(any(ModerationItem.class)))
         .thenAnswer(inv -> inv.getArgument(0));
     doThrow(new VideoServiceException("Connection failed", null))
         .when(videoServiceClient)
@@ -225,7 +375,7 @@ class ModerationServiceTest {
     // Assert - rejection continues despite video service failure
     assertThat(result.getStatus()).isEqualTo(ModerationStatus.REJECTED);
     verify(eventPublisher).publishVideoRejected(contentId, reviewerId, reason);
-    verify(trustDemotionService).checkAndDemote(submitterId);
+    verify(trustEvaluator).requestDemotionCheck(submitterId);
   }
 
   @Test
@@ -234,7 +384,7 @@ class ModerationServiceTest {
     ModerationItem item = new ModerationItem();
     item.setContentId(contentId);
     item.setStatus(ModerationStatus.PENDING);
-    when(moderationItemRepository.findByContentIdAndStatus(contentId, ModerationStatus.PENDING))
+    when(moderationItemCache.findByContentId(contentId, ModerationStatus.PENDING))
         .thenReturn(Optional.of(item));
 
     Optional<ModerationItem> result =
@@ -247,7 +397,7 @@ class ModerationServiceTest {
   @Test
   void findByContentId_notFound_returnsEmpty() {
     UUID contentId = UUID.randomUUID();
-    when(moderationItemRepository.findByContentIdAndStatus(contentId, ModerationStatus.PENDING))
+    when(moderationItemCache.findByContentId(contentId, ModerationStatus.PENDING))
         .thenReturn(Optional.empty());
 
     Optional<ModerationItem> result =
@@ -256,6 +406,30 @@ class ModerationServiceTest {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  void findByContentIds_duplicateIdsAndItems_queriesOnceAndKeepsNewest() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    ModerationItem older = new ModerationItem();
+    older.setContentId(contentId);
+    older.setCreatedAt(Instant.now().minusSeconds(60));
+    ModerationItem newer = new ModerationItem();
+    newer.setContentId(contentId);
+    newer.setCreatedAt(Instant.now());
+    when(moderationItemRepository.findByContentIdsAndStatus(
+            new UUID[] {contentId}, ModerationStatus.PENDING.name()))
+        .thenReturn(List.of(newer, older));
+
+    // Act
+    Map<UUID, ModerationItem> result =
+        moderationService.findByContentIds(
+            List.of(contentId, contentId), ModerationStatus.PENDING);
+
+    // Assert
+    assertThat(result).containsOnlyKeys(contentId);
+    assertThat(result.get(contentId)).isSameAs(newer);
+  }
+
   @Test
   void approve_alreadyReviewedItem_skipsIntegrations() {
     // Arrange
@@ -273,6 +447,188 @@ class ModerationServiceTest {
     assertThat(thrown).isInstanceOf(ItemAlreadyReviewedException.class);
     verify(videoServiceClient, never()).updateVideoStatus(any(), any());
     verify(eventPublisher, never()).publishVideoApproved(any(), any());
-    verify(trustPromotionService, never()).checkAndPromote(any());
+    verify(trustEvaluator, never()).requestPromotionCheck(any());
+  }
+
+  @Test
+  void approveAll_batchesDownstreamCallsAndReportsOutcomePerItem() {
+    // Arrange
+    UUID reviewerId = UUID.randomUUID();
+    UUID submitterId = UUID.randomUUID();
+    ReviewedItem first = reviewedItem(submitterId);
+    ReviewedItem second = reviewedItem(submitterId);
+    UUID alreadyReviewed = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    when(moderationItemRepository.reviewPendingItems(
+            any(), eq("APPROVED"), eq("APPROVE"), eq(reviewerId), any(), isNull()))
+        .thenReturn(List.of(first, second));
+    when(moderationItemRepository.findExistingIds(List.of(alreadyReviewed, missing)))
+        .thenReturn(List.of(alreadyReviewed));
+
+    // Act
+    List<BatchOutcome> outcomes =
+        moderationService.approveAll(
+            List.of(first.getId(), alreadyReviewed, second.getId(), missing), reviewerId);
+
+    // Assert
+    assertThat(outcomes)
+        .containsExactly(
+            new BatchOutcome(first.getId(), BatchOutcome.Result.UPDATED),
+            new BatchOutcome(alreadyReviewed, BatchOutcome.Result.ALREADY_REVIEWED),
+            new BatchOutcome(second.getId(), BatchOutcome.Result.UPDATED),
+            new BatchOutcome(missing, BatchOutcome.Result.NOT_FOUND));
+    List<UUID> contentIds = List.of(first.getContentId(), second.getContentId());
+    verify(submitterStatsService).recordApprovals(submitterId, 2);
+    verify(videoServiceClient).updateVideoStatuses(contentIds, "APPROVED");
+    verify(eventPublisher).publishVideosApproved(contentIds, reviewerId);
+    verify(trustEvaluator, times(1)).requestPromotionCheck(submitterId);
+    verify(queueEventBus)
+        .publish(QueueEvent.Type.APPROVED, List.of(first.getId(), second.getId()), reviewerId);
+  }
+
+  @Test
+  void rejectAll_videoServiceFails_stillPublishesAndRequestsDemotion() {
+    // Arrange
+    UUID reviewerId = UUID.randomUUID();
+    ReviewedItem item = reviewedItem(UUID.randomUUID());
+    when(moderationItemRepository.reviewPendingItems(
+            any(), eq("REJECTED"), eq("REJECT"), eq(reviewerId), any(), eq("Spam video")))
+        .thenReturn(List.of(item));
+    doThrow(new VideoServiceException("down", null))
+        .when(videoServiceClient)
+        .updateVideoStatuses(any(), any());
+
+    // Act
+    List<BatchOutcome> outcomes =
+        moderationService.rejectAll(List.of(item.getId()), reviewerId, "Spam video");
+
+    // Assert
+    assertThat(outcomes)
+        .containsExactly(new BatchOutcome(item.getId(), BatchOutcome.Result.UPDATED));
+    verify(submitterStatsService).recordRejections(eq(item.getSubmitterId()), eq(1), any());
+    verify(eventPublisher)
+        .publishVideosRejected(List.of(item.getContentId()), reviewerId, "Spam video");
+    verify(trustEvaluator).requestDemotionCheck(item.getSubmitterId());
+    verify(moderationItemRepository, never()).findExistingIds(any());
+  }
+
+  @Test
+  void approveAll_nothingPending_skipsDownstreamCalls() {
+    // Arrange
+    UUID reviewerId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    when(moderationItemRepository.reviewPendingItems(any(), any(), any(), any(), any(), any()))
+        .thenReturn(List.of());
+    when(moderationItemRepository.findExistingIds(List.of(itemId))).thenReturn(List.of(itemId));
+
+    // Act
+    List<BatchOutcome> outcomes = moderationService.approveAll(List.of(itemId), reviewerId);
+
+    // Assert
+    assertThat(outcomes)
+        .containsExactly(new BatchOutcome(itemId, BatchOutcome.Result.ALREADY_REVIEWED));
+    verify(videoServiceClient, never()).updateVideoStatuses(any(), any());
+    verify(eventPublisher, never()).publishVideosApproved(any(), any());
+  }
+
+  @Test
+  void approvePendingItemsForUser_versionConflict_retriesWithFreshCopy() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    UUID systemId = new UUID(0L, 0L);
+    UUID itemId = UUID.randomUUID();
+    ModerationItem stale = pendingItem(itemId, submitterId);
+    ModerationItem fresh = pendingItem(itemId, submitterId);
+    when(moderationItemRepository.findBySubmitterIdAndStatus(submitterId, ModerationStatus.PENDING))
+        .thenReturn(List.of(stale));
+    when(moderationItemRepository.findById(itemId))
+        .thenReturn(Optional.of(stale), Optional.of(fresh));
+    when(moderationItemRepository.saveAndFlush(stale))
+        .thenThrow(new ObjectOptimisticLockingFailureException(ModerationItem.class, itemId));
+    when(moderationItemRepository.saveAndFlush(fresh)).thenReturn(fresh);
+
+    // Act
+    int approved = moderationService.approvePendingItemsForUser(submitterId, systemId);
+
+    // Assert
+    assertThat(approved).isEqualTo(1);
+    assertThat(fresh.getStatus()).isEqualTo(ModerationStatus.APPROVED);
+    verify(submitterStatsService).recordApprovals(submitterId, 1);
+    verify(videoServiceClient).updateVideoStatus(fresh.getContentId(), "APPROVED");
+    verify(eventPublisher).publishVideoApproved(fresh.getContentId(), systemId);
+  }
+
+  @Test
+  void approvePendingItemsForUser_reviewedMeanwhile_skipsItem() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    ModerationItem listed = pendingItem(itemId, submitterId);
+    ModerationItem reviewed = pendingItem(itemId, submitterId);
+    reviewed.setStatus(ModerationStatus.REJECTED);
+    when(moderationItemRepository.findBySubmitterIdAndStatus(submitterId, ModerationStatus.PENDING))
+        .thenReturn(List.of(listed));
+    when(moderationItemRepository.findById(itemId)).thenReturn(Optional.of(reviewed));
+
+    // Act
+    int approved = moderationService.approvePendingItemsForUser(submitterId, new UUID(0L, 0L));
+
+    // Assert
+    assertThat(approved).isZero();
+    verify(moderationItemRepository, never()).saveAndFlush(any());
+    verify(eventPublisher, never()).publishVideoApproved(any(), any());
+  }
+
+  @Test
+  void approvePendingItemsForUser_conflictsExhaustRetries_skipsItemWithoutSideEffects() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    ModerationItem item = pendingItem(itemId, submitterId);
+    when(moderationItemRepository.findBySubmitterIdAndStatus(submitterId, ModerationStatus.PENDING))
+        .thenReturn(List.of(item));
+    when(moderationItemRepository.findById(itemId)).thenReturn(Optional.of(item));
+    when(moderationItemRepository.saveAndFlush(item))
+        .thenThrow(new ObjectOptimisticLockingFailureException(ModerationItem.class, itemId));
+
+    // Act
+    int approved = moderationService.approvePendingItemsForUser(submitterId, new UUID(0L, 0L));
+
+    // Assert
+    assertThat(approved).isZero();
+    verify(moderationItemRepository, times(3)).saveAndFlush(item);
+    verify(videoServiceClient, never()).updateVideoStatus(any(), any());
+    verify(eventPublisher, never()).publishVideoApproved(any(), any());
+  }
+
+  private static ModerationItem pendingItem(UUID id, UUID submitterId) {
+    ModerationItem item = new ModerationItem();
+    item.setId(id);
+    item.setContentType(ContentType.VIDEO);
+    item.setContentId(UUID.randomUUID());
+    item.setSubmitterId(submitterId);
+    item.setStatus(ModerationStatus.PENDING);
+    return item;
+  }
+
+  private static ReviewedItem reviewedItem(UUID submitterId) {
+    UUID id = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+    return new ReviewedItem() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public UUID getContentId() {
+        return contentId;
+      }
+
+      @Override
+      public UUID getSubmitterId() {
+        return submitterId;
+      }
+    };
   }
 }
@@ -0,0 +1,92 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+class OptimisticLockRetryTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OptimisticLockRetry retry =
+      new OptimisticLockRetry(
+          TransactionOperations.withoutTransaction(), meterRegistry, 3, Duration.ZERO);
+
+  @Test
+  void execute_conflictThenSuccess_returnsResultOfRetry() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act
+    String result =
+        retry.execute(
+            "test",
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                throw conflict();
+              }
+              return "done";
+            });
+
+    // Assert
+    assertThat(result).isEqualTo("done");
+    assertThat(attempts).hasValue(2);
+    assertThat(meterRegistry.counter("moderation.optimistic-lock.retries").count()).isEqualTo(1);
+  }
+
+  @Test
+  void execute_conflictOnEveryAttempt_givesUpAfterMaxAttempts() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                retry.execute(
+                    "test",
+                    () -> {
+                      attempts.incrementAndGet();
+                      throw conflict();
+                    }))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(attempts).hasValue(3);
+    assertThat(meterRegistry.counter("moderation.optimistic-lock.exhausted").count()).isEqualTo(1);
+  }
+
+  @Test
+  void execute_otherFailure_isNotRetried() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                retry.execute(
+                    "test",
+                    () -> {
+                      attempts.incrementAndGet();
+                      throw new IllegalStateException("boom");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  void constructor_zeroAttempts_isRejected() {
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                new OptimisticLockRetry(
+                    TransactionOperations.withoutTransaction(), meterRegistry, 0, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ObjectOptimisticLockingFailureException conflict() {
+    return new ObjectOptimisticLockingFailureException(Object.class, "id");
+  }
+}
@@ -0,0 +1,59 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PriorityScorerTest {
+
+  private final Submission submission =
+      new Submission(
+          ContentType.VIDEO, UUID.randomUUID(), UUID.randomUUID(), null, Set.of(), List.of(), null);
+
+  @Test
+  void score_sumsEveryRule() {
+    // Arrange
+    PriorityScorer scorer = new PriorityScorer(List.of(s -> 1, s -> 2), new SimpleMeterRegistry());
+
+    // Act
+    int score = scorer.score(submission);
+
+    // Assert
+    assertThat(score).isEqualTo(3);
+  }
+
+  @Test
+  void score_failingRule_countsAsZeroAndIsRecorded() {
+    // Arrange
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PriorityRule failing =
+        s -> {
+          throw new IllegalStateException("db down");
+        };
+    PriorityScorer scorer = new PriorityScorer(List.of(s -> 2, failing), meterRegistry);
+
+    // Act
+    int score = scorer.score(submission);
+
+    // Assert
+    assertThat(score).isEqualTo(2);
+    assertThat(meterRegistry.counter("moderation.priority.rule-failures").count()).isEqualTo(1);
+  }
+
+  @Test
+  void score_negativeTotal_isClampedToZero() {
+    // Arrange
+    PriorityScorer scorer = new PriorityScorer(List.of(s -> -3, s -> 1), new SimpleMeterRegistry());
+
+    // Act
+    int score = scorer.score(submission);
+
+    // Assert
+    assertThat(score).isZero();
+  }
+}
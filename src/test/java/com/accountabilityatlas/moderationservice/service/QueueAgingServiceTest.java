@@ -0,0 +1,121 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.repository.AgingBatch;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.lang.Nullable;
+
+@ExtendWith(MockitoExtension.class)
+class QueueAgingServiceTest {
+
+  private static final long SIX_HOURS = Duration.ofHours(6).toSeconds();
+
+  @Mock private ModerationItemRepository moderationItemRepository;
+  @Mock private CacheInvalidationBus cacheInvalidationBus;
+
+  @Test
+  void refresh_walksBatchesUntilAShortOne() {
+    // Arrange - batch size is 2, so a full batch means another is fetched
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    QueueAgingService service =
+        new QueueAgingService(
+            moderationItemRepository, cacheInvalidationBus, meterRegistry, Duration.ofHours(6), 2);
+    UUID second = new UUID(0L, 2L);
+    UUID third = new UUID(0L, 3L);
+    when(moderationItemRepository.refreshEffectivePriorities(
+            eq(new UUID(0L, 0L)), eq(2), any(), eq(SIX_HOURS)))
+        .thenReturn(batch(second, 2, List.of(second)));
+    when(moderationItemRepository.refreshEffectivePriorities(
+            eq(second), eq(2), any(), eq(SIX_HOURS)))
+        .thenReturn(batch(third, 1, List.of(third)));
+
+    // Act
+    service.refresh();
+
+    // Assert
+    verify(moderationItemRepository, times(2))
+        .refreshEffectivePriorities(any(), eq(2), any(), eq(SIX_HOURS));
+    assertThat(meterRegistry.counter("moderation.queue-aging.updated").count()).isEqualTo(2);
+    verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(second));
+    verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(third));
+    verify(cacheInvalidationBus, never()).publishAll(any());
+  }
+
+  @Test
+  void refresh_noPendingItems_stopsAfterOneQuery() {
+    // Arrange
+    QueueAgingService service =
+        new QueueAgingService(
+            moderationItemRepository,
+            cacheInvalidationBus,
+            new SimpleMeterRegistry(),
+            Duration.ofHours(6),
+            2);
+    when(moderationItemRepository.refreshEffectivePriorities(any(), eq(2), any(), eq(SIX_HOURS)))
+        .thenReturn(batch(null, 0, List.of()));
+
+    // Act
+    service.refresh();
+
+    // Assert
+    verify(moderationItemRepository).refreshEffectivePriorities(any(), eq(2), any(), eq(SIX_HOURS));
+    verify(cacheInvalidationBus, never()).publishAll(any());
+  }
+
+  @Test
+  void constructor_subSecondInterval_isRejected() {
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                new QueueAgingService(
+                    moderationItemRepository,
+                    cacheInvalidationBus,
+                    new SimpleMeterRegistry(),
+                    Duration.ofMillis(10),
+                    2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static AgingBatch batch(@Nullable UUID lastId, long scanned, List<UUID> updated) {
+    return new AgingBatch() {
+      @Override
+      public UUID getLastId() {
+        return lastId;
+      }
+
+      @Override
+      public long getScanned() {
+        return scanned;
+      }
+
+      @Override
+      public long getUpdated() {
+        return updated.size();
+      }
+
+      @Override
+      public String getUpdatedIds() {
+        return updated.stream().map(UUID::toString).collect(Collectors.joining(","));
+      }
+    };
+  }
+}
@@ -0,0 +1,217 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.repository.ItemAssignment;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.repository.ModeratorPresenceRepository;
+import com.accountabilityatlas.moderationservice.service.QueueAssignmentService.PartitionKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.lang.Nullable;
+
+@ExtendWith(MockitoExtension.class)
+class QueueAssignmentServiceTest {
+
+  @Mock private ModerationItemRepository moderationItemRepository;
+  @Mock private ModeratorPresenceRepository moderatorPresenceRepository;
+  @Mock private QueueEventBus queueEventBus;
+  @Mock private CacheInvalidationBus cacheInvalidationBus;
+  @Mock private DataSource dataSource;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void recordActivity_withinHeartbeatInterval_writesOnce() {
+    // Arrange
+    QueueAssignmentService service = service(true, PartitionKey.SUBMITTER);
+    UUID moderatorId = UUID.randomUUID();
+
+    // Act
+    service.recordActivity(moderatorId);
+    service.recordActivity(moderatorId);
+
+    // Assert
+    verify(moderatorPresenceRepository).recordSeen(eq(moderatorId), any());
+  }
+
+  @Test
+  void disabled_neverTouchesTheDatabaseOrAssigns() {
+    // Arrange
+    QueueAssignmentService service = service(false, PartitionKey.SUBMITTER);
+
+    // Act
+    service.recordActivity(UUID.randomUUID());
+    service.rebalance();
+
+    // Assert
+    assertThat(service.assigneeFor(UUID.randomUUID(), UUID.randomUUID())).isNull();
+    verifyNoInteractions(moderatorPresenceRepository, moderationItemRepository);
+  }
+
+  @Test
+  void rebalance_singleModerator_takesUnassignedItemsAndSkipsOwnedOnes() throws Exception {
+    // Arrange
+    QueueAssignmentService service = service(true, PartitionKey.SUBMITTER);
+    UUID moderatorId = UUID.randomUUID();
+    ItemAssignment unassigned = item(new UUID(0L, 1L), null);
+    ItemAssignment owned = item(new UUID(0L, 2L), moderatorId);
+    when(moderatorPresenceRepository.findActiveSince(any())).thenReturn(List.of(moderatorId));
+    PreparedStatement lock = advisoryLock(true);
+    when(moderationItemRepository.findAssignmentsAfter(new UUID(0L, 0L), 2))
+        .thenReturn(List.of(unassigned, owned));
+    when(moderationItemRepository.findAssignmentsAfter(owned.getId(), 2)).thenReturn(List.of());
+    when(moderationItemRepository.assignTo(moderatorId, List.of(unassigned.getId())))
+        .thenReturn(1);
+
+    // Act
+    service.rebalance();
+
+    // Assert
+    verify(moderationItemRepository).assignTo(moderatorId, List.of(unassigned.getId()));
+    verify(queueEventBus)
+        .publish(QueueEvent.Type.ASSIGNED, List.of(unassigned.getId()), moderatorId);
+    verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(unassigned.getId()));
+    assertThat(service.hasShard(moderatorId)).isTrue();
+    assertThat(service.assigneeFor(UUID.randomUUID(), UUID.randomUUID())).isEqualTo(moderatorId);
+    assertThat(meterRegistry.counter("moderation.queue-assignment.moved").count()).isEqualTo(1);
+    verify(lock, times(2)).setLong(1, QueueAssignmentService.REBALANCE_LOCK_KEY);
+  }
+
+  @Test
+  void rebalance_lockHeldElsewhere_rebuildsRingWithoutMovingItems() throws Exception {
+    // Arrange
+    QueueAssignmentService service = service(true, PartitionKey.SUBMITTER);
+    UUID moderatorId = UUID.randomUUID();
+    when(moderatorPresenceRepository.findActiveSince(any())).thenReturn(List.of(moderatorId));
+    advisoryLock(false);
+
+    // Act
+    service.rebalance();
+
+    // Assert
+    assertThat(service.hasShard(moderatorId)).isTrue();
+    verify(moderatorPresenceRepository, never()).deleteSeenBefore(any());
+    verify(moderationItemRepository, never()).findAssignmentsAfter(any(), anyInt());
+  }
+
+  @Test
+  void rebalance_nobodyActive_keepsExistingAssignments() {
+    // Arrange
+    QueueAssignmentService service = service(true, PartitionKey.SUBMITTER);
+    when(moderatorPresenceRepository.findActiveSince(any())).thenReturn(List.of());
+
+    // Act
+    service.rebalance();
+
+    // Assert
+    verify(moderationItemRepository, never()).findAssignmentsAfter(any(), anyInt());
+    assertThat(service.assigneeFor(UUID.randomUUID(), UUID.randomUUID())).isNull();
+  }
+
+  @Test
+  void assigneeFor_contentKey_keepsOneSubmittersItemsApart() throws Exception {
+    // Arrange
+    QueueAssignmentService bySubmitter = service(true, PartitionKey.SUBMITTER);
+    QueueAssignmentService byContent = service(true, PartitionKey.CONTENT);
+    List<UUID> moderators = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    when(moderatorPresenceRepository.findActiveSince(any())).thenReturn(moderators);
+    advisoryLock(false);
+    bySubmitter.rebalance();
+    byContent.rebalance();
+    UUID submitterId = UUID.randomUUID();
+
+    // Act
+    List<UUID> submitterOwners =
+        IntStream.range(0, 50)
+            .mapToObj(i -> bySubmitter.assigneeFor(UUID.randomUUID(), submitterId))
+            .distinct()
+            .toList();
+    List<UUID> contentOwners =
+        IntStream.range(0, 50)
+            .mapToObj(i -> byContent.assigneeFor(UUID.randomUUID(), submitterId))
+            .distinct()
+            .toList();
+
+    // Assert
+    assertThat(submitterOwners).hasSize(1);
+    assertThat(contentOwners).hasSizeGreaterThan(1);
+  }
+
+  private PreparedStatement advisoryLock(boolean acquired) throws SQLException {
+    Connection connection = mock(Connection.class);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(any())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    when(resultSet.getBoolean(1)).thenReturn(acquired);
+    return statement;
+  }
+
+  private QueueAssignmentService service(boolean enabled, PartitionKey partitionKey) {
+    return new QueueAssignmentService(
+        moderationItemRepository,
+        moderatorPresenceRepository,
+        queueEventBus,
+        cacheInvalidationBus,
+        dataSource,
+        meterRegistry,
+        enabled,
+        partitionKey,
+        100,
+        Duration.ofMinutes(5),
+        Duration.ofMinutes(1),
+        2);
+  }
+
+  private static ItemAssignment item(UUID id, @Nullable UUID assignedTo) {
+    UUID contentId = UUID.randomUUID();
+    UUID submitterId = UUID.randomUUID();
+    return new ItemAssignment() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public UUID getContentId() {
+        return contentId;
+      }
+
+      @Override
+      public UUID getSubmitterId() {
+        return submitterId;
+      }
+
+      @Override
+      @Nullable
+      public UUID getAssignedTo() {
+        return assignedTo;
+      }
+    };
+  }
+}
@@ -0,0 +1,114 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class QueueEventBusTest {
+
+  private QueueEventRelay relay;
+  private QueueEventBus bus;
+  private final List<QueueEvent> received = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    relay = mock(QueueEventRelay.class);
+    bus = new QueueEventBus(relay, new SimpleMeterRegistry());
+    bus.subscribe(received::add);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void publish_noTransaction_deliversAndRelaysImmediately() {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    UUID reviewerId = UUID.randomUUID();
+
+    // Act
+    bus.publish(QueueEvent.Type.APPROVED, List.of(itemId), reviewerId);
+
+    // Assert
+    QueueEvent expected = new QueueEvent(QueueEvent.Type.APPROVED, List.of(itemId), reviewerId);
+    assertThat(received).containsExactly(expected);
+    verify(relay).send(expected);
+  }
+
+  @Test
+  void publish_insideTransaction_waitsForCommit() {
+    // Arrange
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    bus.publish(QueueEvent.Type.CREATED, List.of(UUID.randomUUID()), null);
+
+    // Assert
+    assertThat(received).isEmpty();
+    verify(relay, never()).send(any());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(received).hasSize(1);
+  }
+
+  @Test
+  void publish_manyItems_splitsIntoBoundedEvents() {
+    // Arrange
+    List<UUID> itemIds = Stream.generate(UUID::randomUUID).limit(250).toList();
+
+    // Act
+    bus.publish(QueueEvent.Type.REJECTED, itemIds, UUID.randomUUID());
+
+    // Assert
+    assertThat(received)
+        .extracting(event -> event.itemIds().size())
+        .containsExactly(100, 100, 50);
+    assertThat(received.stream().flatMap(event -> event.itemIds().stream()))
+        .containsExactlyElementsOf(itemIds);
+  }
+
+  @Test
+  void publish_noItems_sendsNothing() {
+    // Act
+    bus.publish(QueueEvent.Type.APPROVED, List.of(), UUID.randomUUID());
+
+    // Assert
+    assertThat(received).isEmpty();
+    verify(relay, never()).send(any());
+  }
+
+  @Test
+  void deliver_failingListener_doesNotStopOthers() {
+    // Arrange
+    QueueEventBus failingFirst = new QueueEventBus(relay, new SimpleMeterRegistry());
+    failingFirst.subscribe(
+        event -> {
+          throw new IllegalStateException("boom");
+        });
+    failingFirst.subscribe(received::add);
+    QueueEvent event = new QueueEvent(QueueEvent.Type.RESYNC, List.of(), null);
+
+    // Act
+    failingFirst.deliver(event);
+
+    // Assert
+    assertThat(received).containsExactly(event);
+  }
+}
@@ -0,0 +1,89 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class RecentReportCacheTest {
+
+  private RecentReportCache cache;
+
+  @BeforeEach
+  void setUp() {
+    CacheInvalidationBus bus =
+        new CacheInvalidationBus(
+            mock(PostgresNotifications.class), new ObjectMapper(), new SimpleMeterRegistry(), 100);
+    cache = new RecentReportCache(bus, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void add_outsideTransaction_isVisibleImmediately() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+
+    // Act
+    cache.add(reporterId, contentId);
+
+    // Assert
+    assertThat(cache.contains(reporterId, contentId)).isTrue();
+    assertThat(cache.contains(reporterId, UUID.randomUUID())).isFalse();
+    assertThat(cache.contains(UUID.randomUUID(), contentId)).isFalse();
+  }
+
+  @Test
+  void add_insideTransaction_isVisibleOnlyAfterCommit() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    cache.add(reporterId, contentId);
+    boolean beforeCommit = cache.contains(reporterId, contentId);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    // Assert
+    assertThat(beforeCommit).isFalse();
+    assertThat(cache.contains(reporterId, contentId)).isTrue();
+  }
+
+  @Test
+  void forgetContent_removesEveryReporterOfThatContentOnly() {
+    // Arrange
+    UUID closed = UUID.randomUUID();
+    UUID stillOpen = UUID.randomUUID();
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    cache.add(first, closed);
+    cache.add(second, closed);
+    cache.add(first, stillOpen);
+
+    // Act
+    cache.forgetContent(List.of(closed));
+
+    // Assert
+    assertThat(cache.contains(first, closed)).isFalse();
+    assertThat(cache.contains(second, closed)).isFalse();
+    assertThat(cache.contains(first, stillOpen)).isTrue();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,61 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RejectionHistoryRuleTest {
+
+  private final UUID clean = UUID.randomUUID();
+  private final UUID flagged = UUID.randomUUID();
+  private final Map<UUID, Long> rejections = Map.of(clean, 0L, flagged, 5L);
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  private final RejectionHistoryRule rule =
+      new RejectionHistoryRule(
+          flagged::equals,
+          submitterId -> {
+            lookups.incrementAndGet();
+            return rejections.get(submitterId);
+          },
+          new SimpleMeterRegistry(),
+          1,
+          2,
+          100,
+          Duration.ofMinutes(5));
+
+  @Test
+  void score_knownCleanSubmitter_returnsZeroWithoutLookup() {
+    // Act
+    int score = rule.score(from(clean));
+
+    // Assert
+    assertThat(score).isZero();
+    assertThat(lookups).hasValue(0);
+  }
+
+  @Test
+  void score_flaggedSubmitter_isCappedAndCached() {
+    // Act
+    int first = rule.score(from(flagged));
+    int second = rule.score(from(flagged));
+
+    // Assert
+    assertThat(first).isEqualTo(2);
+    assertThat(second).isEqualTo(2);
+    assertThat(lookups).hasValue(1);
+  }
+
+  private static Submission from(UUID submitterId) {
+    return new Submission(
+        ContentType.VIDEO, UUID.randomUUID(), submitterId, null, Set.of(), List.of(), null);
+  }
+}
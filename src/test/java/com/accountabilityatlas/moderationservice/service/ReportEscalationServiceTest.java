@@ -0,0 +1,243 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.repository.EscalationState;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.repository.OpenReportSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReportEscalationServiceTest {
+
+  @Mock private ModerationItemRepository moderationItemRepository;
+  @Mock private CacheInvalidationBus cacheInvalidationBus;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private ReportEscalationService service;
+
+  @BeforeEach
+  void setUp() {
+    EscalationPolicy policy = new EscalationPolicy(new int[] {1, 3, 10}, Duration.ofDays(3));
+    service =
+        new ReportEscalationService(
+            moderationItemRepository,
+            policy,
+            cacheInvalidationBus,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            2);
+  }
+
+  @Test
+  void recordReportsOpened_thresholdCrossed_raisesPriority() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    Instant reportedAt = Instant.now();
+    when(moderationItemRepository.addOpenReports(contentId, 1, reportedAt))
+        .thenReturn(List.of(state(itemId, 3, reportedAt, 1)));
+    when(moderationItemRepository.updatePriority(itemId, 2)).thenReturn(1);
+
+    // Act
+    service.recordReportsOpened(contentId, 1, reportedAt);
+
+    // Assert
+    InOrder inOrder = inOrder(moderationItemRepository, cacheInvalidationBus);
+    inOrder.verify(moderationItemRepository).updatePriority(itemId, 2);
+    inOrder
+        .verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(itemId));
+    verifyNoMoreInteractions(cacheInvalidationBus);
+  }
+
+  @Test
+  void recordReportsOpened_priorityUnchanged_skipsUpdate() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    Instant reportedAt = Instant.now();
+    when(moderationItemRepository.addOpenReports(contentId, 1, reportedAt))
+        .thenReturn(List.of(state(UUID.randomUUID(), 2, reportedAt, 1)));
+
+    // Act
+    service.recordReportsOpened(contentId, 1, reportedAt);
+
+    // Assert
+    verify(moderationItemRepository, never()).updatePriority(any(), anyInt());
+  }
+
+  @Test
+  void recordReportsClosed_lastReportClosed_dropsPriorityToZero() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    when(moderationItemRepository.removeOpenReports(contentId, 2))
+        .thenReturn(List.of(state(itemId, 0, Instant.now(), 1)));
+
+    // Act
+    service.recordReportsClosed(contentId, 2);
+
+    // Assert
+    verify(moderationItemRepository).updatePriority(itemId, 0);
+  }
+
+  @Test
+  void recordReportsOpened_addsLevelToBasePriority() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    Instant reportedAt = Instant.now();
+    when(moderationItemRepository.addOpenReports(contentId, 1, reportedAt))
+        .thenReturn(List.of(state(itemId, 1, reportedAt, 2, 2)));
+
+    // Act
+    service.recordReportsOpened(contentId, 1, reportedAt);
+
+    // Assert
+    verify(moderationItemRepository).updatePriority(itemId, 3);
+  }
+
+  @Test
+  void recordReportsClosed_zeroCount_doesNothing() {
+    // Act
+    service.recordReportsClosed(UUID.randomUUID(), 0);
+
+    // Assert
+    verify(moderationItemRepository, never()).removeOpenReports(any(), anyInt());
+  }
+
+  @Test
+  void initialize_setsCountersAndPriorityFromOpenReports() {
+    // Arrange
+    ModerationItem item = new ModerationItem();
+    item.setContentId(UUID.randomUUID());
+    Instant lastReportedAt = Instant.now().minusSeconds(60);
+    when(moderationItemRepository.summarizeOpenReports(item.getContentId()))
+        .thenReturn(summary(4, lastReportedAt));
+
+    // Act
+    service.initialize(item);
+
+    // Assert
+    assertThat(item.getOpenReportCount()).isEqualTo(4);
+    assertThat(item.getLastReportedAt()).isEqualTo(lastReportedAt);
+    assertThat(item.getPriority()).isEqualTo(2);
+  }
+
+  @Test
+  void initialize_noOpenReports_keepsBasePriority() {
+    // Arrange
+    ModerationItem item = new ModerationItem();
+    item.setContentId(UUID.randomUUID());
+    item.setBasePriority(3);
+    when(moderationItemRepository.summarizeOpenReports(item.getContentId()))
+        .thenReturn(summary(0, null));
+
+    // Act
+    service.initialize(item);
+
+    // Assert
+    assertThat(item.getPriority()).isEqualTo(3);
+  }
+
+  @Test
+  void refresh_walksCandidatesInChunksAndAppliesDecay() {
+    // Arrange - chunk size is 2, so a full chunk means another page is fetched
+    UUID first = new UUID(0L, 1L);
+    UUID second = new UUID(0L, 2L);
+    UUID third = new UUID(0L, 3L);
+    Instant now = Instant.now();
+    when(moderationItemRepository.findEscalationCandidatesAfter(new UUID(0L, 0L), 2))
+        .thenReturn(
+            List.of(
+                state(first, 10, now.minus(Duration.ofDays(4)), 3), state(second, 3, now, 2)));
+    when(moderationItemRepository.findEscalationCandidatesAfter(second, 2))
+        .thenReturn(List.of(state(third, 1, now, 0)));
+    when(moderationItemRepository.updatePriority(any(), anyInt())).thenReturn(1);
+
+    // Act
+    service.refresh();
+
+    // Assert
+    verify(moderationItemRepository).updatePriority(first, 2);
+    verify(moderationItemRepository).updatePriority(third, 1);
+    verify(moderationItemRepository, never()).updatePriority(eq(second), anyInt());
+    verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(first));
+    verify(cacheInvalidationBus)
+        .publish(CacheInvalidationBus.Entity.MODERATION_ITEM, List.of(third));
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  private static EscalationState state(
+      UUID id, int openReportCount, Instant lastReportedAt, int priority) {
+    return state(id, openReportCount, lastReportedAt, 0, priority);
+  }
+
+  private static EscalationState state(
+      UUID id, int openReportCount, Instant lastReportedAt, int basePriority, int priority) {
+    return new EscalationState() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public int getOpenReportCount() {
+        return openReportCount;
+      }
+
+      @Override
+      public Instant getLastReportedAt() {
+        return lastReportedAt;
+      }
+
+      @Override
+      public int getBasePriority() {
+        return basePriority;
+      }
+
+      @Override
+      public int getPriority() {
+        return priority;
+      }
+    };
+  }
+
+  private static OpenReportSummary summary(
+      long openReportCount, @Nullable Instant lastReportedAt) {
+    return new OpenReportSummary() {
+      @Override
+      public long getOpenReportCount() {
+        return openReportCount;
+      }
+
+      @Override
+      public Instant getLastReportedAt() {
+        return lastReportedAt;
+      }
+    };
+  }
+}
@@ -0,0 +1,225 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.domain.AbuseReason;
+import com.accountabilityatlas.moderationservice.domain.AbuseReport;
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import com.accountabilityatlas.moderationservice.domain.ReportStatus;
+import com.accountabilityatlas.moderationservice.exception.DuplicateReportException;
+import com.accountabilityatlas.moderationservice.service.ReportIngestService.SubmittedReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class ReportIngestServiceTest {
+
+  @Mock private AbuseReportService abuseReportService;
+  @Mock private RecentReportCache recentReportCache;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void submit_disabled_writesSynchronously() {
+    // Arrange
+    ReportIngestService service = service(false, 10, 10);
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+    AbuseReport saved = new AbuseReport();
+    when(abuseReportService.submitReport(
+            ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, "spam"))
+        .thenReturn(saved);
+
+    // Act
+    SubmittedReport result =
+        service.submit(ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, "spam");
+
+    // Assert
+    assertThat(result.report()).isSameAs(saved);
+    assertThat(result.queued()).isFalse();
+    verify(abuseReportService, never()).checkCanReport(any(), any());
+  }
+
+  @Test
+  void submit_enabled_queuesReportWithIdWithoutWriting() {
+    // Arrange
+    ReportIngestService service = service(true, 10, 10);
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+
+    // Act
+    SubmittedReport result =
+        service.submit(ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, null);
+
+    // Assert
+    assertThat(result.queued()).isTrue();
+    assertThat(result.report().getId()).isNotNull();
+    assertThat(result.report().getCreatedAt()).isNotNull();
+    assertThat(result.report().getStatus()).isEqualTo(ReportStatus.OPEN);
+    assertThat(service.depth()).isEqualTo(1);
+    verify(abuseReportService).checkCanReport(reporterId, contentId);
+    verify(recentReportCache).addExisting(reporterId, contentId);
+    verify(abuseReportService, never()).insertQueuedReports(anyList());
+  }
+
+  @Test
+  void submit_refusedByChecks_queuesNothing() {
+    // Arrange
+    ReportIngestService service = service(true, 10, 10);
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+    doThrow(new DuplicateReportException())
+        .when(abuseReportService)
+        .checkCanReport(reporterId, contentId);
+
+    // Act
+    Throwable thrown =
+        catchThrowable(
+            () -> service.submit(ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, null));
+
+    // Assert
+    assertThat(thrown).isInstanceOf(DuplicateReportException.class);
+    assertThat(service.depth()).isZero();
+  }
+
+  @Test
+  void submit_bufferFull_fallsBackToSynchronousWrite() {
+    // Arrange
+    ReportIngestService service = service(true, 1, 10);
+    submitAny(service);
+    UUID contentId = UUID.randomUUID();
+    UUID reporterId = UUID.randomUUID();
+    AbuseReport saved = new AbuseReport();
+    when(abuseReportService.openReport(
+            ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, null))
+        .thenReturn(saved);
+
+    // Act
+    SubmittedReport result =
+        service.submit(ContentType.VIDEO, contentId, reporterId, AbuseReason.SPAM, null);
+
+    // Assert
+    assertThat(result.queued()).isFalse();
+    assertThat(result.report()).isSameAs(saved);
+    assertThat(meterRegistry.counter("moderation.reports.ingest.fallback").count()).isEqualTo(1);
+  }
+
+  @Test
+  void flush_writesBufferInBatchesOfBatchSize() {
+    // Arrange
+    ReportIngestService service = service(true, 10, 2);
+    for (int i = 0; i < 5; i++) {
+      submitAny(service);
+    }
+    List<Integer> batchSizes = new ArrayList<>();
+    when(abuseReportService.insertQueuedReports(anyList()))
+        .thenAnswer(
+            inv -> {
+              List<AbuseReport> batch = inv.getArgument(0);
+              batchSizes.add(batch.size());
+              return batch;
+            });
+
+    // Act
+    service.flush();
+
+    // Assert
+    assertThat(batchSizes).containsExactly(2, 2, 1);
+    assertThat(service.depth()).isZero();
+    assertThat(meterRegistry.timer("moderation.reports.ingest.flush").count()).isEqualTo(3);
+    assertThat(meterRegistry.get("moderation.reports.ingest.depth").gauge().value()).isZero();
+  }
+
+  @Test
+  void flush_batchFails_requeuesItInOrderForTheNextFlush() {
+    // Arrange
+    ReportIngestService service = service(true, 10, 10);
+    AbuseReport first = submitAny(service);
+    AbuseReport second = submitAny(service);
+    when(abuseReportService.insertQueuedReports(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("db down"))
+        .thenAnswer(inv -> inv.getArgument(0));
+
+    // Act
+    service.flush();
+    int depthAfterFailure = service.depth();
+    service.flush();
+
+    // Assert
+    assertThat(depthAfterFailure).isEqualTo(2);
+    assertThat(service.depth()).isZero();
+    verify(abuseReportService, times(2)).insertQueuedReports(List.of(first, second));
+  }
+
+  @Test
+  void flush_poisonReportInBatch_deadLettersItAndWritesTheRest() {
+    // Arrange
+    ReportIngestService service = service(true, 10, 10);
+    AbuseReport poison = submitAny(service);
+    AbuseReport good = submitAny(service);
+    when(abuseReportService.insertQueuedReports(List.of(poison, good)))
+        .thenThrow(new DataIntegrityViolationException("violates check constraint"));
+    when(abuseReportService.insertQueuedReports(List.of(poison)))
+        .thenThrow(new DataIntegrityViolationException("violates check constraint"));
+    when(abuseReportService.insertQueuedReports(List.of(good))).thenReturn(List.of(good));
+
+    // Act
+    service.flush();
+
+    // Assert
+    assertThat(service.depth()).isZero();
+    verify(abuseReportService).insertQueuedReports(List.of(good));
+    assertThat(meterRegistry.counter("moderation.reports.ingest.dead-lettered").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void flush_setsCreatedAtWhenTheReportIsWritten() throws Exception {
+    // Arrange
+    ReportIngestService service = service(true, 10, 10);
+    AbuseReport report = submitAny(service);
+    Instant submittedAt = report.getCreatedAt();
+    when(abuseReportService.insertQueuedReports(anyList())).thenAnswer(inv -> inv.getArgument(0));
+    Thread.sleep(5);
+
+    // Act
+    service.flush();
+
+    // Assert
+    assertThat(report.getCreatedAt()).isAfter(submittedAt);
+  }
+
+  private static AbuseReport submitAny(ReportIngestService service) {
+    return service
+        .submit(ContentType.VIDEO, UUID.randomUUID(), UUID.randomUUID(), AbuseReason.SPAM, null)
+        .report();
+  }
+
+  private ReportIngestService service(boolean enabled, int bufferCapacity, int batchSize) {
+    return new ReportIngestService(
+        abuseReportService, recentReportCache, meterRegistry, enabled, bufferCapacity, batchSize);
+  }
+}
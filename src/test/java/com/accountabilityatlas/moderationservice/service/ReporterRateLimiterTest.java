@@ -0,0 +1,122 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReporterRateLimiterTest {
+
+  private static final Duration INTERVAL = Duration.ofSeconds(30);
+
+  private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+  private SimpleMeterRegistry meterRegistry;
+  private ReporterRateLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new ReporterRateLimiter(meterRegistry, 3, INTERVAL, 4, clock::get);
+  }
+
+  @Test
+  void tryAcquire_withinBurst_grantsEveryRequest() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+
+    // Act & Assert
+    for (int i = 0; i < 3; i++) {
+      assertThat(limiter.tryAcquire(reporterId)).isZero();
+    }
+  }
+
+  @Test
+  void tryAcquire_burstExhausted_returnsTimeUntilNextToken() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    for (int i = 0; i < 3; i++) {
+      limiter.tryAcquire(reporterId);
+    }
+    clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    // Act
+    Duration retryAfter = limiter.tryAcquire(reporterId);
+
+    // Assert
+    assertThat(retryAfter).isEqualTo(Duration.ofSeconds(20));
+    assertThat(meterRegistry.counter("moderation.reports.rate-limited").count()).isEqualTo(1);
+  }
+
+  @Test
+  void tryAcquire_afterRefillInterval_grantsOneMore() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    for (int i = 0; i < 3; i++) {
+      limiter.tryAcquire(reporterId);
+    }
+    clock.addAndGet(INTERVAL.toNanos());
+
+    // Act
+    Duration first = limiter.tryAcquire(reporterId);
+    Duration second = limiter.tryAcquire(reporterId);
+
+    // Assert
+    assertThat(first).isZero();
+    assertThat(second).isEqualTo(INTERVAL);
+  }
+
+  @Test
+  void tryAcquire_refusedRequest_doesNotConsumeAToken() {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    for (int i = 0; i < 3; i++) {
+      limiter.tryAcquire(reporterId);
+    }
+    limiter.tryAcquire(reporterId);
+    limiter.tryAcquire(reporterId);
+    clock.addAndGet(INTERVAL.toNanos());
+
+    // Act
+    Duration retryAfter = limiter.tryAcquire(reporterId);
+
+    // Assert
+    assertThat(retryAfter).isZero();
+  }
+
+  @Test
+  void tryAcquire_reportersHaveIndependentBuckets() {
+    // Arrange
+    UUID busy = UUID.randomUUID();
+    for (int i = 0; i < 3; i++) {
+      limiter.tryAcquire(busy);
+    }
+
+    // Act
+    Duration other = limiter.tryAcquire(UUID.randomUUID());
+
+    // Assert
+    assertThat(limiter.tryAcquire(busy)).isPositive();
+    assertThat(other).isZero();
+  }
+
+  @Test
+  void evictIdle_dropsOnlyRefilledBuckets() {
+    // Arrange
+    UUID idle = UUID.randomUUID();
+    UUID active = UUID.randomUUID();
+    limiter.tryAcquire(idle);
+    clock.addAndGet(INTERVAL.toNanos());
+    limiter.tryAcquire(active);
+
+    // Act
+    limiter.evictIdle();
+
+    // Assert
+    assertThat(limiter.size()).isEqualTo(1);
+    assertThat(limiter.tryAcquire(idle)).isZero();
+  }
+}
@@ -0,0 +1,48 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SubmissionAgeRuleTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+  private final SubmissionAgeRule rule =
+      new SubmissionAgeRule(Duration.ofHours(1), 2, NOW::toEpochMilli);
+
+  @Test
+  void score_submittedBeforeThreshold_returnsPoints() {
+    // Act & Assert
+    assertThat(rule.score(submittedAt(NOW.minus(Duration.ofHours(1))))).isEqualTo(2);
+  }
+
+  @Test
+  void score_recentSubmission_returnsZero() {
+    // Act & Assert
+    assertThat(rule.score(submittedAt(NOW.minus(Duration.ofMinutes(59))))).isZero();
+  }
+
+  @Test
+  void score_unknownSubmissionTime_returnsZero() {
+    // Act & Assert
+    assertThat(rule.score(submittedAt(null))).isZero();
+  }
+
+  private static Submission submittedAt(Instant submittedAt) {
+    return new Submission(
+        ContentType.VIDEO,
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        null,
+        Set.of(),
+        List.of(),
+        submittedAt);
+  }
+}
@@ -0,0 +1,211 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.repository.SubmitterStatsRepository;
+import com.accountabilityatlas.moderationservice.repository.TrustSignals;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SubmitterStatsServiceTest {
+
+  @Mock private SubmitterStatsRepository submitterStatsRepository;
+  @Mock private TrustSignals trustSignals;
+  @Mock private FlaggedSubmitterFilter flaggedSubmitterFilter;
+  @Mock private DataSource dataSource;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private SubmitterStatsService submitterStatsService;
+
+  @BeforeEach
+  void setUp() {
+    submitterStatsService =
+        new SubmitterStatsService(
+            submitterStatsRepository,
+            flaggedSubmitterFilter,
+            dataSource,
+            transactionManager,
+            Duration.ofDays(90),
+            2);
+  }
+
+  @Test
+  void recordRejection_bucketsByUtcDay() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    Instant reviewedAt = Instant.parse("2026-03-14T23:30:00Z");
+
+    // Act
+    submitterStatsService.recordRejection(submitterId, reviewedAt);
+
+    // Assert
+    verify(submitterStatsRepository).incrementRejected(submitterId, 1);
+    verify(submitterStatsRepository)
+        .incrementDailyRejections(submitterId, LocalDate.of(2026, 3, 14), 1);
+    verify(flaggedSubmitterFilter).markFlagged(List.of(submitterId));
+  }
+
+  @Test
+  void recordRejections_addsCountToBothCounters() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    Instant reviewedAt = Instant.parse("2026-03-15T08:00:00Z");
+
+    // Act
+    submitterStatsService.recordRejections(submitterId, 4, reviewedAt);
+
+    // Assert
+    verify(submitterStatsRepository).incrementRejected(submitterId, 4);
+    verify(submitterStatsRepository)
+        .incrementDailyRejections(submitterId, LocalDate.of(2026, 3, 15), 4);
+  }
+
+  @Test
+  void recordApprovals_zeroCount_doesNothing() {
+    // Act
+    submitterStatsService.recordApprovals(UUID.randomUUID(), 0);
+
+    // Assert
+    verify(submitterStatsRepository, never()).incrementApproved(any(), anyInt());
+  }
+
+  @Test
+  void recordReportOpenedAndClosed_updatesOpenReportsByContent() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID submitterId = UUID.randomUUID();
+    when(submitterStatsRepository.findSubmittersOfContent(contentId))
+        .thenReturn(List.of(submitterId));
+
+    // Act
+    submitterStatsService.recordReportOpened(contentId);
+    submitterStatsService.recordReportClosed(contentId);
+
+    // Assert
+    verify(submitterStatsRepository).incrementOpenReports(contentId, 1);
+    verify(submitterStatsRepository).decrementOpenReports(contentId);
+    verify(flaggedSubmitterFilter).markFlagged(List.of(submitterId));
+  }
+
+  @Test
+  void recordReportsOpened_incrementsByCount() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    when(submitterStatsRepository.findSubmittersOfContent(contentId)).thenReturn(List.of());
+
+    // Act
+    submitterStatsService.recordReportsOpened(contentId, 4);
+    submitterStatsService.recordReportsOpened(UUID.randomUUID(), 0);
+
+    // Assert
+    verify(submitterStatsRepository).incrementOpenReports(contentId, 4);
+    verify(submitterStatsRepository, never()).incrementOpenReports(any(), eq(0));
+  }
+
+  @Test
+  void recordReportsClosed_decrementsByCount() {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+
+    // Act
+    submitterStatsService.recordReportsClosed(contentId, 3);
+    submitterStatsService.recordReportsClosed(UUID.randomUUID(), 0);
+
+    // Assert
+    verify(submitterStatsRepository).decrementOpenReportsBy(contentId, 3);
+    verify(submitterStatsRepository, never()).decrementOpenReportsBy(any(), eq(0));
+  }
+
+  @Test
+  void getTrustSignals_roundsSinceDownToUtcDay() {
+    // Arrange
+    UUID submitterId = UUID.randomUUID();
+    when(submitterStatsRepository.findTrustSignals(submitterId, LocalDate.of(2026, 2, 1)))
+        .thenReturn(trustSignals);
+
+    // Act
+    TrustSignals result =
+        submitterStatsService.getTrustSignals(submitterId, Instant.parse("2026-02-01T17:45:00Z"));
+
+    // Assert
+    assertThat(result).isSameAs(trustSignals);
+  }
+
+  @Test
+  void rebuild_lockAcquired_recomputesEachRangeInItsOwnTransaction() throws Exception {
+    // Arrange
+    advisoryLockResult(true);
+    UUID first = new UUID(0L, 1L);
+    UUID second = new UUID(0L, 2L);
+    UUID third = new UUID(0L, 3L);
+    when(submitterStatsRepository.findSubmittersAfter(new UUID(0L, 0L), 2))
+        .thenReturn(List.of(first, second));
+    when(submitterStatsRepository.findSubmittersAfter(second, 2)).thenReturn(List.of(third));
+
+    // Act
+    submitterStatsService.rebuild();
+
+    // Assert
+    UUID max = new UUID(-1L, -1L);
+    InOrder order = inOrder(submitterStatsRepository, transactionManager);
+    order.verify(submitterStatsRepository).lockForRebuild();
+    order.verify(submitterStatsRepository).deleteStatsInRange(new UUID(0L, 0L), second);
+    order.verify(submitterStatsRepository).insertStatsFromBaseTables(new UUID(0L, 0L), second);
+    order.verify(submitterStatsRepository).deleteDailyRejectionsInRange(new UUID(0L, 0L), second);
+    order
+        .verify(submitterStatsRepository)
+        .insertDailyRejectionsFromBaseTables(any(), eq(new UUID(0L, 0L)), eq(second));
+    order.verify(transactionManager).commit(any());
+    order.verify(submitterStatsRepository).lockForRebuild();
+    order.verify(submitterStatsRepository).deleteStatsInRange(second, max);
+    order.verify(submitterStatsRepository).insertStatsFromBaseTables(second, max);
+    order.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void rebuild_lockHeldElsewhere_skips() throws Exception {
+    // Arrange
+    advisoryLockResult(false);
+
+    // Act
+    submitterStatsService.rebuild();
+
+    // Assert
+    verify(submitterStatsRepository, never()).lockForRebuild();
+    verify(submitterStatsRepository, never()).deleteStatsInRange(any(), any());
+  }
+
+  private void advisoryLockResult(boolean acquired) throws Exception {
+    Connection connection = mock(Connection.class);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(any())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    when(resultSet.getBoolean(1)).thenReturn(acquired);
+  }
+}
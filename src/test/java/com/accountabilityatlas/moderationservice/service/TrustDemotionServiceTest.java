@@ -10,8 +10,8 @@ import static org.mockito.Mockito.when;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserStats;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
-import com.accountabilityatlas.moderationservice.repository.AbuseReportRepository;
-import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.repository.TrustSignals;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
@@ -26,16 +26,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class TrustDemotionServiceTest {
 
   @Mock private UserServiceClient userServiceClient;
-  @Mock private ModerationItemRepository moderationItemRepository;
-  @Mock private AbuseReportRepository abuseReportRepository;
+  @Mock private UserSummaryCache userSummaryCache;
+  @Mock private SubmitterStatsService submitterStatsService;
 
   private TrustDemotionService trustDemotionService;
 
   @BeforeEach
   void setUp() {
     trustDemotionService =
-        new TrustDemotionService(
-            userServiceClient, moderationItemRepository, abuseReportRepository);
+        new TrustDemotionService(userServiceClient, userSummaryCache, submitterStatsService);
   }
 
   @Test
@@ -43,7 +42,7 @@ class TrustDemotionServiceTest {
     // Arrange - user is NEW, not TRUSTED
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "NEW");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -58,7 +57,7 @@ class TrustDemotionServiceTest {
     // Arrange - MODERATOR should not be auto-demoted
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "MODERATOR");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -73,7 +72,7 @@ class TrustDemotionServiceTest {
     // Arrange - ADMIN should not be auto-demoted
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "ADMIN");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -88,10 +87,9 @@ class TrustDemotionServiceTest {
     // Arrange - TRUSTED user with < 3 rejections AND < 3 reports
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "TRUSTED");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(eq(userId), any(Instant.class)))
-        .thenReturn(2); // Less than 3
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(2); // Less than 3
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(2, 2)); // Both below 3
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -106,10 +104,9 @@ class TrustDemotionServiceTest {
     // Arrange - TRUSTED user with exactly 3 rejections
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "TRUSTED");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(eq(userId), any(Instant.class)))
-        .thenReturn(3);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(0);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(3, 0));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -124,10 +121,9 @@ class TrustDemotionServiceTest {
     // Arrange - TRUSTED user with more than 3 rejections
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "TRUSTED");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(eq(userId), any(Instant.class)))
-        .thenReturn(5);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(0);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(5, 0));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -142,10 +138,9 @@ class TrustDemotionServiceTest {
     // Arrange - TRUSTED user with exactly 3 active reports
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "TRUSTED");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(eq(userId), any(Instant.class)))
-        .thenReturn(0);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(3);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(0, 3));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -160,10 +155,9 @@ class TrustDemotionServiceTest {
     // Arrange - TRUSTED user with more than 3 active reports
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "TRUSTED");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(eq(userId), any(Instant.class)))
-        .thenReturn(0);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(7);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(0, 7));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -178,10 +172,9 @@ class TrustDemotionServiceTest {
     // Arrange - TRUSTED user with both >= 3 rejections AND >= 3 reports
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "TRUSTED");
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(eq(userId), any(Instant.class)))
-        .thenReturn(4);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(5);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(4, 5));
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -195,7 +188,7 @@ class TrustDemotionServiceTest {
   void checkAndDemote_userNotFound_returnsFalse() {
     // Arrange
     UUID userId = UUID.randomUUID();
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.empty());
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.empty());
 
     // Act
     boolean result = trustDemotionService.checkAndDemote(userId);
@@ -210,4 +203,18 @@ class TrustDemotionServiceTest {
     UserStats stats = new UserStats(20, 15);
     return new UserSummary(userId, "testuser", null, trustTier, stats, createdAt);
   }
+
+  private TrustSignals signals(long recentRejections, long activeReports) {
+    return new TrustSignals() {
+      @Override
+      public long getRecentRejections() {
+        return recentRejections;
+      }
+
+      @Override
+      public long getActiveReports() {
+        return activeReports;
+      }
+    };
+  }
 }
@@ -0,0 +1,161 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TrustEvaluatorTest {
+
+  @Mock private TrustPromotionService trustPromotionService;
+  @Mock private TrustDemotionService trustDemotionService;
+
+  private TrustEvaluator trustEvaluator;
+
+  @BeforeEach
+  void setUp() {
+    trustEvaluator =
+        new TrustEvaluator(
+            trustPromotionService, trustDemotionService, new SimpleMeterRegistry(), 2, 10);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    trustEvaluator.shutdown();
+  }
+
+  @Test
+  void drain_repeatedSignalsForSameUser_evaluatesOnce() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    trustEvaluator.requestPromotionCheck(userId);
+    trustEvaluator.requestPromotionCheck(userId);
+    trustEvaluator.requestPromotionCheck(userId);
+
+    // Act
+    trustEvaluator.drain();
+
+    // Assert
+    verify(trustPromotionService, timeout(1000).times(1)).checkAndPromote(userId);
+    assertThat(trustEvaluator.pendingCount()).isZero();
+  }
+
+  @Test
+  void drain_poolSaturated_keepsRemainingSignalsPending() throws Exception {
+    // Arrange - 2 threads and 10 queue slots, all held until released
+    CountDownLatch release = new CountDownLatch(1);
+    Set<Thread> evaluatingThreads = ConcurrentHashMap.newKeySet();
+    when(trustPromotionService.checkAndPromote(any()))
+        .thenAnswer(
+            invocation -> {
+              evaluatingThreads.add(Thread.currentThread());
+              release.await();
+              return false;
+            });
+    for (int i = 0; i < 15; i++) {
+      trustEvaluator.requestPromotionCheck(UUID.randomUUID());
+    }
+
+    // Act
+    trustEvaluator.drain();
+    int pendingWhileSaturated = trustEvaluator.pendingCount();
+    release.countDown();
+    verify(trustPromotionService, timeout(1000).times(12)).checkAndPromote(any());
+    trustEvaluator.drain();
+
+    // Assert
+    assertThat(pendingWhileSaturated).isEqualTo(3);
+    verify(trustPromotionService, timeout(1000).times(15)).checkAndPromote(any());
+    assertThat(evaluatingThreads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void evaluate_promotionAndDemotionSignalled_demotesBeforePromoting() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+
+    // Act
+    trustEvaluator.evaluate(userId, TrustEvaluator.PROMOTION | TrustEvaluator.DEMOTION);
+
+    // Assert
+    InOrder order = inOrder(trustDemotionService, trustPromotionService);
+    order.verify(trustDemotionService).checkAndDemote(userId);
+    order.verify(trustPromotionService).checkAndPromote(userId);
+  }
+
+  @Test
+  void evaluate_demotionFails_stillChecksPromotion() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    when(trustDemotionService.checkAndDemote(userId)).thenThrow(new RuntimeException("boom"));
+
+    // Act
+    trustEvaluator.evaluate(userId, TrustEvaluator.PROMOTION | TrustEvaluator.DEMOTION);
+
+    // Assert
+    verify(trustPromotionService).checkAndPromote(userId);
+  }
+
+  @Test
+  void requestDemotionCheck_insideTransaction_deferredUntilCommit() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    trustEvaluator.requestDemotionCheck(userId);
+    trustEvaluator.drain();
+
+    // Assert - nothing is queued before commit
+    assertThat(trustEvaluator.pendingCount()).isZero();
+    verify(trustDemotionService, never()).checkAndDemote(userId);
+
+    // Act - commit
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    trustEvaluator.drain();
+
+    // Assert
+    verify(trustDemotionService, timeout(1000).times(1)).checkAndDemote(userId);
+  }
+
+  @Test
+  void requestPromotionCheck_transactionRolledBack_neverEvaluates() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    trustEvaluator.requestPromotionCheck(userId);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    trustEvaluator.drain();
+
+    // Assert
+    assertThat(trustEvaluator.pendingCount()).isZero();
+    verify(trustPromotionService, times(0)).checkAndPromote(userId);
+  }
+}
@@ -2,6 +2,8 @@ package com.accountabilityatlas.moderationservice.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,8 +11,8 @@ import static org.mockito.Mockito.when;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserStats;
 import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
-import com.accountabilityatlas.moderationservice.repository.AbuseReportRepository;
-import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.repository.TrustSignals;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
@@ -25,8 +27,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class TrustPromotionServiceTest {
 
   @Mock private UserServiceClient userServiceClient;
-  @Mock private ModerationItemRepository moderationItemRepository;
-  @Mock private AbuseReportRepository abuseReportRepository;
+  @Mock private UserSummaryCache userSummaryCache;
+  @Mock private SubmitterStatsService submitterStatsService;
+  @Mock private FlaggedSubmitterFilter flaggedSubmitterFilter;
 
   private TrustPromotionService trustPromotionService;
 
@@ -34,7 +37,8 @@ class TrustPromotionServiceTest {
   void setUp() {
     trustPromotionService =
         new TrustPromotionService(
-            userServiceClient, moderationItemRepository, abuseReportRepository);
+            userServiceClient, userSummaryCache, submitterStatsService, flaggedSubmitterFilter);
+    lenient().when(flaggedSubmitterFilter.mightBeFlagged(any())).thenReturn(true);
   }
 
   @Test
@@ -42,7 +46,7 @@ class TrustPromotionServiceTest {
     // Arrange
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "TRUSTED", 60, 15);
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -57,7 +61,7 @@ class TrustPromotionServiceTest {
     // Arrange
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "NEW", 15, 15); // Only 15 days old
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -72,7 +76,7 @@ class TrustPromotionServiceTest {
     // Arrange
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "NEW", 60, 5); // Only 5 approvals
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -87,9 +91,9 @@ class TrustPromotionServiceTest {
     // Arrange
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "NEW", 60, 15);
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(any(UUID.class), any(Instant.class)))
-        .thenReturn(1);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(1, 0));
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -104,10 +108,9 @@ class TrustPromotionServiceTest {
     // Arrange
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "NEW", 60, 15);
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(any(UUID.class), any(Instant.class)))
-        .thenReturn(0);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(1);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(0, 1));
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -122,10 +125,9 @@ class TrustPromotionServiceTest {
     // Arrange
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "NEW", 60, 15);
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(any(UUID.class), any(Instant.class)))
-        .thenReturn(0);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(0);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(0, 0));
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -135,11 +137,28 @@ class TrustPromotionServiceTest {
     verify(userServiceClient).updateTrustTier(userId, "TRUSTED", "AUTO_PROMOTION");
   }
 
+  @Test
+  void checkAndPromote_notInFlaggedFilter_promotesWithoutQueryingSignals() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    UserSummary user = createUser(userId, "NEW", 60, 15);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(flaggedSubmitterFilter.mightBeFlagged(userId)).thenReturn(false);
+
+    // Act
+    boolean result = trustPromotionService.checkAndPromote(userId);
+
+    // Assert
+    assertThat(result).isTrue();
+    verify(submitterStatsService, never()).getTrustSignals(any(), any());
+    verify(userServiceClient).updateTrustTier(userId, "TRUSTED", "AUTO_PROMOTION");
+  }
+
   @Test
   void checkAndPromote_userNotFound_returnsFalse() {
     // Arrange
     UUID userId = UUID.randomUUID();
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.empty());
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.empty());
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -154,10 +173,9 @@ class TrustPromotionServiceTest {
     // Arrange - test boundary conditions: exactly 30 days old, exactly 10 approvals
     UUID userId = UUID.randomUUID();
     UserSummary user = createUser(userId, "NEW", 30, 10);
-    when(userServiceClient.getUser(userId)).thenReturn(Optional.of(user));
-    when(moderationItemRepository.countRejectionsSince(any(UUID.class), any(Instant.class)))
-        .thenReturn(0);
-    when(abuseReportRepository.countActiveReportsAgainst(userId)).thenReturn(0);
+    when(userSummaryCache.getUser(userId)).thenReturn(Optional.of(user));
+    when(submitterStatsService.getTrustSignals(eq(userId), any(Instant.class)))
+        .thenReturn(signals(0, 0));
 
     // Act
     boolean result = trustPromotionService.checkAndPromote(userId);
@@ -173,4 +191,18 @@ class TrustPromotionServiceTest {
     UserStats stats = new UserStats(approvedCount + 2, approvedCount); // submissionCount > approved
     return new UserSummary(userId, "testuser", null, trustTier, stats, createdAt);
   }
+
+  private TrustSignals signals(long recentRejections, long activeReports) {
+    return new TrustSignals() {
+      @Override
+      public long getRecentRejections() {
+        return recentRejections;
+      }
+
+      @Override
+      public long getActiveReports() {
+        return activeReports;
+      }
+    };
+  }
 }
@@ -0,0 +1,204 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserStats;
+import com.accountabilityatlas.moderationservice.client.UserServiceClient.UserSummary;
+import com.accountabilityatlas.moderationservice.client.UserSummaryCache;
+import com.accountabilityatlas.moderationservice.domain.JobCheckpoint;
+import com.accountabilityatlas.moderationservice.repository.JobCheckpointRepository;
+import com.accountabilityatlas.moderationservice.repository.SubmitterStatsRepository;
+import com.accountabilityatlas.moderationservice.repository.SubmitterTrustTierRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TrustSweepTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock private SubmitterStatsRepository submitterStatsRepository;
+  @Mock private SubmitterTrustTierRepository submitterTrustTierRepository;
+  @Mock private JobCheckpointRepository jobCheckpointRepository;
+  @Mock private UserSummaryCache userSummaryCache;
+  @Mock private TrustPromotionService trustPromotionService;
+  @Mock private TrustDemotionService trustDemotionService;
+  @Mock private DataSource dataSource;
+
+  private TrustSweep trustSweep;
+
+  @BeforeEach
+  void setUp() {
+    trustSweep =
+        new TrustSweep(
+            submitterStatsRepository,
+            submitterTrustTierRepository,
+            jobCheckpointRepository,
+            userSummaryCache,
+            trustPromotionService,
+            trustDemotionService,
+            dataSource,
+            new SimpleMeterRegistry(),
+            CHUNK_SIZE,
+            10,
+            2,
+            1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    trustSweep.shutdown();
+  }
+
+  @Test
+  void runChunks_newAndTrustedCandidates_evaluatesEachByTier() throws Exception {
+    // Arrange
+    UserSummary newUser = createUser("NEW");
+    UserSummary trustedUser = createUser("TRUSTED");
+    List<UUID> candidates = List.of(newUser.id(), trustedUser.id());
+    when(jobCheckpointRepository.findById(TrustSweep.JOB_NAME)).thenReturn(Optional.empty());
+    when(jobCheckpointRepository.save(any(JobCheckpoint.class)))
+        .thenAnswer(inv -> inv.getArgument(0));
+    when(submitterStatsRepository.findTrustSweepCandidates(
+            any(), any(), anyInt(), anyInt(), anyInt(), anyInt()))
+        .thenReturn(candidates)
+        .thenReturn(List.of());
+    when(userSummaryCache.getUsers(candidates))
+        .thenReturn(Map.of(newUser.id(), newUser, trustedUser.id(), trustedUser));
+    when(trustPromotionService.promoteIfEligible(newUser)).thenReturn(true);
+    when(trustDemotionService.demoteIfEligible(trustedUser)).thenReturn(false);
+
+    // Act
+    int changed = trustSweep.runChunks();
+
+    // Assert
+    assertThat(changed).isEqualTo(1);
+    verify(trustPromotionService, never()).promoteIfEligible(trustedUser);
+    verify(trustDemotionService, never()).demoteIfEligible(newUser);
+    verify(submitterTrustTierRepository).recordTier(newUser.id(), "NEW");
+    verify(submitterTrustTierRepository).recordTier(trustedUser.id(), "TRUSTED");
+  }
+
+  @Test
+  void runChunks_moderatorCandidate_recordsTierWithoutEvaluating() throws Exception {
+    // Arrange
+    UserSummary moderator = createUser("MODERATOR");
+    when(jobCheckpointRepository.findById(TrustSweep.JOB_NAME)).thenReturn(Optional.empty());
+    when(submitterStatsRepository.findTrustSweepCandidates(
+            any(), any(), anyInt(), anyInt(), anyInt(), anyInt()))
+        .thenReturn(List.of(moderator.id()));
+    when(userSummaryCache.getUsers(List.of(moderator.id())))
+        .thenReturn(Map.of(moderator.id(), moderator));
+
+    // Act
+    int changed = trustSweep.runChunks();
+
+    // Assert
+    assertThat(changed).isZero();
+    verify(submitterTrustTierRepository).recordTier(moderator.id(), "MODERATOR");
+    verify(trustPromotionService, never()).promoteIfEligible(any());
+    verify(trustDemotionService, never()).demoteIfEligible(any());
+  }
+
+  @Test
+  void runChunks_fullChunk_checkpointsAndContinuesFromLastKey() throws Exception {
+    // Arrange
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(jobCheckpointRepository.findById(TrustSweep.JOB_NAME)).thenReturn(Optional.empty());
+    when(jobCheckpointRepository.save(any(JobCheckpoint.class)))
+        .thenAnswer(inv -> inv.getArgument(0));
+    when(submitterStatsRepository.findTrustSweepCandidates(
+            any(), any(), anyInt(), anyInt(), anyInt(), anyInt()))
+        .thenReturn(List.of(first, second))
+        .thenReturn(List.of());
+    when(userSummaryCache.getUsers(any())).thenReturn(Map.of());
+
+    // Act
+    trustSweep.runChunks();
+
+    // Assert
+    ArgumentCaptor<JobCheckpoint> saved = ArgumentCaptor.forClass(JobCheckpoint.class);
+    verify(jobCheckpointRepository).save(saved.capture());
+    assertThat(saved.getValue().getCursorId()).isEqualTo(second);
+    verify(submitterStatsRepository)
+        .findTrustSweepCandidates(eq(second), any(), anyInt(), anyInt(), anyInt(), eq(CHUNK_SIZE));
+    verify(jobCheckpointRepository).deleteById(TrustSweep.JOB_NAME);
+  }
+
+  @Test
+  void runChunks_existingCheckpoint_resumesFromCursor() throws Exception {
+    // Arrange
+    UUID cursorId = UUID.randomUUID();
+    JobCheckpoint checkpoint = new JobCheckpoint(TrustSweep.JOB_NAME);
+    checkpoint.setCursorId(cursorId);
+    when(jobCheckpointRepository.findById(TrustSweep.JOB_NAME))
+        .thenReturn(Optional.of(checkpoint));
+    when(submitterStatsRepository.findTrustSweepCandidates(
+            any(), any(), anyInt(), anyInt(), anyInt(), anyInt()))
+        .thenReturn(List.of());
+
+    // Act
+    trustSweep.runChunks();
+
+    // Assert
+    verify(submitterStatsRepository)
+        .findTrustSweepCandidates(
+            eq(cursorId), any(), anyInt(), anyInt(), anyInt(), eq(CHUNK_SIZE));
+    verify(userSummaryCache, never()).getUsers(any());
+  }
+
+  @Test
+  void sweep_lockHeldElsewhere_skips() throws Exception {
+    // Arrange
+    Connection connection = mock(Connection.class);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(any())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    when(resultSet.getBoolean(1)).thenReturn(false);
+
+    // Act
+    trustSweep.sweep();
+
+    // Assert
+    verify(statement).setLong(1, TrustSweep.SWEEP_LOCK_KEY);
+    verify(jobCheckpointRepository, never()).findById(any());
+    verify(connection).close();
+  }
+
+  private UserSummary createUser(String trustTier) {
+    return new UserSummary(
+        UUID.randomUUID(),
+        "testuser",
+        null,
+        trustTier,
+        new UserStats(12, 12),
+        Instant.now().minus(60, ChronoUnit.DAYS));
+  }
+}
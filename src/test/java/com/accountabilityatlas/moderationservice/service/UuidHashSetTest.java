@@ -0,0 +1,87 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidHashSetTest {
+
+  @Test
+  void add_growsPastInitialCapacity_keepsAllEntries() {
+    // Arrange
+    UuidHashSet set = new UuidHashSet(0);
+    List<UUID> added = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      added.add(UUID.randomUUID());
+    }
+
+    // Act
+    added.forEach(set::add);
+
+    // Assert
+    assertThat(set.size()).isEqualTo(10_000);
+    assertThat(added).allMatch(set::contains);
+    assertThat(set.contains(UUID.randomUUID())).isFalse();
+  }
+
+  @Test
+  void add_duplicate_returnsFalse() {
+    // Arrange
+    UuidHashSet set = new UuidHashSet(4);
+    UUID uuid = UUID.randomUUID();
+
+    // Act
+    boolean first = set.add(uuid);
+    boolean second = set.add(UUID.fromString(uuid.toString()));
+
+    // Assert
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(set.size()).isEqualTo(1);
+  }
+
+  @Test
+  void add_nilUuid_isTrackedSeparately() {
+    // Arrange
+    UuidHashSet set = new UuidHashSet(4);
+    UUID nil = new UUID(0L, 0L);
+
+    // Act
+    set.add(nil);
+
+    // Assert
+    assertThat(set.contains(nil)).isTrue();
+    assertThat(set.size()).isEqualTo(1);
+  }
+
+  @Test
+  void addAll_mergesOtherSet() {
+    // Arrange
+    UuidHashSet set = new UuidHashSet(4);
+    UuidHashSet other = new UuidHashSet(4);
+    UUID mine = UUID.randomUUID();
+    UUID theirs = UUID.randomUUID();
+    set.add(mine);
+    other.add(theirs);
+
+    // Act
+    set.addAll(other);
+
+    // Assert
+    assertThat(set.contains(mine)).isTrue();
+    assertThat(set.contains(theirs)).isTrue();
+    assertThat(set.size()).isEqualTo(2);
+  }
+
+  @Test
+  void memoryBytes_oneMillionEntries_is32MiB() {
+    // Act
+    UuidHashSet set = new UuidHashSet(1_000_000);
+
+    // Assert - 2^21 slots of two longs
+    assertThat(set.memoryBytes()).isEqualTo(32L * 1024 * 1024);
+  }
+}
@@ -0,0 +1,234 @@
+package com.accountabilityatlas.moderationservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.client.VideoServiceClient;
+import com.accountabilityatlas.moderationservice.client.VideoServiceClient.VideoServiceException;
+import com.accountabilityatlas.moderationservice.domain.ContentType;
+import com.accountabilityatlas.moderationservice.domain.JobCheckpoint;
+import com.accountabilityatlas.moderationservice.domain.ModerationItem;
+import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
+import com.accountabilityatlas.moderationservice.repository.JobCheckpointRepository;
+import com.accountabilityatlas.moderationservice.repository.ModerationItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoStatusReconcilerTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock private ModerationItemRepository moderationItemRepository;
+  @Mock private JobCheckpointRepository jobCheckpointRepository;
+  @Mock private VideoServiceClient videoServiceClient;
+  @Mock private DataSource dataSource;
+
+  private VideoStatusReconciler reconciler;
+
+  @BeforeEach
+  void setUp() {
+    reconciler =
+        new VideoStatusReconciler(
+            moderationItemRepository,
+            jobCheckpointRepository,
+            videoServiceClient,
+            dataSource,
+            new SimpleMeterRegistry(),
+            Duration.ofDays(7),
+            Duration.ofMinutes(10),
+            CHUNK_SIZE,
+            10,
+            2,
+            1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    reconciler.shutdown();
+  }
+
+  @Test
+  void runChunks_statusDrift_pushesCorrection() throws Exception {
+    // Arrange
+    ModerationItem item = createReviewedItem(ModerationStatus.APPROVED);
+    when(jobCheckpointRepository.findById(VideoStatusReconciler.JOB_NAME))
+        .thenReturn(Optional.empty());
+    when(moderationItemRepository.findReviewedVideosAfter(any(), any(), any(), anyInt()))
+        .thenReturn(List.of(item));
+    when(videoServiceClient.getVideoStatuses(List.of(item.getContentId())))
+        .thenReturn(Map.of(item.getContentId(), "PENDING_REVIEW"));
+
+    // Act
+    int corrected = reconciler.runChunks();
+
+    // Assert
+    assertThat(corrected).isEqualTo(1);
+    verify(videoServiceClient).updateVideoStatus(item.getContentId(), "APPROVED");
+  }
+
+  @Test
+  void runChunks_statusesMatch_doesNotUpdate() throws Exception {
+    // Arrange
+    ModerationItem item = createReviewedItem(ModerationStatus.REJECTED);
+    when(jobCheckpointRepository.findById(VideoStatusReconciler.JOB_NAME))
+        .thenReturn(Optional.empty());
+    when(moderationItemRepository.findReviewedVideosAfter(any(), any(), any(), anyInt()))
+        .thenReturn(List.of(item));
+    when(videoServiceClient.getVideoStatuses(List.of(item.getContentId())))
+        .thenReturn(Map.of(item.getContentId(), "REJECTED"));
+
+    // Act
+    int corrected = reconciler.runChunks();
+
+    // Assert
+    assertThat(corrected).isZero();
+    verify(videoServiceClient, never()).updateVideoStatus(any(), anyString());
+  }
+
+  @Test
+  void runChunks_statusOutsideWorkflow_isLeftAlone() throws Exception {
+    // Arrange
+    ModerationItem item = createReviewedItem(ModerationStatus.APPROVED);
+    when(jobCheckpointRepository.findById(VideoStatusReconciler.JOB_NAME))
+        .thenReturn(Optional.empty());
+    when(moderationItemRepository.findReviewedVideosAfter(any(), any(), any(), anyInt()))
+        .thenReturn(List.of(item));
+    when(videoServiceClient.getVideoStatuses(List.of(item.getContentId())))
+        .thenReturn(Map.of(item.getContentId(), "REMOVED"));
+
+    // Act
+    int corrected = reconciler.runChunks();
+
+    // Assert
+    assertThat(corrected).isZero();
+    verify(videoServiceClient, never()).updateVideoStatus(any(), anyString());
+  }
+
+  @Test
+  void runChunks_correctionFails_countsOnlySuccesses() throws Exception {
+    // Arrange
+    ModerationItem item = createReviewedItem(ModerationStatus.APPROVED);
+    when(jobCheckpointRepository.findById(VideoStatusReconciler.JOB_NAME))
+        .thenReturn(Optional.empty());
+    when(moderationItemRepository.findReviewedVideosAfter(any(), any(), any(), anyInt()))
+        .thenReturn(List.of(item));
+    when(videoServiceClient.getVideoStatuses(List.of(item.getContentId())))
+        .thenReturn(Map.of(item.getContentId(), "REJECTED"));
+    doThrow(new VideoServiceException("boom", null))
+        .when(videoServiceClient)
+        .updateVideoStatus(item.getContentId(), "APPROVED");
+
+    // Act
+    int corrected = reconciler.runChunks();
+
+    // Assert
+    assertThat(corrected).isZero();
+  }
+
+  @Test
+  void runChunks_fullChunk_checkpointsAndContinuesFromLastKey() throws Exception {
+    // Arrange
+    ModerationItem first = createReviewedItem(ModerationStatus.APPROVED);
+    ModerationItem second = createReviewedItem(ModerationStatus.APPROVED);
+    when(jobCheckpointRepository.findById(VideoStatusReconciler.JOB_NAME))
+        .thenReturn(Optional.empty());
+    when(jobCheckpointRepository.save(any(JobCheckpoint.class)))
+        .thenAnswer(inv -> inv.getArgument(0));
+    when(moderationItemRepository.findReviewedVideosAfter(any(), any(), any(), anyInt()))
+        .thenReturn(List.of(first, second))
+        .thenReturn(List.of());
+    when(videoServiceClient.getVideoStatuses(any())).thenReturn(Map.of());
+
+    // Act
+    reconciler.runChunks();
+
+    // Assert
+    ArgumentCaptor<JobCheckpoint> saved = ArgumentCaptor.forClass(JobCheckpoint.class);
+    verify(jobCheckpointRepository).save(saved.capture());
+    assertThat(saved.getValue().getCursorTimestamp()).isEqualTo(second.getReviewedAt());
+    assertThat(saved.getValue().getCursorId()).isEqualTo(second.getId());
+    verify(moderationItemRepository)
+        .findReviewedVideosAfter(
+            eq(second.getReviewedAt()), eq(second.getId()), any(), eq(CHUNK_SIZE));
+  }
+
+  @Test
+  void runChunks_existingCheckpoint_resumesFromCursor() throws Exception {
+    // Arrange
+    JobCheckpoint checkpoint = new JobCheckpoint(VideoStatusReconciler.JOB_NAME);
+    Instant cursorTimestamp = Instant.now().minus(1, ChronoUnit.DAYS);
+    UUID cursorId = UUID.randomUUID();
+    checkpoint.setCursorTimestamp(cursorTimestamp);
+    checkpoint.setCursorId(cursorId);
+    when(jobCheckpointRepository.findById(VideoStatusReconciler.JOB_NAME))
+        .thenReturn(Optional.of(checkpoint));
+    when(moderationItemRepository.findReviewedVideosAfter(any(), any(), any(), anyInt()))
+        .thenReturn(List.of());
+
+    // Act
+    reconciler.runChunks();
+
+    // Assert
+    verify(moderationItemRepository)
+        .findReviewedVideosAfter(eq(cursorTimestamp), eq(cursorId), any(), eq(CHUNK_SIZE));
+    verify(jobCheckpointRepository).deleteById(VideoStatusReconciler.JOB_NAME);
+  }
+
+  @Test
+  void reconcile_lockHeldElsewhere_skips() throws Exception {
+    // Arrange
+    Connection connection = mock(Connection.class);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(any())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    when(resultSet.getBoolean(1)).thenReturn(false);
+
+    // Act
+    reconciler.reconcile();
+
+    // Assert
+    verify(statement).setLong(1, VideoStatusReconciler.RECONCILE_LOCK_KEY);
+    verify(jobCheckpointRepository, never()).findById(any());
+    verify(connection).close();
+  }
+
+  private ModerationItem createReviewedItem(ModerationStatus status) {
+    ModerationItem item = new ModerationItem();
+    item.setId(UUID.randomUUID());
+    item.setContentType(ContentType.VIDEO);
+    item.setContentId(UUID.randomUUID());
+    item.setSubmitterId(UUID.randomUUID());
+    item.setStatus(status);
+    item.setReviewedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+    return item;
+  }
+}
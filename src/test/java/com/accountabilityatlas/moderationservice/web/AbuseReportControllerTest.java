@@ -2,11 +2,13 @@ package com.accountabilityatlas.moderationservice.web;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -15,9 +17,20 @@ import com.accountabilityatlas.moderationservice.domain.AbuseReport;
 import com.accountabilityatlas.moderationservice.domain.ContentType;
 import com.accountabilityatlas.moderationservice.domain.ReportStatus;
 import com.accountabilityatlas.moderationservice.exception.AbuseReportNotFoundException;
+import com.accountabilityatlas.moderationservice.exception.DuplicateReportException;
+import com.accountabilityatlas.moderationservice.exception.ReportRateLimitedException;
 import com.accountabilityatlas.moderationservice.service.AbuseReportService;
+import com.accountabilityatlas.moderationservice.service.AbuseReportService.BulkOutcome;
+import com.accountabilityatlas.moderationservice.service.AbuseReportService.ReportGroup;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService;
+import com.accountabilityatlas.moderationservice.service.ReportCursor;
+import com.accountabilityatlas.moderationservice.service.ReportIngestService;
+import com.accountabilityatlas.moderationservice.service.ReportIngestService.SubmittedReport;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +49,8 @@ class AbuseReportControllerTest {
   @Autowired private MockMvc mockMvc;
 
   @MockitoBean private AbuseReportService abuseReportService;
+  @MockitoBean private ReportIngestService reportIngestService;
+  @MockitoBean private IdempotencyService idempotencyService;
 
   // ============================================
   // submitAbuseReport tests
@@ -47,9 +62,9 @@ class AbuseReportControllerTest {
     UUID reporterId = UUID.randomUUID();
     UUID contentId = UUID.randomUUID();
     AbuseReport report = createAbuseReport(UUID.randomUUID(), contentId, reporterId);
-    when(abuseReportService.submitReport(
+    when(reportIngestService.submit(
             eq(ContentType.VIDEO), eq(contentId), eq(reporterId), eq(AbuseReason.SPAM), any()))
-        .thenReturn(report);
+        .thenReturn(new SubmittedReport(report, false));
 
     String requestBody =
         String.format(
@@ -84,7 +99,8 @@ class AbuseReportControllerTest {
     AbuseReport report = createAbuseReport(UUID.randomUUID(), contentId, reporterId);
     report.setContentType(ContentType.LOCATION);
     report.setReason(AbuseReason.MISINFORMATION);
-    when(abuseReportService.submitReport(any(), any(), any(), any(), any())).thenReturn(report);
+    when(reportIngestService.submit(any(), any(), any(), any(), any()))
+        .thenReturn(new SubmittedReport(report, false));
 
     String requestBody =
         String.format(
@@ -109,6 +125,62 @@ class AbuseReportControllerTest {
         .andExpect(jsonPath("$.reason").value("MISINFORMATION"));
   }
 
+  @Test
+  void submitAbuseReport_queued_returnsAcceptedWithReportId() throws Exception {
+    // Arrange
+    UUID reporterId = UUID.randomUUID();
+    UUID contentId = UUID.randomUUID();
+    AbuseReport report = createAbuseReport(UUID.randomUUID(), contentId, reporterId);
+    when(reportIngestService.submit(any(), any(), any(), any(), any()))
+        .thenReturn(new SubmittedReport(report, true));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/reports")
+                .with(jwt().jwt(jwt -> jwt.subject(reporterId.toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(reportRequest(contentId)))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.id").value(report.getId().toString()))
+        .andExpect(jsonPath("$.status").value("OPEN"));
+  }
+
+  @Test
+  void submitAbuseReport_alreadyReported_returnsConflict() throws Exception {
+    // Arrange
+    when(reportIngestService.submit(any(), any(), any(), any(), any()))
+        .thenThrow(new DuplicateReportException());
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/reports")
+                .with(jwt().jwt(jwt -> jwt.subject(UUID.randomUUID().toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(reportRequest(UUID.randomUUID())))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code").value("ALREADY_REPORTED"));
+  }
+
+  @Test
+  void submitAbuseReport_rateLimited_returnsTooManyRequestsWithRetryAfter() throws Exception {
+    // Arrange
+    when(reportIngestService.submit(any(), any(), any(), any(), any()))
+        .thenThrow(new ReportRateLimitedException(Duration.ofMillis(4_200)));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/reports")
+                .with(jwt().jwt(jwt -> jwt.subject(UUID.randomUUID().toString())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(reportRequest(UUID.randomUUID())))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "5"))
+        .andExpect(jsonPath("$.code").value("RATE_LIMITED"));
+  }
+
   // ============================================
   // listAbuseReports tests
   // ============================================
@@ -118,7 +190,7 @@ class AbuseReportControllerTest {
     // Arrange
     AbuseReport report = createAbuseReport(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
     Page<AbuseReport> page = new PageImpl<>(List.of(report), PageRequest.of(0, 20), 1);
-    when(abuseReportService.listReports(eq(ReportStatus.OPEN), any())).thenReturn(page);
+    when(abuseReportService.listReports(ReportStatus.OPEN, null, null, 0, 20)).thenReturn(page);
 
     // Act & Assert
     mockMvc
@@ -134,7 +206,7 @@ class AbuseReportControllerTest {
         .andExpect(jsonPath("$.page").value(0))
         .andExpect(jsonPath("$.size").value(20));
 
-    verify(abuseReportService).listReports(eq(ReportStatus.OPEN), any());
+    verify(abuseReportService).listReports(ReportStatus.OPEN, null, null, 0, 20);
   }
 
   @Test
@@ -143,7 +215,8 @@ class AbuseReportControllerTest {
     AbuseReport report = createAbuseReport(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
     report.setStatus(ReportStatus.RESOLVED);
     Page<AbuseReport> page = new PageImpl<>(List.of(report), PageRequest.of(0, 20), 1);
-    when(abuseReportService.listReports(eq(ReportStatus.RESOLVED), any())).thenReturn(page);
+    when(abuseReportService.listReports(ReportStatus.RESOLVED, null, null, 0, 20))
+        .thenReturn(page);
 
     // Act & Assert
     mockMvc
@@ -156,14 +229,14 @@ class AbuseReportControllerTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.content[0].status").value("RESOLVED"));
 
-    verify(abuseReportService).listReports(eq(ReportStatus.RESOLVED), any());
+    verify(abuseReportService).listReports(ReportStatus.RESOLVED, null, null, 0, 20);
   }
 
   @Test
   void listAbuseReports_emptyList_returnsEmptyPage() throws Exception {
     // Arrange
     Page<AbuseReport> page = Page.empty(PageRequest.of(0, 20));
-    when(abuseReportService.listReports(any(), any())).thenReturn(page);
+    when(abuseReportService.listReports(any(), any(), any(), eq(0), eq(20))).thenReturn(page);
 
     // Act & Assert
     mockMvc
@@ -177,6 +250,77 @@ class AbuseReportControllerTest {
         .andExpect(jsonPath("$.totalElements").value(0));
   }
 
+  @Test
+  void listAbuseReports_contentTypeAndReason_passesFiltersToService() throws Exception {
+    // Arrange
+    when(abuseReportService.listReports(
+            ReportStatus.OPEN, ContentType.LOCATION, AbuseReason.COPYRIGHT, 0, 20))
+        .thenReturn(Page.empty(PageRequest.of(0, 20)));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/reports")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .param("contentType", "LOCATION")
+                .param("reason", "COPYRIGHT"))
+        .andExpect(status().isOk());
+
+    verify(abuseReportService)
+        .listReports(ReportStatus.OPEN, ContentType.LOCATION, AbuseReason.COPYRIGHT, 0, 20);
+  }
+
+  @Test
+  void listAbuseReports_fullPage_returnsNextCursor() throws Exception {
+    // Arrange
+    AbuseReport first = createAbuseReport(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    AbuseReport last = createAbuseReport(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    Page<AbuseReport> page = new PageImpl<>(List.of(first, last), PageRequest.of(0, 2), 5);
+    when(abuseReportService.listReports(ReportStatus.OPEN, null, null, 0, 2)).thenReturn(page);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/reports")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nextCursor").value(ReportCursor.of(last).encode()));
+  }
+
+  @Test
+  void listAbuseReports_withCursor_usesKeysetAndOmitsTotals() throws Exception {
+    // Arrange
+    AbuseReport report = createAbuseReport(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    ReportCursor cursor =
+        new ReportCursor(Instant.parse("2026-01-01T00:00:00Z"), UUID.randomUUID());
+    when(abuseReportService.listReportsAfter(ReportStatus.OPEN, null, null, cursor, 20))
+        .thenReturn(List.of(report));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/reports")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .param("cursor", cursor.encode()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value(report.getId().toString()))
+        .andExpect(jsonPath("$.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void listAbuseReports_malformedCursor_returnsBadRequest() throws Exception {
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/reports")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+  }
+
   // ============================================
   // getAbuseReport tests
   // ============================================
@@ -252,6 +396,153 @@ class AbuseReportControllerTest {
         .andExpect(jsonPath("$.resolution").value("Content removed"));
   }
 
+  // ============================================
+  // grouped-by-content tests
+  // ============================================
+
+  @Test
+  void listAbuseReportsByContent_returnsGroupsWithReasonCounts() throws Exception {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID reportId = UUID.randomUUID();
+    Instant reportedAt = Instant.parse("2026-05-01T10:00:00Z");
+    Map<AbuseReason, Long> reasonCounts = new EnumMap<>(AbuseReason.class);
+    reasonCounts.put(AbuseReason.SPAM, 1L);
+    ReportGroup group =
+        new ReportGroup(
+            ContentType.VIDEO,
+            contentId,
+            1,
+            reasonCounts,
+            reportedAt,
+            reportedAt,
+            List.of(reportId));
+    when(abuseReportService.listReportGroups(ReportStatus.OPEN, ContentType.VIDEO, 0, 20))
+        .thenReturn(new PageImpl<>(List.of(group), PageRequest.of(0, 20), 1));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/reports/by-content")
+                .param("contentType", "VIDEO")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR"))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].contentId").value(contentId.toString()))
+        .andExpect(jsonPath("$.content[0].reportCount").value(1))
+        .andExpect(jsonPath("$.content[0].reasonCounts[0].reason").value("SPAM"))
+        .andExpect(jsonPath("$.content[0].reasonCounts[0].count").value(1))
+        .andExpect(jsonPath("$.content[0].reportIds[0]").value(reportId.toString()))
+        .andExpect(jsonPath("$.totalElements").value(1));
+  }
+
+  @Test
+  void resolveAbuseReportsForContent_returnsResolvedReportIds() throws Exception {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID moderatorId = UUID.randomUUID();
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(abuseReportService.resolveAllForContent(contentId, moderatorId, "Content removed"))
+        .thenReturn(List.of(first, second));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/reports/by-content/{contentId}/resolve", contentId)
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(moderatorId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"resolution\": \"Content removed\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.contentId").value(contentId.toString()))
+        .andExpect(jsonPath("$.resolvedCount").value(2))
+        .andExpect(jsonPath("$.reportIds[1]").value(second.toString()));
+  }
+
+  @Test
+  void dismissAbuseReportsForContent_returnsDismissedReportIds() throws Exception {
+    // Arrange
+    UUID contentId = UUID.randomUUID();
+    UUID moderatorId = UUID.randomUUID();
+    UUID reportId = UUID.randomUUID();
+    when(abuseReportService.dismissAllForContent(contentId, moderatorId, null))
+        .thenReturn(List.of(reportId));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/reports/by-content/{contentId}/dismiss", contentId)
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(moderatorId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR"))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.contentId").value(contentId.toString()))
+        .andExpect(jsonPath("$.dismissedCount").value(1))
+        .andExpect(jsonPath("$.reportIds[0]").value(reportId.toString()));
+  }
+
+  // ============================================
+  // bulk resolve / dismiss tests
+  // ============================================
+
+  @Test
+  void bulkResolveAbuseReports_reportIds_returnsOutcomePerId() throws Exception {
+    // Arrange
+    UUID moderatorId = UUID.randomUUID();
+    UUID updated = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    when(abuseReportService.resolveAll(List.of(updated, missing), moderatorId, "Content removed"))
+        .thenReturn(
+            List.of(
+                new BulkOutcome(updated, BulkOutcome.Result.UPDATED),
+                new BulkOutcome(missing, BulkOutcome.Result.NOT_FOUND)));
+
+    String requestBody =
+        """
+        {
+          "reportIds": ["%s", "%s"],
+          "resolution": "Content removed"
+        }
+        """
+            .formatted(updated, missing);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/reports/bulk/resolve")
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(moderatorId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updatedCount").value(1))
+        .andExpect(jsonPath("$.results[0].reportId").value(updated.toString()))
+        .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+        .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+  }
+
+  @Test
+  void bulkDismissAbuseReports_withoutReportIds_returnsBadRequest() throws Exception {
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/reports/bulk/dismiss")
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(UUID.randomUUID().toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"reason\": \"Coordinated false reports\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    verify(abuseReportService, never()).dismissAll(any(), any(), any());
+  }
+
   // ============================================
   // dismissAbuseReport tests
   // ============================================
@@ -329,4 +620,16 @@ class AbuseReportControllerTest {
     report.setCreatedAt(Instant.now());
     return report;
   }
+
+  private static String reportRequest(UUID contentId) {
+    return String.format(
+        """
+        {
+          "contentType": "VIDEO",
+          "contentId": "%s",
+          "reason": "SPAM"
+        }
+        """,
+        contentId);
+  }
 }
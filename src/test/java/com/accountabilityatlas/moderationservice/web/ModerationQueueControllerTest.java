@@ -1,8 +1,12 @@
 package com.accountabilityatlas.moderationservice.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
@@ -10,6 +14,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,18 +25,32 @@ import com.accountabilityatlas.moderationservice.domain.ModerationItem;
 import com.accountabilityatlas.moderationservice.domain.ModerationStatus;
 import com.accountabilityatlas.moderationservice.exception.ItemAlreadyReviewedException;
 import com.accountabilityatlas.moderationservice.exception.ModerationItemNotFoundException;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService.Claim;
+import com.accountabilityatlas.moderationservice.service.IdempotencyService.StoredResponse;
 import com.accountabilityatlas.moderationservice.service.ModerationService;
+import com.accountabilityatlas.moderationservice.service.ModerationService.BatchOutcome;
 import com.accountabilityatlas.moderationservice.service.ModerationService.QueueStats;
+import com.accountabilityatlas.moderationservice.service.ModerationService.VersionedItem;
+import com.accountabilityatlas.moderationservice.service.QueueAssignmentService;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -45,6 +64,16 @@ class ModerationQueueControllerTest {
 
   @MockitoBean private VideoServiceClient videoServiceClient;
 
+  @MockitoBean private QueueAssignmentService queueAssignmentService;
+
+  @MockitoBean private IdempotencyService idempotencyService;
+
+  @BeforeEach
+  void runSnapshotReadsInline() {
+    when(moderationService.readSnapshot(any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+  }
+
   // ============================================
   // listModerationQueue tests
   // ============================================
@@ -100,17 +129,201 @@ class ModerationQueueControllerTest {
         .andExpect(jsonPath("$.content[0].status").value("APPROVED"));
   }
 
+  @Test
+  void listModerationQueue_sortByPriority_breaksTiesOldestFirst() throws Exception {
+    // Arrange
+    ModerationItem item =
+        createModerationItem(UUID.randomUUID(), UUID.randomUUID(), ModerationStatus.PENDING);
+    item.setPriority(3);
+    item.setOpenReportCount(12);
+    when(moderationService.getQueue(eq(ModerationStatus.PENDING), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(item), PageRequest.of(0, 20), 1));
+
+    // Act
+    mockMvc
+        .perform(
+            get("/moderation/queue")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .param("sortBy", "priority")
+                .param("direction", "desc"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].priority").value(3))
+        .andExpect(jsonPath("$.content[0].openReportCount").value(12));
+
+    // Assert
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(moderationService).getQueue(eq(ModerationStatus.PENDING), eq(null), pageable.capture());
+    assertThat(pageable.getValue().getSort())
+        .containsExactly(Sort.Order.desc("priority"), Sort.Order.asc("createdAt"));
+  }
+
+  @Test
+  void listModerationQueue_sortByEffectivePriority_breaksTiesOldestFirst() throws Exception {
+    // Arrange
+    ModerationItem item =
+        createModerationItem(UUID.randomUUID(), UUID.randomUUID(), ModerationStatus.PENDING);
+    item.setPriority(1);
+    item.setEffectivePriority(4);
+    when(moderationService.getQueue(eq(ModerationStatus.PENDING), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(item), PageRequest.of(0, 20), 1));
+
+    // Act
+    mockMvc
+        .perform(
+            get("/moderation/queue")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .param("sortBy", "effectivePriority")
+                .param("direction", "desc"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].priority").value(1))
+        .andExpect(jsonPath("$.content[0].effectivePriority").value(4));
+
+    // Assert
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(moderationService).getQueue(eq(ModerationStatus.PENDING), eq(null), pageable.capture());
+    assertThat(pageable.getValue().getSort())
+        .containsExactly(Sort.Order.desc("effectivePriority"), Sort.Order.asc("createdAt"));
+  }
+
+  @Test
+  void listModerationQueue_assignmentEnabled_servesCallersShard() throws Exception {
+    // Arrange
+    UUID moderatorId = UUID.randomUUID();
+    ModerationItem item =
+        createModerationItem(UUID.randomUUID(), UUID.randomUUID(), ModerationStatus.PENDING);
+    item.setAssignedTo(moderatorId);
+    when(queueAssignmentService.isEnabled()).thenReturn(true);
+    when(queueAssignmentService.hasShard(moderatorId)).thenReturn(true);
+    when(moderationService.getAssignedQueue(eq(moderatorId), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(item), PageRequest.of(0, 20), 1));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/queue")
+                .with(
+                    jwt()
+                        .jwt(j -> j.subject(moderatorId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR"))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].assignedTo").value(moderatorId.toString()));
+    verify(queueAssignmentService).recordActivity(moderatorId);
+    verify(moderationService, never()).getQueue(any(), any(), any());
+  }
+
+  @Test
+  void listModerationQueue_assigneeAll_servesWholeQueue() throws Exception {
+    // Arrange
+    UUID moderatorId = UUID.randomUUID();
+    when(queueAssignmentService.isEnabled()).thenReturn(true);
+    when(moderationService.getQueue(eq(ModerationStatus.PENDING), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/queue")
+                .with(
+                    jwt()
+                        .jwt(j -> j.subject(moderatorId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .param("assignee", "all"))
+        .andExpect(status().isOk());
+    verify(queueAssignmentService).recordActivity(moderatorId);
+    verify(moderationService, never()).getAssignedQueue(any(), any(), any());
+  }
+
+  @Test
+  void listModerationQueue_returnsETagFromStatusCounter() throws Exception {
+    // Arrange
+    when(moderationService.getQueueChangeSeqs()).thenReturn(Map.of(ModerationStatus.PENDING, 7L));
+    when(moderationService.getQueue(eq(ModerationStatus.PENDING), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/queue")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR"))))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", startsWith("\"queue-PENDING-7-")))
+        .andExpect(header().string("Cache-Control", "no-cache, private"));
+  }
+
+  @Test
+  void listModerationQueue_unchangedSinceETag_returns304WithoutQuerying() throws Exception {
+    // Arrange
+    when(moderationService.getQueueChangeSeqs()).thenReturn(Map.of(ModerationStatus.PENDING, 7L));
+    when(moderationService.getQueue(eq(ModerationStatus.PENDING), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+    String etag = queueETag("/moderation/queue");
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/queue")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", etag));
+    verify(moderationService, times(1)).getQueue(any(), any(), any());
+  }
+
+  @Test
+  void listModerationQueue_changedSinceETag_returnsPage() throws Exception {
+    // Arrange
+    when(moderationService.getQueueChangeSeqs()).thenReturn(Map.of(ModerationStatus.PENDING, 7L));
+    when(moderationService.getQueue(eq(ModerationStatus.PENDING), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+    String etag = queueETag("/moderation/queue");
+    when(moderationService.getQueueChangeSeqs()).thenReturn(Map.of(ModerationStatus.PENDING, 8L));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/queue")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", startsWith("\"queue-PENDING-8-")));
+  }
+
+  @Test
+  void listModerationQueue_otherPageWithFirstPagesETag_returnsPage() throws Exception {
+    // Arrange
+    when(moderationService.getQueueChangeSeqs()).thenReturn(Map.of(ModerationStatus.PENDING, 7L));
+    when(moderationService.getQueue(eq(ModerationStatus.PENDING), eq(null), any()))
+        .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+    String firstPage = queueETag("/moderation/queue?page=0");
+
+    // Act
+    String secondPage =
+        mockMvc
+            .perform(
+                get("/moderation/queue?page=1")
+                    .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                    .header("If-None-Match", firstPage))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    // Assert
+    assertThat(secondPage).isNotEqualTo(firstPage);
+    verify(moderationService, times(2)).getQueue(any(), any(), any());
+  }
+
   // ============================================
   // getModerationItem tests
   // ============================================
 
   @Test
-  void getModerationItem_existingId_returnsItem() throws Exception {
+  void getModerationItem_existingId_returnsItemWithItsETag() throws Exception {
     // Arrange
     UUID itemId = UUID.randomUUID();
     UUID videoId = UUID.randomUUID();
     ModerationItem item = createModerationItem(itemId, videoId, ModerationStatus.PENDING);
-    when(moderationService.getItem(itemId)).thenReturn(item);
+    when(moderationService.getVersionedItem(itemId)).thenReturn(new VersionedItem(item, "1234"));
 
     // Act & Assert
     mockMvc
@@ -118,16 +331,35 @@ class ModerationQueueControllerTest {
             get("/moderation/queue/{id}", itemId)
                 .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR"))))
         .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"item-1234\""))
         .andExpect(jsonPath("$.id").value(itemId.toString()))
         .andExpect(jsonPath("$.contentType").value("VIDEO"))
         .andExpect(jsonPath("$.status").value("PENDING"));
+    verify(moderationService, never()).getItem(any());
+  }
+
+  @Test
+  void getModerationItem_unchangedSinceETag_returns304() throws Exception {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    ModerationItem item = createModerationItem(itemId, UUID.randomUUID(), ModerationStatus.PENDING);
+    when(moderationService.getVersionedItem(itemId)).thenReturn(new VersionedItem(item, "1234"));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/queue/{id}", itemId)
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("If-None-Match", "\"item-1234\""))
+        .andExpect(status().isNotModified());
   }
 
   @Test
   void getModerationItem_notFound_returns404() throws Exception {
     // Arrange
     UUID itemId = UUID.randomUUID();
-    when(moderationService.getItem(itemId)).thenThrow(new ModerationItemNotFoundException(itemId));
+    when(moderationService.getVersionedItem(itemId))
+        .thenThrow(new ModerationItemNotFoundException(itemId));
 
     // Act & Assert
     mockMvc
@@ -190,6 +422,112 @@ class ModerationQueueControllerTest {
         .andExpect(jsonPath("$.code").value("ALREADY_REVIEWED"));
   }
 
+  @Test
+  void approveContent_concurrentModification_returns409() throws Exception {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    UUID reviewerId = UUID.randomUUID();
+    when(moderationService.approve(itemId, reviewerId))
+        .thenThrow(new ObjectOptimisticLockingFailureException(ModerationItem.class, itemId));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/{id}/approve", itemId)
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(reviewerId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType("application/json")
+                .content("{}"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.code").value("CONCURRENT_MODIFICATION"));
+  }
+
+  @Test
+  void approveContent_newIdempotencyKey_storesResponse() throws Exception {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    UUID videoId = UUID.randomUUID();
+    UUID reviewerId = UUID.randomUUID();
+    ModerationItem item = createModerationItem(itemId, videoId, ModerationStatus.APPROVED);
+    when(moderationService.approve(itemId, reviewerId)).thenReturn(item);
+    when(idempotencyService.claim(eq(reviewerId.toString()), eq("retry-1"), any()))
+        .thenReturn(new Claim(Claim.Result.ACQUIRED, null));
+
+    // Act
+    mockMvc
+        .perform(
+            post("/moderation/queue/{id}/approve", itemId)
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(reviewerId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("Idempotency-Key", "retry-1")
+                .contentType("application/json")
+                .content("{}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(itemId.toString()));
+
+    // Assert
+    ArgumentCaptor<StoredResponse> stored = ArgumentCaptor.forClass(StoredResponse.class);
+    verify(idempotencyService)
+        .complete(eq(reviewerId.toString()), eq("retry-1"), any(), stored.capture());
+    assertThat(stored.getValue().status()).isEqualTo(200);
+    assertThat(stored.getValue().body()).contains(itemId.toString());
+  }
+
+  @Test
+  void approveContent_completedIdempotencyKey_replaysStoredResponse() throws Exception {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    UUID reviewerId = UUID.randomUUID();
+    StoredResponse stored =
+        new StoredResponse(200, "application/json", "{\"id\":\"" + itemId + "\"}");
+    when(idempotencyService.claim(eq(reviewerId.toString()), eq("retry-1"), any()))
+        .thenReturn(new Claim(Claim.Result.REPLAY, stored));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/{id}/approve", itemId)
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(reviewerId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("Idempotency-Key", "retry-1")
+                .contentType("application/json")
+                .content("{}"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Idempotent-Replayed", "true"))
+        .andExpect(jsonPath("$.id").value(itemId.toString()));
+    verify(moderationService, never()).approve(any(), any());
+  }
+
+  @Test
+  void approveContent_idempotencyKeyReusedForOtherRequest_returns422() throws Exception {
+    // Arrange
+    UUID itemId = UUID.randomUUID();
+    UUID reviewerId = UUID.randomUUID();
+    when(idempotencyService.claim(eq(reviewerId.toString()), eq("retry-1"), any()))
+        .thenReturn(new Claim(Claim.Result.MISMATCH, null));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/{id}/approve", itemId)
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(reviewerId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("Idempotency-Key", "retry-1")
+                .contentType("application/json")
+                .content("{}"))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    verify(moderationService, never()).approve(any(), any());
+  }
+
   // ============================================
   // rejectContent tests
   // ============================================
@@ -230,6 +568,55 @@ class ModerationQueueControllerTest {
         .andExpect(jsonPath("$.rejectionReason").value("Violates community guidelines"));
   }
 
+  // ============================================
+  // batch approve / reject tests
+  // ============================================
+
+  @Test
+  void batchApproveContent_returnsOutcomePerItem() throws Exception {
+    // Arrange
+    UUID reviewerId = UUID.randomUUID();
+    UUID approved = UUID.randomUUID();
+    UUID reviewed = UUID.randomUUID();
+    when(moderationService.approveAll(List.of(approved, reviewed), reviewerId))
+        .thenReturn(
+            List.of(
+                new BatchOutcome(approved, BatchOutcome.Result.UPDATED),
+                new BatchOutcome(reviewed, BatchOutcome.Result.ALREADY_REVIEWED)));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/batch/approve")
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(reviewerId.toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType("application/json")
+                .content("{\"itemIds\": [\"" + approved + "\", \"" + reviewed + "\"]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updatedCount").value(1))
+        .andExpect(jsonPath("$.results[0].itemId").value(approved.toString()))
+        .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+        .andExpect(jsonPath("$.results[1].outcome").value("ALREADY_REVIEWED"));
+  }
+
+  @Test
+  void batchRejectContent_missingReason_returns400() throws Exception {
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/batch/reject")
+                .with(
+                    jwt()
+                        .jwt(jwt -> jwt.subject(UUID.randomUUID().toString()))
+                        .authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType("application/json")
+                .content("{\"itemIds\": [\"" + UUID.randomUUID() + "\"]}"))
+        .andExpect(status().isBadRequest());
+    verify(moderationService, never()).rejectAll(any(), any(), any());
+  }
+
   // ============================================
   // getQueueStats tests
   // ============================================
@@ -268,6 +655,31 @@ class ModerationQueueControllerTest {
         .andExpect(jsonPath("$.avgReviewTimeMinutes").isEmpty());
   }
 
+  @Test
+  void getQueueStats_unchangedSinceETag_returns304WithoutRecomputing() throws Exception {
+    // Arrange
+    when(moderationService.getQueueChangeSeqs()).thenReturn(Map.of(ModerationStatus.PENDING, 3L));
+    when(moderationService.getQueueStats()).thenReturn(new QueueStats(1, 0, 0, null));
+    String etag =
+        mockMvc
+            .perform(
+                get("/moderation/queue/stats")
+                    .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR"))))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/moderation/queue/stats")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+    verify(moderationService, times(1)).getQueueStats();
+  }
+
   // ============================================
   // updateVideoMetadata tests
   // ============================================
@@ -681,10 +1093,120 @@ class ModerationQueueControllerTest {
         .andExpect(status().isBadRequest());
   }
 
+  @Test
+  void batchGetModerationItemsByContentId_returnsMapOfFoundItems() throws Exception {
+    // Arrange
+    UUID found = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    when(moderationService.findByContentIds(List.of(found, missing), ModerationStatus.APPROVED))
+        .thenReturn(
+            Map.of(found, createModerationItem(itemId, found, ModerationStatus.APPROVED)));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/batch/by-content")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType("application/json")
+                .content(
+                    "{\"contentIds\": [\""
+                        + found
+                        + "\", \""
+                        + missing
+                        + "\"], \"status\": \"APPROVED\"}"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andExpect(jsonPath("$.items['" + found + "'].id").value(itemId.toString()))
+        .andExpect(jsonPath("$.items['" + missing + "']").doesNotExist());
+  }
+
+  @Test
+  void batchGetModerationItemsByContentId_sameIdsUnchanged_returns304WithoutQuerying()
+      throws Exception {
+    // Arrange
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(moderationService.getQueueChangeSeqs()).thenReturn(Map.of(ModerationStatus.PENDING, 4L));
+    when(moderationService.findByContentIds(any(), eq(ModerationStatus.PENDING)))
+        .thenReturn(Map.of());
+    String etag =
+        mockMvc
+            .perform(
+                post("/moderation/queue/batch/by-content")
+                    .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                    .contentType("application/json")
+                    .content("{\"contentIds\": [\"" + first + "\", \"" + second + "\"]}"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    // Act & Assert - same IDs in another order
+    mockMvc
+        .perform(
+            post("/moderation/queue/batch/by-content")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("If-None-Match", etag)
+                .contentType("application/json")
+                .content("{\"contentIds\": [\"" + second + "\", \"" + first + "\"]}"))
+        .andExpect(status().isNotModified());
+    verify(moderationService, times(1)).findByContentIds(any(), any());
+  }
+
+  @Test
+  void batchGetModerationItemsByContentId_otherIds_getDifferentETag() throws Exception {
+    // Arrange
+    when(moderationService.findByContentIds(any(), eq(ModerationStatus.PENDING)))
+        .thenReturn(Map.of());
+    String etag =
+        mockMvc
+            .perform(
+                post("/moderation/queue/batch/by-content")
+                    .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                    .contentType("application/json")
+                    .content("{\"contentIds\": [\"" + UUID.randomUUID() + "\"]}"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/batch/by-content")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .header("If-None-Match", etag)
+                .contentType("application/json")
+                .content("{\"contentIds\": [\"" + UUID.randomUUID() + "\"]}"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void batchGetModerationItemsByContentId_emptyList_returns400() throws Exception {
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/moderation/queue/batch/by-content")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR")))
+                .contentType("application/json")
+                .content("{\"contentIds\": []}"))
+        .andExpect(status().isBadRequest());
+    verify(moderationService, never()).findByContentIds(any(), any());
+  }
+
   // ============================================
   // Helper methods
   // ============================================
 
+  private String queueETag(String url) throws Exception {
+    return mockMvc
+        .perform(get(url).with(jwt().authorities(new SimpleGrantedAuthority("ROLE_MODERATOR"))))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader("ETag");
+  }
+
   private ModerationItem createModerationItem(UUID itemId, UUID videoId, ModerationStatus status) {
     ModerationItem item = new ModerationItem();
     item.setId(itemId);
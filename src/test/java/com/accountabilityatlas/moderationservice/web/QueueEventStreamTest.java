@@ -0,0 +1,128 @@
+package com.accountabilityatlas.moderationservice.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accountabilityatlas.moderationservice.service.ModerationService;
+import com.accountabilityatlas.moderationservice.service.ModerationService.QueueStats;
+import com.accountabilityatlas.moderationservice.service.QueueEvent;
+import com.accountabilityatlas.moderationservice.service.QueueEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueueEventStreamTest {
+
+  @Mock private ModerationService moderationService;
+  @Mock private QueueEventBus queueEventBus;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<Runnable> pendingSends = new ArrayList<>();
+
+  @Test
+  void open_atSubscriberLimit_refusesStream() {
+    // Arrange
+    QueueEventStream stream = stream(10, 1);
+    stream.open();
+
+    // Act
+    Object second = stream.open();
+
+    // Assert
+    assertThat(second).isNull();
+    assertThat(stream.subscriberCount()).isEqualTo(1);
+  }
+
+  @Test
+  void queueEvent_clientFallsBufferSizeBehind_isDisconnected() {
+    // Arrange
+    QueueEventStream stream = stream(2, 10);
+    Consumer<QueueEvent> listener = captureListener();
+    stream.open();
+
+    // Act (nothing is drained: "connected" plus one event fill the buffer, the next overflows)
+    listener.accept(event());
+    listener.accept(event());
+
+    // Assert
+    assertThat(stream.subscriberCount()).isZero();
+    assertThat(meterRegistry.counter("moderation.queue-events.subscribers.dropped").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void queueEvent_clientKeepingUp_staysConnected() {
+    // Arrange
+    QueueEventStream stream = stream(2, 10);
+    Consumer<QueueEvent> listener = captureListener();
+    stream.open();
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      listener.accept(event());
+      runPendingSends();
+    }
+
+    // Assert
+    assertThat(stream.subscriberCount()).isEqualTo(1);
+  }
+
+  @Test
+  void publishStats_versionUnchanged_skipsStatsQuery() {
+    // Arrange
+    QueueEventStream stream = stream(10, 10);
+    stream.open();
+    when(moderationService.readSnapshot(any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    when(moderationService.getQueueStatsVersion()).thenReturn("2026-01-01-1.0.0");
+    when(moderationService.getQueueStats()).thenReturn(new QueueStats(1, 0, 0, null));
+
+    // Act
+    stream.publishStats();
+    stream.publishStats();
+
+    // Assert
+    verify(moderationService, times(1)).getQueueStats();
+  }
+
+  private QueueEventStream stream(int bufferSize, int maxSubscribers) {
+    return new QueueEventStream(
+        moderationService,
+        queueEventBus,
+        meterRegistry,
+        bufferSize,
+        maxSubscribers,
+        Duration.ofMinutes(30),
+        pendingSends::add);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Consumer<QueueEvent> captureListener() {
+    ArgumentCaptor<Consumer<QueueEvent>> captor = ArgumentCaptor.forClass(Consumer.class);
+    verify(queueEventBus).subscribe(captor.capture());
+    return captor.getValue();
+  }
+
+  private void runPendingSends() {
+    List<Runnable> sends = List.copyOf(pendingSends);
+    pendingSends.clear();
+    sends.forEach(Runnable::run);
+  }
+
+  private static QueueEvent event() {
+    return new QueueEvent(QueueEvent.Type.CREATED, List.of(UUID.randomUUID()), null);
+  }
+}